@@ -20,8 +20,10 @@
 
 package org.jodconverter.core;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -64,6 +66,44 @@ public interface DocumentConverter {
   ConversionJobWithOptionalSourceFormatUnspecified convert(
       @NonNull InputStream source, boolean closeStream);
 
+  /**
+   * Converts a source document held in a byte array. The array is not copied, and must not be
+   * modified until the conversion terminates.
+   *
+   * <p>The default implementation converts the array as an input stream.
+   *
+   * @param source The conversion input as a byte array.
+   * @return The current conversion specification.
+   */
+  default @NonNull ConversionJobWithOptionalSourceFormatUnspecified convert(
+      final @NonNull byte[] source) {
+    return convert(new ByteArrayInputStream(source));
+  }
+
+  /**
+   * Converts a source document held in the remaining content of a byte buffer. The content is not
+   * copied, and must not be modified until the conversion terminates. The position of the buffer is
+   * not modified.
+   *
+   * <p>The default implementation converts the content as an input stream, the content being copied
+   * if the buffer is not backed by an accessible array.
+   *
+   * @param source The conversion input as a byte buffer.
+   * @return The current conversion specification.
+   */
+  default @NonNull ConversionJobWithOptionalSourceFormatUnspecified convert(
+      final @NonNull ByteBuffer source) {
+
+    if (source.hasArray()) {
+      return convert(
+          new ByteArrayInputStream(
+              source.array(), source.arrayOffset() + source.position(), source.remaining()));
+    }
+    final byte[] content = new byte[source.remaining()];
+    source.duplicate().get(content);
+    return convert(content);
+  }
+
   /**
    * Gets all the {@link DocumentFormat} supported by the converter.
    *
@@ -20,10 +20,15 @@
 
 package org.jodconverter.core.job;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import org.jodconverter.core.document.DocumentFormat;
 import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.core.office.OfficeUtils;
+import org.jodconverter.core.task.TaskPriority;
 import org.jodconverter.core.util.AssertUtils;
 
 /**
@@ -36,6 +41,8 @@ public abstract class AbstractConversionJob
 
   protected final AbstractSourceDocumentSpecs source;
   protected final AbstractTargetDocumentSpecs target;
+  protected TaskPriority priority = TaskPriority.NORMAL;
+  protected String tenant;
 
   protected AbstractConversionJob(
       final @NonNull AbstractSourceDocumentSpecs source,
@@ -56,6 +63,21 @@ public abstract class AbstractConversionJob
     return this;
   }
 
+  @Override
+  public @NonNull AbstractConversionJob priority(final @NonNull TaskPriority priority) {
+
+    AssertUtils.notNull(priority, "priority must not be null");
+    this.priority = priority;
+    return this;
+  }
+
+  @Override
+  public @NonNull AbstractConversionJob tenant(final @Nullable String tenant) {
+
+    this.tenant = tenant;
+    return this;
+  }
+
   @Override
   public final void execute() throws OfficeException {
 
@@ -63,6 +85,27 @@ public abstract class AbstractConversionJob
     doExecute();
   }
 
+  @Override
+  public final @NonNull CompletableFuture<Void> executeAsync() {
+
+    AssertUtils.notNull(target.getFormat(), "The target format is missing or not supported");
+    return doExecuteAsync();
+  }
+
+  @Override
+  public final @NonNull ConversionResult executeForResult() throws OfficeException {
+
+    AssertUtils.notNull(target.getFormat(), "The target format is missing or not supported");
+    return doExecuteForResult();
+  }
+
+  @Override
+  public final @NonNull CompletableFuture<ConversionResult> executeForResultAsync() {
+
+    AssertUtils.notNull(target.getFormat(), "The target format is missing or not supported");
+    return doExecuteForResultAsync();
+  }
+
   /**
    * Executes the conversion and blocks until the conversion terminates. Both source and target
    * document formats are known and valid at this point.
@@ -70,4 +113,51 @@ public abstract class AbstractConversionJob
    * @throws OfficeException If the conversion failed.
    */
   protected abstract void doExecute() throws OfficeException;
+
+  /**
+   * Submits the conversion for execution and returns immediately. Both source and target document
+   * formats are known and valid at this point.
+   *
+   * <p>The default implementation executes the conversion synchronously, in the calling thread.
+   * Subclasses should override this function in order to submit the conversion task to the office
+   * manager without blocking.
+   *
+   * @return A future that will be completed when the conversion terminates.
+   */
+  protected @NonNull CompletableFuture<Void> doExecuteAsync() {
+    return OfficeUtils.executeInCallingThread(this::doExecute);
+  }
+
+  /**
+   * Executes the conversion, blocks until the conversion terminates and returns the details about
+   * how the conversion has been executed. Both source and target document formats are known and
+   * valid at this point.
+   *
+   * <p>The default implementation executes the conversion using {@link #doExecute()} and returns a
+   * result in which nothing is measured. Subclasses measuring the conversion should override this
+   * function.
+   *
+   * @return The details about how the conversion has been executed.
+   * @throws OfficeException If the conversion failed.
+   */
+  protected @NonNull ConversionResult doExecuteForResult() throws OfficeException {
+
+    doExecute();
+    return ConversionResult.builder().build();
+  }
+
+  /**
+   * Submits the conversion for execution and returns immediately. Both source and target document
+   * formats are known and valid at this point.
+   *
+   * <p>The default implementation submits the conversion using {@link #doExecuteAsync()} and
+   * completes the future with a result in which nothing is measured. Subclasses measuring the
+   * conversion should override this function.
+   *
+   * @return A future that will be completed with the details about how the conversion has been
+   *     executed when the conversion terminates.
+   */
+  protected @NonNull CompletableFuture<ConversionResult> doExecuteForResultAsync() {
+    return doExecuteAsync().thenApply(unused -> ConversionResult.builder().build());
+  }
 }
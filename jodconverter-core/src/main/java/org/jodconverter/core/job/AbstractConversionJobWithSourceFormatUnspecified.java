@@ -105,6 +105,19 @@ public abstract class AbstractConversionJobWithSourceFormatUnspecified
             + "interface in order to be able to convert to OutputStream");
   }
 
+  @Override
+  public @NonNull AbstractConversionJob to(final @NonNull TargetDocumentSpecsInMemory target) {
+
+    AssertUtils.notNull(target, "target must not be null");
+    if (officeManager instanceof TemporaryFileMaker) {
+      target.setFileMaker((TemporaryFileMaker) officeManager);
+      return toInternal(target);
+    }
+    throw new IllegalStateException(
+        "An office manager must implements the TemporaryFileMaker "
+            + "interface in order to be able to convert to memory");
+  }
+
   /**
    * Configures the current conversion to write the result using the specified specifications.
    *
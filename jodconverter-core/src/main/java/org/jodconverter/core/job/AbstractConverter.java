@@ -22,6 +22,7 @@ package org.jodconverter.core.job;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -95,6 +96,26 @@ public abstract class AbstractConverter implements DocumentConverter {
             + "interface in order to be able to convert InputStream");
   }
 
+  @Override
+  public @NonNull ConversionJobWithOptionalSourceFormatUnspecified convert(
+      final @NonNull byte[] source) {
+
+    return convert(ByteBuffer.wrap(source));
+  }
+
+  @Override
+  public @NonNull ConversionJobWithOptionalSourceFormatUnspecified convert(
+      final @NonNull ByteBuffer source) {
+
+    if (officeManager instanceof TemporaryFileMaker) {
+      return convert(
+          new SourceDocumentSpecsFromByteBuffer(source, (TemporaryFileMaker) officeManager));
+    }
+    throw new IllegalStateException(
+        "An office manager must implements the TemporaryFileMaker "
+            + "interface in order to be able to convert ByteBuffer");
+  }
+
   /**
    * Converts a source document using the given specifications.
    *
@@ -20,15 +20,93 @@
 
 package org.jodconverter.core.job;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.core.office.OfficeUtils;
+import org.jodconverter.core.task.TaskPriority;
 
 /** A fully specified conversion that is not yet applied to the converter. */
 public interface ConversionJob {
 
+  /**
+   * Sets the priority of the conversion. When all the office processes are busy, conversions with a
+   * higher priority are executed first.
+   *
+   * <p>The default implementation ignores the priority, the conversion being executed with the
+   * {@link TaskPriority#NORMAL} priority.
+   *
+   * @param priority The priority of the conversion.
+   * @return This conversion job.
+   */
+  default @NonNull ConversionJob priority(final @NonNull TaskPriority priority) {
+    return this;
+  }
+
+  /**
+   * Sets the tenant (customer, caller...) on behalf of which the conversion is executed. Tenants
+   * share the office processes according to their configured weight.
+   *
+   * <p>The default implementation ignores the tenant, the conversion being executed on behalf of
+   * the default tenant.
+   *
+   * @param tenant The tenant of the conversion, {@code null} for the default tenant.
+   * @return This conversion job.
+   */
+  default @NonNull ConversionJob tenant(final @Nullable String tenant) {
+    return this;
+  }
+
   /**
    * Executes a conversion and blocks until the conversion terminates.
    *
    * @throws OfficeException If the conversion failed.
    */
   void execute() throws OfficeException;
+
+  /**
+   * Submits the conversion for execution and returns immediately. The returned future is completed
+   * once the conversion terminates, exceptionally with an {@link OfficeException} if the conversion
+   * failed.
+   *
+   * <p>The default implementation executes the conversion synchronously, in the calling thread.
+   *
+   * @return A future that will be completed when the conversion terminates.
+   */
+  default @NonNull CompletableFuture<Void> executeAsync() {
+    return OfficeUtils.executeInCallingThread(this::execute);
+  }
+
+  /**
+   * Executes a conversion, blocks until the conversion terminates and returns the details about how
+   * the conversion has been executed.
+   *
+   * <p>The default implementation executes the conversion and returns a result in which nothing is
+   * measured.
+   *
+   * @return The details about how the conversion has been executed.
+   * @throws OfficeException If the conversion failed.
+   */
+  default @NonNull ConversionResult executeForResult() throws OfficeException {
+
+    execute();
+    return ConversionResult.builder().build();
+  }
+
+  /**
+   * Submits the conversion for execution and returns immediately. The returned future is completed
+   * with the details about how the conversion has been executed once the conversion terminates,
+   * exceptionally with an {@link OfficeException} if the conversion failed.
+   *
+   * <p>The default implementation submits the conversion using {@link #executeAsync()} and
+   * completes the future with a result in which nothing is measured.
+   *
+   * @return A future that will be completed when the conversion terminates.
+   */
+  default @NonNull CompletableFuture<ConversionResult> executeForResultAsync() {
+    return executeAsync().thenApply(unused -> ConversionResult.builder().build());
+  }
 }
@@ -20,6 +20,24 @@
 
 package org.jodconverter.core.job;
 
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import org.jodconverter.core.task.TaskPriority;
+
 /** A conversion job with an optional target format that is not yet applied to the converter. */
 public interface ConversionJobWithOptionalTargetFormatUnspecified
-    extends ConversionJobWithRequiredTargetFormatUnspecified, ConversionJob {}
+    extends ConversionJobWithRequiredTargetFormatUnspecified, ConversionJob {
+
+  @Override
+  default @NonNull ConversionJobWithOptionalTargetFormatUnspecified priority(
+      final @NonNull TaskPriority priority) {
+    return this;
+  }
+
+  @Override
+  default @NonNull ConversionJobWithOptionalTargetFormatUnspecified tenant(
+      final @Nullable String tenant) {
+    return this;
+  }
+}
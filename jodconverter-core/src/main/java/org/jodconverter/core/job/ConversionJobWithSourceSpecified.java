@@ -60,4 +60,18 @@ public interface ConversionJobWithSourceSpecified {
   @NonNull
   ConversionJobWithRequiredTargetFormatUnspecified to(
       @NonNull OutputStream target, boolean closeStream);
+
+  /**
+   * Configures the current conversion to write the result to memory. Once the conversion
+   * terminates, the converted document is available through the specified target.
+   *
+   * <p>The default implementation writes the result to the output stream of the target.
+   *
+   * @param target The target to which the conversion result is written to.
+   * @return The current conversion specification.
+   */
+  default @NonNull ConversionJobWithRequiredTargetFormatUnspecified to(
+      final @NonNull TargetDocumentSpecsInMemory target) {
+    return to(target.getOutputStream(), false);
+  }
 }
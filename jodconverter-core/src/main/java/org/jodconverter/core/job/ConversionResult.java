@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.job;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Holds the details about how a conversion has been executed. All the times are expressed in
+ * nanoseconds and are -1 when the phase has not been measured by the converter that executed the
+ * conversion. The sizes are expressed in bytes and are -1 when unknown.
+ *
+ * <p>The conversion phases are:
+ *
+ * <ol>
+ *   <li>The preparation of the source file (for instance, the copy of an input stream into a
+ *       temporary file).
+ *   <li>The load of the source document by the office process.
+ *   <li>The modification of the loaded document (for instance, by the filters of a local
+ *       conversion).
+ *   <li>The store of the converted document by the office process.
+ *   <li>The completion of the target (for instance, the copy of a temporary file into an output
+ *       stream).
+ * </ol>
+ */
+public final class ConversionResult {
+
+  private final long sourcePreparationTime;
+  private final long loadTime;
+  private final long modifyTime;
+  private final long storeTime;
+  private final long targetCompletionTime;
+  private final long sourceSize;
+  private final long targetSize;
+  private final String officeUrl;
+
+  /**
+   * Creates a new builder instance.
+   *
+   * @return A new builder instance.
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  private ConversionResult(final Builder builder) {
+    this.sourcePreparationTime = builder.sourcePreparationTime;
+    this.loadTime = builder.loadTime;
+    this.modifyTime = builder.modifyTime;
+    this.storeTime = builder.storeTime;
+    this.targetCompletionTime = builder.targetCompletionTime;
+    this.sourceSize = builder.sourceSize;
+    this.targetSize = builder.targetSize;
+    this.officeUrl = builder.officeUrl;
+  }
+
+  /**
+   * Gets the time spent preparing the source file.
+   *
+   * @return The time in nanoseconds, or -1 if not measured.
+   */
+  public long getSourcePreparationTime() {
+    return sourcePreparationTime;
+  }
+
+  /**
+   * Gets the time spent by the office process loading the source document.
+   *
+   * @return The time in nanoseconds, or -1 if not measured.
+   */
+  public long getLoadTime() {
+    return loadTime;
+  }
+
+  /**
+   * Gets the time spent modifying the loaded document.
+   *
+   * @return The time in nanoseconds, or -1 if not measured.
+   */
+  public long getModifyTime() {
+    return modifyTime;
+  }
+
+  /**
+   * Gets the time spent by the office process storing the converted document.
+   *
+   * @return The time in nanoseconds, or -1 if not measured.
+   */
+  public long getStoreTime() {
+    return storeTime;
+  }
+
+  /**
+   * Gets the time spent completing the target once the converted document is stored.
+   *
+   * @return The time in nanoseconds, or -1 if not measured.
+   */
+  public long getTargetCompletionTime() {
+    return targetCompletionTime;
+  }
+
+  /**
+   * Gets the total time of the measured phases.
+   *
+   * @return The time in nanoseconds, or -1 if no phase has been measured.
+   */
+  public long getTotalTime() {
+
+    long total = -1L;
+    for (final long time :
+        new long[] {sourcePreparationTime, loadTime, modifyTime, storeTime, targetCompletionTime}) {
+      if (time >= 0L) {
+        total = total < 0L ? time : total + time;
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Gets the size of the source document.
+   *
+   * @return The size in bytes, or -1 if unknown.
+   */
+  public long getSourceSize() {
+    return sourceSize;
+  }
+
+  /**
+   * Gets the size of the converted document.
+   *
+   * @return The size in bytes, or -1 if unknown.
+   */
+  public long getTargetSize() {
+    return targetSize;
+  }
+
+  /**
+   * Gets the URL of the office process (or server) that executed the conversion.
+   *
+   * @return The URL, or {@code null} if unknown.
+   */
+  public @Nullable String getOfficeUrl() {
+    return officeUrl;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return getClass().getSimpleName()
+        + "{"
+        + "sourcePreparationTime="
+        + sourcePreparationTime
+        + ", loadTime="
+        + loadTime
+        + ", modifyTime="
+        + modifyTime
+        + ", storeTime="
+        + storeTime
+        + ", targetCompletionTime="
+        + targetCompletionTime
+        + ", sourceSize="
+        + sourceSize
+        + ", targetSize="
+        + targetSize
+        + ", officeUrl="
+        + officeUrl
+        + '}';
+  }
+
+  /**
+   * A builder for constructing a {@link ConversionResult}.
+   *
+   * @see ConversionResult
+   */
+  public static final class Builder {
+
+    private long sourcePreparationTime = -1L;
+    private long loadTime = -1L;
+    private long modifyTime = -1L;
+    private long storeTime = -1L;
+    private long targetCompletionTime = -1L;
+    private long sourceSize = -1L;
+    private long targetSize = -1L;
+    private String officeUrl;
+
+    // Private constructor so only ConversionResult can initialize an instance of this builder.
+    private Builder() {
+      super();
+    }
+
+    /**
+     * Creates the result that is specified by this builder.
+     *
+     * @return The result that is specified by this builder.
+     */
+    public @NonNull ConversionResult build() {
+      return new ConversionResult(this);
+    }
+
+    /**
+     * Specifies the time spent preparing the source file.
+     *
+     * @param sourcePreparationTime The time, in nanoseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder sourcePreparationTime(final long sourcePreparationTime) {
+      this.sourcePreparationTime = sourcePreparationTime;
+      return this;
+    }
+
+    /**
+     * Specifies the time spent by the office process loading the source document.
+     *
+     * @param loadTime The time, in nanoseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder loadTime(final long loadTime) {
+      this.loadTime = loadTime;
+      return this;
+    }
+
+    /**
+     * Specifies the time spent modifying the loaded document.
+     *
+     * @param modifyTime The time, in nanoseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder modifyTime(final long modifyTime) {
+      this.modifyTime = modifyTime;
+      return this;
+    }
+
+    /**
+     * Specifies the time spent by the office process storing the converted document.
+     *
+     * @param storeTime The time, in nanoseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder storeTime(final long storeTime) {
+      this.storeTime = storeTime;
+      return this;
+    }
+
+    /**
+     * Specifies the time spent completing the target once the converted document is stored.
+     *
+     * @param targetCompletionTime The time, in nanoseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder targetCompletionTime(final long targetCompletionTime) {
+      this.targetCompletionTime = targetCompletionTime;
+      return this;
+    }
+
+    /**
+     * Specifies the size of the source document.
+     *
+     * @param sourceSize The size, in bytes.
+     * @return This builder instance.
+     */
+    public @NonNull Builder sourceSize(final long sourceSize) {
+      this.sourceSize = sourceSize;
+      return this;
+    }
+
+    /**
+     * Specifies the size of the converted document.
+     *
+     * @param targetSize The size, in bytes.
+     * @return This builder instance.
+     */
+    public @NonNull Builder targetSize(final long targetSize) {
+      this.targetSize = targetSize;
+      return this;
+    }
+
+    /**
+     * Specifies the URL of the office process (or server) that executed the conversion.
+     *
+     * @param officeUrl The URL.
+     * @return This builder instance.
+     */
+    public @NonNull Builder officeUrl(final @Nullable String officeUrl) {
+      this.officeUrl = officeUrl;
+      return this;
+    }
+  }
+}
@@ -21,8 +21,11 @@
 package org.jodconverter.core.job;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * An interface that provides the behavior to apply when a source file is no longer required by a
@@ -39,4 +42,37 @@ public interface SourceDocumentSpecs extends DocumentSpecs {
   default void onConsumed(final @NonNull File file) {
     // The default behavior is to do nothing
   }
+
+  /**
+   * Gets the stream from which the document can be read, if the document does not have to be
+   * written to a file before being loaded. When a converter uses this stream, {@link #getFile()} is
+   * not called, and {@link #onStreamConsumed()} is called instead of {@link #onConsumed(File)}.
+   *
+   * @return The stream of the document, or {@code null} if the document must be loaded from a file.
+   */
+  default @Nullable InputStream getInputStream() {
+    // The default behavior is to load the document from a file
+    return null;
+  }
+
+  /**
+   * Gets the content of the document, if it is already held in memory. When a converter uses this
+   * buffer, neither {@link #getFile()} nor {@link #getInputStream()} are called, and {@link
+   * #onStreamConsumed()} is called instead of {@link #onConsumed(File)}. The converter must not
+   * modify the content of the buffer.
+   *
+   * @return The content of the document, or {@code null} if the document is not held in memory.
+   */
+  default @Nullable ByteBuffer getByteBuffer() {
+    // The default behavior is to load the document from a file or a stream
+    return null;
+  }
+
+  /**
+   * Called when the stream returned by {@link #getInputStream()}, or the buffer returned by {@link
+   * #getByteBuffer()}, was consumed and is no longer required by the converter.
+   */
+  default void onStreamConsumed() {
+    // The default behavior is to do nothing
+  }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.job;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import org.jodconverter.core.office.FileCleaner;
+import org.jodconverter.core.office.TemporaryFileMaker;
+import org.jodconverter.core.util.AssertUtils;
+
+/**
+ * Source document specifications for a document held in memory. The content of the buffer is handed
+ * as is to the converters able to load a document from memory; it is only written to a temporary
+ * file for the converters that require a file.
+ */
+public class SourceDocumentSpecsFromByteBuffer extends AbstractSourceDocumentSpecs
+    implements SourceDocumentSpecs {
+
+  private final ByteBuffer byteBuffer;
+  private final TemporaryFileMaker fileMaker;
+
+  /**
+   * Creates specs from the remaining content of the specified buffer. The buffer must not be
+   * modified until the conversion terminates.
+   *
+   * @param byteBuffer The source buffer.
+   * @param fileMaker Temporary file maker.
+   */
+  public SourceDocumentSpecsFromByteBuffer(
+      final @NonNull ByteBuffer byteBuffer, final @NonNull TemporaryFileMaker fileMaker) {
+    super();
+
+    AssertUtils.notNull(byteBuffer, "byteBuffer must not be null");
+    AssertUtils.notNull(fileMaker, "fileMaker must not be null");
+    // The position of the buffer of the caller must not be modified.
+    this.byteBuffer = byteBuffer.asReadOnlyBuffer();
+    this.fileMaker = fileMaker;
+  }
+
+  @Override
+  public @NonNull File getFile() {
+
+    // Write the buffer to the temp file.
+    final File tempFile =
+        Optional.ofNullable(getFormat())
+            .map(format -> fileMaker.makeTemporaryFile(format.getExtension()))
+            .orElse(fileMaker.makeTemporaryFile());
+    try (FileChannel channel =
+        FileChannel.open(
+            tempFile.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final ByteBuffer content = byteBuffer.duplicate();
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+      return tempFile;
+    } catch (IOException ex) {
+      throw new DocumentSpecsIOException(
+          String.format("Could not write buffer to file '%s'", tempFile), ex);
+    }
+  }
+
+  @Override
+  public void onConsumed(final @NonNull File tempFile) {
+
+    // The temporary file must be deleted, which is done in the background
+    FileCleaner.delete(tempFile);
+  }
+
+  @Override
+  public @NonNull ByteBuffer getByteBuffer() {
+    return byteBuffer.duplicate();
+  }
+}
@@ -30,9 +30,9 @@ import java.util.Optional;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import org.jodconverter.core.office.FileCleaner;
 import org.jodconverter.core.office.TemporaryFileMaker;
 import org.jodconverter.core.util.AssertUtils;
-import org.jodconverter.core.util.FileUtils;
 import org.jodconverter.core.util.IOUtils;
 
 /** Source document specifications for from an input stream. */
@@ -85,8 +85,19 @@ public class SourceDocumentSpecsFromInputStream extends AbstractSourceDocumentSp
   @Override
   public void onConsumed(final @NonNull File tempFile) {
 
-    // The temporary file must be deleted
-    FileUtils.deleteQuietly(tempFile);
+    // The temporary file must be deleted, which is done in the background
+    FileCleaner.delete(tempFile);
+
+    onStreamConsumed();
+  }
+
+  @Override
+  public @NonNull InputStream getInputStream() {
+    return inputStream;
+  }
+
+  @Override
+  public void onStreamConsumed() {
 
     if (closeStream) {
       try {
@@ -21,8 +21,10 @@
 package org.jodconverter.core.job;
 
 import java.io.File;
+import java.io.OutputStream;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import org.jodconverter.core.util.FileUtils;
 
@@ -51,4 +53,47 @@ public interface TargetDocumentSpecs extends DocumentSpecs {
     // Ensure the created file is deleted
     FileUtils.deleteQuietly(file);
   }
+
+  /**
+   * Gets the stream to which the document can be written directly, without being written to a file
+   * first. When a converter uses this stream, {@link #getFile()} is not called, and {@link
+   * #onStreamComplete()} or {@link #onStreamFailure(Exception)} are called instead of {@link
+   * #onComplete(File)} or {@link #onFailure(File, Exception)}.
+   *
+   * @return The stream of the document, or {@code null} if the document must be written to a file.
+   */
+  default @Nullable OutputStream getOutputStream() {
+    // The default behavior is to write the document to a file
+    return null;
+  }
+
+  /**
+   * Gets whether the document is written to memory. A converter should then write the document to
+   * the stream returned by {@link #getOutputStream()} whenever possible, since writing it to a file
+   * first would only add a copy of the document.
+   *
+   * @return {@code true} if the document is written to memory, {@code false} otherwise.
+   */
+  default boolean isInMemory() {
+    // The default behavior is to let the converter decide
+    return false;
+  }
+
+  /**
+   * Called if the conversion, written to the stream returned by {@link #getOutputStream()}, was
+   * completed successfully.
+   */
+  default void onStreamComplete() {
+    // The default behavior is to do nothing
+  }
+
+  /**
+   * Called if the conversion, written to the stream returned by {@link #getOutputStream()},
+   * finished with an exception. Part of the document may have been written to the stream.
+   *
+   * @param exception An exception representing the reason for the failed conversion.
+   */
+  default void onStreamFailure(final @NonNull Exception exception) {
+    // The default behavior is to do nothing
+  }
 }
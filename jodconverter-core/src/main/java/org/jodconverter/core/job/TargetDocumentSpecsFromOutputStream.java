@@ -28,9 +28,9 @@ import java.util.Optional;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import org.jodconverter.core.office.FileCleaner;
 import org.jodconverter.core.office.TemporaryFileMaker;
 import org.jodconverter.core.util.AssertUtils;
-import org.jodconverter.core.util.FileUtils;
 
 /** Target document specifications for from an input stream. */
 public class TargetDocumentSpecsFromOutputStream extends AbstractTargetDocumentSpecs
@@ -82,8 +82,25 @@ public class TargetDocumentSpecsFromOutputStream extends AbstractTargetDocumentS
       throw new DocumentSpecsIOException(
           String.format("Could not write file '%s' to stream", tempFile), ex);
     } finally {
-      // Ensure the created tempFile is deleted
-      FileUtils.deleteQuietly(tempFile);
+      // Ensure the created tempFile is deleted, in the background
+      FileCleaner.delete(tempFile);
+    }
+  }
+
+  @Override
+  public @NonNull OutputStream getOutputStream() {
+    return outputStream;
+  }
+
+  @Override
+  public void onStreamComplete() {
+
+    if (closeStream) {
+      try {
+        outputStream.close();
+      } catch (IOException ex) {
+        throw new DocumentSpecsIOException("Could not close output stream", ex);
+      }
     }
   }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.job;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import org.jodconverter.core.office.FileCleaner;
+import org.jodconverter.core.office.TemporaryFileMaker;
+import org.jodconverter.core.util.AssertUtils;
+
+/**
+ * Target document specifications for a document written to memory. Once the conversion terminates,
+ * the converted document is available through the {@link #toBytes()} and {@link #toByteBuffer()}
+ * functions. The converters able to store a document to a stream write it directly to memory; it is
+ * only written to a temporary file first for the converters that require a file.
+ */
+public class TargetDocumentSpecsInMemory extends AbstractTargetDocumentSpecs
+    implements TargetDocumentSpecs {
+
+  // The default initial capacity of the buffer holding the document.
+  private static final int DEFAULT_INITIAL_CAPACITY = 64 * 1024; // 64 KB
+
+  private final Buffer buffer;
+  private TemporaryFileMaker fileMaker;
+
+  /** Creates specs writing the document to memory. */
+  public TargetDocumentSpecsInMemory() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates specs writing the document to memory.
+   *
+   * @param initialCapacity The initial capacity of the buffer holding the document, typically the
+   *     expected size of the converted document.
+   */
+  public TargetDocumentSpecsInMemory(final int initialCapacity) {
+    super();
+
+    AssertUtils.isTrue(
+        initialCapacity >= 0,
+        String.format("initialCapacity %s must greater than or equal to 0", initialCapacity));
+    this.buffer = new Buffer(initialCapacity);
+  }
+
+  /**
+   * Sets the maker of the temporary file used when the converter requires a file.
+   *
+   * @param fileMaker Temporary file maker.
+   */
+  /* default */ void setFileMaker(final @NonNull TemporaryFileMaker fileMaker) {
+    this.fileMaker = fileMaker;
+  }
+
+  /**
+   * Gets the converted document. The returned array is the buffer holding the document if its size
+   * matches the size of the document, a copy of the buffer otherwise. Use {@link #toByteBuffer()}
+   * to get the document without any copy.
+   *
+   * @return The converted document.
+   */
+  public @NonNull byte[] toBytes() {
+    return buffer.toBytes();
+  }
+
+  /**
+   * Gets the converted document, wrapping the buffer holding it without any copy.
+   *
+   * @return The converted document.
+   */
+  public @NonNull ByteBuffer toByteBuffer() {
+    return buffer.toByteBuffer();
+  }
+
+  @Override
+  public @NonNull File getFile() {
+
+    if (fileMaker == null) {
+      throw new IllegalStateException(
+          "A temporary file maker is required in order to write the document to a file");
+    }
+    return Optional.ofNullable(getFormat())
+        .map(format -> fileMaker.makeTemporaryFile(format.getExtension()))
+        .orElse(fileMaker.makeTemporaryFile());
+  }
+
+  @Override
+  public void onComplete(final @NonNull File tempFile) {
+
+    // Load the content of the tempFile, which is the result of the conversion
+    buffer.reset();
+    try {
+      Files.copy(tempFile.toPath(), buffer);
+    } catch (IOException ex) {
+      throw new DocumentSpecsIOException(
+          String.format("Could not read file '%s' into memory", tempFile), ex);
+    } finally {
+      // Ensure the created tempFile is deleted, in the background
+      FileCleaner.delete(tempFile);
+    }
+  }
+
+  @Override
+  public void onFailure(final @NonNull File tempFile, final @NonNull Exception exception) {
+
+    buffer.reset();
+    FileCleaner.delete(tempFile);
+  }
+
+  @Override
+  public @NonNull OutputStream getOutputStream() {
+    return buffer;
+  }
+
+  @Override
+  public boolean isInMemory() {
+    return true;
+  }
+
+  @Override
+  public void onStreamFailure(final @NonNull Exception exception) {
+
+    // Do not expose a partially written document.
+    buffer.reset();
+  }
+
+  /** A byte array output stream giving access to its buffer. */
+  private static final class Buffer extends ByteArrayOutputStream {
+
+    /* default */ Buffer(final int initialCapacity) {
+      super(initialCapacity);
+    }
+
+    /* default */ synchronized byte[] toBytes() {
+      return buf.length == count ? buf : Arrays.copyOf(buf, count);
+    }
+
+    /* default */ synchronized ByteBuffer toByteBuffer() {
+      return ByteBuffer.wrap(buf, 0, count).slice();
+    }
+  }
+}
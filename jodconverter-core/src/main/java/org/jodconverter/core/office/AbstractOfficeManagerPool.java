@@ -20,22 +20,41 @@
 
 package org.jodconverter.core.office;
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.jodconverter.core.office.OfficeTaskQueue.PendingTask;
 import org.jodconverter.core.task.OfficeTask;
+import org.jodconverter.core.task.TaskPriority;
 import org.jodconverter.core.util.AssertUtils;
 import org.jodconverter.core.util.StringUtils;
 
@@ -45,6 +64,22 @@ import org.jodconverter.core.util.StringUtils;
  * org.jodconverter.core.task.OfficeTask}. The pool will use the first available {@link
  * org.jodconverter.core.office.AbstractOfficeManagerPoolEntry} to execute a given task when the
  * {@link #execute(org.jodconverter.core.task.OfficeTask)} function is called.
+ *
+ * <p>Tasks submitted while all the entries are busy are queued and dispatched to the entries as
+ * soon as they become available, by {@link org.jodconverter.core.task.TaskPriority priority} first
+ * and then in submission order. No thread is blocked while a task is waiting in the queue, which
+ * allows the pool to be used asynchronously through the {@link
+ * #executeAsync(org.jodconverter.core.task.OfficeTask)} function.
+ *
+ * <p>The queue can be bounded, and the pool can reject a task as soon as it is submitted when its
+ * estimated waiting time, based on the average execution time of the previous tasks, exceeds the
+ * task queue timeout. In both cases, a {@link TaskRejectedException} is thrown, allowing the caller
+ * to shed the load immediately instead of waiting for the task queue timeout.
+ *
+ * <p>The pool reports the tasks it executes, and the restarts of its office processes, to the
+ * registered {@link OfficeManagerPoolListener listeners}. Along with the {@link #getPoolSize()},
+ * {@link #getBusyEntryCount()} and {@link #getQueuedTaskCount()} functions, they allow to collect
+ * metrics about the pool.
  */
 public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerPoolEntry>
     implements OfficeManager, TemporaryFileMaker {
@@ -59,13 +94,43 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
   public static final long DEFAULT_TASK_QUEUE_TIMEOUT = 30_000L; // 30 seconds
   // The default timeout when executing a task
   public static final long DEFAULT_TASK_EXECUTION_TIMEOUT = 120_000L; // 2 minutes
+  // The default maximum number of tasks of the same tenant executed at the same time
+  public static final int DEFAULT_MAX_TASKS_PER_TENANT = 0; // No limit
+  // The default maximum number of tasks waiting in the conversion queue
+  public static final int DEFAULT_MAX_QUEUED_TASKS = 0; // No limit
+  // Whether tasks expected to exceed the task queue timeout are rejected by default
+  public static final boolean DEFAULT_REJECT_ON_ESTIMATED_QUEUE_TIMEOUT = false;
+  // Whether the start of the pool returns once the first entry is started by default
+  public static final boolean DEFAULT_INCREMENTAL_START = false;
+
+  private static final long MIN_IDLE_CHECK_INTERVAL = 1_000L;
+  // The maximum time the stop of the pool waits for its temporary directory to be deleted.
+  private static final long TEMP_DIR_DELETION_TIMEOUT = 10_000L;
+  // The weight of the last execution time in the average execution time.
+  private static final double EXECUTION_TIME_SMOOTHING = 0.2D;
 
   private final AtomicInteger poolState = new AtomicInteger(POOL_STOPPED);
   private final File tempDir;
+  private Closeable tempDirLock;
   private final AtomicLong tempFileCounter;
+  private TemporaryFileMaker temporaryFileMaker;
   private final long taskQueueTimeout;
-  private final BlockingQueue<E> pool;
-  private List<E> entries;
+  private final Deque<E> availableEntries;
+  private final OfficeTaskQueue taskQueue;
+  private final int maxQueuedTasks;
+  private final boolean rejectOnEstimatedQueueTimeout;
+  private final boolean incrementalStart;
+  private double averageExecutionTime;
+  private final Map<E, Long> releaseTimes = new IdentityHashMap<>();
+  private final List<E> entries = new CopyOnWriteArrayList<>();
+  private final List<OfficeManagerPoolListener> listeners = new CopyOnWriteArrayList<>();
+  private int minPoolSize;
+  private int maxPoolSize;
+  private long idleTimeout;
+  private long growthDelay;
+  private int growingEntries;
+  private ExecutorService resizeExecutor;
+  private Future<?> idleCheck;
 
   /**
    * Constructs a new instance of the class with the specified settings.
@@ -77,10 +142,51 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
    */
   protected AbstractOfficeManagerPool(
       final int poolSize, final @NonNull File workingDir, final long taskQueueTimeout) {
+    this(
+        poolSize,
+        workingDir,
+        taskQueueTimeout,
+        null,
+        DEFAULT_MAX_TASKS_PER_TENANT,
+        DEFAULT_MAX_QUEUED_TASKS,
+        DEFAULT_REJECT_ON_ESTIMATED_QUEUE_TIMEOUT,
+        DEFAULT_INCREMENTAL_START);
+  }
+
+  /**
+   * Constructs a new instance of the class with the specified settings.
+   *
+   * @param poolSize The pool size.
+   * @param workingDir The directory where temporary files and directories are created.
+   * @param taskQueueTimeout The maximum living time of a task in the conversion queue. The task
+   *     will be removed from the queue if the waiting time is longer than this timeout.
+   * @param tenantWeights The weight of each tenant when sharing the pool between tenants having
+   *     waiting tasks. Tenants not in the map have a weight of 1.
+   * @param maxTasksPerTenant The maximum number of tasks of the same tenant that can be executed at
+   *     the same time, 0 meaning no limit.
+   * @param maxQueuedTasks The maximum number of tasks waiting in the conversion queue, 0 meaning no
+   *     limit. A task submitted while the queue is full is rejected.
+   * @param rejectOnEstimatedQueueTimeout Whether a task is rejected when it is submitted if its
+   *     estimated waiting time in the queue exceeds the task queue timeout.
+   * @param incrementalStart Whether the {@link #start()} function returns as soon as the first
+   *     entry is started, the other entries joining the pool once started.
+   */
+  protected AbstractOfficeManagerPool(
+      final int poolSize,
+      final @NonNull File workingDir,
+      final long taskQueueTimeout,
+      final @Nullable Map<@NonNull String, @NonNull Integer> tenantWeights,
+      final int maxTasksPerTenant,
+      final int maxQueuedTasks,
+      final boolean rejectOnEstimatedQueueTimeout,
+      final boolean incrementalStart) {
     super();
     AssertUtils.notNull(workingDir, "workingDir must not be null");
 
     this.taskQueueTimeout = taskQueueTimeout;
+    this.maxQueuedTasks = maxQueuedTasks;
+    this.rejectOnEstimatedQueueTimeout = rejectOnEstimatedQueueTimeout;
+    this.incrementalStart = incrementalStart;
 
     // Initialize the temp directory
     tempDir = new File(workingDir, ".jodconverter_" + UUID.randomUUID());
@@ -89,7 +195,29 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
     tempFileCounter = new AtomicLong(0);
 
     // Create the pool
-    pool = new ArrayBlockingQueue<>(poolSize);
+    availableEntries = new ArrayDeque<>(poolSize);
+    taskQueue =
+        new OfficeTaskQueue(
+            tenantWeights == null ? Collections.emptyMap() : tenantWeights, maxTasksPerTenant);
+  }
+
+  /**
+   * Constructs a new instance of the class with the settings of the specified builder.
+   *
+   * @param poolSize The pool size.
+   * @param builder The builder holding the settings of the pool.
+   */
+  protected AbstractOfficeManagerPool(
+      final int poolSize, final @NonNull AbstractOfficeManagerPoolBuilder<?> builder) {
+    this(
+        poolSize,
+        builder.workingDir,
+        builder.taskQueueTimeout,
+        builder.tenantWeights,
+        builder.maxTasksPerTenant,
+        builder.maxQueuedTasks,
+        builder.rejectOnEstimatedQueueTimeout,
+        builder.incrementalStart);
   }
 
   /**
@@ -98,7 +226,144 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
    * @param entries The entries.
    */
   protected void setEntries(final @NonNull List<@NonNull E> entries) {
-    this.entries = Collections.unmodifiableList(entries);
+    entries.forEach(this::attach);
+    this.entries.clear();
+    this.entries.addAll(entries);
+  }
+
+  /**
+   * Sets the maker used to create the temporary files of the conversions, instead of creating them
+   * in the temporary directory of this manager. If the maker is {@link Closeable}, it is closed
+   * when this manager is stopped.
+   *
+   * @param temporaryFileMaker The maker, or {@code null} to use the temporary directory of this
+   *     manager.
+   */
+  protected void setTemporaryFileMaker(final @Nullable TemporaryFileMaker temporaryFileMaker) {
+    this.temporaryFileMaker = temporaryFileMaker;
+  }
+
+  /**
+   * Gets the current manager entries.
+   *
+   * @return An unmodifiable snapshot of the entries.
+   */
+  protected @NonNull List<@NonNull E> getEntries() {
+    return Collections.unmodifiableList(new ArrayList<>(entries));
+  }
+
+  /**
+   * Makes the pool elastic. A new entry, created using {@link #createEntry()}, is started each time
+   * a task has been waiting in the queue for the specified growth delay, until the maximum pool
+   * size is reached. Entries that have not executed any task for the specified idle timeout are
+   * stopped and removed from the pool, until the minimum pool size is reached.
+   *
+   * @param minPoolSize The minimum number of entries.
+   * @param maxPoolSize The maximum number of entries.
+   * @param idleTimeout The time after which an entry that has not executed any task is stopped.
+   * @param growthDelay The time a task must wait in the queue before the pool grows.
+   */
+  protected void setElasticity(
+      final int minPoolSize,
+      final int maxPoolSize,
+      final long idleTimeout,
+      final long growthDelay) {
+
+    AssertUtils.isTrue(
+        minPoolSize > 0 && minPoolSize <= maxPoolSize,
+        String.format(
+            "minPoolSize %s must be greater than 0 and less than or equal to maxPoolSize %s",
+            minPoolSize, maxPoolSize));
+    this.minPoolSize = minPoolSize;
+    this.maxPoolSize = maxPoolSize;
+    this.idleTimeout = idleTimeout;
+    this.growthDelay = growthDelay;
+  }
+
+  /**
+   * Creates a new entry when an elastic pool needs to grow. The entry is started by the pool.
+   *
+   * @return The new entry, or {@code null} if no entry can be created.
+   * @see #setElasticity(int, int, long, long)
+   */
+  protected @Nullable E createEntry() {
+    return null;
+  }
+
+  private boolean isElastic() {
+    return maxPoolSize > 0;
+  }
+
+  /**
+   * Registers a listener that will be notified about the tasks executed by the pool and the
+   * restarts of its office processes.
+   *
+   * @param listener The listener to add.
+   */
+  public void addListener(final @NonNull OfficeManagerPoolListener listener) {
+
+    AssertUtils.notNull(listener, "listener must not be null");
+    listeners.add(listener);
+  }
+
+  /**
+   * Unregisters a listener previously added using {@link #addListener(OfficeManagerPoolListener)}.
+   *
+   * @param listener The listener to remove.
+   */
+  public void removeListener(final @NonNull OfficeManagerPoolListener listener) {
+    listeners.remove(listener);
+  }
+
+  private void notifyListeners(final Consumer<OfficeManagerPoolListener> notification) {
+
+    for (final OfficeManagerPoolListener listener : listeners) {
+      try {
+        notification.accept(listener);
+      } catch (RuntimeException ex) {
+        LOGGER.warn("Office manager pool listener failed", ex);
+      }
+    }
+  }
+
+  private void notifyRestart(final RestartReason reason) {
+    notifyListeners(listener -> listener.officeProcessRestarted(reason));
+  }
+
+  /**
+   * Gets the current number of office managers (entries) in the pool.
+   *
+   * @return The pool size.
+   */
+  public int getPoolSize() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the current number of office managers of the pool that are not available to execute a
+   * task, because they are executing a task or restarting.
+   *
+   * @return The number of busy entries.
+   */
+  public int getBusyEntryCount() {
+
+    synchronized (taskQueue) {
+      return poolState.get() == POOL_STARTED
+          ? Math.max(0, entries.size() - availableEntries.size())
+          : 0;
+    }
+  }
+
+  /**
+   * Gets the current number of tasks waiting in the queue for an office manager.
+   *
+   * @return The queue depth.
+   */
+  public int getQueuedTaskCount() {
+
+    synchronized (taskQueue) {
+      return taskQueue.size();
+    }
   }
 
   @Override
@@ -114,18 +379,92 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
       }
 
       // Start all entries and make them available to execute tasks.
-      for (final E manager : entries) {
-        manager.start();
-        releaseManager(manager);
-      }
+      startEntries();
 
       // Create the temporary dir if the pool has successfully started
       prepareTempDir();
 
+      // Entries are also replaced by this executor when they fail.
+      resizeExecutor =
+          Executors.newSingleThreadExecutor(new NamedThreadFactory("jodconverter-poolresize"));
+      if (isElastic()) {
+        final long checkInterval = Math.max(idleTimeout / 2, MIN_IDLE_CHECK_INTERVAL);
+        idleCheck =
+            OfficeTaskScheduler.getInstance()
+                .scheduleWithFixedDelay(
+                    this::stopIdleEntries, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+      }
+
       poolState.set(POOL_STARTED);
     }
   }
 
+  /**
+   * Starts all the entries concurrently, each entry being made available to execute tasks as soon
+   * as it is started. Waits until all the entries are started or, if the pool starts incrementally,
+   * until the first entry is started.
+   *
+   * @throws OfficeException If an entry cannot be started or, if the pool starts incrementally, if
+   *     no entry can be started.
+   */
+  private void startEntries() throws OfficeException {
+
+    final List<E> toStart = new ArrayList<>(entries);
+    if (toStart.isEmpty()) {
+      return;
+    }
+
+    final CompletableFuture<Void> firstStarted = new CompletableFuture<>();
+    final CompletableFuture<Void> allStarted = new CompletableFuture<>();
+    final AtomicInteger remaining = new AtomicInteger(toStart.size());
+    final AtomicReference<Throwable> firstError = new AtomicReference<>();
+    final ExecutorService startExecutor =
+        Executors.newFixedThreadPool(
+            toStart.size(), new NamedThreadFactory("jodconverter-poolstart"));
+    for (final E entry : toStart) {
+      startExecutor.execute(
+          () -> {
+            try {
+              entry.start();
+              releaseManager(entry);
+              firstStarted.complete(null);
+            } catch (OfficeException | RuntimeException ex) {
+              LOGGER.error("Unable to start an office manager of the pool", ex);
+              firstError.compareAndSet(null, ex);
+            }
+            if (remaining.decrementAndGet() == 0) {
+              final Throwable error = firstError.get();
+              if (error == null) {
+                allStarted.complete(null);
+              } else {
+                allStarted.completeExceptionally(error);
+                // No entry at all could be started.
+                firstStarted.completeExceptionally(error);
+              }
+            }
+          });
+    }
+    // The threads terminate once all the entries are started.
+    startExecutor.shutdown();
+
+    waitStarted(incrementalStart ? firstStarted : allStarted);
+  }
+
+  private static void waitStarted(final Future<Void> started) throws OfficeException {
+
+    try {
+      started.get();
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof OfficeException) {
+        throw (OfficeException) ex.getCause();
+      }
+      throw (RuntimeException) ex.getCause();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new OfficeException("Interruption while starting the office manager pool", ex);
+    }
+  }
+
   @Override
   public final void stop() throws OfficeException {
 
@@ -139,7 +478,23 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
 
       try {
         LOGGER.info("Stopping the office manager pool...");
-        pool.clear();
+        final List<PendingTask> pendingTasks;
+        synchronized (taskQueue) {
+          availableEntries.clear();
+          pendingTasks = taskQueue.clear();
+        }
+        for (final PendingTask pending : pendingTasks) {
+          pending.cancelScheduledActions();
+          pending.result.completeExceptionally(
+              new OfficeException("The office manager has been stopped"));
+        }
+
+        if (idleCheck != null) {
+          idleCheck.cancel(false);
+        }
+        if (resizeExecutor != null) {
+          resizeExecutor.shutdownNow();
+        }
 
         // Stop all the managers.
         for (final E manager : entries) {
@@ -147,7 +502,18 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
         }
 
       } finally {
-        deleteTempDir();
+        // The directory is deleted in the background, but the JVM may exit right after.
+        final Future<?> deletion = deleteTempDir();
+        try {
+          if (!FileCleaner.awaitDeletion(deletion, TEMP_DIR_DELETION_TIMEOUT)) {
+            LOGGER.warn(
+                "Could not delete temporary directory '{}' within {} ms",
+                tempDir,
+                TEMP_DIR_DELETION_TIMEOUT);
+          }
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
       }
     }
   }
@@ -167,69 +533,465 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
   }
 
   /**
-   * Acquires a manager, waiting the configured timeout for an entry to become available.
+   * Attaches the given entry to this pool, so the pool is notified when the entry restarts, and
+   * withdraws the entry from the available entries while it is checked.
    *
-   * @return A manager that was available.
-   * @throws OfficeException If we are unable to acquire a manager.
+   * @param entry The entry to attach.
    */
-  private E acquireManager() throws OfficeException {
-    LOGGER.debug("Acquiring an office manager from the pool...");
+  private void attach(final E entry) {
 
-    E manager;
-    try {
-      manager = pool.poll(taskQueueTimeout, TimeUnit.MILLISECONDS);
-    } catch (InterruptedException ex) {
-      Thread.currentThread().interrupt();
-      throw new OfficeException("Interruption while acquiring manager", ex);
-    }
+    entry.restartListener = this::notifyRestart;
+    entry.healthCheckGuard =
+        new AbstractOfficeManagerPoolEntry.HealthCheckGuard() {
+          @Override
+          public boolean acquire() {
+
+            synchronized (taskQueue) {
+              return poolState.get() == POOL_STARTED && availableEntries.remove(entry);
+            }
+          }
+
+          @Override
+          public void release() {
+            releaseCheckedManager(entry);
+          }
+        };
+  }
+
+  /**
+   * Returns the given manager to the pool once it has been checked. If tasks are waiting in the
+   * queue, the manager will immediately execute the oldest one having the highest priority.
+   * Otherwise, since a check is not an activity, the manager keeps its idle time.
+   *
+   * @param manager A manager to return to the pool.
+   */
+  private void releaseCheckedManager(final E manager) {
+
+    PendingTask next;
+    synchronized (taskQueue) {
+      if (poolState.get() == POOL_SHUTDOWN || !entries.contains(manager)) {
+        return;
+      }
 
-    if (manager == null) {
-      throw new OfficeException(
-          String.format("No office manager available after %d millisec", taskQueueTimeout));
+      next = taskQueue.poll();
+      if (next == null) {
+        // The least recently used entries are at the end of the deque.
+        availableEntries.add(manager);
+        return;
+      }
     }
-    LOGGER.debug("Office manager acquired successfully from the pool.");
-    return manager;
+    dispatch(manager, next);
   }
 
   /**
-   * Make the given manager available to executes tasks.
+   * Make the given manager available to executes tasks. If tasks are waiting in the queue, the
+   * manager will immediately execute the oldest one having the highest priority.
    *
    * @param manager A manager to return to the pool.
-   * @throws OfficeException If we are unable to release a manager.
    */
-  private void releaseManager(final E manager) throws OfficeException {
+  private void releaseManager(final E manager) {
     LOGGER.debug("Returning office manager to the pool...");
 
+    PendingTask next;
+    synchronized (taskQueue) {
+      if (poolState.get() == POOL_SHUTDOWN) {
+        return;
+      }
+
+      next = taskQueue.poll();
+      if (next == null) {
+        if (isElastic()) {
+          // Reuse the most recently used entries first, letting the
+          // others become idle when the load decreases.
+          availableEntries.push(manager);
+          releaseTimes.put(manager, System.currentTimeMillis());
+        } else {
+          availableEntries.add(manager);
+        }
+        return;
+      }
+    }
+    dispatch(manager, next);
+  }
+
+  /**
+   * Executes the given pending task using the given manager, releasing the manager once the task is
+   * done.
+   *
+   * @param manager The manager that will execute the task.
+   * @param pending The task to execute.
+   */
+  private void dispatch(final E manager, final PendingTask pending) {
+
+    pending.cancelScheduledActions();
+    LOGGER.debug("Office manager acquired successfully from the pool.");
+
+    final long startTime = System.currentTimeMillis();
+    notifyListeners(
+        listener -> listener.taskDispatched(pending.task, startTime - pending.submitTime));
+    final CompletableFuture<Void> future;
     try {
-      pool.put(manager);
-    } catch (InterruptedException ex) {
-      Thread.currentThread().interrupt();
-      throw new OfficeException("Interruption while releasing manager", ex);
+      future = manager.executeAsync(pending.task);
+    } catch (RuntimeException ex) {
+      notifyListeners(listener -> listener.taskFailed(pending.task, 0L, false, ex));
+      releaseTask(pending);
+      // The manager cannot accept tasks anymore (it has probably been
+      // stopped), returning it to the pool would hand it the next task.
+      quarantine(manager, ex);
+      pending.result.completeExceptionally(ex);
+      return;
+    }
+
+    // A task cancelled by the caller is cancelled by the manager executing it.
+    pending.result.whenComplete(
+        (unused, error) -> {
+          if (pending.result.isCancelled()) {
+            future.cancel(true);
+          }
+        });
+
+    // Return the manager to the pool before notifying the caller, so the
+    // caller can immediately submit another task to the same manager.
+    future.whenComplete(
+        (unused, error) -> {
+          final long executionTime = System.currentTimeMillis() - startTime;
+          if (error == null) {
+            recordExecutionTime(executionTime);
+            notifyListeners(listener -> listener.taskSucceeded(pending.task, executionTime));
+          } else {
+            final boolean timedOut = error.getCause() instanceof TimeoutException;
+            notifyListeners(
+                listener -> listener.taskFailed(pending.task, executionTime, timedOut, error));
+          }
+          releaseTask(pending);
+          releaseManager(manager);
+          if (error == null) {
+            pending.result.complete(null);
+          } else {
+            pending.result.completeExceptionally(error);
+          }
+        });
+  }
+
+  /**
+   * Updates the average execution time of the tasks with the given execution time.
+   *
+   * @param executionTime The execution time of a successful task, in milliseconds.
+   */
+  private void recordExecutionTime(final long executionTime) {
+
+    synchronized (taskQueue) {
+      averageExecutionTime =
+          averageExecutionTime == 0D
+              ? executionTime
+              : EXECUTION_TIME_SMOOTHING * executionTime
+                  + (1D - EXECUTION_TIME_SMOOTHING) * averageExecutionTime;
+    }
+  }
+
+  /**
+   * Estimates the time a task having the given priority would wait in the queue before being
+   * executed, assuming the tasks ahead of it are executed in parallel by all the entries of the
+   * pool. Must be called while holding the queue lock.
+   *
+   * @param priority The priority of the task.
+   * @return The estimated wait time, in milliseconds, or -1 if unknown since no task has been
+   *     executed yet.
+   */
+  private long estimateWaitTime(final TaskPriority priority) {
+
+    if (averageExecutionTime == 0D || entries.isEmpty()) {
+      return -1L;
+    }
+    final int rounds = (taskQueue.sizeAhead(priority) + entries.size()) / entries.size();
+    return (long) (rounds * averageExecutionTime);
+  }
+
+  /**
+   * Removes the given manager from the pool since it failed to accept a task, so no other task is
+   * dispatched to it, and stops it. The manager is replaced by a new entry, created using {@link
+   * #createEntry()}, unless the pool is elastic and still has its minimum number of entries.
+   *
+   * @param manager The manager to remove.
+   * @param cause The reason why the manager is removed.
+   */
+  private void quarantine(final E manager, final RuntimeException cause) {
+    LOGGER.warn("Office manager failed to accept a task; removing it from the pool", cause);
+
+    final boolean replace;
+    synchronized (taskQueue) {
+      availableEntries.remove(manager);
+      releaseTimes.remove(manager);
+      if (!entries.remove(manager)) {
+        return;
+      }
+      replace =
+          poolState.get() == POOL_STARTED
+              && (!isElastic() || entries.size() + growingEntries < minPoolSize);
+      if (replace) {
+        growingEntries++;
+      }
+    }
+
+    try {
+      resizeExecutor.execute(
+          () -> {
+            stopEntry(manager);
+            if (replace) {
+              LOGGER.info("Replacing the office manager removed from the pool");
+              grow();
+            }
+          });
+    } catch (RejectedExecutionException ex) {
+      // The pool is shutting down and no longer knows this entry.
+      synchronized (taskQueue) {
+        if (replace) {
+          growingEntries--;
+        }
+      }
+      stopEntry(manager);
+    }
+  }
+
+  /**
+   * Notifies the queue that the given task is no longer running, allowing other tasks of the same
+   * tenant to be executed.
+   *
+   * @param pending The task that is done.
+   */
+  private void releaseTask(final PendingTask pending) {
+
+    synchronized (taskQueue) {
+      taskQueue.release(pending);
     }
   }
 
   @Override
   public final void execute(final @NonNull OfficeTask task) throws OfficeException {
 
+    // Submit the task to the pool and wait for its completion. The task
+    // will wait in the queue, at most the configured timeout, for a manager
+    // to become available.
+    AbstractOfficeManagerPoolEntry.waitTaskCompletion(task, executeAsync(task));
+  }
+
+  @Override
+  public final @NonNull CompletableFuture<Void> executeAsync(final @NonNull OfficeTask task) {
+
     if (poolState.get() != POOL_STARTED) {
       throw new IllegalStateException("This office manager is not running.");
     }
 
-    // Try to acquire a manager entry, waiting the configured timeout for a
-    // manager to become available. If we succeed, the acquired manager will
-    // then execute the given task. Once the task is done, return the manager
-    // to the pool.
+    LOGGER.debug("Acquiring an office manager from the pool...");
+    final PendingTask pending = new PendingTask(task);
+    final E manager;
+    synchronized (taskQueue) {
+      manager =
+          !availableEntries.isEmpty() && taskQueue.tryAcquire(pending)
+              ? availableEntries.poll()
+              : null;
+      if (manager == null) {
+        // All the managers are busy (or the tenant of the task is already
+        // using its share of the pool), the task must wait in the queue,
+        // unless we already know it won't be executed in time.
+        final TaskRejectedException rejection = checkAdmission(pending);
+        if (rejection != null) {
+          LOGGER.debug(rejection.getMessage());
+          notifyListeners(listener -> listener.taskRejected(task, rejection));
+          final CompletableFuture<Void> rejected = new CompletableFuture<>();
+          rejected.completeExceptionally(rejection);
+          return rejected;
+        }
+        taskQueue.add(pending);
+        pending.timeout =
+            OfficeTaskScheduler.getInstance()
+                .schedule(() -> expire(pending), taskQueueTimeout, TimeUnit.MILLISECONDS);
+        if (isElastic()) {
+          pending.growth =
+              OfficeTaskScheduler.getInstance()
+                  .schedule(() -> growIfStillWaiting(pending), growthDelay, TimeUnit.MILLISECONDS);
+        }
+      }
+    }
+
+    if (manager != null) {
+      dispatch(manager, pending);
+    }
+
+    // A task cancelled by the caller while waiting in the queue is
+    // removed from the queue.
+    pending.result.whenComplete(
+        (unused, error) -> {
+          if (pending.result.isCancelled()) {
+            pending.cancelScheduledActions();
+            synchronized (taskQueue) {
+              taskQueue.remove(pending);
+            }
+          }
+        });
+    return pending.result;
+  }
+
+  /**
+   * Checks whether the given task can be added to the queue. Must be called while holding the queue
+   * lock.
+   *
+   * @param pending The task to add.
+   * @return The exception to fail the task with if the task is rejected, {@code null} otherwise.
+   */
+  private @Nullable TaskRejectedException checkAdmission(final PendingTask pending) {
+
+    final int queueDepth = taskQueue.size();
+    if (maxQueuedTasks > 0 && queueDepth >= maxQueuedTasks) {
+      return new TaskRejectedException(
+          String.format("Task rejected; the task queue is full (%d tasks waiting)", queueDepth),
+          queueDepth,
+          estimateWaitTime(pending.priority));
+    }
+
+    if (rejectOnEstimatedQueueTimeout) {
+      final long estimatedWaitTime = estimateWaitTime(pending.priority);
+      if (estimatedWaitTime > taskQueueTimeout) {
+        return new TaskRejectedException(
+            String.format(
+                "Task rejected; estimated wait time %d millisec exceeds the task queue timeout"
+                    + " (%d tasks waiting)",
+                estimatedWaitTime, queueDepth),
+            queueDepth,
+            estimatedWaitTime);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Starts a new entry if the given task is still waiting for a manager and the maximum pool size
+   * is not reached yet.
+   *
+   * @param pending The task that has been waiting for the growth delay.
+   */
+  private void growIfStillWaiting(final PendingTask pending) {
+
+    synchronized (taskQueue) {
+      if (poolState.get() != POOL_STARTED
+          || pending.result.isDone()
+          || !availableEntries.isEmpty()
+          || entries.size() + growingEntries >= maxPoolSize
+          || !taskQueue.contains(pending)) {
+        return;
+      }
+      growingEntries++;
+    }
+
+    try {
+      LOGGER.info("Task queue wait exceeded {} ms; adding a manager to the pool", growthDelay);
+      resizeExecutor.execute(this::grow);
+    } catch (RejectedExecutionException ex) {
+      // The pool is shutting down.
+      synchronized (taskQueue) {
+        growingEntries--;
+      }
+    }
+  }
+
+  /** Creates, starts and adds a new entry to the pool. */
+  private void grow() {
+
     E entry = null;
     try {
-      entry = acquireManager();
-      entry.execute(task);
-    } finally {
+      entry = createEntry();
       if (entry != null) {
-        releaseManager(entry);
+        entry.start();
+      }
+    } catch (OfficeException | RuntimeException ex) {
+      LOGGER.error("Unable to start a new office manager", ex);
+      stopEntry(entry);
+      entry = null;
+    }
+
+    boolean added = false;
+    synchronized (taskQueue) {
+      growingEntries--;
+      if (entry != null && poolState.get() == POOL_STARTED) {
+        attach(entry);
+        entries.add(entry);
+        added = true;
+      }
+    }
+    if (added) {
+      releaseManager(entry);
+    } else {
+      stopEntry(entry);
+    }
+  }
+
+  /** Stops and removes the entries that have been idle for too long. */
+  private void stopIdleEntries() {
+
+    final List<E> idleEntries = new ArrayList<>();
+    synchronized (taskQueue) {
+      final long now = System.currentTimeMillis();
+
+      // The least recently used entries are at the end of the deque.
+      final Iterator<E> it = availableEntries.descendingIterator();
+      while (it.hasNext() && entries.size() > minPoolSize) {
+        final E entry = it.next();
+        final Long releaseTime = releaseTimes.get(entry);
+        if (releaseTime == null || now - releaseTime < idleTimeout) {
+          break;
+        }
+        it.remove();
+        releaseTimes.remove(entry);
+        entries.remove(entry);
+        idleEntries.add(entry);
+      }
+    }
+
+    for (final E entry : idleEntries) {
+      LOGGER.info(
+          "Office manager idle for more than {} ms; removing it from the pool", idleTimeout);
+      try {
+        resizeExecutor.execute(() -> stopEntry(entry));
+      } catch (RejectedExecutionException ex) {
+        // The pool is shutting down, it will stop the entry itself.
+        LOGGER.debug("Pool shutting down; entry not stopped", ex);
+      }
+    }
+  }
+
+  private void stopEntry(final @Nullable E entry) {
+
+    if (entry != null) {
+      try {
+        entry.stop();
+      } catch (OfficeException | RuntimeException ex) {
+        LOGGER.error("Unable to stop an office manager", ex);
       }
     }
   }
 
+  /**
+   * Removes the given pending task from the queue since it has not been dispatched to a manager
+   * within the configured timeout.
+   *
+   * @param pending The task that expired.
+   */
+  private void expire(final PendingTask pending) {
+
+    synchronized (taskQueue) {
+      if (!taskQueue.remove(pending)) {
+        // Already dispatched.
+        return;
+      }
+    }
+    pending.cancelScheduledActions();
+    final long queueWaitTime = System.currentTimeMillis() - pending.submitTime;
+    notifyListeners(listener -> listener.taskExpired(pending.task, queueWaitTime));
+    pending.result.completeExceptionally(
+        new OfficeException(
+            String.format("No office manager available after %d millisec", taskQueueTimeout)));
+  }
+
   /**
    * Prepares the directory of this manager, under the working directory.
    *
@@ -243,16 +1005,46 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
       deleteTempDir();
     }
 
+    // Delete the temporary directories left behind by crashed JVMs.
+    FileCleaner.sweepOrphans(tempDir.getParentFile());
+
     tempDir.mkdirs();
     if (!tempDir.isDirectory()) {
       throw new OfficeException(String.format("Cannot create temporary directory: %s", tempDir));
     }
+    try {
+      tempDirLock = FileCleaner.lock(tempDir);
+    } catch (IOException ex) {
+      LOGGER.warn("Could not lock temporary directory '{}'", tempDir, ex);
+    }
   }
 
-  /** Deletes the profile directory of the office process. */
-  private void deleteTempDir() {
+  /**
+   * Deletes the temporary directory of this manager.
+   *
+   * @return The deletion, done once the directory has been deleted.
+   */
+  private Future<?> deleteTempDir() {
+
+    if (tempDirLock != null) {
+      try {
+        tempDirLock.close();
+      } catch (IOException ex) {
+        LOGGER.debug("Could not unlock temporary directory '{}'", tempDir, ex);
+      }
+      tempDirLock = null;
+    }
     // TODO: Should we use retry feature?
-    OfficeUtils.deleteOrRenameFile(tempDir, 0L, 0L);
+    final Future<?> deletion = FileCleaner.renameAndDelete(tempDir, 0L, 0L);
+
+    if (temporaryFileMaker instanceof Closeable) {
+      try {
+        ((Closeable) temporaryFileMaker).close();
+      } catch (IOException ex) {
+        LOGGER.debug("Could not close temporary file maker '{}'", temporaryFileMaker, ex);
+      }
+    }
+    return deletion;
   }
 
   @Override
@@ -262,6 +1054,10 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
 
   @Override
   public @NonNull File makeTemporaryFile(final @Nullable String extension) {
+
+    if (temporaryFileMaker != null) {
+      return temporaryFileMaker.makeTemporaryFile(extension);
+    }
     return new File(
         tempDir,
         "tempfile_"
@@ -282,6 +1078,12 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
     protected File workingDir = OfficeUtils.getDefaultWorkingDir();
     protected long taskExecutionTimeout = DEFAULT_TASK_EXECUTION_TIMEOUT;
     protected long taskQueueTimeout = DEFAULT_TASK_QUEUE_TIMEOUT;
+    protected Map<String, Integer> tenantWeights;
+    protected int maxTasksPerTenant = DEFAULT_MAX_TASKS_PER_TENANT;
+    protected int maxQueuedTasks = DEFAULT_MAX_QUEUED_TASKS;
+    protected boolean rejectOnEstimatedQueueTimeout = DEFAULT_REJECT_ON_ESTIMATED_QUEUE_TIMEOUT;
+    protected boolean incrementalStart = DEFAULT_INCREMENTAL_START;
+    protected TemporaryFileMaker temporaryFileMaker;
 
     // Protected constructor so only subclasses can initialize an instance of this builder.
     protected AbstractOfficeManagerPoolBuilder() {
@@ -342,6 +1144,26 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
       return StringUtils.isBlank(workingDir) ? (B) this : workingDir(new File(workingDir));
     }
 
+    /**
+     * Specifies the maker used to create the temporary files of the conversions done using
+     * InputStream/OutputStream. It allows, for instance, to create them in a tmpfs-backed directory
+     * with a size limit, falling back to a disk once the limit is reached ({@link
+     * BoundedTemporaryFileMaker}), or to spread them across several disks ({@link
+     * DirectoryTemporaryFileMaker}). If the maker is {@link Closeable}, it is closed when the
+     * manager is stopped.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: The temporary files are created in a temporary directory of
+     * the manager, under the working directory.
+     *
+     * @param temporaryFileMaker The temporary file maker.
+     * @return This builder instance.
+     */
+    public @NonNull B temporaryFileMaker(final @Nullable TemporaryFileMaker temporaryFileMaker) {
+
+      this.temporaryFileMaker = temporaryFileMaker;
+      return (B) this;
+    }
+
     /**
      * Specifies the maximum time allowed to process a task. If the processing time of a task is
      * longer than this timeout, this task will be aborted and the next task is processed.
@@ -383,5 +1205,114 @@ public abstract class AbstractOfficeManagerPool<E extends AbstractOfficeManagerP
       }
       return (B) this;
     }
+
+    /**
+     * Specifies the weight of each tenant. When tasks of different tenants (having the same
+     * priority) are waiting for an office process, the pool is shared between the tenants
+     * proportionally to their weight. Tenants that are not specified have a weight of 1.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: All tenants have a weight of 1
+     *
+     * @param tenantWeights The weights, by tenant.
+     * @return This builder instance.
+     */
+    public @NonNull B tenantWeights(
+        final @Nullable Map<@NonNull String, @NonNull Integer> tenantWeights) {
+
+      if (tenantWeights != null) {
+        tenantWeights.forEach(
+            (tenant, weight) ->
+                AssertUtils.isTrue(
+                    weight != null && weight > 0,
+                    String.format(
+                        "weight %s of tenant %s must be greater than 0", weight, tenant)));
+        this.tenantWeights = new HashMap<>(tenantWeights);
+      }
+      return (B) this;
+    }
+
+    /**
+     * Specifies the maximum number of tasks of the same tenant that can be executed at the same
+     * time. It prevents a single tenant from monopolizing every office process of the pool. 0 means
+     * no limit.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no limit)
+     *
+     * @param maxTasksPerTenant The maximum number of concurrent tasks per tenant.
+     * @return This builder instance.
+     */
+    public @NonNull B maxTasksPerTenant(final @Nullable Integer maxTasksPerTenant) {
+
+      if (maxTasksPerTenant != null) {
+        AssertUtils.isTrue(
+            maxTasksPerTenant >= 0,
+            String.format(
+                "maxTasksPerTenant %s must greater than or equal to 0", maxTasksPerTenant));
+        this.maxTasksPerTenant = maxTasksPerTenant;
+      }
+      return (B) this;
+    }
+
+    /**
+     * Specifies the maximum number of tasks that can wait in the conversion queue for an office
+     * process. A task submitted while the queue is full is immediately rejected with a {@link
+     * TaskRejectedException}. 0 means no limit.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no limit)
+     *
+     * @param maxQueuedTasks The maximum number of queued tasks.
+     * @return This builder instance.
+     */
+    public @NonNull B maxQueuedTasks(final @Nullable Integer maxQueuedTasks) {
+
+      if (maxQueuedTasks != null) {
+        AssertUtils.isTrue(
+            maxQueuedTasks >= 0,
+            String.format("maxQueuedTasks %s must greater than or equal to 0", maxQueuedTasks));
+        this.maxQueuedTasks = maxQueuedTasks;
+      }
+      return (B) this;
+    }
+
+    /**
+     * Specifies whether a task must be immediately rejected, with a {@link TaskRejectedException},
+     * when its estimated waiting time in the conversion queue exceeds the task queue timeout. The
+     * waiting time is estimated from the number of tasks ahead in the queue and the average
+     * execution time of the previous tasks.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: false
+     *
+     * @param rejectOnEstimatedQueueTimeout {@code true} to reject the tasks that would likely
+     *     expire in the queue, {@code false} otherwise.
+     * @return This builder instance.
+     */
+    public @NonNull B rejectOnEstimatedQueueTimeout(
+        final @Nullable Boolean rejectOnEstimatedQueueTimeout) {
+
+      if (rejectOnEstimatedQueueTimeout != null) {
+        this.rejectOnEstimatedQueueTimeout = rejectOnEstimatedQueueTimeout;
+      }
+      return (B) this;
+    }
+
+    /**
+     * Specifies whether the manager reports that it is running, and accepts tasks, as soon as the
+     * first office process is started, the other processes being still started in the background
+     * and joining the pool once started. The office processes are always started concurrently. If
+     * set to {@code false}, the start of the manager waits until all the office processes are
+     * started.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: false
+     *
+     * @param incrementalStart {@code true} to start incrementally, {@code false} otherwise.
+     * @return This builder instance.
+     */
+    public @NonNull B incrementalStart(final @Nullable Boolean incrementalStart) {
+
+      if (incrementalStart != null) {
+        this.incrementalStart = incrementalStart;
+      }
+      return (B) this;
+    }
   }
 }
@@ -21,10 +21,16 @@
 package org.jodconverter.core.office;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.slf4j.Logger;
@@ -39,6 +45,16 @@ import org.jodconverter.core.task.OfficeTask;
  * availability of the task executor. This abstract class never set the availability to true. Only
  * when the manager is stopped that the availability is set to false.
  *
+ * <p>When a health check interval is configured, an entry that stayed idle for that interval is
+ * checked by executing {@link #checkHealth()} with its task executor, so the check never runs at
+ * the same time as a task. If the check fails or does not complete within the health check timeout,
+ * {@link #handleHealthCheckFailure(Throwable)} is called. The pool owning the entry does not
+ * dispatch any task to the entry until the check, and the handling of its failure, are done.
+ *
+ * <p>When a task stall timeout is configured, the progress reported by {@link #getTaskProgress()}
+ * is sampled while a task is running, and the task is aborted, as if the task execution timeout was
+ * reached, when it made no progress for that timeout.
+ *
  * @see OfficeManager
  * @see AbstractOfficeManagerPool
  */
@@ -47,9 +63,35 @@ public abstract class AbstractOfficeManagerPoolEntry implements OfficeManager {
   private static final Logger LOGGER =
       LoggerFactory.getLogger(AbstractOfficeManagerPoolEntry.class);
 
+  // The number of progress samples taken within the task stall timeout.
+  private static final long STALL_SAMPLES = 4L;
+
   private final long taskExecutionTimeout;
+  private final long taskStallTimeout;
+  private final long healthCheckInterval;
+  private final long healthCheckTimeout;
   private final SuspendableThreadPoolExecutor taskExecutor;
-  private Future<?> currentFuture;
+  private final AtomicBoolean healthCheckPending = new AtomicBoolean();
+  private volatile Future<?> currentFuture;
+  private volatile Future<?> healthCheck;
+  private volatile long lastActivityTime = System.currentTimeMillis();
+  // Set by the pool owning this entry.
+  /* default */ volatile Consumer<RestartReason> restartListener;
+  /* default */ volatile HealthCheckGuard healthCheckGuard;
+
+  /** Lets the pool owning an entry withdraw the entry from its available entries during a check. */
+  /* default */ interface HealthCheckGuard {
+
+    /**
+     * Withdraws the entry from the available entries of the pool.
+     *
+     * @return {@code true} if the entry was available, {@code false} if the check must be skipped.
+     */
+    boolean acquire();
+
+    /** Returns the entry to the pool once the check is done. */
+    void release();
+  }
 
   /**
    * Initializes a new pool entry with the specified configuration.
@@ -59,8 +101,48 @@ public abstract class AbstractOfficeManagerPoolEntry implements OfficeManager {
    *     processed.
    */
   protected AbstractOfficeManagerPoolEntry(final long taskExecutionTimeout) {
+    this(taskExecutionTimeout, 0L, 0L);
+  }
+
+  /**
+   * Initializes a new pool entry with the specified configuration.
+   *
+   * @param taskExecutionTimeout The maximum time allowed to process a task. If the processing time
+   *     of a task is longer than this timeout, this task will be aborted and the next task is
+   *     processed.
+   * @param healthCheckInterval The time after which an idle entry is checked, 0 meaning that the
+   *     entry is never checked.
+   * @param healthCheckTimeout The maximum time allowed to a health check.
+   */
+  protected AbstractOfficeManagerPoolEntry(
+      final long taskExecutionTimeout,
+      final long healthCheckInterval,
+      final long healthCheckTimeout) {
+    this(taskExecutionTimeout, 0L, healthCheckInterval, healthCheckTimeout);
+  }
+
+  /**
+   * Initializes a new pool entry with the specified configuration.
+   *
+   * @param taskExecutionTimeout The maximum time allowed to process a task. If the processing time
+   *     of a task is longer than this timeout, this task will be aborted and the next task is
+   *     processed.
+   * @param taskStallTimeout The maximum time a running task can make no progress before being
+   *     aborted, 0 meaning that the progress of the tasks is never sampled.
+   * @param healthCheckInterval The time after which an idle entry is checked, 0 meaning that the
+   *     entry is never checked.
+   * @param healthCheckTimeout The maximum time allowed to a health check.
+   */
+  protected AbstractOfficeManagerPoolEntry(
+      final long taskExecutionTimeout,
+      final long taskStallTimeout,
+      final long healthCheckInterval,
+      final long healthCheckTimeout) {
 
     this.taskExecutionTimeout = taskExecutionTimeout;
+    this.taskStallTimeout = taskStallTimeout;
+    this.healthCheckInterval = healthCheckInterval;
+    this.healthCheckTimeout = healthCheckTimeout;
     taskExecutor =
         new SuspendableThreadPoolExecutor(new NamedThreadFactory("jodconverter-poolentry"));
   }
@@ -68,61 +150,92 @@ public abstract class AbstractOfficeManagerPoolEntry implements OfficeManager {
   @Override
   public final void execute(final @NonNull OfficeTask task) throws OfficeException {
 
+    // Submit the task and wait for its completion.
+    waitTaskCompletion(task, executeAsync(task));
+  }
+
+  @Override
+  public final @NonNull CompletableFuture<Void> executeAsync(final @NonNull OfficeTask task) {
+
     // No need to check if the manager is running here.
     // This check is already done in the pool.
 
     // TODO: Maybe we should check if the taskExecutor was made available
     // at least once, meaning that the entry has been started.
 
-    // Submit the task to the executor
-    currentFuture =
-        taskExecutor.submit(
-            () -> {
-              doExecute(task);
-              return null;
-            });
-
-    // Wait for completion of the task.
-    waitTaskCompletion(task);
+    final CompletableFuture<Void> result = new CompletableFuture<>();
+    final TaskFuture future = new TaskFuture(task, result);
+
+    // A task cancelled by the caller is not executed, or is interrupted if already running.
+    result.whenComplete(
+        (unused, error) -> {
+          if (result.isCancelled()) {
+            future.cancel(true);
+          }
+        });
+
+    // Submit the task to the executor. A RejectedExecutionException
+    // is thrown if this entry has been stopped.
+    lastActivityTime = System.currentTimeMillis();
+    currentFuture = future;
+    taskExecutor.execute(future);
+
+    // Abort the task if it does not complete within the configured timeout.
+    LOGGER.debug(
+        "Task will be aborted if not completed within {} ms: {}", taskExecutionTimeout, task);
+    future.timeout =
+        OfficeTaskScheduler.getInstance()
+            .schedule(future::timeout, taskExecutionTimeout, TimeUnit.MILLISECONDS);
+    if (taskStallTimeout > 0L) {
+      final long sampleInterval = Math.max(taskStallTimeout / STALL_SAMPLES, 1L);
+      future.sampler =
+          OfficeTaskScheduler.getInstance()
+              .scheduleWithFixedDelay(
+                  future::sampleProgress, sampleInterval, sampleInterval, TimeUnit.MILLISECONDS);
+    }
+    if (future.isDone()) {
+      future.cancelScheduled();
+    }
+    return result;
   }
 
-  private void waitTaskCompletion(final OfficeTask task) throws OfficeException {
+  /**
+   * Waits for the completion of a task submitted asynchronously, translating any error into an
+   * {@link OfficeException}.
+   *
+   * @param task The task being executed.
+   * @param result The future of the task.
+   * @throws OfficeException If the task did not complete successfully.
+   */
+  /* default */ static void waitTaskCompletion(
+      final @NonNull OfficeTask task, final @NonNull Future<Void> result) throws OfficeException {
 
-    // Wait for completion of the task, (maximum wait time is the configured task execution
-    // timeout).
     try {
-      LOGGER.debug("Waiting {} ms for task to complete: {}", taskExecutionTimeout, task);
-      currentFuture.get(taskExecutionTimeout, TimeUnit.MILLISECONDS);
-      LOGGER.debug("Task executed successfully: {}", task);
+      result.get();
+
+    } catch (ExecutionException ex) {
+
+      // Rethrow the original (cause) exception
+      final Throwable cause = ex.getCause();
+      if (cause instanceof OfficeException) {
+        throw (OfficeException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new OfficeException(String.format("Task did not complete: %s", task), cause);
 
     } catch (CancellationException ex) {
 
       // The task was cancelled...
       throw new OfficeException(String.format("Task was cancelled: %s", task), ex);
 
-    } catch (ExecutionException ex) {
-
-      // An error occurred while executing the task...
-      throw handleTaskExecutionException(task, ex);
-
     } catch (InterruptedException ex) {
 
       // The task was interrupted...
       Thread.currentThread().interrupt();
       throw new OfficeException(
           String.format("Task was interrupted while executing: %s", task), ex);
-
-    } catch (TimeoutException ex) {
-
-      // The task did not complete within the configured timeout...
-      handleExecuteTimeoutException(ex);
-      throw new OfficeException(
-          String.format(
-              "Task did not complete within timeout (%s ms): %s", taskExecutionTimeout, task),
-          ex);
-
-    } finally {
-      currentFuture = null;
     }
   }
 
@@ -138,6 +251,327 @@ public abstract class AbstractOfficeManagerPoolEntry implements OfficeManager {
         String.format("Task did not complete: %s", task), executionException.getCause());
   }
 
+  /**
+   * The future of a task submitted to the task executor. It completes the future returned to the
+   * caller once the task is done, or once the task execution timeout is reached, whichever comes
+   * first.
+   */
+  private final class TaskFuture extends FutureTask<Void> {
+
+    private final OfficeTask task;
+    private final CompletableFuture<Void> result;
+    private final AtomicBoolean settled = new AtomicBoolean();
+    private volatile Future<?> timeout;
+    private volatile Future<?> sampler;
+    private volatile boolean running;
+    private long lastProgress = -1L;
+    private long lastProgressTime;
+
+    /* default */ TaskFuture(final OfficeTask task, final CompletableFuture<Void> result) {
+      super(
+          () -> {
+            doExecute(task);
+            return null;
+          });
+      this.task = task;
+      this.result = result;
+    }
+
+    @Override
+    public void run() {
+
+      // The progress is meaningless while the task waits to be executed.
+      running = true;
+      super.run();
+    }
+
+    @Override
+    protected void done() {
+
+      lastActivityTime = System.currentTimeMillis();
+      if (currentFuture == this) {
+        currentFuture = null;
+      }
+      cancelScheduled();
+      if (!settled.compareAndSet(false, true)) {
+        return;
+      }
+
+      try {
+        get();
+        LOGGER.debug("Task executed successfully: {}", task);
+        result.complete(null);
+
+      } catch (CancellationException ex) {
+
+        // The task was cancelled...
+        result.completeExceptionally(
+            new OfficeException(String.format("Task was cancelled: %s", task), ex));
+
+      } catch (ExecutionException ex) {
+
+        // An error occurred while executing the task...
+        result.completeExceptionally(handleTaskExecutionException(task, ex));
+
+      } catch (InterruptedException ex) {
+
+        // Cannot happen, the task is done
+        Thread.currentThread().interrupt();
+        result.completeExceptionally(
+            new OfficeException(
+                String.format("Task was interrupted while executing: %s", task), ex));
+      }
+    }
+
+    /* default */ void cancelScheduled() {
+
+      final Future<?> scheduled = timeout;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+      final Future<?> scheduledSampler = sampler;
+      if (scheduledSampler != null) {
+        scheduledSampler.cancel(false);
+      }
+    }
+
+    /* default */ void timeout() {
+
+      if (!settled.compareAndSet(false, true)) {
+        return;
+      }
+      cancelScheduled();
+
+      // The task did not complete within the configured timeout...
+      final TimeoutException ex = new TimeoutException();
+      handleOffScheduler(
+          () -> handleExecuteTimeoutException(ex),
+          () ->
+              result.completeExceptionally(
+                  new OfficeException(
+                      String.format(
+                          "Task did not complete within timeout (%s ms): %s",
+                          taskExecutionTimeout, task),
+                      ex)));
+    }
+
+    // Always called from the scheduler thread.
+    /* default */ void sampleProgress() {
+
+      final long now = System.currentTimeMillis();
+      final long progress = running ? getTaskProgress() : -1L;
+      if (progress < 0L || progress != lastProgress) {
+        // Unknown progress, or the task is progressing.
+        lastProgress = progress;
+        lastProgressTime = now;
+        return;
+      }
+      if (now - lastProgressTime < taskStallTimeout || !settled.compareAndSet(false, true)) {
+        return;
+      }
+      cancelScheduled();
+
+      // The task made no progress within the configured timeout...
+      final TimeoutException ex =
+          new TimeoutException(
+              String.format("Task made no progress within %d ms", taskStallTimeout));
+      handleOffScheduler(
+          () -> handleStalledTaskException(ex),
+          () ->
+              result.completeExceptionally(
+                  new OfficeException(
+                      String.format(
+                          "Task made no progress within stall timeout (%s ms): %s",
+                          taskStallTimeout, task),
+                      ex)));
+    }
+  }
+
+  /**
+   * The future of a health check submitted to the task executor. The failure of the check is
+   * handled once, when the check fails or when the health check timeout is reached, whichever comes
+   * first.
+   */
+  private final class HealthCheckFuture extends FutureTask<Void> {
+
+    private final HealthCheckGuard guard;
+    private final AtomicBoolean settled = new AtomicBoolean();
+    // The check ends once it is done, and once its timeout, if reached, has been handled.
+    private final AtomicInteger unfinished = new AtomicInteger(1);
+    private final AtomicBoolean ended = new AtomicBoolean();
+    private volatile Future<?> timeout;
+
+    /* default */ HealthCheckFuture(final HealthCheckGuard guard) {
+      super(
+          () -> {
+            checkHealth();
+            return null;
+          });
+      this.guard = guard;
+    }
+
+    @Override
+    protected void done() {
+
+      lastActivityTime = System.currentTimeMillis();
+      healthCheckPending.set(false);
+      final Future<?> scheduled = timeout;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+      try {
+        if (isCancelled() || !settled.compareAndSet(false, true)) {
+          return;
+        }
+        get();
+        LOGGER.trace("Health check succeeded");
+
+      } catch (ExecutionException ex) {
+        handleHealthCheckFailure(ex.getCause());
+
+      } catch (InterruptedException ex) {
+
+        // Cannot happen, the check is done
+        Thread.currentThread().interrupt();
+
+      } finally {
+        finish();
+      }
+    }
+
+    /* default */ void timeout() {
+
+      unfinished.incrementAndGet();
+      if (!settled.compareAndSet(false, true)) {
+        finish();
+        return;
+      }
+      final TimeoutException ex =
+          new TimeoutException(
+              String.format("Health check did not complete within %d ms", healthCheckTimeout));
+      handleOffScheduler(() -> handleHealthCheckFailure(ex), this::finish);
+    }
+
+    // Returns the entry to the pool once nothing is left to do for the check.
+    /* default */ void finish() {
+
+      if (unfinished.decrementAndGet() == 0 && ended.compareAndSet(false, true) && guard != null) {
+        guard.release();
+      }
+    }
+  }
+
+  /**
+   * Executes the handling of a timeout detected by the scheduler with the handler executor, since
+   * the handling may block (killing an office process, notifying listeners...) while the scheduler
+   * thread is shared by all the timeouts of the JVM. The completion is always executed once the
+   * handling is done, so the entry is not returned to the pool before the timeout is handled.
+   */
+  private static void handleOffScheduler(final Runnable handler, final Runnable completion) {
+
+    try {
+      OfficeTaskScheduler.getHandlerExecutor()
+          .execute(
+              () -> {
+                try {
+                  handler.run();
+                } catch (RuntimeException ex) {
+                  LOGGER.error("Could not handle timeout", ex);
+                } finally {
+                  completion.run();
+                }
+              });
+    } catch (RejectedExecutionException ex) {
+      LOGGER.error("Could not submit the handling of a timeout", ex);
+      completion.run();
+    }
+  }
+
+  /**
+   * Submits a health check if this entry has been idle for the health check interval, and is
+   * available to execute tasks. A task completing is enough to know that the entry is healthy.
+   */
+  private void submitHealthCheck() {
+
+    if (currentFuture != null
+        || System.currentTimeMillis() - lastActivityTime < healthCheckInterval
+        || !taskExecutor.isAvailable()
+        || !healthCheckPending.compareAndSet(false, true)) {
+      return;
+    }
+
+    // No task must be dispatched to this entry until the check is done.
+    final HealthCheckGuard guard = healthCheckGuard;
+    if (guard != null && !guard.acquire()) {
+      healthCheckPending.set(false);
+      return;
+    }
+
+    final HealthCheckFuture future = new HealthCheckFuture(guard);
+    try {
+      taskExecutor.execute(future);
+    } catch (RejectedExecutionException ex) {
+      // The entry has been stopped.
+      healthCheckPending.set(false);
+      future.finish();
+      return;
+    }
+    future.timeout =
+        OfficeTaskScheduler.getInstance()
+            .schedule(future::timeout, healthCheckTimeout, TimeUnit.MILLISECONDS);
+    if (future.isDone()) {
+      future.timeout.cancel(false);
+    }
+  }
+
+  /**
+   * Checks that this entry is able to execute tasks. It is called, from the task executor, when the
+   * entry has been idle for the health check interval. It must be cheap.
+   *
+   * @throws OfficeException If the entry is not healthy.
+   */
+  protected void checkHealth() throws OfficeException {
+
+    // The default behavior is to do nothing
+  }
+
+  /**
+   * Handles the failure of a health check.
+   *
+   * @param cause The reason of the failure, a {@link TimeoutException} if the check did not
+   *     complete within the health check timeout.
+   */
+  protected void handleHealthCheckFailure(final @NonNull Throwable cause) {
+
+    // The default behavior is to do nothing
+    LOGGER.debug("Handling health check failure.", cause);
+  }
+
+  /**
+   * Gets a value that increases as long as the running task makes progress, like the CPU time of
+   * the process executing the task. It is sampled, from the scheduler thread, when a task stall
+   * timeout is configured. It must be cheap.
+   *
+   * @return The progress of the running task, or -1 if it is unknown, in which case the task is
+   *     never considered stalled.
+   */
+  protected long getTaskProgress() {
+
+    // The default behavior is to not know the progress
+    return -1L;
+  }
+
+  /**
+   * Handles a timeout exception raised when a task made no progress for the task stall timeout.
+   *
+   * @param timeoutEx the exception thrown.
+   */
+  protected void handleStalledTaskException(final @NonNull TimeoutException timeoutEx) {
+
+    // The default behavior is to handle it like a task execution timeout
+    handleExecuteTimeoutException(timeoutEx);
+  }
+
   /**
    * Performs the execution of a task.
    *
@@ -171,6 +605,14 @@ public abstract class AbstractOfficeManagerPoolEntry implements OfficeManager {
     }
 
     doStart();
+
+    if (healthCheckInterval > 0L) {
+      final long checkInterval = Math.max(healthCheckInterval / 2, 1L);
+      healthCheck =
+          OfficeTaskScheduler.getInstance()
+              .scheduleWithFixedDelay(
+                  this::submitHealthCheck, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+    }
   }
 
   @Override
@@ -179,14 +621,36 @@ public abstract class AbstractOfficeManagerPoolEntry implements OfficeManager {
     // While stopping, the executor should not be available to any
     // new task that could be submitted.
     taskExecutor.setAvailable(false);
+    if (healthCheck != null) {
+      healthCheck.cancel(false);
+    }
 
     // Shutdown the executor. If a task is running, it will be interrupted.
-    taskExecutor.shutdownNow();
+    // Tasks that never started are cancelled so their callers are notified.
+    for (final Runnable pending : taskExecutor.shutdownNow()) {
+      if (pending instanceof Future) {
+        ((Future<?>) pending).cancel(false);
+      }
+    }
 
     // Execute the subclass implementation
     doStop();
   }
 
+  /**
+   * Notifies the pool owning this entry that the office process of this entry is restarted, or that
+   * this entry is reconnecting to its office process.
+   *
+   * @param reason The reason of the restart.
+   */
+  protected final void notifyRestart(final @NonNull RestartReason reason) {
+
+    final Consumer<RestartReason> listener = restartListener;
+    if (listener != null) {
+      listener.accept(reason);
+    }
+  }
+
   /** Cancels the current running task, if any. Do nothing if there is no current running task. */
   protected void cancelTask() {
     if (currentFuture != null) {
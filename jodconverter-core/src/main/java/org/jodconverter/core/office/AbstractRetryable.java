@@ -72,8 +72,29 @@ public abstract class AbstractRetryable<T extends Throwable> {
   public void execute(final long delay, final long interval, final long timeout)
       throws RetryTimeoutException, T {
 
+    execute(delay, interval, interval, timeout);
+  }
+
+  /**
+   * Executes the task with an exponential backoff: the interval between two attempts starts at the
+   * minimum interval and is doubled after each failed attempt, up to the maximum interval. It
+   * allows a task that quickly succeeds to not wait for a whole interval, without attempting it too
+   * often when it takes time to succeed.
+   *
+   * @param delay An initial delay to wait for before the first attempt.
+   * @param minInterval The interval between the first and second attempts.
+   * @param maxInterval The maximum interval between two attempts.
+   * @param timeout The timeout after which we won't try again to execute the task.
+   * @throws RetryTimeoutException If this Retryable fails to complete its task in the given time.
+   * @throws T For all other error conditions.
+   */
+  public void execute(
+      final long delay, final long minInterval, final long maxInterval, final long timeout)
+      throws RetryTimeoutException, T {
+
     final long start = System.currentTimeMillis();
     int attempt = 0;
+    long interval = Math.min(minInterval, maxInterval);
 
     if (delay > NO_SLEEP) {
       sleep(delay);
@@ -92,6 +113,7 @@ public abstract class AbstractRetryable<T extends Throwable> {
             logger.debug(
                 "Execution attempt #{} failed, retrying after sleep of {} ms", attempt, interval);
             sleep(interval);
+            interval = Math.min(interval * 2, maxInterval);
           } else {
             logger.debug("Execution attempt #{} failed, retrying without sleep", attempt);
           }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.jodconverter.core.util.AssertUtils;
+
+/**
+ * A {@link TemporaryFileMaker} that creates the temporary files using a primary maker, typically
+ * backed by an in-memory filesystem (tmpfs), as long as the space used by the primary maker stays
+ * under a size limit. Once the limit is reached, the temporary files are created by a fallback
+ * maker, typically backed by a disk, until enough primary temporary files are deleted.
+ *
+ * <p>The size limit is a soft limit: the space used by a temporary file is only known once the file
+ * has been written, so the concurrent conversions may temporarily exceed it.
+ */
+public class BoundedTemporaryFileMaker implements TemporaryFileMaker, Closeable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BoundedTemporaryFileMaker.class);
+
+  private final DirectoryTemporaryFileMaker primary;
+  private final long sizeLimit;
+  private final TemporaryFileMaker fallback;
+
+  /**
+   * Creates a new maker with the specified settings.
+   *
+   * @param primary The maker used as long as the size limit is not reached.
+   * @param sizeLimit The maximum space, in bytes, used by the temporary files of the primary maker.
+   * @param fallback The maker used once the size limit is reached.
+   */
+  public BoundedTemporaryFileMaker(
+      final @NonNull DirectoryTemporaryFileMaker primary,
+      final long sizeLimit,
+      final @NonNull TemporaryFileMaker fallback) {
+    super();
+
+    AssertUtils.notNull(primary, "primary must not be null");
+    AssertUtils.notNull(fallback, "fallback must not be null");
+    AssertUtils.isTrue(
+        sizeLimit > 0, String.format("sizeLimit %s must be greater than 0", sizeLimit));
+
+    this.primary = primary;
+    this.sizeLimit = sizeLimit;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public @NonNull File makeTemporaryFile() {
+    return makeTemporaryFile(null);
+  }
+
+  @Override
+  public @NonNull File makeTemporaryFile(final @Nullable String extension) {
+
+    if (primary.getUsedSpace() < sizeLimit) {
+      return primary.makeTemporaryFile(extension);
+    }
+    LOGGER.debug("Size limit of {} bytes reached; using fallback temporary file maker", sizeLimit);
+    return fallback.makeTemporaryFile(extension);
+  }
+
+  /** Closes the primary maker, as well as the fallback maker if it is {@link Closeable}. */
+  @Override
+  public void close() throws IOException {
+
+    try {
+      primary.close();
+    } finally {
+      if (fallback instanceof Closeable) {
+        ((Closeable) fallback).close();
+      }
+    }
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return getClass().getSimpleName()
+        + "{"
+        + "primary="
+        + primary
+        + ", sizeLimit="
+        + sizeLimit
+        + ", fallback="
+        + fallback
+        + '}';
+  }
+}
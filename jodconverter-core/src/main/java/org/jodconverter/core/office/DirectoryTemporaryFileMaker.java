@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.jodconverter.core.util.AssertUtils;
+import org.jodconverter.core.util.StringUtils;
+
+/**
+ * A {@link TemporaryFileMaker} that creates the temporary files in one or more directories, for
+ * instance a tmpfs-backed directory or directories located on different disks. When several
+ * directories are specified, the temporary files are spread across them in a round-robin fashion.
+ *
+ * <p>Each directory gets its own {@code .jodconverter_} subdirectory, created on first use and
+ * deleted when this maker is closed, like the temporary directory of an office manager.
+ */
+public class DirectoryTemporaryFileMaker implements TemporaryFileMaker, Closeable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryTemporaryFileMaker.class);
+
+  private final List<File> tempDirs;
+  private final List<Closeable> tempDirLocks = new ArrayList<>();
+  private final AtomicLong tempFileCounter = new AtomicLong(0);
+  private volatile boolean prepared;
+
+  /**
+   * Creates a new maker creating the temporary files in the specified directories.
+   *
+   * @param directories The directories where the temporary files are created.
+   */
+  public DirectoryTemporaryFileMaker(final @NonNull File... directories) {
+    this(Arrays.asList(directories));
+  }
+
+  /**
+   * Creates a new maker creating the temporary files in the specified directories.
+   *
+   * @param directories The directories where the temporary files are created.
+   */
+  public DirectoryTemporaryFileMaker(final @NonNull List<@NonNull File> directories) {
+    super();
+
+    AssertUtils.isTrue(!directories.isEmpty(), "directories must not be empty");
+
+    final List<File> dirs = new ArrayList<>(directories.size());
+    final String name = ".jodconverter_" + UUID.randomUUID();
+    for (final File directory : directories) {
+      AssertUtils.notNull(directory, "directory must not be null");
+      dirs.add(new File(directory, name));
+    }
+    this.tempDirs = Collections.unmodifiableList(dirs);
+  }
+
+  /**
+   * Gets the directories where the temporary files are created.
+   *
+   * @return The temporary directories.
+   */
+  public @NonNull List<@NonNull File> getTempDirs() {
+    return tempDirs;
+  }
+
+  /**
+   * Gets the space currently used by the temporary files of this maker that have not been deleted
+   * yet.
+   *
+   * @return The used space, in bytes.
+   */
+  public long getUsedSpace() {
+
+    long usedSpace = 0L;
+    for (final File tempDir : tempDirs) {
+      final File[] files = tempDir.listFiles();
+      if (files != null) {
+        for (final File file : files) {
+          if (!FileCleaner.LOCK_FILE_NAME.equals(file.getName())) {
+            usedSpace += file.length();
+          }
+        }
+      }
+    }
+    return usedSpace;
+  }
+
+  @Override
+  public @NonNull File makeTemporaryFile() {
+    return makeTemporaryFile(null);
+  }
+
+  @Override
+  public @NonNull File makeTemporaryFile(final @Nullable String extension) {
+
+    if (!prepared) {
+      prepareTempDirs();
+    }
+    final long counter = tempFileCounter.getAndIncrement();
+    return new File(
+        tempDirs.get((int) (counter % tempDirs.size())),
+        "tempfile_" + counter + (StringUtils.isBlank(extension) ? "" : "." + extension));
+  }
+
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  private synchronized void prepareTempDirs() {
+
+    if (prepared) {
+      return;
+    }
+    for (final File tempDir : tempDirs) {
+      // Delete the temporary directories left behind by crashed JVMs.
+      FileCleaner.sweepOrphans(tempDir.getParentFile());
+
+      tempDir.mkdirs();
+      if (!tempDir.isDirectory()) {
+        throw new IllegalStateException(
+            String.format("Cannot create temporary directory: %s", tempDir));
+      }
+      try {
+        tempDirLocks.add(FileCleaner.lock(tempDir));
+      } catch (IOException ex) {
+        LOGGER.warn("Could not lock temporary directory '{}'", tempDir, ex);
+      }
+    }
+    prepared = true;
+  }
+
+  /** Deletes the temporary directories, and the temporary files they contain, of this maker. */
+  @Override
+  public synchronized void close() {
+
+    for (final Closeable lock : tempDirLocks) {
+      try {
+        lock.close();
+      } catch (IOException ex) {
+        LOGGER.debug("Could not unlock temporary directory", ex);
+      }
+    }
+    tempDirLocks.clear();
+    tempDirs.forEach(tempDir -> FileCleaner.renameAndDelete(tempDir, 0L, 0L));
+    prepared = false;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return getClass().getSimpleName() + "{" + "tempDirs=" + tempDirs + '}';
+  }
+}
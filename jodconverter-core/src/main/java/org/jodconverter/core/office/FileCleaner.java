@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes temporary files and directories in the background, so conversions, restarts and stops do
+ * not wait for the file system. It also sweeps the temporary directories orphaned by JVMs that did
+ * not stop their office manager (crash, OOM kill...).
+ *
+ * <p>A temporary directory is known to be in use while it holds a locked {@value #LOCK_FILE_NAME}
+ * file (see {@link #lock(File)}). Such a lock is released by the operating system when the JVM
+ * holding it dies. A directory without such a file is never deleted since it may be being created.
+ */
+public final class FileCleaner { // NOPMD - Disable utility class name rule violation
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FileCleaner.class);
+
+  /** The name of the file locked while a temporary directory is in use. */
+  public static final String LOCK_FILE_NAME = ".lock";
+
+  // The name of a lock file being created, ignored by the sweep.
+  private static final String PENDING_LOCK_FILE_NAME = LOCK_FILE_NAME + ".pending";
+
+  // The temporary directories of office manager pools.
+  private static final Pattern TEMP_DIR_NAME =
+      Pattern.compile(
+          "\\.jodconverter_\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}");
+  // The files and directories renamed before being deleted.
+  private static final Pattern RENAMED_NAME = Pattern.compile("\\.jodconverter_.+\\.old\\.\\d+");
+  private static final long DELETE_INTERVAL = 250L;
+  private static final long DELETE_TIMEOUT = 1_000L;
+  // The lock files held by this JVM. They must not be opened by the sweep since, on POSIX
+  // systems, closing any descriptor of a file releases all the locks of the process on it.
+  private static final Set<File> HELD_LOCKS = ConcurrentHashMap.newKeySet();
+
+  /**
+   * This class is required in order to create the executor only on demand, as explained by the
+   * Initialization-on-demand holder idiom:
+   * https://www.wikiwand.com/en/Initialization-on-demand_holder_idiom
+   */
+  private static class DefaultHolder { // NOPMD - Disable utility class name rule violation
+    /* default */ static final ThreadPoolExecutor INSTANCE;
+
+    static {
+      INSTANCE =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new LinkedBlockingQueue<>(),
+              new NamedThreadFactory("jodconverter-cleaner"));
+    }
+  }
+
+  /* default */ static @NonNull ExecutorService getExecutor() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Deletes the specified file or directory in the background. Failures are only logged.
+   *
+   * @param file The file or directory to delete.
+   */
+  public static void delete(final @NonNull File file) {
+
+    getExecutor()
+        .execute(() -> OfficeUtils.deleteOrRenameFile(file, DELETE_INTERVAL, DELETE_TIMEOUT));
+  }
+
+  /**
+   * Renames the specified file or directory, so its path can be reused immediately, and deletes it
+   * in the background. If it cannot be renamed, it is deleted synchronously.
+   *
+   * @param file The file or directory to delete.
+   * @param interval The interval between each deletion attempt.
+   * @param timeout The timeout after which we won't try again to execute the deletion.
+   * @return The deletion, done once the file has been deleted or the deletion has failed. It can be
+   *     awaited using {@link #awaitDeletion(Future, long)}.
+   */
+  public static @NonNull Future<?> renameAndDelete(
+      final @NonNull File file, final long interval, final long timeout) {
+
+    if (!file.exists()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final File oldFile =
+        new File(file.getParentFile(), file.getName() + ".old." + System.currentTimeMillis());
+    if (file.renameTo(oldFile)) {
+      LOGGER.debug("Renamed '{}' to '{}' for deletion", file, oldFile);
+      return getExecutor().submit(() -> OfficeUtils.deleteOrRenameFile(oldFile, interval, timeout));
+    }
+
+    LOGGER.debug("Could not rename '{}'; deleting it", file);
+    try {
+      OfficeUtils.delete(file, interval, timeout);
+    } catch (RetryTimeoutException ex) {
+      LOGGER.error("Could not delete '{}'", file, ex);
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Waits, at most the specified timeout, for the specified deletion to be done. It allows a
+   * component being stopped not to leave its files on disk, the JVM possibly exiting right after.
+   *
+   * @param deletion The deletion returned by {@link #renameAndDelete(File, long, long)}.
+   * @param timeout The maximum time to wait, in milliseconds.
+   * @return {@code true} if the deletion is done, {@code false} if the timeout is reached.
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   */
+  public static boolean awaitDeletion(final @NonNull Future<?> deletion, final long timeout)
+      throws InterruptedException {
+
+    try {
+      deletion.get(timeout, TimeUnit.MILLISECONDS);
+      return true;
+    } catch (ExecutionException ex) {
+      // The failure has already been logged by the deletion.
+      return true;
+    } catch (TimeoutException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Deletes, in the background, the temporary directories of the specified working directory that
+   * are not in use anymore.
+   *
+   * @param workingDir The working directory to sweep.
+   */
+  public static void sweepOrphans(final @NonNull File workingDir) {
+
+    getExecutor().execute(() -> sweep(workingDir));
+  }
+
+  /**
+   * Marks the specified temporary directory as being in use, until the returned object is closed.
+   *
+   * @param dir The temporary directory.
+   * @return The lock, to close once the directory is not in use anymore.
+   * @throws IOException If the lock file cannot be created or locked.
+   */
+  public static @NonNull Closeable lock(final @NonNull File dir) throws IOException {
+
+    // The lock file is created and locked under a name the sweep ignores, then moved into place,
+    // so a sweep from another JVM never sees an unlocked lock file in a directory in use.
+    final File file = new File(dir, LOCK_FILE_NAME).getAbsoluteFile();
+    final File pendingFile = new File(dir, PENDING_LOCK_FILE_NAME).getAbsoluteFile();
+    final FileChannel channel =
+        FileChannel.open(
+            pendingFile.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    try {
+      final FileLock lock = channel.lock();
+      HELD_LOCKS.add(file);
+      try {
+        Files.move(pendingFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      } catch (IOException | RuntimeException ex) {
+        HELD_LOCKS.remove(file);
+        throw ex;
+      }
+      return () -> {
+        try {
+          lock.release();
+        } finally {
+          HELD_LOCKS.remove(file);
+          channel.close();
+        }
+      };
+    } catch (IOException | RuntimeException ex) {
+      channel.close();
+      throw ex;
+    }
+  }
+
+  /**
+   * Deletes the orphaned temporary directories of the specified working directory.
+   *
+   * @param workingDir The working directory to sweep.
+   */
+  /* default */ static void sweep(final @NonNull File workingDir) {
+
+    final File[] files = workingDir.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (final File file : files) {
+      final String name = file.getName();
+      if (RENAMED_NAME.matcher(name).matches()
+          || TEMP_DIR_NAME.matcher(name).matches() && isOrphan(file)) {
+        LOGGER.info("Deleting orphaned temporary file '{}'", file);
+        OfficeUtils.deleteOrRenameFile(file, 0L, 0L);
+      }
+    }
+  }
+
+  private static boolean isOrphan(final File dir) {
+
+    final File lockFile = new File(dir, LOCK_FILE_NAME).getAbsoluteFile();
+    if (HELD_LOCKS.contains(lockFile)) {
+      return false;
+    }
+    if (!lockFile.isFile()) {
+      // Created by a version not locking its directory, or being created; we cannot tell.
+      return false;
+    }
+    try (RandomAccessFile file = new RandomAccessFile(lockFile, "rw");
+        FileChannel channel = file.getChannel()) {
+      final FileLock lock = channel.tryLock();
+      if (lock == null) {
+        return false;
+      }
+      lock.release();
+      return true;
+    } catch (OverlappingFileLockException ex) {
+      // Locked by this JVM.
+      return false;
+    } catch (IOException ex) {
+      LOGGER.debug("Could not check whether '{}' is in use", dir, ex);
+      return false;
+    }
+  }
+
+  // Suppresses default constructor, ensuring non-instantiability.
+  private FileCleaner() {
+    throw new AssertionError("Utility class must not be instantiated");
+  }
+}
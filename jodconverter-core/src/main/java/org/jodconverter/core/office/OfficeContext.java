@@ -21,4 +21,20 @@
 package org.jodconverter.core.office;
 
 /** Base interface for all office context interfaces. */
-public interface OfficeContext {}
+public interface OfficeContext {
+
+  /**
+   * Notifies that the task executed with this context starts an I/O phase, during which it reads
+   * its source or writes its target (or waits for the caller to do so) while the office process is
+   * idle. An office manager detecting stalled tasks must not consider the task stalled during such
+   * a phase. Each call must be followed by a call to {@link #endIoPhase()}.
+   */
+  default void beginIoPhase() {
+    // The default behavior is to do nothing
+  }
+
+  /** Notifies that the task executed with this context ends an I/O phase. */
+  default void endIoPhase() {
+    // The default behavior is to do nothing
+  }
+}
@@ -20,6 +20,8 @@
 
 package org.jodconverter.core.office;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import org.jodconverter.core.task.OfficeTask;
@@ -39,6 +41,20 @@ public interface OfficeManager {
    */
   void execute(@NonNull OfficeTask task) throws OfficeException;
 
+  /**
+   * Submits the specified task for execution and returns immediately. The returned future is
+   * completed once the task terminates, exceptionally with an {@link OfficeException} if the task
+   * failed, was cancelled or did not complete within the configured timeouts.
+   *
+   * <p>The default implementation executes the task synchronously, in the calling thread.
+   *
+   * @param task The task to execute.
+   * @return A future that will be completed when the task terminates.
+   */
+  default @NonNull CompletableFuture<Void> executeAsync(final @NonNull OfficeTask task) {
+    return OfficeUtils.executeInCallingThread(() -> execute(task));
+  }
+
   /**
    * Gets whether the manager is running.
    *
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import org.jodconverter.core.task.OfficeTask;
+
+/**
+ * Receives the notifications of an {@link AbstractOfficeManagerPool} about the tasks it executes
+ * and the office processes it manages. It is meant to collect metrics, thus all the functions are
+ * called synchronously by the threads of the pool and must return quickly, without throwing any
+ * exception.
+ *
+ * <p>All the functions have an empty default implementation, so an implementation only overrides
+ * the notifications it is interested in.
+ *
+ * @see AbstractOfficeManagerPool#addListener(OfficeManagerPoolListener)
+ */
+public interface OfficeManagerPoolListener {
+
+  /**
+   * Called when a task is rejected when it is submitted, because the queue is full or because the
+   * task would likely expire in the queue.
+   *
+   * @param task The rejected task.
+   * @param rejection The exception the task has been failed with.
+   */
+  default void taskRejected(
+      final @NonNull OfficeTask task, final @NonNull TaskRejectedException rejection) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when a task has been waiting in the queue longer than the task queue timeout, and is
+   * removed from the queue without being executed.
+   *
+   * @param task The expired task.
+   * @param queueWaitTime The time the task waited in the queue, in milliseconds.
+   */
+  default void taskExpired(final @NonNull OfficeTask task, final long queueWaitTime) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when a task is dispatched to an office manager of the pool, right before it is executed.
+   *
+   * @param task The dispatched task.
+   * @param queueWaitTime The time the task waited in the queue, in milliseconds. 0 if an office
+   *     manager was available when the task was submitted.
+   */
+  default void taskDispatched(final @NonNull OfficeTask task, final long queueWaitTime) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when a task has been successfully executed.
+   *
+   * @param task The executed task.
+   * @param executionTime The execution time of the task, in milliseconds.
+   */
+  default void taskSucceeded(final @NonNull OfficeTask task, final long executionTime) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when the execution of a task failed.
+   *
+   * @param task The failed task.
+   * @param executionTime The time elapsed until the task failed, in milliseconds.
+   * @param timedOut Whether the task failed because it did not complete within the task execution
+   *     timeout.
+   * @param error The error the task failed with.
+   */
+  default void taskFailed(
+      final @NonNull OfficeTask task,
+      final long executionTime,
+      final boolean timedOut,
+      final @NonNull Throwable error) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when an office manager of the pool restarts its office process, or reconnects to it.
+   *
+   * @param reason The reason of the restart.
+   */
+  default void officeProcessRestarted(final @NonNull RestartReason reason) {
+    // Do nothing by default
+  }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import org.jodconverter.core.task.OfficeTask;
+import org.jodconverter.core.task.TaskPriority;
+
+/**
+ * The queue of the tasks waiting for an office manager of a pool to become available.
+ *
+ * <p>Tasks are polled by priority first. Within a priority, the tenants having waiting tasks share
+ * the pool according to their weight (stride scheduling): a tenant with a weight of 2 gets twice as
+ * many tasks executed as a tenant with a weight of 1 when both have tasks waiting. The tasks of a
+ * given tenant are executed in submission order, and a tenant never has more than the configured
+ * number of tasks running at the same time.
+ *
+ * <p>This class is not thread safe, the access must be synchronized by the pool.
+ */
+/* default */ final class OfficeTaskQueue {
+
+  // The tenant of the tasks that do not specify one.
+  private static final String DEFAULT_TENANT = "";
+  private static final int DEFAULT_WEIGHT = 1;
+
+  private final Map<TaskPriority, Map<String, Deque<PendingTask>>> lanes =
+      new EnumMap<>(TaskPriority.class);
+  private final Map<String, Tenant> tenants = new HashMap<>();
+  private final Map<String, Integer> tenantWeights;
+  private final int maxTasksPerTenant;
+  private long sequence;
+  private int size;
+  private double virtualTime;
+
+  /** Creates a new queue without any tenant restriction. */
+  /* default */ OfficeTaskQueue() {
+    this(new HashMap<>(), 0);
+  }
+
+  /**
+   * Creates a new queue with the specified tenant settings.
+   *
+   * @param tenantWeights The weight of each tenant. Tenants that are not in the map have a weight
+   *     of 1.
+   * @param maxTasksPerTenant The maximum number of tasks of the same tenant that can run at the
+   *     same time, 0 meaning no limit.
+   */
+  /* default */ OfficeTaskQueue(
+      final @NonNull Map<@NonNull String, @NonNull Integer> tenantWeights,
+      final int maxTasksPerTenant) {
+
+    this.tenantWeights = new HashMap<>(tenantWeights);
+    this.maxTasksPerTenant = maxTasksPerTenant;
+    for (final TaskPriority priority : TaskPriority.values()) {
+      lanes.put(priority, new LinkedHashMap<>());
+    }
+  }
+
+  /**
+   * Adds the given task at the end of the queue.
+   *
+   * @param pending The task to add.
+   */
+  /* default */ void add(final @NonNull PendingTask pending) {
+
+    pending.sequence = sequence++;
+    size++;
+    activate(pending.tenant);
+    lanes
+        .get(pending.priority)
+        .computeIfAbsent(pending.tenant, key -> new ArrayDeque<>())
+        .add(pending);
+  }
+
+  /**
+   * Gets whether the given task, not queued, can be executed immediately considering the number of
+   * tasks its tenant is already running. If so, the task is accounted as running.
+   *
+   * @param pending The task to check.
+   * @return {@code true} if the task can be executed, {@code false} otherwise.
+   */
+  /* default */ boolean tryAcquire(final @NonNull PendingTask pending) {
+
+    final Tenant tenant = activate(pending.tenant);
+    if (!tenant.canRun()) {
+      return false;
+    }
+    tenant.acquire();
+    return true;
+  }
+
+  /**
+   * Retrieves and removes the next task to execute, skipping the tasks that have already been
+   * completed (timeout or cancellation). The returned task is accounted as running.
+   *
+   * @return The next task, or {@code null} if there is no task that can be executed.
+   */
+  /* default */ @Nullable
+  PendingTask poll() {
+
+    // Lanes are iterated in priority order (EnumMap).
+    for (final Map<String, Deque<PendingTask>> lane : lanes.values()) {
+
+      Tenant selected = null;
+      Deque<PendingTask> selectedTasks = null;
+      for (final Iterator<Map.Entry<String, Deque<PendingTask>>> it = lane.entrySet().iterator();
+          it.hasNext(); ) {
+        final Map.Entry<String, Deque<PendingTask>> entry = it.next();
+        final Deque<PendingTask> tasks = entry.getValue();
+        while (!tasks.isEmpty() && tasks.peek().result.isDone()) {
+          tasks.poll();
+          size--;
+        }
+        if (tasks.isEmpty()) {
+          it.remove();
+          deactivate(entry.getKey());
+          continue;
+        }
+
+        // Choose the tenant that has been served the least relatively to
+        // its weight, then the oldest task.
+        final Tenant tenant = tenants.get(entry.getKey());
+        if (tenant.canRun()
+            && (selected == null
+                || tenant.pass < selected.pass
+                || tenant.pass == selected.pass // NOPMD - Exact comparison is intended
+                    && tasks.peek().sequence < selectedTasks.peek().sequence)) {
+          selected = tenant;
+          selectedTasks = tasks;
+        }
+      }
+
+      if (selected != null) {
+        selected.acquire();
+        size--;
+        final PendingTask next = selectedTasks.poll();
+        if (selectedTasks.isEmpty()) {
+          lane.remove(next.tenant);
+        }
+        return next;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Notifies the queue that the given task, previously returned by {@link #poll()} or accepted by
+   * {@link #tryAcquire(PendingTask)}, is no longer running.
+   *
+   * @param pending The task that is done.
+   */
+  /* default */ void release(final @NonNull PendingTask pending) {
+
+    final Tenant tenant = tenants.get(pending.tenant);
+    if (tenant != null) {
+      tenant.running--;
+      deactivate(pending.tenant);
+    }
+  }
+
+  /**
+   * Removes the given task from the queue.
+   *
+   * @param pending The task to remove.
+   * @return {@code true} if the task was in the queue, {@code false} otherwise.
+   */
+  /* default */ boolean remove(final @NonNull PendingTask pending) {
+
+    final Map<String, Deque<PendingTask>> lane = lanes.get(pending.priority);
+    final Deque<PendingTask> tasks = lane.get(pending.tenant);
+    if (tasks == null || !tasks.remove(pending)) {
+      return false;
+    }
+    size--;
+    if (tasks.isEmpty()) {
+      lane.remove(pending.tenant);
+    }
+    deactivate(pending.tenant);
+    return true;
+  }
+
+  /**
+   * Gets the number of tasks waiting in the queue.
+   *
+   * @return The queue size.
+   */
+  /* default */ int size() {
+    return size;
+  }
+
+  /**
+   * Gets the number of waiting tasks that would be executed before a new task having the given
+   * priority, which are the tasks with the same or a higher priority.
+   *
+   * @param priority The priority of the new task.
+   * @return The number of tasks ahead.
+   */
+  /* default */ int sizeAhead(final @NonNull TaskPriority priority) {
+
+    int ahead = 0;
+    for (final Map.Entry<TaskPriority, Map<String, Deque<PendingTask>>> lane : lanes.entrySet()) {
+      if (lane.getKey().compareTo(priority) > 0) {
+        break;
+      }
+      for (final Deque<PendingTask> tasks : lane.getValue().values()) {
+        ahead += tasks.size();
+      }
+    }
+    return ahead;
+  }
+
+  /**
+   * Gets whether the given task is waiting in the queue.
+   *
+   * @param pending The task to check.
+   * @return {@code true} if the task is in the queue, {@code false} otherwise.
+   */
+  /* default */ boolean contains(final @NonNull PendingTask pending) {
+
+    final Deque<PendingTask> tasks = lanes.get(pending.priority).get(pending.tenant);
+    return tasks != null && tasks.contains(pending);
+  }
+
+  /**
+   * Removes all the tasks from the queue.
+   *
+   * @return The removed tasks.
+   */
+  /* default */ @NonNull
+  List<@NonNull PendingTask> clear() {
+
+    final List<PendingTask> removed = new ArrayList<>();
+    for (final Map<String, Deque<PendingTask>> lane : lanes.values()) {
+      lane.values().forEach(removed::addAll);
+      lane.clear();
+    }
+    tenants.values().removeIf(tenant -> tenant.running == 0);
+    size = 0;
+    return removed;
+  }
+
+  private Tenant activate(final String name) {
+
+    // A tenant becoming active does not get credit for the time it was idle.
+    final Tenant tenant =
+        tenants.computeIfAbsent(
+            name, key -> new Tenant(tenantWeights.getOrDefault(key, DEFAULT_WEIGHT)));
+    tenant.pass = Math.max(tenant.pass, virtualTime);
+    return tenant;
+  }
+
+  private void deactivate(final String name) {
+
+    // Forget the tenants that have neither running nor waiting tasks.
+    final Tenant tenant = tenants.get(name);
+    if (tenant != null && tenant.running == 0) {
+      for (final Map<String, Deque<PendingTask>> lane : lanes.values()) {
+        if (lane.containsKey(name)) {
+          return;
+        }
+      }
+      tenants.remove(name);
+    }
+  }
+
+  /** The scheduling state of a tenant. */
+  private final class Tenant {
+
+    private final double stride;
+    private double pass;
+    private int running;
+
+    /* default */ Tenant(final int weight) {
+      this.stride = 1.0D / weight;
+    }
+
+    /* default */ boolean canRun() {
+      return maxTasksPerTenant <= 0 || running < maxTasksPerTenant;
+    }
+
+    /* default */ void acquire() {
+      running++;
+      virtualTime = pass;
+      pass += stride;
+    }
+  }
+
+  /** A task waiting in the queue for a manager to become available. */
+  /* default */ static final class PendingTask {
+
+    /* default */ final OfficeTask task;
+    /* default */ final TaskPriority priority;
+    /* default */ final String tenant;
+    /* default */ final CompletableFuture<Void> result = new CompletableFuture<>();
+    /* default */ final long submitTime = System.currentTimeMillis();
+    /* default */ volatile Future<?> timeout;
+    /* default */ volatile Future<?> growth;
+    /* default */ long sequence;
+
+    /* default */ PendingTask(final OfficeTask task) {
+      this.task = task;
+      this.priority = task.getPriority();
+      final String taskTenant = task.getTenant();
+      this.tenant = taskTenant == null ? DEFAULT_TENANT : taskTenant;
+    }
+
+    /* default */ void cancelScheduledActions() {
+      cancel(timeout);
+      cancel(growth);
+    }
+
+    private static void cancel(final Future<?> scheduled) {
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Holds the scheduler shared by all the office managers of the JVM. It is used to enforce the task
+ * queue and task execution timeouts without blocking a thread per waiting task.
+ *
+ * <p>The scheduler thread must never block, so the handling of a timeout (for instance, killing an
+ * office process) is executed by the handler executor.
+ */
+final class OfficeTaskScheduler { // NOPMD - Disable utility class name rule violation
+
+  /**
+   * This class is required in order to create the scheduler only on demand, as explained by the
+   * Initialization-on-demand holder idiom:
+   * https://www.wikiwand.com/en/Initialization-on-demand_holder_idiom
+   */
+  private static class DefaultHolder { // NOPMD - Disable utility class name rule violation
+    /* default */ static final ScheduledThreadPoolExecutor INSTANCE;
+
+    static {
+      INSTANCE = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("jodconverter-sched"));
+      // Timeouts are cancelled most of the time, do not keep them in the queue.
+      INSTANCE.setRemoveOnCancelPolicy(true);
+    }
+  }
+
+  /**
+   * Holds the executor handling the timeouts detected by the scheduler, created on demand. Its
+   * threads are started when needed and terminated once idle.
+   */
+  private static class HandlerHolder { // NOPMD - Disable utility class name rule violation
+    /* default */ static final ExecutorService INSTANCE =
+        Executors.newCachedThreadPool(new NamedThreadFactory("jodconverter-handler"));
+  }
+
+  /**
+   * Gets the shared scheduler.
+   *
+   * @return The scheduler.
+   */
+  /* default */ static @NonNull ScheduledExecutorService getInstance() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Gets the shared executor handling the timeouts detected by the scheduler.
+   *
+   * @return The handler executor.
+   */
+  /* default */ static @NonNull ExecutorService getHandlerExecutor() {
+    return HandlerHolder.INSTANCE;
+  }
+
+  // Suppresses default constructor, ensuring non-instantiability.
+  private OfficeTaskScheduler() {
+    throw new AssertionError("Utility class must not be instantiated");
+  }
+}
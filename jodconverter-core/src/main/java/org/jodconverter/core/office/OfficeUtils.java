@@ -22,6 +22,7 @@ package org.jodconverter.core.office;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -34,6 +35,18 @@ import org.jodconverter.core.util.FileUtils;
 public final class OfficeUtils {
   private static final Logger LOGGER = LoggerFactory.getLogger(OfficeUtils.class);
 
+  /** An execution that may fail with an {@link OfficeException}. */
+  @FunctionalInterface
+  public interface OfficeExecution {
+
+    /**
+     * Performs the execution.
+     *
+     * @throws OfficeException If the execution failed.
+     */
+    void execute() throws OfficeException;
+  }
+
   /**
    * Gets the default working directory, which is the java.io.tmpdir system property.
    *
@@ -99,6 +112,27 @@ public final class OfficeUtils {
     }
   }
 
+  /**
+   * Performs the specified execution synchronously, in the calling thread, and returns a future
+   * already completed with its outcome. It is the fallback of the asynchronous functions that
+   * cannot be implemented without blocking.
+   *
+   * @param execution The execution to perform.
+   * @return A completed future, completed exceptionally if the execution failed.
+   */
+  public static @NonNull CompletableFuture<Void> executeInCallingThread(
+      final @NonNull OfficeExecution execution) {
+
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    try {
+      execution.execute();
+      future.complete(null);
+    } catch (OfficeException | RuntimeException ex) {
+      future.completeExceptionally(ex);
+    }
+    return future;
+  }
+
   /**
    * Deletes a file with a fallback (renaming) on deletion failure. If the file is a directory,
    * delete it and all subdirectories.
@@ -116,8 +150,7 @@ public final class OfficeUtils {
 
     LOGGER.debug("Deleting '{}'", file);
     try {
-      final DeleteFileRetryable retryable = new DeleteFileRetryable(file);
-      retryable.execute(interval, timeout);
+      delete(file, interval, timeout);
     } catch (RetryTimeoutException deleteEx) {
       final File oldFile =
           new File(file.getParentFile(), file.getName() + ".old." + System.currentTimeMillis());
@@ -133,6 +166,23 @@ public final class OfficeUtils {
     }
   }
 
+  /**
+   * Deletes a file, retrying until it is deleted or the timeout is reached. If the file is a
+   * directory, delete it and all subdirectories.
+   *
+   * @param file File or directory to delete.
+   * @param interval The interval between each deletion attempt.
+   * @param timeout The timeout after which we won't try again to execute the deletion.
+   * @throws RetryTimeoutException If the file still exists after the timeout.
+   */
+  /* default */ static void delete(
+      final @NonNull File file, final long interval, final long timeout)
+      throws RetryTimeoutException {
+
+    final DeleteFileRetryable retryable = new DeleteFileRetryable(file);
+    retryable.execute(interval, timeout);
+  }
+
   // Suppresses default constructor, ensuring non-instantiability.
   private OfficeUtils() {
     super();
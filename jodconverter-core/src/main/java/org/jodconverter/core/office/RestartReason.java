@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+/**
+ * The reasons why an office manager of a pool restarts its office process, or reconnects to it.
+ *
+ * @see OfficeManagerPoolListener#officeProcessRestarted(RestartReason)
+ */
+public enum RestartReason {
+
+  /** The office process has executed the maximum number of tasks it is allowed to execute. */
+  TASK_LIMIT,
+
+  /** The office process uses more memory than it is allowed to use. */
+  MEMORY_LIMIT,
+
+  /** A task did not complete within the task execution timeout. */
+  TASK_TIMEOUT,
+
+  /** A task made no progress within the task stall timeout. */
+  TASK_STALLED,
+
+  /** The connection to the office process has been unexpectedly lost. */
+  CONNECTION_LOST,
+
+  /** The office process failed, or did not answer in time, a health check while idle. */
+  HEALTH_CHECK
+}
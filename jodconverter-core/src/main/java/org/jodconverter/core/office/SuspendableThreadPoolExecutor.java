@@ -56,6 +56,20 @@ public class SuspendableThreadPoolExecutor extends ThreadPoolExecutor {
     }
   }
 
+  /**
+   * Gets the availability of this executor.
+   *
+   * @return {@code true} if the executor is available to execute tasks, {@code false} otherwise.
+   */
+  public boolean isAvailable() {
+    suspendLock.lock();
+    try {
+      return available;
+    } finally {
+      suspendLock.unlock();
+    }
+  }
+
   /**
    * Sets the availability of this executor.
    *
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Exception thrown when a task is rejected by an office manager pool because it cannot be served in
+ * time, either because the task queue is full or because the estimated waiting time of the task
+ * exceeds the task queue timeout.
+ */
+public class TaskRejectedException extends OfficeException {
+  private static final long serialVersionUID = 4061513853617249313L;
+
+  private final int queueDepth;
+  private final long estimatedWaitTime;
+
+  /**
+   * Constructs a new exception with the specified detail message.
+   *
+   * @param message The detail message. The detail message is saved for later retrieval by the
+   *     {@link #getMessage()} method.
+   * @param queueDepth The number of tasks waiting in the queue when the task was rejected.
+   * @param estimatedWaitTime The estimated time, in milliseconds, the task would have waited in the
+   *     queue, or -1 if unknown.
+   */
+  public TaskRejectedException(
+      final @NonNull String message, final int queueDepth, final long estimatedWaitTime) {
+    super(message);
+
+    this.queueDepth = queueDepth;
+    this.estimatedWaitTime = estimatedWaitTime;
+  }
+
+  /**
+   * Gets the number of tasks that were waiting in the queue when the task was rejected.
+   *
+   * @return The queue depth.
+   */
+  public int getQueueDepth() {
+    return queueDepth;
+  }
+
+  /**
+   * Gets the estimated time, in milliseconds, the task would have waited in the queue.
+   *
+   * @return The estimated wait time, or -1 if unknown.
+   */
+  public long getEstimatedWaitTime() {
+    return estimatedWaitTime;
+  }
+}
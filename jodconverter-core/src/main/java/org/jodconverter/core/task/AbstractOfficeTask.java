@@ -21,8 +21,11 @@
 package org.jodconverter.core.task;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import org.jodconverter.core.document.DocumentFormat;
 import org.jodconverter.core.job.SourceDocumentSpecs;
+import org.jodconverter.core.util.AssertUtils;
 
 /**
  * Base class for all office tasks implementations.
@@ -32,6 +35,8 @@ import org.jodconverter.core.job.SourceDocumentSpecs;
 public abstract class AbstractOfficeTask implements OfficeTask {
 
   protected final SourceDocumentSpecs source;
+  private TaskPriority priority = TaskPriority.NORMAL;
+  private String tenant;
 
   /**
    * Creates a new task with the specified source document.
@@ -44,6 +49,41 @@ public abstract class AbstractOfficeTask implements OfficeTask {
     this.source = source;
   }
 
+  @Override
+  public @NonNull TaskPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Sets the priority of the task.
+   *
+   * @param priority The new priority.
+   */
+  public void setPriority(final @NonNull TaskPriority priority) {
+
+    AssertUtils.notNull(priority, "priority must not be null");
+    this.priority = priority;
+  }
+
+  @Override
+  public @Nullable String getTenant() {
+    return tenant;
+  }
+
+  /**
+   * Sets the tenant on behalf of which the task is executed.
+   *
+   * @param tenant The new tenant, {@code null} for the default tenant.
+   */
+  public void setTenant(final @Nullable String tenant) {
+    this.tenant = tenant;
+  }
+
+  @Override
+  public @Nullable DocumentFormat getSourceFormat() {
+    return source.getFormat();
+  }
+
   @Override
   public @NonNull String toString() {
     return getClass().getSimpleName() + "{" + "source=" + source + '}';
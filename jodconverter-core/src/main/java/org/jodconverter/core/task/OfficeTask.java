@@ -21,7 +21,9 @@
 package org.jodconverter.core.task;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import org.jodconverter.core.document.DocumentFormat;
 import org.jodconverter.core.office.OfficeContext;
 import org.jodconverter.core.office.OfficeException;
 
@@ -39,4 +41,42 @@ public interface OfficeTask {
    * @throws OfficeException If an error occurs.
    */
   void execute(@NonNull OfficeContext context) throws OfficeException;
+
+  /**
+   * Gets the priority of the task. When all the office processes are busy, tasks with a higher
+   * priority are executed first.
+   *
+   * @return The task priority.
+   */
+  default @NonNull TaskPriority getPriority() {
+    return TaskPriority.NORMAL;
+  }
+
+  /**
+   * Gets the tenant (customer, caller...) on behalf of which the task is executed. Tenants share
+   * the office processes of a pool according to their configured weight.
+   *
+   * @return The tenant of the task, or {@code null} for the default tenant.
+   */
+  default @Nullable String getTenant() {
+    return null;
+  }
+
+  /**
+   * Gets the format of the document the task is processing, if known.
+   *
+   * @return The source document format, or {@code null} if unknown.
+   */
+  default @Nullable DocumentFormat getSourceFormat() {
+    return null;
+  }
+
+  /**
+   * Gets the format of the document the task is producing, if any.
+   *
+   * @return The target document format, or {@code null} if the task does not produce a document.
+   */
+  default @Nullable DocumentFormat getTargetFormat() {
+    return null;
+  }
 }
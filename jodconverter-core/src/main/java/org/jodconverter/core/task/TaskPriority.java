@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.task;
+
+/**
+ * The priority of an {@link OfficeTask}. When all the office processes of a pool are busy, waiting
+ * tasks with a higher priority are always executed before tasks with a lower priority, whatever
+ * their submission order. Tasks with the same priority are executed in submission order.
+ */
+public enum TaskPriority {
+
+  /** Latency sensitive tasks (e.g. a user waiting for a preview). */
+  HIGH,
+
+  /** The default priority. */
+  NORMAL,
+
+  /** Background tasks (e.g. batch conversions), using the leftover capacity of the pool. */
+  LOW
+}
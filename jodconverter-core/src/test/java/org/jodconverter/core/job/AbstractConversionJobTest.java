@@ -154,4 +154,52 @@ class AbstractConversionJobTest {
       }
     }
   }
+
+  @Nested
+  class ExecuteForResult {
+
+    @Test
+    void withUnknownTargetFormat_ShouldThrowNullPointerException(@TempDir final File testFolder)
+        throws IOException {
+
+      final File sourceFile = new File(testFolder, "source.txt");
+      final File targetFile = new File(testFolder, "target");
+      assertThat(sourceFile.createNewFile()).isTrue();
+
+      final AbstractConversionJob job =
+          new SimpleConverter.SimpleConversionJob(
+              SimpleOfficeManager.make(),
+              new SourceDocumentSpecsFromFile(sourceFile),
+              new TargetDocumentSpecsFromFile(targetFile));
+      assertThatNullPointerException().isThrownBy(job::executeForResult);
+    }
+
+    @Test
+    void whenPhasesNotMeasured_ShouldReturnEmptyResult(@TempDir final File testFolder)
+        throws IOException, OfficeException {
+
+      final File sourceFile = new File(testFolder, "source.txt");
+      final File targetFile = new File(testFolder, "target");
+      assertThat(sourceFile.createNewFile()).isTrue();
+
+      final OfficeManager manager = SimpleOfficeManager.make();
+      try {
+        manager.start();
+        final AbstractConversionJob job =
+            new SimpleConverter.SimpleConversionJob(
+                    manager,
+                    new SourceDocumentSpecsFromFile(sourceFile),
+                    new TargetDocumentSpecsFromFile(targetFile))
+                .as(DefaultDocumentFormatRegistry.PDF);
+        assertThat(job.executeForResult())
+            .satisfies(
+                result -> {
+                  assertThat(result.getTotalTime()).isEqualTo(-1L);
+                  assertThat(result.getOfficeUrl()).isNull();
+                });
+      } finally {
+        OfficeUtils.stopQuietly(manager);
+      }
+    }
+  }
 }
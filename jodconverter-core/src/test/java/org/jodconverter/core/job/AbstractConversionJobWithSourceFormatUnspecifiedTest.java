@@ -251,4 +251,26 @@ class AbstractConversionJobWithSourceFormatUnspecifiedTest {
       }
     }
   }
+
+  @Nested
+  class ToMemory {
+
+    @Test
+    void withManagerSupportingFileMaker_ShouldCreateJobWithTargetInMemory(
+        @TempDir final File testFolder) throws IOException {
+
+      final File sourceFile = new File(testFolder, "source.txt");
+      assertThat(sourceFile.createNewFile()).isTrue();
+
+      final TargetDocumentSpecsInMemory target = new TargetDocumentSpecsInMemory();
+      final AbstractConversionJob job =
+          new SimpleConverter.SimpleConversionJobWithSourceFormatUnspecified(
+                  new SourceDocumentSpecsFromFile(sourceFile),
+                  SimpleOfficeManager.make(),
+                  DefaultDocumentFormatRegistry.getInstance())
+              .to(target);
+      assertThat(job.target).isSameAs(target);
+      assertThat(target).extracting("fileMaker").isNotNull();
+    }
+  }
 }
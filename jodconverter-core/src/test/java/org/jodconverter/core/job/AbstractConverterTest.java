@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 
 import org.junit.jupiter.api.Nested;
@@ -177,6 +178,43 @@ class AbstractConverterTest {
     }
   }
 
+  @Nested
+  class ConvertBytes {
+
+    @Test
+    void withByteArray_ShouldCreateJobWrappingArray() {
+
+      final byte[] bytes = {1, 2, 3};
+      final SimpleConverter converter = SimpleConverter.make();
+      final SimpleConverter.SimpleConversionJobWithSourceFormatUnspecified job =
+          (SimpleConverter.SimpleConversionJobWithSourceFormatUnspecified) converter.convert(bytes);
+      assertThat(job.source)
+          .isInstanceOfSatisfying(
+              SourceDocumentSpecsFromByteBuffer.class,
+              specs -> {
+                final ByteBuffer buffer = specs.getByteBuffer();
+                assertThat(buffer.remaining()).isEqualTo(3);
+                assertThat(buffer.get(2)).isEqualTo((byte) 3);
+              });
+    }
+
+    @Test
+    void withByteBuffer_ShouldCreateJobWithRemainingContent() {
+
+      final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3});
+      buffer.position(1);
+      final SimpleConverter converter = SimpleConverter.make();
+      final SimpleConverter.SimpleConversionJobWithSourceFormatUnspecified job =
+          (SimpleConverter.SimpleConversionJobWithSourceFormatUnspecified)
+              converter.convert(buffer);
+      assertThat(job.source)
+          .isInstanceOfSatisfying(
+              SourceDocumentSpecsFromByteBuffer.class,
+              specs -> assertThat(specs.getByteBuffer().remaining()).isEqualTo(2));
+      assertThat(buffer.position()).isEqualTo(1);
+    }
+  }
+
   @Nested
   class GetFormatRegistry {
 
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Contains tests for the {@link ConversionResult} class. */
+class ConversionResultTest {
+
+  @Nested
+  class Build {
+
+    @Test
+    void withoutValues_ShouldBeUnknown() {
+
+      final ConversionResult result = ConversionResult.builder().build();
+
+      assertThat(result)
+          .extracting(
+              "sourcePreparationTime",
+              "loadTime",
+              "modifyTime",
+              "storeTime",
+              "targetCompletionTime",
+              "totalTime",
+              "sourceSize",
+              "targetSize",
+              "officeUrl")
+          .containsExactly(-1L, -1L, -1L, -1L, -1L, -1L, -1L, -1L, null);
+    }
+  }
+
+  @Nested
+  class GetTotalTime {
+
+    @Test
+    void shouldSumMeasuredPhasesOnly() {
+
+      final ConversionResult result =
+          ConversionResult.builder().loadTime(10L).modifyTime(0L).storeTime(5L).build();
+
+      assertThat(result.getTotalTime()).isEqualTo(15L);
+    }
+  }
+}
@@ -93,6 +93,8 @@ public final class SimpleConverter extends AbstractConverter {
 
       // Create a default conversion task and execute it
       final SimpleOfficeTask task = new SimpleOfficeTask();
+      task.setPriority(priority);
+      task.setTenant(tenant);
       officeManager.execute(task);
     }
   }
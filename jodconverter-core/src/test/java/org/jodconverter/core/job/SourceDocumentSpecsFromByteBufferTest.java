@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jodconverter.core.document.DefaultDocumentFormatRegistry;
+import org.jodconverter.core.office.TemporaryFileMaker;
+import org.jodconverter.core.test.util.TestUtil;
+
+/** Contains tests for the {@link SourceDocumentSpecsFromByteBuffer} class. */
+class SourceDocumentSpecsFromByteBufferTest {
+
+  @Nested
+  class GetByteBuffer {
+
+    @Test
+    void shouldExposeRemainingContentWithoutCopy() {
+
+      final byte[] bytes = {1, 2, 3};
+      final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      buffer.position(1);
+      final SourceDocumentSpecsFromByteBuffer specs =
+          new SourceDocumentSpecsFromByteBuffer(buffer, mock(TemporaryFileMaker.class));
+
+      final ByteBuffer content = specs.getByteBuffer();
+      assertThat(content.isReadOnly()).isTrue();
+      assertThat(content.remaining()).isEqualTo(2);
+      bytes[2] = 4;
+      assertThat(content.get(2)).isEqualTo((byte) 4);
+
+      // Reading the content must not change the position of any buffer.
+      content.get();
+      assertThat(buffer.position()).isEqualTo(1);
+      assertThat(specs.getByteBuffer().remaining()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class GetFile {
+
+    @Test
+    void withFormat_ShouldWriteContentToTempFileWithExtension(@TempDir final File testFolder)
+        throws IOException {
+
+      final File tempFile = new File(testFolder, "temp.txt");
+      final TemporaryFileMaker fileMaker = mock(TemporaryFileMaker.class);
+      given(fileMaker.makeTemporaryFile("txt")).willReturn(tempFile);
+
+      final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3});
+      buffer.position(1);
+      final SourceDocumentSpecsFromByteBuffer specs =
+          new SourceDocumentSpecsFromByteBuffer(buffer, fileMaker);
+      specs.setDocumentFormat(DefaultDocumentFormatRegistry.TXT);
+
+      assertThat(specs.getFile()).isEqualTo(tempFile);
+      assertThat(Files.readAllBytes(tempFile.toPath())).containsExactly(2, 3);
+      assertThat(buffer.position()).isEqualTo(1);
+    }
+
+    @Test
+    void whenIoExceptionOccurs_ShouldThrowDocumentSpecsIoException(@TempDir final File testFolder) {
+
+      // Writing to a directory will fail with an IOException
+      final TemporaryFileMaker fileMaker = mock(TemporaryFileMaker.class);
+      given(fileMaker.makeTemporaryFile()).willReturn(testFolder);
+
+      final SourceDocumentSpecsFromByteBuffer specs =
+          new SourceDocumentSpecsFromByteBuffer(ByteBuffer.wrap(new byte[] {1}), fileMaker);
+
+      assertThatExceptionOfType(DocumentSpecsIOException.class)
+          .isThrownBy(specs::getFile)
+          .withMessageStartingWith("Could not write buffer to file")
+          .withCauseInstanceOf(IOException.class);
+    }
+  }
+
+  @Nested
+  class OnConsumed {
+
+    @Test
+    void shouldDeleteTempFile(@TempDir final File testFolder) throws IOException {
+
+      final File tempFile = new File(testFolder, "temp");
+      assertThat(tempFile.createNewFile()).isTrue();
+      final SourceDocumentSpecsFromByteBuffer specs =
+          new SourceDocumentSpecsFromByteBuffer(
+              ByteBuffer.wrap(new byte[] {1}), mock(TemporaryFileMaker.class));
+
+      specs.onConsumed(tempFile);
+
+      TestUtil.waitForDeletion(tempFile);
+      assertThat(tempFile).doesNotExist();
+    }
+  }
+}
@@ -38,6 +38,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import org.jodconverter.core.document.DefaultDocumentFormatRegistry;
 import org.jodconverter.core.office.TemporaryFileMaker;
+import org.jodconverter.core.test.util.TestUtil;
 
 /** Contains tests for the {@link SourceDocumentSpecsFromInputStream} class. */
 @SuppressWarnings({"PMD.AvoidFileStream", "PMD.CloseResource"})
@@ -147,6 +148,7 @@ class SourceDocumentSpecsFromInputStreamTest {
         specs.onConsumed(tempFile);
 
         // Check that the temp file is deleted
+        TestUtil.waitForDeletion(tempFile);
         assertThat(tempFile).doesNotExist();
 
         // Check that the InputStream is closed.
@@ -172,6 +174,7 @@ class SourceDocumentSpecsFromInputStreamTest {
         specs.onConsumed(tempFile);
 
         // Check that the temp file is deleted
+        TestUtil.waitForDeletion(tempFile);
         assertThat(tempFile).doesNotExist();
 
         // Check that the InputStream is closed.
@@ -179,4 +182,57 @@ class SourceDocumentSpecsFromInputStreamTest {
       }
     }
   }
+
+  @Nested
+  class OnStreamConsumed {
+
+    @Test
+    void shouldExposeInputStream() {
+
+      final InputStream inputStream = mock(InputStream.class);
+      final SourceDocumentSpecsFromInputStream specs =
+          new SourceDocumentSpecsFromInputStream(
+              inputStream, mock(TemporaryFileMaker.class), false);
+
+      assertThat(specs.getInputStream()).isSameAs(inputStream);
+    }
+
+    @Test
+    void whenCloseStreamIsTrue_ShouldCloseInputStream(@TempDir final File testFolder)
+        throws IOException {
+
+      final File sourceFile = new File(testFolder, "source.txt");
+      assertThat(sourceFile.createNewFile()).isTrue();
+
+      try (FileInputStream inputStream = new FileInputStream(sourceFile)) {
+        final SourceDocumentSpecsFromInputStream specs =
+            new SourceDocumentSpecsFromInputStream(
+                inputStream, mock(TemporaryFileMaker.class), true);
+
+        specs.onStreamConsumed();
+
+        // Check that the InputStream is closed.
+        assertThat((Object) inputStream).hasFieldOrPropertyWithValue("closed", true);
+      }
+    }
+
+    @Test
+    void whenCloseStreamIsFalse_ShouldNotCloseInputStream(@TempDir final File testFolder)
+        throws IOException {
+
+      final File sourceFile = new File(testFolder, "source.txt");
+      assertThat(sourceFile.createNewFile()).isTrue();
+
+      try (FileInputStream inputStream = new FileInputStream(sourceFile)) {
+        final SourceDocumentSpecsFromInputStream specs =
+            new SourceDocumentSpecsFromInputStream(
+                inputStream, mock(TemporaryFileMaker.class), false);
+
+        specs.onStreamConsumed();
+
+        // Check that the InputStream is not closed.
+        assertThat((Object) inputStream).hasFieldOrPropertyWithValue("closed", false);
+      }
+    }
+  }
 }
@@ -26,6 +26,8 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -37,6 +39,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import org.jodconverter.core.document.DefaultDocumentFormatRegistry;
 import org.jodconverter.core.office.TemporaryFileMaker;
+import org.jodconverter.core.test.util.TestUtil;
 
 /** Contains tests for the {@link TargetDocumentSpecsFromOutputStream} class. */
 @SuppressWarnings({"PMD.AvoidFileStream", "PMD.CloseResource"})
@@ -124,6 +127,7 @@ class TargetDocumentSpecsFromOutputStreamTest {
         specs.onComplete(tempFile);
 
         // Check that the temp file is deleted
+        TestUtil.waitForDeletion(tempFile);
         assertThat(tempFile).doesNotExist();
 
         // Check that the OutputStream is closed.
@@ -147,6 +151,7 @@ class TargetDocumentSpecsFromOutputStreamTest {
         specs.onComplete(tempFile);
 
         // Check that the temp file is deleted
+        TestUtil.waitForDeletion(tempFile);
         assertThat(tempFile).doesNotExist();
 
         // Check that the OutputStream is not closed.
@@ -174,6 +179,7 @@ class TargetDocumentSpecsFromOutputStreamTest {
         specs.onFailure(tempFile, new IOException());
 
         // Check that the temp file is deleted
+        TestUtil.waitForDeletion(tempFile);
         assertThat(tempFile).doesNotExist();
 
         // Check that the OutputStream is not closed.
@@ -197,6 +203,7 @@ class TargetDocumentSpecsFromOutputStreamTest {
         specs.onFailure(tempFile, new IOException());
 
         // Check that the temp file is deleted
+        TestUtil.waitForDeletion(tempFile);
         assertThat(tempFile).doesNotExist();
 
         // Check that the OutputStream is not closed.
@@ -204,4 +211,60 @@ class TargetDocumentSpecsFromOutputStreamTest {
       }
     }
   }
+
+  @Nested
+  class OnStreamComplete {
+
+    @Test
+    void shouldExposeOutputStream() {
+
+      final FileOutputStream outputStream = mock(FileOutputStream.class);
+      final TargetDocumentSpecsFromOutputStream specs =
+          new TargetDocumentSpecsFromOutputStream(
+              outputStream, mock(TemporaryFileMaker.class), false);
+
+      assertThat(specs.getOutputStream()).isSameAs(outputStream);
+    }
+
+    @Test
+    void whenCloseStreamIsTrue_ShouldCloseOutputStream() throws IOException {
+
+      final FileOutputStream outputStream = mock(FileOutputStream.class);
+      final TargetDocumentSpecsFromOutputStream specs =
+          new TargetDocumentSpecsFromOutputStream(
+              outputStream, mock(TemporaryFileMaker.class), true);
+
+      specs.onStreamComplete();
+
+      verify(outputStream).close();
+    }
+
+    @Test
+    void whenCloseStreamIsFalse_ShouldNotCloseOutputStream() throws IOException {
+
+      final FileOutputStream outputStream = mock(FileOutputStream.class);
+      final TargetDocumentSpecsFromOutputStream specs =
+          new TargetDocumentSpecsFromOutputStream(
+              outputStream, mock(TemporaryFileMaker.class), false);
+
+      specs.onStreamComplete();
+
+      verify(outputStream, never()).close();
+    }
+
+    @Test
+    void whenIoExceptionOccurs_ShouldThrowDocumentSpecsIoException() throws IOException {
+
+      final FileOutputStream outputStream = mock(FileOutputStream.class);
+      doThrow(IOException.class).when(outputStream).close();
+      final TargetDocumentSpecsFromOutputStream specs =
+          new TargetDocumentSpecsFromOutputStream(
+              outputStream, mock(TemporaryFileMaker.class), true);
+
+      assertThatExceptionOfType(DocumentSpecsIOException.class)
+          .isThrownBy(specs::onStreamComplete)
+          .withMessage("Could not close output stream")
+          .withCauseInstanceOf(IOException.class);
+    }
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jodconverter.core.document.DefaultDocumentFormatRegistry;
+import org.jodconverter.core.office.TemporaryFileMaker;
+import org.jodconverter.core.test.util.TestUtil;
+
+/** Contains tests for the {@link TargetDocumentSpecsInMemory} class. */
+class TargetDocumentSpecsInMemoryTest {
+
+  @Test
+  void new_WithNegativeInitialCapacity_ShouldThrowIllegalArgumentException() {
+
+    assertThatIllegalArgumentException().isThrownBy(() -> new TargetDocumentSpecsInMemory(-1));
+  }
+
+  @Nested
+  class WriteToStream {
+
+    @Test
+    void whenComplete_ShouldExposeWrittenContent() throws IOException {
+
+      final TargetDocumentSpecsInMemory specs = new TargetDocumentSpecsInMemory(2);
+      assertThat(specs.isInMemory()).isTrue();
+      final OutputStream outputStream = specs.getOutputStream();
+      outputStream.write(new byte[] {1, 2, 3});
+      specs.onStreamComplete();
+
+      assertThat(specs.toBytes()).containsExactly(1, 2, 3);
+      final ByteBuffer buffer = specs.toByteBuffer();
+      assertThat(buffer.remaining()).isEqualTo(3);
+      assertThat(buffer.get(2)).isEqualTo((byte) 3);
+    }
+
+    @Test
+    void whenExactlySized_ShouldNotCopyContent() throws IOException {
+
+      final TargetDocumentSpecsInMemory specs = new TargetDocumentSpecsInMemory(3);
+      specs.getOutputStream().write(new byte[] {1, 2, 3});
+
+      assertThat(specs.toBytes()).isSameAs(specs.toBytes());
+      assertThat(specs.toByteBuffer().array()).isSameAs(specs.toBytes());
+    }
+
+    @Test
+    void whenFailed_ShouldDiscardWrittenContent() throws IOException {
+
+      final TargetDocumentSpecsInMemory specs = new TargetDocumentSpecsInMemory();
+      specs.getOutputStream().write(new byte[] {1, 2, 3});
+      specs.onStreamFailure(new IOException());
+
+      assertThat(specs.toBytes()).isEmpty();
+    }
+  }
+
+  @Nested
+  class WriteToFile {
+
+    @Test
+    void withoutFileMaker_ShouldThrowIllegalStateException() {
+
+      final TargetDocumentSpecsInMemory specs = new TargetDocumentSpecsInMemory();
+      assertThatIllegalStateException().isThrownBy(specs::getFile);
+    }
+
+    @Test
+    void whenComplete_ShouldLoadTempFileAndDeleteIt(@TempDir final File testFolder)
+        throws IOException {
+
+      final File tempFile = new File(testFolder, "temp.txt");
+      final TemporaryFileMaker fileMaker = mock(TemporaryFileMaker.class);
+      given(fileMaker.makeTemporaryFile("txt")).willReturn(tempFile);
+
+      final TargetDocumentSpecsInMemory specs = new TargetDocumentSpecsInMemory();
+      specs.setFileMaker(fileMaker);
+      specs.setDocumentFormat(DefaultDocumentFormatRegistry.TXT);
+      assertThat(specs.getFile()).isEqualTo(tempFile);
+
+      Files.write(tempFile.toPath(), new byte[] {1, 2, 3});
+      specs.onComplete(tempFile);
+
+      assertThat(specs.toBytes()).containsExactly(1, 2, 3);
+      TestUtil.waitForDeletion(tempFile);
+      assertThat(tempFile).doesNotExist();
+    }
+  }
+}
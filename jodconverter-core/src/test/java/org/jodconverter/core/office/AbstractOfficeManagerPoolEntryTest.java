@@ -27,8 +27,15 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.jodconverter.core.office.SimpleOfficeManager.DEFAULT_TASK_EXECUTION_TIMEOUT;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Nested;
@@ -61,6 +68,76 @@ class AbstractOfficeManagerPoolEntryTest {
       }
     }
 
+    @Test
+    void whenTaskSubmittedAsync_ShouldCompleteFutureOnceTaskCompleted() throws OfficeException {
+
+      final SimpleOfficeManagerPoolEntry entry =
+          new SimpleOfficeManagerPoolEntry(DEFAULT_TASK_EXECUTION_TIMEOUT);
+      try {
+        entry.start();
+
+        final SimpleOfficeTask task = new SimpleOfficeTask(250L);
+        final CompletableFuture<Void> future = entry.executeAsync(task);
+        assertThat(future).isNotDone();
+        assertThatCode(() -> future.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        assertThat(task.isCompleted()).isTrue();
+
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenTaskExecutionTimeoutAsync_ShouldCompleteExceptionally() throws OfficeException {
+
+      final SimpleOfficeManagerPoolEntry entry = new SimpleOfficeManagerPoolEntry(500L);
+      try {
+        entry.start();
+
+        final CompletableFuture<Void> future = entry.executeAsync(new SimpleOfficeTask(1_000L));
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+            .havingCause()
+            .isExactlyInstanceOf(OfficeException.class)
+            .withCauseExactlyInstanceOf(TimeoutException.class)
+            .withMessageStartingWith("Task did not complete within timeout");
+
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenTaskExecutionTimeoutAsync_ShouldCompleteOnceTimeoutHandled() throws OfficeException {
+
+      final AtomicLong handledTime = new AtomicLong();
+      final SimpleOfficeManagerPoolEntry entry =
+          new SimpleOfficeManagerPoolEntry(500L) {
+            @Override
+            protected void handleExecuteTimeoutException(final TimeoutException timeoutEx) {
+              try {
+                Thread.sleep(200L);
+              } catch (InterruptedException ignored) {
+                // ignore
+              }
+              handledTime.set(System.nanoTime());
+            }
+          };
+      try {
+        entry.start();
+
+        // The entry must not be returned to the pool before the timeout is handled.
+        final CompletableFuture<Void> future = entry.executeAsync(new SimpleOfficeTask(1_000L));
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> future.get(5, TimeUnit.SECONDS));
+        final long completionTime = System.nanoTime();
+        assertThat(handledTime.get()).isPositive().isLessThanOrEqualTo(completionTime);
+
+      } finally {
+        entry.stop();
+      }
+    }
+
     @Test
     void whenTaskExecutionTimeout_ShouldThrowOfficeException() throws OfficeException {
 
@@ -270,6 +347,56 @@ class AbstractOfficeManagerPoolEntryTest {
       }
     }
 
+    @Test
+    void whenCallerCancelsWaitingTask_ShouldNotExecuteTask()
+        throws OfficeException, InterruptedException, ExecutionException {
+
+      final SimpleOfficeManagerPoolEntry entry =
+          new SimpleOfficeManagerPoolEntry(DEFAULT_TASK_EXECUTION_TIMEOUT);
+      try {
+        entry.start();
+
+        final CompletableFuture<Void> future1 = entry.executeAsync(new SimpleOfficeTask(250L));
+        final SimpleOfficeTask task2 = new SimpleOfficeTask();
+        final CompletableFuture<Void> future2 = entry.executeAsync(task2);
+        assertThat(future2.cancel(false)).isTrue();
+
+        future1.get();
+        // Let the executor pick the next task, if any.
+        assertThatCode(() -> entry.execute(new SimpleOfficeTask())).doesNotThrowAnyException();
+        assertThat(task2.isCompleted()).isFalse();
+
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenCallerCancelsRunningTask_ShouldInterruptTask()
+        throws OfficeException, InterruptedException {
+
+      final SimpleOfficeManagerPoolEntry entry =
+          new SimpleOfficeManagerPoolEntry(DEFAULT_TASK_EXECUTION_TIMEOUT);
+      try {
+        entry.start();
+
+        final SimpleOfficeTask task = new SimpleOfficeTask(5_000L);
+        final CompletableFuture<Void> future = entry.executeAsync(task);
+        // Let the task execution begin.
+        Thread.sleep(250L);
+        assertThat(future.cancel(false)).isTrue();
+
+        // The entry is free again well before the end of the cancelled task.
+        final long start = System.currentTimeMillis();
+        assertThatCode(() -> entry.execute(new SimpleOfficeTask())).doesNotThrowAnyException();
+        assertThat(System.currentTimeMillis() - start).isLessThan(2_500L);
+        assertThat(task.isCompleted()).isFalse();
+
+      } finally {
+        entry.stop();
+      }
+    }
+
     @Test
     void whenTaskRunning_ShouldCancelTask() throws OfficeException {
 
@@ -313,4 +440,261 @@ class AbstractOfficeManagerPoolEntryTest {
       }
     }
   }
+
+  @Nested
+  class HealthCheck {
+
+    /** An entry recording its health checks and their failures. */
+    private class CheckedEntry extends SimpleOfficeManagerPoolEntry {
+
+      private final long checkDuration;
+      private final OfficeException checkException;
+      private final AtomicInteger checkCount = new AtomicInteger();
+      private final AtomicReference<Throwable> failure = new AtomicReference<>();
+      private final CountDownLatch failed = new CountDownLatch(1);
+
+      /* default */ CheckedEntry(
+          final long healthCheckInterval,
+          final long checkDuration,
+          final OfficeException checkException) {
+        super(DEFAULT_TASK_EXECUTION_TIMEOUT, healthCheckInterval, 100L);
+
+        this.checkDuration = checkDuration;
+        this.checkException = checkException;
+      }
+
+      @Override
+      protected void checkHealth() throws OfficeException {
+
+        checkCount.incrementAndGet();
+        if (checkDuration > 0L) {
+          try {
+            Thread.sleep(checkDuration);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        if (checkException != null) {
+          throw checkException;
+        }
+      }
+
+      @Override
+      protected void handleHealthCheckFailure(final Throwable cause) {
+
+        failure.compareAndSet(null, cause);
+        failed.countDown();
+      }
+    }
+
+    @Test
+    void whenIntervalIsZero_ShouldNeverCheck() throws OfficeException, InterruptedException {
+
+      final CheckedEntry entry = new CheckedEntry(0L, 0L, null);
+      try {
+        entry.start();
+        Thread.sleep(300L);
+        assertThat(entry.checkCount).hasValue(0);
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenCheckSucceeds_ShouldNotHandleFailure() throws OfficeException, InterruptedException {
+
+      final CheckedEntry entry = new CheckedEntry(50L, 0L, null);
+      try {
+        entry.start();
+        assertThat(entry.failed.await(500L, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(entry.checkCount.get()).isPositive();
+        assertThat(entry.failure).hasValue(null);
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenCheckFails_ShouldHandleFailure() throws OfficeException, InterruptedException {
+
+      final OfficeException exception = new OfficeException("Not healthy");
+      final CheckedEntry entry = new CheckedEntry(50L, 0L, exception);
+      try {
+        entry.start();
+        assertThat(entry.failed.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(entry.failure).hasValue(exception);
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenCheckTimesOut_ShouldHandleTimeout() throws OfficeException, InterruptedException {
+
+      final CheckedEntry entry = new CheckedEntry(50L, 1_000L, null);
+      try {
+        entry.start();
+        assertThat(entry.failed.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(entry.failure.get()).isExactlyInstanceOf(TimeoutException.class);
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenPoolRefusesCheck_ShouldNotCheck() throws OfficeException, InterruptedException {
+
+      final CheckedEntry entry = new CheckedEntry(50L, 0L, null);
+      final AtomicInteger acquired = new AtomicInteger();
+      entry.healthCheckGuard =
+          new AbstractOfficeManagerPoolEntry.HealthCheckGuard() {
+            @Override
+            public boolean acquire() {
+              acquired.incrementAndGet();
+              return false;
+            }
+
+            @Override
+            public void release() {
+              // Never acquired
+            }
+          };
+      try {
+        entry.start();
+        Thread.sleep(300L);
+        assertThat(acquired.get()).isPositive();
+        assertThat(entry.checkCount).hasValue(0);
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenCheckTimesOut_ShouldReturnEntryToPoolOnceFailureHandled()
+        throws OfficeException, InterruptedException {
+
+      final CheckedEntry entry = new CheckedEntry(50L, 300L, null);
+      final AtomicBoolean checking = new AtomicBoolean();
+      final AtomicInteger released = new AtomicInteger();
+      final AtomicBoolean handledBeforeRelease = new AtomicBoolean();
+      final CountDownLatch done = new CountDownLatch(1);
+      entry.healthCheckGuard =
+          new AbstractOfficeManagerPoolEntry.HealthCheckGuard() {
+            @Override
+            public boolean acquire() {
+              // A single check is enough for this test.
+              return checking.compareAndSet(false, true);
+            }
+
+            @Override
+            public void release() {
+              handledBeforeRelease.set(entry.failed.getCount() == 0L);
+              released.incrementAndGet();
+              done.countDown();
+            }
+          };
+      try {
+        entry.start();
+        assertThat(done.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(entry.failure.get()).isExactlyInstanceOf(TimeoutException.class);
+        assertThat(handledBeforeRelease).isTrue();
+
+        // The entry is returned to the pool only once.
+        Thread.sleep(300L);
+        assertThat(released).hasValue(1);
+      } finally {
+        entry.stop();
+      }
+    }
+  }
+
+  @Nested
+  class TaskStall {
+
+    /** An entry reporting a progress that increases only while the task is moving. */
+    private class ProgressEntry extends SimpleOfficeManagerPoolEntry {
+
+      private final boolean moving;
+      private final AtomicLong progress = new AtomicLong();
+      private final AtomicReference<TimeoutException> stalled = new AtomicReference<>();
+      private final AtomicReference<String> handlerThread = new AtomicReference<>();
+      private final CountDownLatch handled = new CountDownLatch(1);
+
+      /* default */ ProgressEntry(final long taskStallTimeout, final boolean moving) {
+        super(DEFAULT_TASK_EXECUTION_TIMEOUT, taskStallTimeout, 0L, 0L);
+
+        this.moving = moving;
+      }
+
+      @Override
+      protected long getTaskProgress() {
+        return moving ? progress.incrementAndGet() : progress.get();
+      }
+
+      @Override
+      protected void handleStalledTaskException(final TimeoutException timeoutEx) {
+        stalled.set(timeoutEx);
+        handlerThread.set(Thread.currentThread().getName());
+        handled.countDown();
+      }
+    }
+
+    @Test
+    void whenTaskMakesNoProgress_ShouldAbortTask() throws OfficeException, InterruptedException {
+
+      final ProgressEntry entry = new ProgressEntry(200L, false);
+      try {
+        entry.start();
+
+        final long start = System.currentTimeMillis();
+        final SimpleOfficeTask task = new SimpleOfficeTask(5_000L);
+        assertThatExceptionOfType(OfficeException.class)
+            .isThrownBy(() -> entry.execute(task))
+            .withMessageStartingWith("Task made no progress within stall timeout")
+            .withCauseExactlyInstanceOf(TimeoutException.class);
+        assertThat(System.currentTimeMillis() - start).isLessThan(5_000L);
+        assertThat(entry.handled.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(entry.stalled.get()).isNotNull();
+        // The handling may block, it must not be done by the shared scheduler thread.
+        assertThat(entry.handlerThread.get()).startsWith("jodconverter-handler");
+
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenTaskMakesProgress_ShouldCompleteTask() throws OfficeException {
+
+      final ProgressEntry entry = new ProgressEntry(100L, true);
+      try {
+        entry.start();
+
+        final SimpleOfficeTask task = new SimpleOfficeTask(500L);
+        assertThatCode(() -> entry.execute(task)).doesNotThrowAnyException();
+        assertThat(task.isCompleted()).isTrue();
+        assertThat(entry.stalled.get()).isNull();
+
+      } finally {
+        entry.stop();
+      }
+    }
+
+    @Test
+    void whenProgressIsUnknown_ShouldCompleteTask() throws OfficeException {
+
+      final SimpleOfficeManagerPoolEntry entry =
+          new SimpleOfficeManagerPoolEntry(DEFAULT_TASK_EXECUTION_TIMEOUT, 100L, 0L, 0L);
+      try {
+        entry.start();
+
+        final SimpleOfficeTask task = new SimpleOfficeTask(500L);
+        assertThatCode(() -> entry.execute(task)).doesNotThrowAnyException();
+        assertThat(task.isCompleted()).isTrue();
+
+      } finally {
+        entry.stop();
+      }
+    }
+  }
 }
@@ -25,13 +25,34 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.jodconverter.core.office.AbstractOfficeManagerPool.DEFAULT_TASK_EXECUTION_TIMEOUT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.UndeclaredThrowableException;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -41,6 +62,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import org.jodconverter.core.task.SimpleOfficeTask;
+import org.jodconverter.core.task.TaskPriority;
+import org.jodconverter.core.test.util.TestUtil;
 
 /** Contains tests for the {@link AbstractOfficeManagerPool} class. */
 class AbstractOfficeManagerPoolTest {
@@ -69,6 +92,26 @@ class AbstractOfficeManagerPoolTest {
     }
   }
 
+  private static class SlowStartingEntry extends SimpleOfficeManagerPoolEntry {
+
+    private final long startDelay;
+
+    /* default */ SlowStartingEntry(final long startDelay) {
+      super(DEFAULT_TASK_EXECUTION_TIMEOUT);
+      this.startDelay = startDelay;
+    }
+
+    @Override
+    protected void doStart() {
+      try {
+        Thread.sleep(startDelay);
+      } catch (InterruptedException ignored) {
+        // ignore
+      }
+      super.doStart();
+    }
+  }
+
   @Test
   void install_ShouldSetInstalledOfficeManagerHolder() {
 
@@ -196,6 +239,32 @@ class AbstractOfficeManagerPoolTest {
           .withMessage("taskExecutionTimeout -1 must greater than or equal to 0");
     }
 
+    @Test
+    void withNonPositiveTenantWeight_ShouldThrowIllagalArgumentException() {
+
+      final Map<String, Integer> weights = new HashMap<>();
+      weights.put("a", 0);
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> SimpleOfficeManager.builder().tenantWeights(weights).build())
+          .withMessage("weight 0 of tenant a must be greater than 0");
+    }
+
+    @Test
+    void withNegativeMaxTasksPerTenant_ShouldThrowIllagalArgumentException() {
+
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> SimpleOfficeManager.builder().maxTasksPerTenant(-1).build())
+          .withMessage("maxTasksPerTenant -1 must greater than or equal to 0");
+    }
+
+    @Test
+    void withNegativeMaxQueuedTasks_ShouldThrowIllagalArgumentException() {
+
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> SimpleOfficeManager.builder().maxQueuedTasks(-1).build())
+          .withMessage("maxQueuedTasks -1 must greater than or equal to 0");
+    }
+
     @Test
     void withNegativeTaskQueueTimeout_ShouldThrowIllagalArgumentException() {
 
@@ -255,6 +324,51 @@ class AbstractOfficeManagerPoolTest {
       }
     }
 
+    @Test
+    void withSeveralEntries_ShouldStartEntriesConcurrently() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.builder().poolSize(4).build();
+      final List<SimpleOfficeManagerPoolEntry> entries = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        entries.add(new SlowStartingEntry(500L));
+      }
+      manager.setEntries(entries);
+      try {
+        final long start = System.currentTimeMillis();
+        manager.start();
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(1_500L);
+        assertThat((Collection<?>) ReflectionTestUtils.getField(manager, "availableEntries"))
+            .hasSize(4);
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void withIncrementalStart_ShouldBeRunningOnceFirstEntryStarted()
+        throws OfficeException, InterruptedException {
+
+      final SimpleOfficeManager manager =
+          SimpleOfficeManager.builder().poolSize(2).incrementalStart(true).build();
+      manager.setEntries(Arrays.asList(new SlowStartingEntry(0L), new SlowStartingEntry(1_000L)));
+      try {
+        manager.start();
+
+        assertThat(manager.isRunning()).isTrue();
+        assertThat((Collection<?>) ReflectionTestUtils.getField(manager, "availableEntries"))
+            .hasSize(1);
+        assertThatCode(() -> manager.execute(new SimpleOfficeTask())).doesNotThrowAnyException();
+
+        // The other entry joins the pool once started.
+        Thread.sleep(1_500L);
+        assertThat((Collection<?>) ReflectionTestUtils.getField(manager, "availableEntries"))
+            .hasSize(2);
+      } finally {
+        manager.stop();
+      }
+    }
+
     @Test
     void onceStarted_ShouldHaveCreatedTempDir() throws OfficeException {
 
@@ -284,7 +398,10 @@ class AbstractOfficeManagerPoolTest {
         assertThat(tempDir.listFiles()).hasSize(1);
         manager.start();
         assertThat(tempDir).isDirectory();
-        assertThat(tempDir.listFiles()).isEmpty();
+        // Only the lock file marking the directory as in use must remain.
+        assertThat(tempDir.listFiles())
+            .extracting(File::getName)
+            .containsExactly(FileCleaner.LOCK_FILE_NAME);
       } finally {
         manager.stop();
       }
@@ -321,6 +438,18 @@ class AbstractOfficeManagerPoolTest {
       assertThatCode(manager::stop).doesNotThrowAnyException();
     }
 
+    @Test
+    void onceTerminated_ShouldHaveDeletedTempDir(final @TempDir File testFolder)
+        throws OfficeException {
+
+      final SimpleOfficeManager manager =
+          SimpleOfficeManager.builder().workingDir(testFolder).build();
+      manager.start();
+      assertThat(testFolder.listFiles()).isNotEmpty();
+      manager.stop();
+      assertThat(testFolder.listFiles()).isEmpty();
+    }
+
     @Test
     void onceTerminated_ShouldHaveStoppedEntries() throws OfficeException {
 
@@ -390,6 +519,53 @@ class AbstractOfficeManagerPoolTest {
       assertThatIllegalStateException().isThrownBy(() -> manager.execute(new SimpleOfficeTask()));
     }
 
+    @Test
+    void whenCallerCancelsRunningTask_ShouldCancelTaskInEntry()
+        throws OfficeException, InterruptedException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      try {
+        manager.start();
+
+        final SimpleOfficeTask task = new SimpleOfficeTask(5_000L);
+        final CompletableFuture<Void> future = manager.executeAsync(task);
+        // Let the task execution begin.
+        Thread.sleep(250L);
+        assertThat(future.cancel(false)).isTrue();
+
+        // The entry is free again well before the end of the cancelled task.
+        final long start = System.currentTimeMillis();
+        assertThatCode(() -> manager.execute(new SimpleOfficeTask())).doesNotThrowAnyException();
+        assertThat(System.currentTimeMillis() - start).isLessThan(2_500L);
+        assertThat(task.isCompleted()).isFalse();
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenEntryRejectsTask_ShouldReplaceEntry() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      try {
+        manager.start();
+
+        // A stopped entry rejects the task dispatched to it.
+        final SimpleOfficeManagerPoolEntry stopped = manager.getEntries().get(0);
+        stopped.stop();
+        assertThatExceptionOfType(RejectedExecutionException.class)
+            .isThrownBy(() -> manager.execute(new SimpleOfficeTask()));
+
+        // The next task is executed by the entry replacing the stopped one.
+        assertThatCode(() -> manager.execute(new SimpleOfficeTask())).doesNotThrowAnyException();
+        assertThat(manager.getEntries()).hasSize(1).doesNotContain(stopped);
+
+      } finally {
+        manager.stop();
+      }
+    }
+
     @Test
     void whenTaskQueueTimeout_ShouldThrowOfficeException()
         throws OfficeException, InterruptedException {
@@ -468,45 +644,257 @@ class AbstractOfficeManagerPoolTest {
     //    }
 
     @Test
-    void whenInterruptedWhileReleasingAquiringManager_ShouldThrowOfficeException()
-        throws Exception {
+    void whenTaskQueued_ShouldExecuteTaskOnceManagerReleased() throws OfficeException {
 
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      try {
+        manager.start();
+
+        final SimpleOfficeTask task1 = new SimpleOfficeTask(500L);
+        final SimpleOfficeTask task2 = new SimpleOfficeTask(0L);
+        final CompletableFuture<Void> future1 = manager.executeAsync(task1);
+        final CompletableFuture<Void> future2 = manager.executeAsync(task2);
+
+        // The second task must wait for the first one to complete.
+        assertThat(future2).isNotDone();
+        assertThatCode(() -> future2.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        assertThat(future1).isCompleted();
+        assertThat(task1.isCompleted()).isTrue();
+        assertThat(task2.isCompleted()).isTrue();
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenTasksQueued_ShouldExecuteHigherPriorityTasksFirst() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      try {
+        manager.start();
+
+        // Keep the only entry busy while the other tasks are queued.
+        final CompletableFuture<Void> busy = manager.executeAsync(new SimpleOfficeTask(500L));
+
+        final List<TaskPriority> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (final TaskPriority priority :
+            new TaskPriority[] {
+              TaskPriority.LOW, TaskPriority.NORMAL, TaskPriority.HIGH, TaskPriority.LOW
+            }) {
+          final SimpleOfficeTask task = new SimpleOfficeTask(50L);
+          task.setPriority(priority);
+          futures.add(manager.executeAsync(task).thenRun(() -> executionOrder.add(priority)));
+        }
+
+        assertThatCode(
+                () ->
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                        .get(5, TimeUnit.SECONDS))
+            .doesNotThrowAnyException();
+        assertThat(busy).isCompleted();
+        assertThat(executionOrder)
+            .containsExactly(
+                TaskPriority.HIGH, TaskPriority.NORMAL, TaskPriority.LOW, TaskPriority.LOW);
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenTasksOfSeveralTenantsQueued_ShouldShareManagersBetweenTenants()
+        throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      try {
+        manager.start();
+
+        // Keep the only entry busy while the other tasks are queued.
+        manager.executeAsync(new SimpleOfficeTask(500L));
+
+        final List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (final String tenant : new String[] {"a", "a", "a", "a", "b", "b"}) {
+          final SimpleOfficeTask task = new SimpleOfficeTask(50L);
+          task.setTenant(tenant);
+          futures.add(manager.executeAsync(task).thenRun(() -> executionOrder.add(tenant)));
+        }
+
+        assertThatCode(
+                () ->
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                        .get(5, TimeUnit.SECONDS))
+            .doesNotThrowAnyException();
+        assertThat(executionOrder).containsExactly("a", "b", "a", "b", "a", "a");
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenTenantWeightsSet_ShouldShareManagersAccordingToWeights() throws OfficeException {
+
+      final Map<String, Integer> weights = new HashMap<>();
+      weights.put("a", 2);
       final SimpleOfficeManager manager =
-          SimpleOfficeManager.builder().taskQueueTimeout(2_500L).build();
+          SimpleOfficeManager.builder().tenantWeights(weights).build();
       try {
         manager.start();
 
-        final AtomicReference<Throwable> ex = new AtomicReference<>();
+        // Keep the only entry busy while the other tasks are queued.
+        manager.executeAsync(new SimpleOfficeTask(500L));
+
+        final List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (final String tenant : new String[] {"b", "b", "b", "a", "a", "a", "a"}) {
+          final SimpleOfficeTask task = new SimpleOfficeTask(50L);
+          task.setTenant(tenant);
+          futures.add(manager.executeAsync(task).thenRun(() -> executionOrder.add(tenant)));
+        }
 
         assertThatCode(
-                () -> {
-                  final Thread thread =
-                      new Thread(
-                          () -> {
-                            try {
-                              // Try to release a fake entry while there is no place in the manager
-                              ReflectionTestUtils.invokeMethod(
-                                  manager,
-                                  "releaseManager",
-                                  new SimpleOfficeManagerPoolEntry(1_000L));
-                            } catch (UndeclaredThrowableException e) {
-                              ex.set(e.getUndeclaredThrowable());
-                            }
-                          });
-
-                  // Start the thread.
-                  thread.start();
-                  // Interrupt the thread.
-                  thread.interrupt();
-                  //  Wait for thread to complete.
-                  thread.join();
-                })
+                () ->
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                        .get(5, TimeUnit.SECONDS))
             .doesNotThrowAnyException();
+        assertThat(executionOrder).containsExactly("b", "a", "a", "b", "a", "a", "b");
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenMaxTasksPerTenantReached_ShouldQueueTaskOfSameTenant() throws OfficeException {
+
+      final SimpleOfficeManager manager =
+          SimpleOfficeManager.builder().poolSize(2).maxTasksPerTenant(1).build();
+      try {
+        manager.start();
+
+        final SimpleOfficeTask taskA1 = new SimpleOfficeTask(500L);
+        taskA1.setTenant("a");
+        final SimpleOfficeTask taskA2 = new SimpleOfficeTask(0L);
+        taskA2.setTenant("a");
+        final SimpleOfficeTask taskB = new SimpleOfficeTask(0L);
+        taskB.setTenant("b");
+
+        final CompletableFuture<Void> futureA1 = manager.executeAsync(taskA1);
+        final CompletableFuture<Void> futureA2 = manager.executeAsync(taskA2);
+        final CompletableFuture<Void> futureB = manager.executeAsync(taskB);
+
+        // The task of tenant b uses the second entry while the second
+        // task of tenant a waits for the first one to complete.
+        assertThatCode(() -> futureB.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        assertThat(futureA2).isNotDone();
+        assertThatCode(() -> futureA2.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        assertThat(futureA1).isCompleted();
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenTaskQueueTimeoutAsync_ShouldCompleteExceptionally() throws OfficeException {
 
-        assertThat(ex.get())
+      final SimpleOfficeManager manager =
+          SimpleOfficeManager.builder().taskQueueTimeout(500L).build();
+      try {
+        manager.start();
+
+        final CompletableFuture<Void> future1 = manager.executeAsync(new SimpleOfficeTask(1_500L));
+        final CompletableFuture<Void> future2 = manager.executeAsync(new SimpleOfficeTask(0L));
+
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> future2.get(5, TimeUnit.SECONDS))
+            .havingCause()
             .isExactlyInstanceOf(OfficeException.class)
-            .hasMessage("Interruption while releasing manager")
-            .hasCauseExactlyInstanceOf(InterruptedException.class);
+            .withMessage("No office manager available after 500 millisec");
+        assertThatCode(() -> future1.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenStoppedWithQueuedTask_ShouldCompleteQueuedTaskExceptionally() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      manager.start();
+
+      manager.executeAsync(new SimpleOfficeTask(1_000L));
+      final CompletableFuture<Void> future = manager.executeAsync(new SimpleOfficeTask(0L));
+      manager.stop();
+
+      assertThatExceptionOfType(ExecutionException.class)
+          .isThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+          .havingCause()
+          .isExactlyInstanceOf(OfficeException.class)
+          .withMessage("The office manager has been stopped");
+    }
+  }
+
+  @Nested
+  class AdmissionControl {
+
+    @Test
+    void whenQueueFull_ShouldRejectTaskImmediately() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.builder().maxQueuedTasks(1).build();
+      try {
+        manager.start();
+
+        final CompletableFuture<Void> future1 = manager.executeAsync(new SimpleOfficeTask(500L));
+        final CompletableFuture<Void> future2 = manager.executeAsync(new SimpleOfficeTask(0L));
+        final CompletableFuture<Void> future3 = manager.executeAsync(new SimpleOfficeTask(0L));
+
+        assertThat(future3).isCompletedExceptionally();
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(future3::get)
+            .havingCause()
+            .isExactlyInstanceOf(TaskRejectedException.class)
+            .withMessage("Task rejected; the task queue is full (1 tasks waiting)")
+            .satisfies(ex -> assertThat(((TaskRejectedException) ex).getQueueDepth()).isEqualTo(1));
+        assertThatCode(() -> future2.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        assertThat(future1).isCompleted();
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenEstimatedWaitExceedsQueueTimeout_ShouldRejectTask() throws OfficeException {
+
+      final SimpleOfficeManager manager =
+          SimpleOfficeManager.builder()
+              .taskQueueTimeout(500L)
+              .rejectOnEstimatedQueueTimeout(true)
+              .build();
+      try {
+        manager.start();
+
+        // Let the pool learn the execution time of a task.
+        manager.execute(new SimpleOfficeTask(300L));
+
+        final CompletableFuture<Void> future1 = manager.executeAsync(new SimpleOfficeTask(300L));
+        final CompletableFuture<Void> future2 = manager.executeAsync(new SimpleOfficeTask(300L));
+
+        // A third task would have to wait for 2 tasks, about 600 ms.
+        assertThatExceptionOfType(TaskRejectedException.class)
+            .isThrownBy(() -> manager.execute(new SimpleOfficeTask(0L)))
+            .satisfies(
+                ex -> {
+                  assertThat(ex.getQueueDepth()).isEqualTo(1);
+                  assertThat(ex.getEstimatedWaitTime()).isGreaterThan(500L);
+                });
+        assertThatCode(() -> future2.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        assertThat(future1).isCompleted();
 
       } finally {
         manager.stop();
@@ -514,9 +902,284 @@ class AbstractOfficeManagerPoolTest {
     }
   }
 
+  @Nested
+  class Listeners {
+
+    @Test
+    void whenTaskSucceeds_ShouldNotifyDispatchAndSuccess() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      final OfficeManagerPoolListener listener = mock(OfficeManagerPoolListener.class);
+      manager.addListener(listener);
+      try {
+        manager.start();
+
+        final SimpleOfficeTask task = new SimpleOfficeTask(0L);
+        manager.execute(task);
+
+        verify(listener).taskDispatched(eq(task), anyLong());
+        verify(listener).taskSucceeded(eq(task), anyLong());
+        verify(listener, never()).taskFailed(any(), anyLong(), anyBoolean(), any());
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenTaskTimesOut_ShouldNotifyTimedOutFailure() throws OfficeException {
+
+      final SimpleOfficeManager manager =
+          SimpleOfficeManager.builder().taskExecutionTimeout(100L).build();
+      final OfficeManagerPoolListener listener = mock(OfficeManagerPoolListener.class);
+      manager.addListener(listener);
+      try {
+        manager.start();
+
+        final SimpleOfficeTask task = new SimpleOfficeTask(500L);
+        assertThatExceptionOfType(OfficeException.class).isThrownBy(() -> manager.execute(task));
+
+        verify(listener).taskFailed(eq(task), anyLong(), eq(true), any(OfficeException.class));
+        verify(listener, never()).taskSucceeded(any(), anyLong());
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenTaskRejected_ShouldNotifyRejection() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.builder().maxQueuedTasks(1).build();
+      final OfficeManagerPoolListener listener = mock(OfficeManagerPoolListener.class);
+      manager.addListener(listener);
+      try {
+        manager.start();
+
+        final CompletableFuture<Void> future1 = manager.executeAsync(new SimpleOfficeTask(500L));
+        final CompletableFuture<Void> future2 = manager.executeAsync(new SimpleOfficeTask(0L));
+        final SimpleOfficeTask task = new SimpleOfficeTask(0L);
+        manager.executeAsync(task);
+
+        // While the first task is running, the second one is waiting.
+        assertThat(manager.getPoolSize()).isEqualTo(1);
+        assertThat(manager.getBusyEntryCount()).isEqualTo(1);
+        assertThat(manager.getQueuedTaskCount()).isEqualTo(1);
+        verify(listener).taskRejected(eq(task), any(TaskRejectedException.class));
+        assertThatCode(() -> future2.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        assertThat(future1).isCompleted();
+        assertThat(manager.getBusyEntryCount()).isEqualTo(0);
+        assertThat(manager.getQueuedTaskCount()).isEqualTo(0);
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenListenerFails_ShouldExecuteTask() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      final OfficeManagerPoolListener listener = mock(OfficeManagerPoolListener.class);
+      doThrow(IllegalStateException.class).when(listener).taskDispatched(any(), anyLong());
+      manager.addListener(listener);
+      try {
+        manager.start();
+
+        final SimpleOfficeTask task = new SimpleOfficeTask(0L);
+        assertThatCode(() -> manager.execute(task)).doesNotThrowAnyException();
+        verify(listener).taskSucceeded(eq(task), anyLong());
+
+      } finally {
+        manager.stop();
+      }
+    }
+  }
+
+  @Nested
+  class HealthCheck {
+
+    /** An entry whose health check is slow. */
+    private class SlowCheckEntry extends SimpleOfficeManagerPoolEntry {
+
+      private final CountDownLatch checking = new CountDownLatch(1);
+      private final AtomicLong checkEndTime = new AtomicLong();
+
+      /* default */ SlowCheckEntry() {
+        super(DEFAULT_TASK_EXECUTION_TIMEOUT, 50L, 5_000L);
+      }
+
+      @Override
+      protected void checkHealth() {
+
+        // Only the first check is slow.
+        if (checking.getCount() == 0L) {
+          return;
+        }
+        checking.countDown();
+        try {
+          Thread.sleep(500L);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+        checkEndTime.set(System.nanoTime());
+      }
+    }
+
+    @Test
+    void whenEntryIsChecked_ShouldNotDispatchTaskToEntryUntilCheckIsDone()
+        throws OfficeException, InterruptedException, ExecutionException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      final SlowCheckEntry entry = new SlowCheckEntry();
+      manager.setEntries(Collections.singletonList(entry));
+      try {
+        manager.start();
+        assertThat(entry.checking.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat((Collection<?>) ReflectionTestUtils.getField(manager, "availableEntries"))
+            .isEmpty();
+
+        final AtomicLong taskStartTime = new AtomicLong();
+        manager.executeAsync(context -> taskStartTime.set(System.nanoTime())).get();
+        assertThat(entry.checkEndTime.get()).isPositive();
+        assertThat(taskStartTime.get()).isGreaterThan(entry.checkEndTime.get());
+      } finally {
+        manager.stop();
+      }
+    }
+  }
+
+  @Nested
+  class Elasticity {
+
+    @Test
+    void whenTaskWaitsLongerThanGrowthDelay_ShouldAddEntry() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      manager.setElasticity(1, 2, 60_000L, 100L);
+      try {
+        manager.start();
+
+        final CompletableFuture<Void> future1 = manager.executeAsync(new SimpleOfficeTask(1_000L));
+        final CompletableFuture<Void> future2 = manager.executeAsync(new SimpleOfficeTask(0L));
+
+        // The second task must be executed by a new entry, before the first task completes.
+        assertThatCode(() -> future2.get(900L, TimeUnit.MILLISECONDS)).doesNotThrowAnyException();
+        assertThat(future1).isNotDone();
+        assertThat(manager.getEntries())
+            .hasSize(2)
+            .allSatisfy(entry -> assertThat(entry.isRunning()).isTrue());
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenQueuedTaskIsDispatched_ShouldCancelGrowth()
+        throws OfficeException, InterruptedException, ExecutionException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      manager.setElasticity(1, 2, 60_000L, 300_000L);
+      try {
+        manager.start();
+
+        final CompletableFuture<Void> future1 = manager.executeAsync(new SimpleOfficeTask(100L));
+        final CompletableFuture<Void> future2 = manager.executeAsync(new SimpleOfficeTask(0L));
+        future1.get();
+        future2.get();
+
+        // The growth scheduled for the queued task must not outlive its dispatch.
+        final ScheduledThreadPoolExecutor scheduler =
+            (ScheduledThreadPoolExecutor) OfficeTaskScheduler.getInstance();
+        assertThat(scheduler.getQueue())
+            .noneMatch(task -> ((Delayed) task).getDelay(TimeUnit.MILLISECONDS) > 250_000L);
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenEntryIdleLongerThanIdleTimeout_ShouldRemoveEntry()
+        throws OfficeException, InterruptedException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.builder().poolSize(2).build();
+      manager.setElasticity(1, 2, 500L, 100L);
+      try {
+        manager.start();
+        assertThat(manager.getEntries()).hasSize(2);
+
+        // Let the idle check stop one of the entries.
+        Thread.sleep(2_500L);
+        assertThat(manager.getEntries()).hasSize(1);
+        assertThatCode(() -> manager.execute(new SimpleOfficeTask())).doesNotThrowAnyException();
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenEntriesRejectTasks_ShouldKeepMinPoolSize() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.builder().poolSize(2).build();
+      manager.setElasticity(1, 2, 60_000L, 60_000L);
+      try {
+        manager.start();
+
+        // Each stopped entry rejects the task dispatched to it.
+        final List<SimpleOfficeManagerPoolEntry> stopped = manager.getEntries();
+        for (final SimpleOfficeManagerPoolEntry entry : stopped) {
+          entry.stop();
+        }
+        for (int i = 0; i < 2; i++) {
+          assertThatExceptionOfType(RejectedExecutionException.class)
+              .isThrownBy(() -> manager.execute(new SimpleOfficeTask()));
+        }
+
+        // Only the entry removed below the minimum pool size is replaced.
+        assertThatCode(() -> manager.execute(new SimpleOfficeTask())).doesNotThrowAnyException();
+        assertThat(manager.getEntries()).hasSize(1).doesNotContainAnyElementsOf(stopped);
+
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void withMinPoolSizeGreaterThanMaxPoolSize_ShouldThrowIllegalArgumentException() {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> manager.setElasticity(3, 2, 500L, 100L))
+          .withMessage(
+              "minPoolSize 3 must be greater than 0 and less than or equal to maxPoolSize 2");
+    }
+  }
+
   @Nested
   class MakeTemporaryFile {
 
+    @Test
+    void withTemporaryFileMaker_ShouldUseMakerAndCloseItOnStop(final @TempDir File testFolder)
+        throws OfficeException {
+
+      final DirectoryTemporaryFileMaker fileMaker = new DirectoryTemporaryFileMaker(testFolder);
+      final SimpleOfficeManager manager =
+          SimpleOfficeManager.builder().temporaryFileMaker(fileMaker).build();
+      manager.start();
+      final File tempFile;
+      try {
+        tempFile = manager.makeTemporaryFile("txt");
+        assertThat(tempFile.getParentFile()).hasParent(testFolder).isDirectory();
+      } finally {
+        manager.stop();
+      }
+      TestUtil.waitForEmptyDir(testFolder);
+      assertThat(tempFile.getParentFile()).doesNotExist();
+    }
+
     @Test
     @SuppressWarnings("ConstantConditions")
     void withoutArgument_ShouldCreateTempFileWithoutExtension()
@@ -530,7 +1193,8 @@ class AbstractOfficeManagerPoolTest {
           .isInstanceOfSatisfying(
               File.class,
               file -> {
-                final File[] files = file.listFiles();
+                final File[] files =
+                    file.listFiles((dir, name) -> !FileCleaner.LOCK_FILE_NAME.equals(name));
                 assertThat(files).hasSize(1);
                 //noinspection ConstantConditions
                 assertThat(files[0].getName().indexOf('.')).isEqualTo(-1);
@@ -551,7 +1215,8 @@ class AbstractOfficeManagerPoolTest {
           .isInstanceOfSatisfying(
               File.class,
               file -> {
-                final File[] files = file.listFiles();
+                final File[] files =
+                    file.listFiles((dir, name) -> !FileCleaner.LOCK_FILE_NAME.equals(name));
                 assertThat(files).hasSize(1);
                 assertThat(files[0].getName().indexOf('.')).isEqualTo(-1);
               });
@@ -570,7 +1235,8 @@ class AbstractOfficeManagerPoolTest {
           .isInstanceOfSatisfying(
               File.class,
               file -> {
-                final File[] files = file.listFiles();
+                final File[] files =
+                    file.listFiles((dir, name) -> !FileCleaner.LOCK_FILE_NAME.equals(name));
                 assertThat(files).hasSize(1);
                 assertThat(files[0]).hasExtension("txt");
               });
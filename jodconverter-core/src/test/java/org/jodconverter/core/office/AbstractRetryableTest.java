@@ -68,6 +68,16 @@ class AbstractRetryableTest {
       assertThat(retryable.getAttempts()).isEqualTo(2);
     }
 
+    @Test
+    void withBackoff_ShouldAttemptMoreOftenThanWithMaxInterval() {
+
+      final SimpleRetryable retryable = new SimpleRetryable(100);
+      assertThatExceptionOfType(RetryTimeoutException.class)
+          .isThrownBy(() -> retryable.execute(NO_SLEEP, 5L, 250L, 300L));
+      // Attempts after 0, 5, 15, 35, 75, 155 and 315 ms (instead of 0, 250 and 500 ms).
+      assertThat(retryable.getAttempts()).isBetween(5, 8);
+    }
+
     @Test
     void withNoInterval_ShouldNotApplyIntervalDelay() {
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jodconverter.core.test.util.TestUtil;
+
+/** Contains tests for the {@link BoundedTemporaryFileMaker} class. */
+class BoundedTemporaryFileMakerTest {
+
+  @Test
+  void new_WithNonPositiveSizeLimit_ShouldThrowIllegalArgumentException(
+      final @TempDir File testFolder) {
+
+    final DirectoryTemporaryFileMaker primary = new DirectoryTemporaryFileMaker(testFolder);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new BoundedTemporaryFileMaker(primary, 0L, primary));
+  }
+
+  @Test
+  void makeTemporaryFile_WhenSizeLimitReached_ShouldUseFallbackUntilSpaceFreed(
+      final @TempDir File testFolder) throws IOException {
+
+    final File memoryDir = new File(testFolder, "memory");
+    final File diskDir = new File(testFolder, "disk");
+    final BoundedTemporaryFileMaker fileMaker =
+        new BoundedTemporaryFileMaker(
+            new DirectoryTemporaryFileMaker(memoryDir),
+            100L,
+            new DirectoryTemporaryFileMaker(diskDir));
+    try {
+      final File first = fileMaker.makeTemporaryFile("txt");
+      assertThat(first.getParentFile()).hasParent(memoryDir);
+      Files.write(first.toPath(), new byte[100]);
+
+      final File second = fileMaker.makeTemporaryFile("txt");
+      assertThat(second.getParentFile()).hasParent(diskDir);
+
+      Files.delete(first.toPath());
+      assertThat(fileMaker.makeTemporaryFile("txt").getParentFile()).hasParent(memoryDir);
+    } finally {
+      fileMaker.close();
+      TestUtil.waitForEmptyDir(memoryDir);
+      TestUtil.waitForEmptyDir(diskDir);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jodconverter.core.test.util.TestUtil;
+
+/** Contains tests for the {@link DirectoryTemporaryFileMaker} class. */
+class DirectoryTemporaryFileMakerTest {
+
+  // The temporary directories are deleted in the background.
+  /* default */ static void closeAndWait(final DirectoryTemporaryFileMaker fileMaker) {
+
+    fileMaker.close();
+    fileMaker.getTempDirs().forEach(dir -> TestUtil.waitForEmptyDir(dir.getParentFile()));
+  }
+
+  @Test
+  void new_WithoutDirectory_ShouldThrowIllegalArgumentException() {
+
+    assertThatIllegalArgumentException().isThrownBy(DirectoryTemporaryFileMaker::new);
+  }
+
+  @Nested
+  class MakeTemporaryFile {
+
+    @Test
+    void withExtension_ShouldCreateDirAndReturnFileWithExtension(final @TempDir File testFolder) {
+
+      final DirectoryTemporaryFileMaker fileMaker = new DirectoryTemporaryFileMaker(testFolder);
+      try {
+        final File tempFile = fileMaker.makeTemporaryFile("txt");
+        assertThat(tempFile).hasName("tempfile_0.txt").doesNotExist();
+        assertThat(tempFile.getParentFile()).isDirectory().hasParent(testFolder);
+        assertThat(fileMaker.makeTemporaryFile()).hasName("tempfile_1");
+      } finally {
+        closeAndWait(fileMaker);
+      }
+    }
+
+    @Test
+    void withSeveralDirectories_ShouldSpreadFilesAcrossDirectories(final @TempDir File testFolder) {
+
+      final File dir1 = new File(testFolder, "disk1");
+      final File dir2 = new File(testFolder, "disk2");
+      final DirectoryTemporaryFileMaker fileMaker = new DirectoryTemporaryFileMaker(dir1, dir2);
+      try {
+        assertThat(fileMaker.makeTemporaryFile("txt").getParentFile()).hasParent(dir1);
+        assertThat(fileMaker.makeTemporaryFile("txt").getParentFile()).hasParent(dir2);
+        assertThat(fileMaker.makeTemporaryFile("txt").getParentFile()).hasParent(dir1);
+      } finally {
+        closeAndWait(fileMaker);
+      }
+    }
+  }
+
+  @Nested
+  class GetUsedSpace {
+
+    @Test
+    void shouldSumLengthOfExistingFiles(final @TempDir File testFolder) throws IOException {
+
+      final DirectoryTemporaryFileMaker fileMaker =
+          new DirectoryTemporaryFileMaker(
+              new File(testFolder, "disk1"), new File(testFolder, "disk2"));
+      try {
+        assertThat(fileMaker.getUsedSpace()).isZero();
+        Files.write(fileMaker.makeTemporaryFile("txt").toPath(), new byte[10]);
+        Files.write(fileMaker.makeTemporaryFile("txt").toPath(), new byte[20]);
+        final File tempFile = fileMaker.makeTemporaryFile("txt");
+        Files.write(tempFile.toPath(), new byte[30]);
+        assertThat(fileMaker.getUsedSpace()).isEqualTo(60L);
+        Files.delete(tempFile.toPath());
+        assertThat(fileMaker.getUsedSpace()).isEqualTo(30L);
+      } finally {
+        closeAndWait(fileMaker);
+      }
+    }
+  }
+
+  @Nested
+  class Close {
+
+    @Test
+    void shouldDeleteTempDirs(final @TempDir File testFolder) throws IOException {
+
+      final DirectoryTemporaryFileMaker fileMaker = new DirectoryTemporaryFileMaker(testFolder);
+      final File tempFile = fileMaker.makeTemporaryFile("txt");
+      Files.write(tempFile.toPath(), new byte[10]);
+      closeAndWait(fileMaker);
+      assertThat(tempFile.getParentFile()).doesNotExist();
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.core.office;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jodconverter.core.test.util.AssertUtil;
+import org.jodconverter.core.test.util.TestUtil;
+
+/** Contains tests for the {@link FileCleaner} class. */
+class FileCleanerTest {
+
+  private static final String TEMP_DIR_NAME = ".jodconverter_0f8fad5b-d9cb-469f-a165-70867728950e";
+
+  @TempDir File testFolder;
+
+  @Test
+  void new_ClassWellDefined() {
+    AssertUtil.assertUtilityClassWellDefined(FileCleaner.class);
+  }
+
+  @Nested
+  class RenameAndDelete {
+
+    @Test
+    void shouldFreePathThenDeleteFile() throws IOException {
+
+      final File dir = new File(testFolder, TEMP_DIR_NAME);
+      assertThat(new File(dir, "profile").mkdirs()).isTrue();
+
+      FileCleaner.renameAndDelete(dir, 0L, 0L);
+      assertThat(dir).doesNotExist();
+
+      final File[] files = testFolder.listFiles();
+      if (files != null && files.length > 0) {
+        TestUtil.waitForDeletion(files[0]);
+      }
+      assertThat(testFolder.listFiles()).isEmpty();
+    }
+
+    @Test
+    void whenDeletionAwaited_ShouldHaveDeletedFile() throws InterruptedException {
+
+      final File dir = new File(testFolder, TEMP_DIR_NAME);
+      assertThat(new File(dir, "profile").mkdirs()).isTrue();
+
+      assertThat(FileCleaner.awaitDeletion(FileCleaner.renameAndDelete(dir, 0L, 0L), 5_000L))
+          .isTrue();
+      assertThat(testFolder.listFiles()).isEmpty();
+    }
+  }
+
+  @Nested
+  class Lock {
+
+    @Test
+    void shouldCreateLockFileOnceLocked() throws IOException {
+
+      final File dir = new File(testFolder, TEMP_DIR_NAME);
+      assertThat(dir.mkdirs()).isTrue();
+
+      try (Closeable ignored = FileCleaner.lock(dir)) {
+        assertThat(dir.list()).containsExactly(FileCleaner.LOCK_FILE_NAME);
+      }
+    }
+
+    @Test
+    void whenLockFileIsBeingCreated_SweepShouldKeepDir() throws IOException {
+
+      final File dir = new File(testFolder, TEMP_DIR_NAME);
+      assertThat(dir.mkdirs()).isTrue();
+      assertThat(new File(dir, FileCleaner.LOCK_FILE_NAME + ".pending").createNewFile()).isTrue();
+
+      FileCleaner.sweep(testFolder);
+
+      assertThat(dir).isDirectory();
+    }
+  }
+
+  @Nested
+  class Sweep {
+
+    @Test
+    void whenDirIsNotLocked_ShouldDeleteDir() throws IOException {
+
+      final File dir = new File(testFolder, TEMP_DIR_NAME);
+      assertThat(dir.mkdirs()).isTrue();
+      FileCleaner.lock(dir).close();
+
+      FileCleaner.sweep(testFolder);
+
+      assertThat(dir).doesNotExist();
+    }
+
+    @Test
+    void whenDirIsLocked_ShouldKeepDir() throws IOException {
+
+      final File dir = new File(testFolder, TEMP_DIR_NAME);
+      assertThat(dir.mkdirs()).isTrue();
+      try (Closeable ignored = FileCleaner.lock(dir)) {
+        FileCleaner.sweep(testFolder);
+
+        assertThat(dir).isDirectory();
+      }
+    }
+
+    @Test
+    void whenDirHasNoLockFile_ShouldKeepDir() {
+
+      final File dir = new File(testFolder, TEMP_DIR_NAME);
+      assertThat(dir.mkdirs()).isTrue();
+
+      FileCleaner.sweep(testFolder);
+
+      assertThat(dir).isDirectory();
+    }
+
+    @Test
+    void withRenamedFiles_ShouldDeleteRenamedFiles() {
+
+      final File renamedDir = new File(testFolder, ".jodconverter_socket.old.1234");
+      final File cacheDir = new File(testFolder, ".jodconverter-profile_1234");
+      final File otherDir = new File(testFolder, "other.old.1234");
+      assertThat(renamedDir.mkdirs()).isTrue();
+      assertThat(cacheDir.mkdirs()).isTrue();
+      assertThat(otherDir.mkdirs()).isTrue();
+
+      FileCleaner.sweep(testFolder);
+
+      assertThat(renamedDir).doesNotExist();
+      assertThat(cacheDir).isDirectory();
+      assertThat(otherDir).isDirectory();
+    }
+  }
+}
@@ -37,6 +37,8 @@ import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
 import java.nio.file.spi.FileSystemProvider;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -57,6 +59,34 @@ class OfficeUtilsTest {
     AssertUtil.assertUtilityClassWellDefined(OfficeUtils.class);
   }
 
+  @Nested
+  class ExecuteInCallingThread {
+
+    @Test
+    void whenExecutionSucceeds_ShouldReturnCompletedFuture() {
+
+      final CompletableFuture<Void> future = OfficeUtils.executeInCallingThread(() -> {});
+
+      assertThat(future).isCompleted();
+    }
+
+    @Test
+    void whenExecutionFails_ShouldReturnFutureCompletedExceptionally() {
+
+      final OfficeException failure = new OfficeException("failed");
+      final CompletableFuture<Void> future =
+          OfficeUtils.executeInCallingThread(
+              () -> {
+                throw failure;
+              });
+
+      assertThat(future).isCompletedExceptionally();
+      assertThatExceptionOfType(ExecutionException.class)
+          .isThrownBy(future::get)
+          .withCause(failure);
+    }
+  }
+
   @Nested
   class GetDefaultWorkingDir {
 
@@ -185,13 +215,14 @@ class OfficeUtilsTest {
           .when(mockFileSystemProvider)
           .delete(isA(Path.class));
 
-      manager.stop();
+      OfficeUtils.deleteOrRenameFile(mockDir, 0L, 0L);
       final ArgumentCaptor<File> arg = ArgumentCaptor.forClass(File.class);
       verify(mockDir, times(1)).renameTo(arg.capture());
       assertThat(arg.getValue()).exists();
       assertThat(arg.getValue().getName().startsWith(tempDir.getName() + ".old."));
       assertThat(tempDir).exists();
-      FileUtils.delete(tempDir);
+      ReflectionTestUtils.setField(manager, "tempDir", tempDir);
+      manager.stop();
       FileUtils.delete(arg.getValue());
     }
 
@@ -222,13 +253,14 @@ class OfficeUtilsTest {
           .when(mockFileSystemProvider)
           .delete(isA(Path.class));
 
-      manager.stop();
+      OfficeUtils.deleteOrRenameFile(mockDir, 0L, 0L);
       final ArgumentCaptor<File> arg = ArgumentCaptor.forClass(File.class);
       verify(mockDir, times(1)).renameTo(arg.capture());
       assertThat(arg.getValue()).doesNotExist();
       assertThat(arg.getValue().getName().startsWith(tempDir.getName() + ".old."));
       assertThat(tempDir).exists();
-      FileUtils.delete(tempDir);
+      ReflectionTestUtils.setField(manager, "tempDir", tempDir);
+      manager.stop();
     }
 
     @Test
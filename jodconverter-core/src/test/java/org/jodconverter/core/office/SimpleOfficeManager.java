@@ -22,6 +22,7 @@ package org.jodconverter.core.office;
 
 import java.io.File;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -39,6 +40,8 @@ public final class SimpleOfficeManager
   // The maximum size of the pool.
   private static final int MAX_POOL_SIZE = 1000;
 
+  private final long taskExecutionTimeout;
+
   /**
    * Creates a new builder instance.
    *
@@ -73,8 +76,23 @@ public final class SimpleOfficeManager
       final File workingDir,
       final int poolSize,
       final long taskExecutionTimeout,
-      final long taskQueueTimeout) {
-    super(poolSize, workingDir, taskQueueTimeout);
+      final long taskQueueTimeout,
+      final Map<String, Integer> tenantWeights,
+      final int maxTasksPerTenant,
+      final int maxQueuedTasks,
+      final boolean rejectOnEstimatedQueueTimeout,
+      final boolean incrementalStart) {
+    super(
+        poolSize,
+        workingDir,
+        taskQueueTimeout,
+        tenantWeights,
+        maxTasksPerTenant,
+        maxQueuedTasks,
+        rejectOnEstimatedQueueTimeout,
+        incrementalStart);
+
+    this.taskExecutionTimeout = taskExecutionTimeout;
 
     setEntries(
         IntStream.range(0, poolSize)
@@ -88,6 +106,21 @@ public final class SimpleOfficeManager
     super.setEntries(entries);
   }
 
+  // Change visibility in order to be able to test an elastic pool
+  @Override
+  public void setElasticity(
+      final int minPoolSize,
+      final int maxPoolSize,
+      final long idleTimeout,
+      final long growthDelay) {
+    super.setElasticity(minPoolSize, maxPoolSize, idleTimeout, growthDelay);
+  }
+
+  @Override
+  protected SimpleOfficeManagerPoolEntry createEntry() {
+    return new SimpleOfficeManagerPoolEntry(taskExecutionTimeout);
+  }
+
   /**
    * A builder for constructing a {@link SimpleOfficeManager}.
    *
@@ -106,7 +139,17 @@ public final class SimpleOfficeManager
     public SimpleOfficeManager build() {
 
       final SimpleOfficeManager manager =
-          new SimpleOfficeManager(workingDir, poolSize, taskExecutionTimeout, taskQueueTimeout);
+          new SimpleOfficeManager(
+              workingDir,
+              poolSize,
+              taskExecutionTimeout,
+              taskQueueTimeout,
+              tenantWeights,
+              maxTasksPerTenant,
+              maxQueuedTasks,
+              rejectOnEstimatedQueueTimeout,
+              incrementalStart);
+      manager.setTemporaryFileMaker(temporaryFileMaker);
       if (install) {
         InstalledOfficeManagerHolder.setInstance(manager);
       }
@@ -43,6 +43,36 @@ class SimpleOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
     super(taskExecutionTimeout);
   }
 
+  /**
+   * Creates a new pool entry for the specified office URL with the specified configuration.
+   *
+   * @param taskExecutionTimeout The maximum time allowed to process a task.
+   * @param healthCheckInterval The time after which an idle entry is checked.
+   * @param healthCheckTimeout The maximum time allowed to a health check.
+   */
+  public SimpleOfficeManagerPoolEntry(
+      final long taskExecutionTimeout,
+      final long healthCheckInterval,
+      final long healthCheckTimeout) {
+    super(taskExecutionTimeout, healthCheckInterval, healthCheckTimeout);
+  }
+
+  /**
+   * Creates a new pool entry for the specified office URL with the specified configuration.
+   *
+   * @param taskExecutionTimeout The maximum time allowed to process a task.
+   * @param taskStallTimeout The maximum time a running task can make no progress.
+   * @param healthCheckInterval The time after which an idle entry is checked.
+   * @param healthCheckTimeout The maximum time allowed to a health check.
+   */
+  public SimpleOfficeManagerPoolEntry(
+      final long taskExecutionTimeout,
+      final long taskStallTimeout,
+      final long healthCheckInterval,
+      final long healthCheckTimeout) {
+    super(taskExecutionTimeout, taskStallTimeout, healthCheckInterval, healthCheckTimeout);
+  }
+
   @Override
   protected void doExecute(final OfficeTask task) throws OfficeException {
 
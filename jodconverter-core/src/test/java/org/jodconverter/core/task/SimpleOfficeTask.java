@@ -31,6 +31,8 @@ public final class SimpleOfficeTask implements OfficeTask {
   private final long delayTime;
   private boolean completed;
   private final Exception thrownException;
+  private TaskPriority priority = TaskPriority.NORMAL;
+  private String tenant;
 
   /** Create a new task with default values. */
   public SimpleOfficeTask() {
@@ -92,6 +94,34 @@ public final class SimpleOfficeTask implements OfficeTask {
     }
   }
 
+  @Override
+  public TaskPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Sets the priority of the task.
+   *
+   * @param priority The priority.
+   */
+  public void setPriority(final TaskPriority priority) {
+    this.priority = priority;
+  }
+
+  @Override
+  public String getTenant() {
+    return tenant;
+  }
+
+  /**
+   * Sets the tenant of the task.
+   *
+   * @param tenant The tenant.
+   */
+  public void setTenant(final String tenant) {
+    this.tenant = tenant;
+  }
+
   /**
    * Gets whether the task is completed or not.
    *
@@ -20,6 +20,8 @@
 
 package org.jodconverter.core.test.util;
 
+import java.io.File;
+
 /** Contains helper functions while testing. */
 public final class TestUtil {
 
@@ -37,6 +39,36 @@ public final class TestUtil {
     }
   }
 
+  /**
+   * Waits, for at most 5 seconds, until the specified file does not exist anymore. It is used to
+   * test files deleted in the background.
+   *
+   * @param file The file to wait for.
+   */
+  public static void waitForDeletion(final File file) {
+    final long deadline = System.currentTimeMillis() + 5_000L;
+    while (file.exists() && System.currentTimeMillis() < deadline) {
+      sleepQuietly(10L);
+    }
+  }
+
+  /**
+   * Waits, for at most 5 seconds, until the specified directory is empty. It is used to test
+   * directories whose content is deleted in the background.
+   *
+   * @param dir The directory to wait for.
+   */
+  public static void waitForEmptyDir(final File dir) {
+    final long deadline = System.currentTimeMillis() + 5_000L;
+    while (System.currentTimeMillis() < deadline) {
+      final String[] names = dir.list();
+      if (names == null || names.length == 0) {
+        return;
+      }
+      sleepQuietly(10L);
+    }
+  }
+
   // Suppresses default constructor, ensuring non-instantiability.
   private TestUtil() {
     throw new AssertionError("Utility class must not be instantiated");
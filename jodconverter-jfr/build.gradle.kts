@@ -0,0 +1,25 @@
+description =
+    "Module emitting Java Flight Recorder events for the Java OpenDocument Converter (JODConverter) project."
+
+extra["moduleName"] = "JODConverter JFR"
+extra["moduleDescription"] = description
+
+plugins {
+    id("library-conventions")
+}
+
+// The jdk.jfr API is only available since Java 11.
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(11)
+    }
+}
+
+dependencies {
+    api(project(":jodconverter-core"))
+    compileOnly(project(":jodconverter-local"))
+
+    testImplementation(libs.slf4j.log4j)
+    testImplementation(project(":jodconverter-local"))
+    testImplementation(project(":jodconverter-core", configuration = "tests"))
+}
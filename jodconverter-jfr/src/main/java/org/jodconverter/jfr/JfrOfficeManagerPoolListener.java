@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import org.jodconverter.core.document.DocumentFormat;
+import org.jodconverter.core.office.AbstractOfficeManagerPool;
+import org.jodconverter.core.office.OfficeManagerPoolListener;
+import org.jodconverter.core.office.RestartReason;
+import org.jodconverter.core.office.TaskRejectedException;
+import org.jodconverter.core.task.OfficeTask;
+
+/**
+ * Emits Java Flight Recorder events for the tasks executed by an office manager pool and the
+ * restarts of its office processes. The events are cheap enough to be always recorded; when they
+ * are not enabled in the running recording, nothing is allocated but the event instances.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * LocalOfficeManager officeManager = LocalOfficeManager.install();
+ * JfrOfficeManagerPoolListener.register(officeManager);
+ * }</pre>
+ *
+ * @see TaskQueueEvent
+ * @see TaskExecutionEvent
+ * @see OfficeProcessRestartEvent
+ * @see JfrOfficeProcessListener
+ */
+public class JfrOfficeManagerPoolListener implements OfficeManagerPoolListener {
+
+  private static final boolean LOCAL_AVAILABLE =
+      isClassPresent("org.jodconverter.local.task.LocalConversionTask");
+
+  private final Map<OfficeTask, TaskExecutionEvent> runningTasks =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+
+  /**
+   * Creates a listener emitting the events of the specified pool and registers it to the pool. When
+   * the pool is a local office manager, a {@link JfrOfficeProcessListener} is also registered to
+   * emit the lifecycle events of its office processes.
+   *
+   * @param pool The office manager pool.
+   * @return The registered listener.
+   */
+  public static @NonNull JfrOfficeManagerPoolListener register(
+      final @NonNull AbstractOfficeManagerPool<?> pool) {
+
+    final JfrOfficeManagerPoolListener listener = new JfrOfficeManagerPoolListener();
+    pool.addListener(listener);
+    if (LOCAL_AVAILABLE) {
+      JfrOfficeProcessListener.registerIfLocal(pool);
+    }
+    return listener;
+  }
+
+  @Override
+  public void taskRejected(
+      final @NonNull OfficeTask task, final @NonNull TaskRejectedException rejection) {
+
+    final TaskQueueEvent event = newQueueEvent(task, "rejected", 0L);
+    if (event != null) {
+      event.queueDepth = rejection.getQueueDepth();
+      event.commit();
+    }
+  }
+
+  @Override
+  public void taskExpired(final @NonNull OfficeTask task, final long queueWaitTime) {
+
+    final TaskQueueEvent event = newQueueEvent(task, "expired", queueWaitTime);
+    if (event != null) {
+      event.commit();
+    }
+  }
+
+  @Override
+  public void taskDispatched(final @NonNull OfficeTask task, final long queueWaitTime) {
+
+    final TaskQueueEvent queueEvent = newQueueEvent(task, "dispatched", queueWaitTime);
+    if (queueEvent != null) {
+      queueEvent.commit();
+    }
+
+    final TaskExecutionEvent event = new TaskExecutionEvent();
+    if (event.isEnabled()) {
+      event.begin();
+      runningTasks.put(task, event);
+    }
+  }
+
+  @Override
+  public void taskSucceeded(final @NonNull OfficeTask task, final long executionTime) {
+    commitExecutionEvent(task, "success");
+  }
+
+  @Override
+  public void taskFailed(
+      final @NonNull OfficeTask task,
+      final long executionTime,
+      final boolean timedOut,
+      final @NonNull Throwable error) {
+    commitExecutionEvent(task, timedOut ? "timeout" : "failure");
+  }
+
+  @Override
+  public void officeProcessRestarted(final @NonNull RestartReason reason) {
+
+    final OfficeProcessRestartEvent event = new OfficeProcessRestartEvent();
+    if (event.isEnabled()) {
+      event.reason = reason.name().toLowerCase(Locale.ROOT);
+      event.commit();
+    }
+  }
+
+  private static @Nullable TaskQueueEvent newQueueEvent(
+      final OfficeTask task, final String outcome, final long waitTime) {
+
+    final TaskQueueEvent event = new TaskQueueEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.task = task.getClass().getName();
+    event.tenant = task.getTenant();
+    event.priority = task.getPriority().name();
+    event.outcome = outcome;
+    event.waitTime = waitTime;
+    return event;
+  }
+
+  private void commitExecutionEvent(final OfficeTask task, final String outcome) {
+
+    final TaskExecutionEvent event = runningTasks.remove(task);
+    if (event == null) {
+      // The event was not enabled when the task has been dispatched.
+      return;
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.task = task.getClass().getName();
+      event.sourceFormat = formatName(task.getSourceFormat());
+      event.targetFormat = formatName(task.getTargetFormat());
+      event.outcome = outcome;
+      if (LOCAL_AVAILABLE) {
+        LocalConversionPhases.apply(task, event);
+      }
+      event.commit();
+    }
+  }
+
+  private static String formatName(final @Nullable DocumentFormat format) {
+    return Optional.ofNullable(format).map(DocumentFormat::getExtension).orElse(null);
+  }
+
+  private static boolean isClassPresent(final String className) {
+
+    try {
+      Class.forName(className, false, JfrOfficeManagerPoolListener.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError ex) {
+      return false;
+    }
+  }
+}
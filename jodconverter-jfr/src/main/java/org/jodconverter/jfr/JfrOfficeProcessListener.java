@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import org.jodconverter.core.office.AbstractOfficeManagerPool;
+import org.jodconverter.local.office.LocalOfficeManager;
+import org.jodconverter.local.office.OfficeProcessListener;
+
+/**
+ * Emits Java Flight Recorder events for the lifecycle of the office processes managed by a local
+ * office manager. It is registered along with the {@link JfrOfficeManagerPoolListener} when the
+ * pool is a {@link LocalOfficeManager}, and thus, this class is only loaded when the
+ * jodconverter-local module is available.
+ *
+ * @see OfficeProcessStartEvent
+ * @see OfficeProcessStopEvent
+ * @see OfficeConnectionEvent
+ */
+public class JfrOfficeProcessListener implements OfficeProcessListener {
+
+  /**
+   * Creates a listener emitting the events of the specified manager and registers it to the
+   * manager.
+   *
+   * @param manager The local office manager.
+   * @return The registered listener.
+   */
+  public static @NonNull JfrOfficeProcessListener register(
+      final @NonNull LocalOfficeManager manager) {
+
+    final JfrOfficeProcessListener listener = new JfrOfficeProcessListener();
+    manager.addProcessListener(listener);
+    return listener;
+  }
+
+  /* default */ static void registerIfLocal(final AbstractOfficeManagerPool<?> pool) {
+
+    if (pool instanceof LocalOfficeManager) {
+      register((LocalOfficeManager) pool);
+    }
+  }
+
+  @Override
+  public void processStarted(
+      final @NonNull String officeUrl,
+      final long pid,
+      final long startTime,
+      final int connectAttempts) {
+    commitStartEvent(officeUrl, pid, "success", startTime, connectAttempts);
+  }
+
+  @Override
+  public void processStartFailed(
+      final @NonNull String officeUrl,
+      final long startTime,
+      final int connectAttempts,
+      final @NonNull Throwable error) {
+    commitStartEvent(officeUrl, -1L, "failure", startTime, connectAttempts);
+  }
+
+  @Override
+  public void processExited(final @NonNull String officeUrl, final long pid, final int exitCode) {
+    commitStopEvent(officeUrl, pid, "exited", exitCode);
+  }
+
+  @Override
+  public void processKilled(final @NonNull String officeUrl, final long pid) {
+    commitStopEvent(officeUrl, pid, "killed", 0);
+  }
+
+  @Override
+  public void connected(final @NonNull String officeUrl) {
+    commitConnectionEvent(officeUrl, "connected");
+  }
+
+  @Override
+  public void disconnected(final @NonNull String officeUrl) {
+    commitConnectionEvent(officeUrl, "disconnected");
+  }
+
+  private static void commitStartEvent(
+      final String officeUrl,
+      final long pid,
+      final String outcome,
+      final long startTime,
+      final int connectAttempts) {
+
+    final OfficeProcessStartEvent event = new OfficeProcessStartEvent();
+    if (event.isEnabled()) {
+      event.officeUrl = officeUrl;
+      event.pid = pid;
+      event.outcome = outcome;
+      event.startupTime = startTime;
+      event.connectAttempts = connectAttempts;
+      event.commit();
+    }
+  }
+
+  private static void commitStopEvent(
+      final String officeUrl, final long pid, final String outcome, final int exitCode) {
+
+    final OfficeProcessStopEvent event = new OfficeProcessStopEvent();
+    if (event.isEnabled()) {
+      event.officeUrl = officeUrl;
+      event.pid = pid;
+      event.outcome = outcome;
+      event.exitCode = exitCode;
+      event.commit();
+    }
+  }
+
+  private static void commitConnectionEvent(final String officeUrl, final String state) {
+
+    final OfficeConnectionEvent event = new OfficeConnectionEvent();
+    if (event.isEnabled()) {
+      event.officeUrl = officeUrl;
+      event.state = state;
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import org.jodconverter.core.job.ConversionResult;
+import org.jodconverter.core.task.OfficeTask;
+import org.jodconverter.local.task.LocalConversionTask;
+
+/**
+ * Copies the phases of a local conversion into an execution event. This class is only loaded when
+ * the jodconverter-local module is available.
+ */
+final class LocalConversionPhases { // NOPMD - Disable utility class name rule violation
+
+  /* default */ static void apply(final OfficeTask task, final TaskExecutionEvent event) {
+
+    if (!(task instanceof LocalConversionTask)) {
+      return;
+    }
+    final ConversionResult result = ((LocalConversionTask) task).getResult();
+    if (result == null) {
+      return;
+    }
+    event.officeUrl = result.getOfficeUrl();
+    event.sourcePreparationTime = result.getSourcePreparationTime();
+    event.loadTime = result.getLoadTime();
+    event.modifyTime = result.getModifyTime();
+    event.storeTime = result.getStoreTime();
+    event.targetCompletionTime = result.getTargetCompletionTime();
+    event.sourceSize = result.getSourceSize();
+    event.targetSize = result.getTargetSize();
+  }
+
+  // Suppresses default constructor, ensuring non-instantiability.
+  private LocalConversionPhases() {
+    throw new AssertionError("Utility class must not be instantiated");
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Emitted when a local office manager connects to an office process, or disconnects from it. */
+@Name("org.jodconverter.OfficeConnection")
+@Label("Office Connection")
+@Category({"JODConverter", "Office Process"})
+@Description("A connection to an office process was established, or closed or lost")
+public class OfficeConnectionEvent extends Event {
+
+  @Label("Office URL")
+  public String officeUrl;
+
+  @Label("State")
+  @Description("connected or disconnected")
+  public String state;
+}
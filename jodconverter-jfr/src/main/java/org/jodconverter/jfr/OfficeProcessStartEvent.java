@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/** Emitted when a local office manager started an office process, or failed to. */
+@Name("org.jodconverter.OfficeProcessStart")
+@Label("Office Process Start")
+@Category({"JODConverter", "Office Process"})
+@Description("An office process was started and connected, or could not be")
+public class OfficeProcessStartEvent extends Event {
+
+  @Label("Office URL")
+  public String officeUrl;
+
+  @Label("PID")
+  @Description("The id of the office process, negative if unknown")
+  public long pid;
+
+  @Label("Outcome")
+  @Description("success or failure")
+  public String outcome;
+
+  @Label("Startup Time")
+  @Description("The time spent starting the office process and connecting to it")
+  @Timespan(Timespan.MILLISECONDS)
+  public long startupTime;
+
+  @Label("Connect Attempts")
+  @Description("The number of attempts made to connect to the office process")
+  public int connectAttempts;
+}
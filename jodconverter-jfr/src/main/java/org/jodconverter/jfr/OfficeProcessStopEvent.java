@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Emitted when an office process started by a local office manager exits, or is killed. */
+@Name("org.jodconverter.OfficeProcessStop")
+@Label("Office Process Stop")
+@Category({"JODConverter", "Office Process"})
+@Description("An office process exited, or was forcibly terminated")
+public class OfficeProcessStopEvent extends Event {
+
+  @Label("Office URL")
+  public String officeUrl;
+
+  @Label("PID")
+  @Description("The id of the office process, negative if unknown")
+  public long pid;
+
+  @Label("Outcome")
+  @Description("exited or killed")
+  public String outcome;
+
+  @Label("Exit Code")
+  @Description("The exit code of an exited office process")
+  public int exitCode;
+}
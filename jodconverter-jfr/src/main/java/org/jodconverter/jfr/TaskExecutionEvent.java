@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Spans the execution of a task by an office manager of a pool. The phases of a local conversion
+ * are recorded as well, a phase not measured being -1.
+ */
+@Name("org.jodconverter.TaskExecution")
+@Label("Task Execution")
+@Category({"JODConverter", "Pool"})
+@Description("The execution of a task by an office manager of a pool")
+public class TaskExecutionEvent extends Event {
+
+  @Label("Task")
+  @Description("The class of the task")
+  public String task;
+
+  @Label("Source Format")
+  public String sourceFormat;
+
+  @Label("Target Format")
+  public String targetFormat;
+
+  @Label("Outcome")
+  @Description("success, failure or timeout")
+  public String outcome;
+
+  @Label("Office URL")
+  @Description("The office process that executed the task")
+  public String officeUrl;
+
+  @Label("Source Preparation Time")
+  @Timespan(Timespan.NANOSECONDS)
+  public long sourcePreparationTime = -1L;
+
+  @Label("Load Time")
+  @Timespan(Timespan.NANOSECONDS)
+  public long loadTime = -1L;
+
+  @Label("Modify Time")
+  @Description("The time spent in the filters")
+  @Timespan(Timespan.NANOSECONDS)
+  public long modifyTime = -1L;
+
+  @Label("Store Time")
+  @Timespan(Timespan.NANOSECONDS)
+  public long storeTime = -1L;
+
+  @Label("Target Completion Time")
+  @Timespan(Timespan.NANOSECONDS)
+  public long targetCompletionTime = -1L;
+
+  @Label("Source Size")
+  @DataAmount
+  public long sourceSize = -1L;
+
+  @Label("Target Size")
+  @DataAmount
+  public long targetSize = -1L;
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/** Emitted when a task leaves the queue of an office manager pool, or is rejected. */
+@Name("org.jodconverter.TaskQueue")
+@Label("Task Queue")
+@Category({"JODConverter", "Pool"})
+@Description("A task left the queue of an office manager pool, or was rejected")
+public class TaskQueueEvent extends Event {
+
+  @Label("Task")
+  @Description("The class of the task")
+  public String task;
+
+  @Label("Tenant")
+  public String tenant;
+
+  @Label("Priority")
+  public String priority;
+
+  @Label("Outcome")
+  @Description("dispatched, expired or rejected")
+  public String outcome;
+
+  @Label("Wait Time")
+  @Description("The time the task waited in the queue")
+  @Timespan(Timespan.MILLISECONDS)
+  public long waitTime;
+
+  @Label("Queue Depth")
+  @Description("The number of waiting tasks when the task was rejected")
+  public int queueDepth;
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.core.office.RestartReason;
+import org.jodconverter.core.office.SimpleOfficeManager;
+import org.jodconverter.core.task.SimpleOfficeTask;
+
+/** Contains tests for the {@link JfrOfficeManagerPoolListener} class. */
+class JfrOfficeManagerPoolListenerTest {
+
+  private static List<RecordedEvent> record(final Path dir, final ThrowingRunnable action)
+      throws Exception {
+
+    final Path file = dir.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(TaskQueueEvent.class);
+      recording.enable(TaskExecutionEvent.class);
+      recording.enable(OfficeProcessRestartEvent.class);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+    }
+    return RecordingFile.readAllEvents(file);
+  }
+
+  private static List<RecordedEvent> eventsOf(final List<RecordedEvent> events, final String name) {
+    return events.stream()
+        .filter(event -> name.equals(event.getEventType().getName()))
+        .collect(Collectors.toList());
+  }
+
+  @FunctionalInterface
+  private interface ThrowingRunnable {
+    void run() throws Exception;
+  }
+
+  @Nested
+  class TaskExecution {
+
+    @Test
+    void whenTaskSucceeds_ShouldEmitQueueAndExecutionEvents(final @TempDir Path dir)
+        throws Exception {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      JfrOfficeManagerPoolListener.register(manager);
+      final List<RecordedEvent> events =
+          record(
+              dir,
+              () -> {
+                manager.start();
+                try {
+                  manager.execute(new SimpleOfficeTask(0L));
+                } finally {
+                  manager.stop();
+                }
+              });
+
+      assertThat(eventsOf(events, "org.jodconverter.TaskQueue"))
+          .hasSize(1)
+          .first()
+          .satisfies(
+              event -> {
+                assertThat(event.getString("outcome")).isEqualTo("dispatched");
+                assertThat(event.getString("task")).isEqualTo(SimpleOfficeTask.class.getName());
+              });
+      assertThat(eventsOf(events, "org.jodconverter.TaskExecution"))
+          .hasSize(1)
+          .first()
+          .satisfies(event -> assertThat(event.getString("outcome")).isEqualTo("success"));
+    }
+
+    @Test
+    void whenTaskTimesOut_ShouldEmitTimeoutOutcome(final @TempDir Path dir) throws Exception {
+
+      final SimpleOfficeManager manager =
+          SimpleOfficeManager.builder().taskExecutionTimeout(100L).build();
+      JfrOfficeManagerPoolListener.register(manager);
+      final List<RecordedEvent> events =
+          record(
+              dir,
+              () -> {
+                manager.start();
+                try {
+                  assertThatExceptionOfType(OfficeException.class)
+                      .isThrownBy(() -> manager.execute(new SimpleOfficeTask(500L)));
+                } finally {
+                  manager.stop();
+                }
+              });
+
+      assertThat(eventsOf(events, "org.jodconverter.TaskExecution"))
+          .hasSize(1)
+          .first()
+          .satisfies(event -> assertThat(event.getString("outcome")).isEqualTo("timeout"));
+    }
+
+    @Test
+    void whenNotRecording_ShouldNotKeepRunningTasks() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      final JfrOfficeManagerPoolListener listener = JfrOfficeManagerPoolListener.register(manager);
+      manager.start();
+      try {
+        manager.execute(new SimpleOfficeTask(0L));
+      } finally {
+        manager.stop();
+      }
+
+      listener.taskDispatched(new SimpleOfficeTask(0L), 0L);
+      assertThat(listener).extracting("runningTasks").asInstanceOf(MAP).isEmpty();
+    }
+  }
+
+  @Nested
+  class OfficeProcessRestarted {
+
+    @Test
+    void shouldEmitRestartEventWithReason(final @TempDir Path dir) throws Exception {
+
+      final JfrOfficeManagerPoolListener listener = new JfrOfficeManagerPoolListener();
+      final List<RecordedEvent> events =
+          record(dir, () -> listener.officeProcessRestarted(RestartReason.MEMORY_LIMIT));
+
+      assertThat(eventsOf(events, "org.jodconverter.OfficeProcessRestart"))
+          .hasSize(1)
+          .first()
+          .satisfies(event -> assertThat(event.getString("reason")).isEqualTo("memory_limit"));
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Contains tests for the {@link JfrOfficeProcessListener} class. */
+class JfrOfficeProcessListenerTest {
+
+  private static final String URL = "socket,host=127.0.0.1,port=2002,tcpNoDelay=1";
+
+  private static List<RecordedEvent> record(final Path dir, final Runnable action)
+      throws Exception {
+
+    final Path file = dir.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(OfficeProcessStartEvent.class);
+      recording.enable(OfficeProcessStopEvent.class);
+      recording.enable(OfficeConnectionEvent.class);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+    }
+    return RecordingFile.readAllEvents(file);
+  }
+
+  private static List<RecordedEvent> eventsOf(final List<RecordedEvent> events, final String name) {
+    return events.stream()
+        .filter(event -> name.equals(event.getEventType().getName()))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void whenProcessStarts_ShouldEmitStartAndConnectionEvents(final @TempDir Path dir)
+      throws Exception {
+
+    final JfrOfficeProcessListener listener = new JfrOfficeProcessListener();
+    final List<RecordedEvent> events =
+        record(
+            dir,
+            () -> {
+              listener.connected(URL);
+              listener.processStarted(URL, 1234L, 1500L, 3);
+            });
+
+    assertThat(eventsOf(events, "org.jodconverter.OfficeProcessStart"))
+        .hasSize(1)
+        .first()
+        .satisfies(
+            event -> {
+              assertThat(event.getString("officeUrl")).isEqualTo(URL);
+              assertThat(event.getLong("pid")).isEqualTo(1234L);
+              assertThat(event.getString("outcome")).isEqualTo("success");
+              assertThat(event.getLong("startupTime")).isEqualTo(1500L);
+              assertThat(event.getInt("connectAttempts")).isEqualTo(3);
+            });
+    assertThat(eventsOf(events, "org.jodconverter.OfficeConnection"))
+        .hasSize(1)
+        .first()
+        .satisfies(event -> assertThat(event.getString("state")).isEqualTo("connected"));
+  }
+
+  @Test
+  void whenProcessIsKilled_ShouldEmitStopEvent(final @TempDir Path dir) throws Exception {
+
+    final JfrOfficeProcessListener listener = new JfrOfficeProcessListener();
+    final List<RecordedEvent> events =
+        record(
+            dir,
+            () -> {
+              listener.processKilled(URL, 1234L);
+              listener.disconnected(URL);
+            });
+
+    assertThat(eventsOf(events, "org.jodconverter.OfficeProcessStop"))
+        .hasSize(1)
+        .first()
+        .satisfies(event -> assertThat(event.getString("outcome")).isEqualTo("killed"));
+    assertThat(eventsOf(events, "org.jodconverter.OfficeConnection"))
+        .hasSize(1)
+        .first()
+        .satisfies(event -> assertThat(event.getString("state")).isEqualTo("disconnected"));
+  }
+}
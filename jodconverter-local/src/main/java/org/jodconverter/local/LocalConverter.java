@@ -23,6 +23,8 @@ package org.jodconverter.local;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import com.sun.star.document.UpdateDocMode;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -34,6 +36,7 @@ import org.jodconverter.core.job.*;
 import org.jodconverter.core.office.InstalledOfficeManagerHolder;
 import org.jodconverter.core.office.OfficeException;
 import org.jodconverter.core.office.OfficeManager;
+import org.jodconverter.core.office.TemporaryFileMaker;
 import org.jodconverter.core.util.AssertUtils;
 import org.jodconverter.core.util.StringUtils;
 import org.jodconverter.local.filter.DefaultFilterChain;
@@ -72,12 +75,16 @@ public final class LocalConverter extends AbstractConverter {
    */
   public static final String DEFAULT_LOAD_DOCUMENT_MODE_STRING = "auto";
 
+  /** The default behavior regarding the storing of a document to an output stream. */
+  public static final boolean DEFAULT_STORE_TO_OUTPUT_STREAM = false;
+
   /**
    * The properties which are applied by default when loading a document if not manually overridden.
    */
   public static final Map<String, Object> DEFAULT_LOAD_PROPERTIES;
 
   private final LoadDocumentMode loadDocumentMode;
+  private final boolean storeToOutputStream;
   private final Map<String, Object> loadProperties;
   private final Map<String, Object> storeProperties;
   private final FilterChain filterChain;
@@ -127,12 +134,14 @@ public final class LocalConverter extends AbstractConverter {
       final OfficeManager officeManager,
       final DocumentFormatRegistry formatRegistry,
       final LoadDocumentMode loadDocumentMode,
+      final boolean storeToOutputStream,
       final Map<String, Object> loadProperties,
       final Map<String, Object> storeProperties,
       final FilterChain filterChain) {
     super(officeManager, formatRegistry);
 
     this.loadDocumentMode = loadDocumentMode;
+    this.storeToOutputStream = storeToOutputStream;
     this.loadProperties = loadProperties;
     this.storeProperties = storeProperties;
     this.filterChain = filterChain;
@@ -171,17 +180,64 @@ public final class LocalConverter extends AbstractConverter {
     @Override
     public void doExecute() throws OfficeException {
 
+      // Create a conversion task and execute it.
+      officeManager.execute(createTask());
+    }
+
+    @Override
+    protected @NonNull CompletableFuture<Void> doExecuteAsync() {
+
+      // Create a conversion task and submit it.
+      return officeManager.executeAsync(createTask());
+    }
+
+    @Override
+    protected @NonNull ConversionResult doExecuteForResult() throws OfficeException {
+
+      // Create a conversion task, execute it and return what it measured.
+      final LocalConversionTask task = createTask();
+      officeManager.execute(task);
+      return getResult(task);
+    }
+
+    @Override
+    protected @NonNull CompletableFuture<ConversionResult> doExecuteForResultAsync() {
+
+      // Create a conversion task, submit it and complete with what it measured.
+      final LocalConversionTask task = createTask();
+      return officeManager.executeAsync(task).thenApply(unused -> getResult(task));
+    }
+
+    private ConversionResult getResult(final LocalConversionTask task) {
+
+      // The result is missing if the office manager did not execute the task itself.
+      return Optional.ofNullable(task.getResult())
+          .orElseGet(() -> ConversionResult.builder().build());
+    }
+
+    private LocalConversionTask createTask() {
+
       // Determine whether we must use stream adapters.
       final boolean useStreamAdapters =
           loadDocumentMode == LoadDocumentMode.REMOTE
               || (loadDocumentMode == LoadDocumentMode.AUTO
                   && officeManager instanceof ExternalOfficeManager);
 
-      // Create a conversion task and execute it.
       final LocalConversionTask task =
           new LocalConversionTask(
-              source, target, useStreamAdapters, loadProperties, storeProperties, filterChain);
-      officeManager.execute(task);
+              source,
+              target,
+              useStreamAdapters,
+              storeToOutputStream,
+              loadProperties,
+              storeProperties,
+              filterChain);
+      task.setPriority(priority);
+      task.setTenant(tenant);
+      if (officeManager instanceof TemporaryFileMaker) {
+        task.setTemporaryFileMaker((TemporaryFileMaker) officeManager);
+      }
+      return task;
     }
   }
 
@@ -195,6 +251,7 @@ public final class LocalConverter extends AbstractConverter {
     private boolean applyDefaultLoadProperties = DEFAULT_APPLY_DEFAULT_LOAD_PROPS;
     private boolean useUnsafeQuietUpdate = DEFAULT_USE_UNSAFE_QUIET_UPDATE;
     private LoadDocumentMode loadDocumentMode = DEFAULT_LOAD_DOCUMENT_MODE;
+    private boolean storeToOutputStream = DEFAULT_STORE_TO_OUTPUT_STREAM;
     private FilterChain filterChain;
     private Map<String, Object> loadProperties;
     private Map<String, Object> storeProperties;
@@ -233,6 +290,7 @@ public final class LocalConverter extends AbstractConverter {
           manager,
           formatRegistry == null ? DefaultDocumentFormatRegistry.getInstance() : formatRegistry,
           loadDocumentMode,
+          storeToOutputStream,
           loadProperties,
           storeProperties,
           filterChain);
@@ -324,6 +382,27 @@ public final class LocalConverter extends AbstractConverter {
           : loadDocumentMode(LoadDocumentMode.valueOf(loadDocumentMode.toUpperCase()));
     }
 
+    /**
+     * Specifies whether a document converted to an output stream is stored directly to that stream,
+     * instead of being stored to a temporary file which is then copied to the stream. This saves a
+     * write and a read of the converted document, and the first bytes reach the stream before the
+     * export is complete. The temporary file is still used by the export filters that require a
+     * seekable output, like the MS Office 97 binary formats, or that write additional files, like
+     * the HTML formats. Note that a conversion failing while the document is stored may leave a
+     * partial document in the stream.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: false
+     *
+     * @param storeToOutputStream {@code true} to store the documents directly to the output
+     *     streams, {@code false} otherwise.
+     * @return This builder instance.
+     */
+    public @NonNull Builder storeToOutputStream(final boolean storeToOutputStream) {
+
+      this.storeToOutputStream = storeToOutputStream;
+      return this;
+    }
+
     /**
      * Specifies a property, for this converter, that will be applied when a document is loaded
      * during a conversion task, regardless of the input format of the document.
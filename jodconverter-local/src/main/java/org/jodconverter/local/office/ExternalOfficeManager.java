@@ -23,6 +23,8 @@ package org.jodconverter.local.office;
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -70,6 +72,14 @@ public final class ExternalOfficeManager
   /* default */ static final long MAX_CONNECT_RETRY_INTERVAL = 10_000L; // 10 sec.
   // The default maximum number of tasks an office process can execute before reconnecting.
   /* default */ static final int DEFAULT_MAX_TASKS_PER_CONNECTION = 1_000;
+  // The default jitter, in percent, applied to the maximum number of tasks per connection.
+  /* default */ static final int DEFAULT_MAX_TASKS_PER_CONNECTION_JITTER = 0; // No jitter.
+  // The default maximum number of entries reconnecting at the same time.
+  /* default */ static final int DEFAULT_MAX_CONCURRENT_RECONNECTS = 0; // No limit.
+  // The default time after which an idle connection is checked.
+  /* default */ static final long DEFAULT_HEALTH_CHECK_INTERVAL = 0L; // No health check.
+  // The default maximum time allowed to the office process to answer a health check.
+  /* default */ static final long DEFAULT_HEALTH_CHECK_TIMEOUT = 5_000L; // 5 seconds
 
   /**
    * Creates a new builder instance.
@@ -110,10 +120,30 @@ public final class ExternalOfficeManager
       final long connectRetryInterval,
       final boolean connectFailFast,
       final int maxTasksPerConnection,
+      final int maxTasksPerConnectionJitter,
+      final int maxConcurrentReconnects,
       final long taskExecutionTimeout,
-      final long taskQueueTimeout) {
-    super(officeUrls.size(), workingDir, taskQueueTimeout);
-
+      final long healthCheckInterval,
+      final long healthCheckTimeout,
+      final long taskQueueTimeout,
+      final Map<String, Integer> tenantWeights,
+      final int maxTasksPerTenant,
+      final int maxQueuedTasks,
+      final boolean rejectOnEstimatedQueueTimeout,
+      final boolean incrementalStart) {
+    super(
+        officeUrls.size(),
+        workingDir,
+        taskQueueTimeout,
+        tenantWeights,
+        maxTasksPerTenant,
+        maxQueuedTasks,
+        rejectOnEstimatedQueueTimeout,
+        incrementalStart);
+
+    // The permits are shared by all the entries of the pool.
+    final Semaphore reconnectPermits =
+        maxConcurrentReconnects > 0 ? new Semaphore(maxConcurrentReconnects) : null;
     setEntries(
         officeUrls.stream()
             .map(
@@ -121,12 +151,16 @@ public final class ExternalOfficeManager
                     new ExternalOfficeManagerPoolEntry(
                         connectOnStart,
                         maxTasksPerConnection,
+                        maxTasksPerConnectionJitter,
                         taskExecutionTimeout,
+                        healthCheckInterval,
+                        healthCheckTimeout,
                         new ExternalOfficeConnectionManager(
                             connectTimeout,
                             connectRetryInterval,
                             connectFailFast,
-                            new OfficeConnection(officeUrl))))
+                            new OfficeConnection(officeUrl)),
+                        reconnectPermits))
             .collect(Collectors.toList()));
   }
 
@@ -147,6 +181,10 @@ public final class ExternalOfficeManager
     private Long connectRetryInterval = DEFAULT_CONNECT_RETRY_INTERVAL;
     private boolean connectFailFast = DEFAULT_CONNECT_FAIL_FAST;
     private int maxTasksPerConnection = DEFAULT_MAX_TASKS_PER_CONNECTION;
+    private int maxTasksPerConnectionJitter = DEFAULT_MAX_TASKS_PER_CONNECTION_JITTER;
+    private int maxConcurrentReconnects = DEFAULT_MAX_CONCURRENT_RECONNECTS;
+    private long healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+    private long healthCheckTimeout = DEFAULT_HEALTH_CHECK_TIMEOUT;
 
     // Private constructor so only LocalOfficeManager can initialize an instance of this builder.
     private Builder() {
@@ -169,8 +207,18 @@ public final class ExternalOfficeManager
               connectRetryInterval,
               connectFailFast,
               maxTasksPerConnection,
+              maxTasksPerConnectionJitter,
+              maxConcurrentReconnects,
               taskExecutionTimeout,
-              taskQueueTimeout);
+              healthCheckInterval,
+              healthCheckTimeout,
+              taskQueueTimeout,
+              tenantWeights,
+              maxTasksPerTenant,
+              maxQueuedTasks,
+              rejectOnEstimatedQueueTimeout,
+              incrementalStart);
+      manager.setTemporaryFileMaker(temporaryFileMaker);
       if (install) {
         InstalledOfficeManagerHolder.setInstance(manager);
       }
@@ -332,5 +380,99 @@ public final class ExternalOfficeManager
       }
       return this;
     }
+
+    /**
+     * Specifies the percentage by which the maximum number of tasks per connection is randomly
+     * lowered, each time a connection is established. It spreads the reconnections to the office
+     * processes over time instead of having all of them reconnecting at the same time. For example,
+     * with a maximum of 200 tasks and a jitter of 10%, each connection executes between 180 and 200
+     * tasks before reconnecting.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no jitter)
+     *
+     * @param maxTasksPerConnectionJitter The jitter, in percent (0 to 100).
+     * @return This builder instance.
+     */
+    public @NonNull Builder maxTasksPerConnectionJitter(
+        final @Nullable Integer maxTasksPerConnectionJitter) {
+
+      if (maxTasksPerConnectionJitter != null) {
+        AssertUtils.isTrue(
+            maxTasksPerConnectionJitter >= 0 && maxTasksPerConnectionJitter <= 100,
+            String.format(
+                "maxTasksPerConnectionJitter %s must be between 0 and 100",
+                maxTasksPerConnectionJitter));
+        this.maxTasksPerConnectionJitter = maxTasksPerConnectionJitter;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the maximum number of office processes of the pool that can be reconnected at the
+     * same time because they have reached the maximum number of tasks per connection. An office
+     * process reaching this maximum while too many other processes are being reconnected keeps
+     * executing tasks until it can be reconnected. 0 means no limit.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no limit)
+     *
+     * @param maxConcurrentReconnects The maximum number of concurrent reconnects.
+     * @return This builder instance.
+     */
+    public @NonNull Builder maxConcurrentReconnects(
+        final @Nullable Integer maxConcurrentReconnects) {
+
+      if (maxConcurrentReconnects != null) {
+        AssertUtils.isTrue(
+            maxConcurrentReconnects >= 0,
+            String.format(
+                "maxConcurrentReconnects %s must be greater than or equal to 0",
+                maxConcurrentReconnects));
+        this.maxConcurrentReconnects = maxConcurrentReconnects;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the time after which an idle connection is checked, by reading its product name
+     * from the office configuration. The check is executed as a task, so it never runs at the same
+     * time as a conversion. When the check fails, or does not complete within the health check
+     * timeout, the connection to the office process is re-established, instead of waiting for a
+     * conversion to reach the task execution timeout. 0 means that connections are never checked.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no health check)
+     *
+     * @param healthCheckInterval The health check interval, in milliseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder healthCheckInterval(final @Nullable Long healthCheckInterval) {
+
+      if (healthCheckInterval != null) {
+        AssertUtils.isTrue(
+            healthCheckInterval >= 0,
+            String.format(
+                "healthCheckInterval %s must be greater than or equal to 0", healthCheckInterval));
+        this.healthCheckInterval = healthCheckInterval;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the maximum time allowed to the office process to answer a health check.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 5000 (5 seconds)
+     *
+     * @param healthCheckTimeout The health check timeout, in milliseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder healthCheckTimeout(final @Nullable Long healthCheckTimeout) {
+
+      if (healthCheckTimeout != null) {
+        AssertUtils.isTrue(
+            healthCheckTimeout > 0,
+            String.format("healthCheckTimeout %s must be greater than 0", healthCheckTimeout));
+        this.healthCheckTimeout = healthCheckTimeout;
+      }
+      return this;
+    }
   }
 }
@@ -20,23 +20,34 @@
 
 package org.jodconverter.local.office;
 
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.sun.star.uno.XComponentContext;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.jodconverter.core.office.AbstractOfficeManagerPoolEntry;
 import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.core.office.RestartReason;
 import org.jodconverter.core.task.OfficeTask;
+import org.jodconverter.local.office.utils.Info;
 
 /**
  * An {@link ExternalOfficeManagerPoolEntry} is responsible to execute tasks submitted through a
  * {@link ExternalOfficeManager}. It will execute tasks and wait until the task is done or a
  * configured task execution timeout is reached.
  *
+ * <p>To prevent the entries of a pool from reconnecting at the same time, the maximum number of
+ * tasks per connection can be randomly lowered for each connection (jitter), and the entries can
+ * share a limited number of reconnect permits. An entry that reaches the maximum number of tasks
+ * while no permit is available keeps executing tasks until a permit is released.
+ *
  * @see ExternalOfficeManager
  */
 class ExternalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
@@ -46,6 +57,10 @@ class ExternalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
 
   private final boolean connectOnStart;
   private final int maxTasksPerConnection;
+  private final int maxTasksPerConnectionJitter;
+  private final Semaphore reconnectPermits;
+  private final AtomicBoolean reconnectPermitHeld = new AtomicBoolean(false);
+  private volatile int taskLimit;
   private final ExternalOfficeConnectionManager connectionManager;
   private final AtomicInteger taskCount = new AtomicInteger(0);
   private final AtomicBoolean disconnectExpected = new AtomicBoolean(false);
@@ -68,11 +83,85 @@ class ExternalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
       final int maxTasksPerConnection,
       final long taskExecutionTimeout,
       final ExternalOfficeConnectionManager connectionManager) {
-    super(taskExecutionTimeout);
+    this(connectOnStart, maxTasksPerConnection, 0, taskExecutionTimeout, connectionManager, null);
+  }
+
+  /**
+   * Creates a new pool entry for the specified office URL with the specified configuration.
+   *
+   * @param connectOnStart Should a connection be attempted on start? If {@code false}, a connection
+   *     will only be attempted the first time an {@link org.jodconverter.core.task.OfficeTask} is
+   *     executed.
+   * @param maxTasksPerConnection The maximum number of tasks an office process can execute before
+   *     restarting.
+   * @param maxTasksPerConnectionJitter The percentage by which the maximum number of tasks is
+   *     randomly lowered for each connection, so the entries of a pool do not reconnect at the same
+   *     time.
+   * @param taskExecutionTimeout The maximum time allowed to process a task. If the processing time
+   *     of a task is longer than this timeout, this task will be aborted and the next task is
+   *     processed.
+   * @param connectionManager The connection manager.
+   * @param reconnectPermits The permits, shared by the entries of a pool, limiting the number of
+   *     entries reconnecting at the same time because of the maximum number of tasks, or {@code
+   *     null} if there is no limit.
+   */
+  /* default */ ExternalOfficeManagerPoolEntry(
+      final boolean connectOnStart,
+      final int maxTasksPerConnection,
+      final int maxTasksPerConnectionJitter,
+      final long taskExecutionTimeout,
+      final ExternalOfficeConnectionManager connectionManager,
+      final @Nullable Semaphore reconnectPermits) {
+    this(
+        connectOnStart,
+        maxTasksPerConnection,
+        maxTasksPerConnectionJitter,
+        taskExecutionTimeout,
+        0L,
+        0L,
+        connectionManager,
+        reconnectPermits);
+  }
+
+  /**
+   * Creates a new pool entry for the specified office URL with the specified configuration.
+   *
+   * @param connectOnStart Should a connection be attempted on start? If {@code false}, a connection
+   *     will only be attempted the first time an {@link org.jodconverter.core.task.OfficeTask} is
+   *     executed.
+   * @param maxTasksPerConnection The maximum number of tasks an office process can execute before
+   *     restarting.
+   * @param maxTasksPerConnectionJitter The percentage by which the maximum number of tasks is
+   *     randomly lowered for each connection, so the entries of a pool do not reconnect at the same
+   *     time.
+   * @param taskExecutionTimeout The maximum time allowed to process a task. If the processing time
+   *     of a task is longer than this timeout, this task will be aborted and the next task is
+   *     processed.
+   * @param healthCheckInterval The time after which an idle connection is checked, 0 meaning that
+   *     connections are never checked.
+   * @param healthCheckTimeout The maximum time allowed to the office process to answer a check.
+   * @param connectionManager The connection manager.
+   * @param reconnectPermits The permits, shared by the entries of a pool, limiting the number of
+   *     entries reconnecting at the same time because of the maximum number of tasks, or {@code
+   *     null} if there is no limit.
+   */
+  /* default */ ExternalOfficeManagerPoolEntry(
+      final boolean connectOnStart,
+      final int maxTasksPerConnection,
+      final int maxTasksPerConnectionJitter,
+      final long taskExecutionTimeout,
+      final long healthCheckInterval,
+      final long healthCheckTimeout,
+      final ExternalOfficeConnectionManager connectionManager,
+      final @Nullable Semaphore reconnectPermits) {
+    super(taskExecutionTimeout, healthCheckInterval, healthCheckTimeout);
 
     this.connectOnStart = connectOnStart;
     this.maxTasksPerConnection = maxTasksPerConnection;
+    this.maxTasksPerConnectionJitter = maxTasksPerConnectionJitter;
     this.connectionManager = connectionManager;
+    this.reconnectPermits = reconnectPermits;
+    this.taskLimit = nextTaskLimit();
 
     // This connection event listener will be notified when a connection
     // is established or closed/lost to/from an office instance.
@@ -85,6 +174,8 @@ class ExternalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
 
             // Reset the task count and make the manager available.
             taskCount.set(0);
+            taskLimit = nextTaskLimit();
+            releaseReconnectPermit();
             setAvailable(true);
           }
 
@@ -105,6 +196,7 @@ class ExternalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
               // Here, we didn't expect this disconnection. We must reconnect
               // to the office process, canceling any task that may be running.
               LOGGER.warn("Connection lost unexpectedly; attempting reconnect");
+              notifyRestart(RestartReason.CONNECTION_LOST);
               cancelTask();
               connectionManager.reconnect();
             }
@@ -128,11 +220,51 @@ class ExternalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
     final int count = taskCount.incrementAndGet();
 
     // Now check if we must reconnect to the external process.
-    if (count == maxTasksPerConnection) {
-      LOGGER.info(
-          "Reached limit of {} maximum tasks per connection; reconnecting...",
-          maxTasksPerConnection);
-      reconnect();
+    final int limit = taskLimit;
+    if (limit > 0 && count >= limit) {
+      if (acquireReconnectPermit()) {
+        LOGGER.info("Reached limit of {} maximum tasks per connection; reconnecting...", limit);
+        notifyRestart(RestartReason.TASK_LIMIT);
+        reconnect();
+      } else {
+        LOGGER.info(
+            "Reached limit of {} maximum tasks per connection; too many entries reconnecting,"
+                + " reconnect postponed",
+            limit);
+      }
+    }
+  }
+
+  /**
+   * Computes the maximum number of tasks of the next connection, applying the jitter.
+   *
+   * @return The maximum number of tasks, 0 meaning no limit.
+   */
+  private int nextTaskLimit() {
+
+    if (maxTasksPerConnection <= 0 || maxTasksPerConnectionJitter <= 0) {
+      return maxTasksPerConnection;
+    }
+    final int range = maxTasksPerConnection * maxTasksPerConnectionJitter / 100;
+    return Math.max(1, maxTasksPerConnection - ThreadLocalRandom.current().nextInt(range + 1));
+  }
+
+  private boolean acquireReconnectPermit() {
+
+    if (reconnectPermits == null || reconnectPermitHeld.get()) {
+      return true;
+    }
+    if (reconnectPermits.tryAcquire()) {
+      reconnectPermitHeld.set(true);
+      return true;
+    }
+    return false;
+  }
+
+  private void releaseReconnectPermit() {
+
+    if (reconnectPermits != null && reconnectPermitHeld.compareAndSet(true, false)) {
+      reconnectPermits.release();
     }
   }
 
@@ -140,6 +272,29 @@ class ExternalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
   protected void handleExecuteTimeoutException(final @NonNull TimeoutException timeoutEx) {
 
     // If the task did not complete within the configured timeout, we must reconnect
+    notifyRestart(RestartReason.TASK_TIMEOUT);
+    reconnect();
+  }
+
+  @Override
+  protected void checkHealth() throws OfficeException {
+
+    // A cheap round trip to the office process.
+    final XComponentContext context = connectionManager.getConnection().getComponentContext();
+    if (context != null && Info.getOfficeName(context) == null) {
+      throw new OfficeException("Could not read the office product name");
+    }
+  }
+
+  @Override
+  protected void handleHealthCheckFailure(final @NonNull Throwable cause) {
+
+    // A lost connection is already handled by the connection event listener.
+    if (!connectionManager.getConnection().isConnected()) {
+      return;
+    }
+    LOGGER.warn("Office process health check failed; reconnecting", cause);
+    notifyRestart(RestartReason.HEALTH_CHECK);
     reconnect();
   }
 
@@ -167,6 +322,7 @@ class ExternalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
     disconnectExpected.set(true);
 
     connectionManager.disconnect();
+    releaseReconnectPermit();
   }
 
   private void reconnect() {
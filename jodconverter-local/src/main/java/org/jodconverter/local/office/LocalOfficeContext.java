@@ -62,4 +62,14 @@ public interface LocalOfficeContext extends OfficeContext {
    */
   @Nullable
   XDesktop getDesktop();
+
+  /**
+   * Gets the connection part of the UNO URL of the office process of this context (for example
+   * {@code socket,host=127.0.0.1,port=2002}).
+   *
+   * @return The connection string, or {@code null} if unknown.
+   */
+  default @Nullable String getConnectString() {
+    return null;
+  }
 }
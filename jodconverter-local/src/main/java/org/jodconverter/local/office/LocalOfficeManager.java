@@ -21,10 +21,21 @@
 package org.jodconverter.local.office;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -67,8 +78,18 @@ public final class LocalOfficeManager
   public static final boolean DEFAULT_START_FAIL_FAST = false;
   // The default "keep process alive" behavior on shutdown.
   public static final boolean DEFAULT_KEEP_ALIVE_ON_SHUTDOWN = false;
+  // The default behavior regarding the cache of an initialized office profile.
+  public static final boolean DEFAULT_CACHE_PROFILE = false;
+  // The default behavior regarding the throughput-oriented settings of the office profile.
+  public static final boolean DEFAULT_PERFORMANCE_PROFILE = false;
   // The default maximum number of tasks an office process can execute before restarting.
   public static final int DEFAULT_MAX_TASKS_PER_PROCESS = 200;
+  // The default maximum resident memory, in megabytes, an office process can use before restarting.
+  public static final long DEFAULT_MAX_PROCESS_MEMORY = 0L; // No limit.
+  // The default jitter, in percent, applied to the maximum number of tasks per process.
+  public static final int DEFAULT_MAX_TASKS_PER_PROCESS_JITTER = 0; // No jitter.
+  // The default maximum number of office processes restarting at the same time.
+  public static final int DEFAULT_MAX_CONCURRENT_RESTARTS = 0; // No limit.
   // The minimum value for the delay between each try when executing a process call
   // (start/terminate).
   public static final long MIN_PROCESS_RETRY_INTERVAL = 0L; // No delay.
@@ -79,6 +100,37 @@ public final class LocalOfficeManager
   public static final long MIN_AFTER_START_PROCESS_DELAY = 0L; // No delay.
   // The maximum value for the delay after a start process attempt.
   public static final long MAX_AFTER_START_PROCESS_DELAY = 10_000L; // 10 sec.
+  // The default maximum number of office processes (0 means that the pool size is fixed).
+  public static final int DEFAULT_MAX_POOL_SIZE = 0; // Fixed pool size.
+  // The default time after which an idle office process of an elastic pool is stopped.
+  public static final long DEFAULT_PROCESS_IDLE_TIMEOUT = 300_000L; // 5 minutes
+  // The default time a task must wait in the queue before an elastic pool starts a new process.
+  public static final long DEFAULT_POOL_GROWTH_DELAY = 2_000L; // 2 seconds
+  // The default behavior regarding a standby office process replacing a recycled process.
+  public static final boolean DEFAULT_STANDBY_PROCESS = false;
+  // The default time after which an idle office process is checked.
+  public static final long DEFAULT_HEALTH_CHECK_INTERVAL = 0L; // No health check.
+  // The default maximum time allowed to an office process to answer a health check.
+  public static final long DEFAULT_HEALTH_CHECK_TIMEOUT = 5_000L; // 5 seconds
+  // The default time an office process can consume no CPU time while executing a task.
+  public static final long DEFAULT_TASK_STALL_TIMEOUT = 0L; // No stall detection.
+
+  private static final int MAX_PORT = 65_535;
+
+  private final Function<OfficeUrl, LocalOfficeProcessManager> processManagerFactory;
+  private final List<OfficeProcessListener> processListeners = new CopyOnWriteArrayList<>();
+  private final int maxTasksPerProcess;
+  private final int maxTasksPerProcessJitter;
+  private final long maxProcessMemory;
+  private final Semaphore restartPermits;
+  private final long taskExecutionTimeout;
+  private final long taskStallTimeout;
+  private final long healthCheckInterval;
+  private final long healthCheckTimeout;
+  private final boolean standbyProcess;
+  private final String hostName;
+  private final String pipeName;
+  private final int basePort;
 
   /**
    * Creates a new builder instance.
@@ -111,46 +163,209 @@ public final class LocalOfficeManager
     return builder().install().build();
   }
 
+  // The settings resolved by the builder, and those held by the base builder which are not
+  // accessible from here, are given along with the builder.
   private LocalOfficeManager(
+      final Builder builder,
       final List<OfficeUrl> officeUrls,
-      final File officeHome,
+      final Map<String, String> profileSettings,
+      final int minPoolSize,
       final File workingDir,
-      final ProcessManager processManager,
-      final List<String> runAsArgs,
-      final File templateProfileDir,
-      final long processTimeout,
-      final long processRetryInterval,
-      final long afterStartProcessDelay,
-      final ExistingProcessAction existingProcessAction,
-      final boolean startFailFast,
-      final boolean keepAliveOnShutdown,
-      final int maxTasksPerProcess,
-      final long taskExecutionTimeout,
-      final long taskQueueTimeout) {
-    super(officeUrls.size(), workingDir, taskQueueTimeout);
+      final long taskExecutionTimeout) {
+    super(Math.max(officeUrls.size(), builder.maxPoolSize), builder);
 
+    this.hostName = builder.hostName;
+    this.pipeName =
+        builder.pipeNames == null || builder.pipeNames.isEmpty() ? null : builder.pipeNames.get(0);
+    this.basePort =
+        builder.portNumbers == null || builder.portNumbers.isEmpty()
+            ? LocalOfficeUtils.DEFAULT_PORT
+            : Collections.max(builder.portNumbers);
+    this.maxTasksPerProcess = builder.maxTasksPerProcess;
+    this.maxTasksPerProcessJitter = builder.maxTasksPerProcessJitter;
+    // The permits are shared by all the entries of the pool.
+    this.restartPermits =
+        builder.maxConcurrentRestarts > 0 ? new Semaphore(builder.maxConcurrentRestarts) : null;
+    this.maxProcessMemory = builder.maxProcessMemory * 1024L * 1024L;
+    this.taskExecutionTimeout = taskExecutionTimeout;
+    this.taskStallTimeout = builder.taskStallTimeout;
+    this.healthCheckInterval = builder.healthCheckInterval;
+    this.healthCheckTimeout = builder.healthCheckTimeout;
+    // A standby process is useless if the office processes are never recycled.
+    this.standbyProcess =
+        builder.standbyProcess && (maxTasksPerProcess > 0 || maxProcessMemory > 0L);
+
+    // The settings of the builder are copied since the builder may be reused.
+    final File officeHome = builder.officeHome;
+    final ProcessManager processManager = builder.processManager;
+    final List<String> runAsArgs = builder.runAsArgs;
+    final File templateProfileDir = builder.templateProfileDir;
+    final long processTimeout = builder.processTimeout;
+    final long processRetryInterval = builder.processRetryInterval;
+    final long afterStartProcessDelay = builder.afterStartProcessDelay;
+    final ExistingProcessAction existingProcessAction = builder.existingProcessAction;
+    final boolean startFailFast = builder.startFailFast;
+    final boolean keepAliveOnShutdown = builder.keepAliveOnShutdown;
+    final boolean cacheProfile = builder.cacheProfile;
+    this.processManagerFactory =
+        officeUrl ->
+            new LocalOfficeProcessManager(
+                officeUrl,
+                officeHome,
+                workingDir,
+                processManager,
+                runAsArgs,
+                templateProfileDir,
+                processTimeout,
+                processRetryInterval,
+                afterStartProcessDelay,
+                existingProcessAction,
+                startFailFast,
+                keepAliveOnShutdown,
+                cacheProfile,
+                profileSettings,
+                new OfficeConnection(officeUrl));
+
+    // The configured URLs are reserved before allocating the URLs of the standby processes.
+    final Set<String> usedUrls =
+        officeUrls.stream().map(OfficeUrl::getConnectString).collect(Collectors.toSet());
     setEntries(
         officeUrls.stream()
-            .map(
-                officeUrl ->
-                    new LocalOfficeManagerPoolEntry(
-                        maxTasksPerProcess,
-                        taskExecutionTimeout,
-                        new LocalOfficeProcessManager(
-                            officeUrl,
-                            officeHome,
-                            workingDir,
-                            processManager,
-                            runAsArgs,
-                            templateProfileDir,
-                            processTimeout,
-                            processRetryInterval,
-                            afterStartProcessDelay,
-                            existingProcessAction,
-                            startFailFast,
-                            keepAliveOnShutdown,
-                            new OfficeConnection(officeUrl))))
+            .map(officeUrl -> newEntry(officeUrl, usedUrls))
             .collect(Collectors.toList()));
+
+    if (builder.maxPoolSize > 0) {
+      // Start with at least the minimum number of office processes.
+      for (int i = officeUrls.size(); i < minPoolSize; i++) {
+        final LocalOfficeManagerPoolEntry entry = createEntry();
+        if (entry != null) {
+          final List<LocalOfficeManagerPoolEntry> entries = new ArrayList<>(getEntries());
+          entries.add(entry);
+          setEntries(entries);
+        }
+      }
+      setElasticity(
+          minPoolSize, builder.maxPoolSize, builder.processIdleTimeout, builder.poolGrowthDelay);
+    }
+  }
+
+  /**
+   * Registers a listener notified of the lifecycle of the office processes managed by this manager.
+   *
+   * @param listener The listener to add.
+   */
+  public void addProcessListener(final @NonNull OfficeProcessListener listener) {
+    processListeners.add(listener);
+  }
+
+  /**
+   * Unregisters a listener previously added using {@link
+   * #addProcessListener(OfficeProcessListener)}.
+   *
+   * @param listener The listener to remove.
+   */
+  public void removeProcessListener(final @NonNull OfficeProcessListener listener) {
+    processListeners.remove(listener);
+  }
+
+  @Override
+  protected @Nullable LocalOfficeManagerPoolEntry createEntry() {
+
+    final Set<String> usedUrls =
+        getEntries().stream()
+            .flatMap(entry -> entry.getOfficeUrls().stream())
+            .map(OfficeUrl::getConnectString)
+            .collect(Collectors.toSet());
+    final OfficeUrl officeUrl = nextOfficeUrl(usedUrls);
+    if (officeUrl == null) {
+      return null;
+    }
+    LOGGER.debug("Creating a new office process for URL {}", officeUrl);
+    return newEntry(officeUrl, usedUrls);
+  }
+
+  /**
+   * Creates a new entry for the specified office URL. When standby processes are enabled, a URL is
+   * also allocated for the standby office process of the entry.
+   *
+   * @param officeUrl The URL of the office process of the entry.
+   * @param usedUrls The connection strings of the URLs already in use, updated with the URLs of the
+   *     new entry.
+   * @return The new entry.
+   */
+  private LocalOfficeManagerPoolEntry newEntry(
+      final OfficeUrl officeUrl, final Set<String> usedUrls) {
+
+    usedUrls.add(officeUrl.getConnectString());
+    LocalOfficeProcessManager standbyProcessManager = null;
+    if (standbyProcess) {
+      final OfficeUrl standbyUrl = nextOfficeUrl(usedUrls);
+      if (standbyUrl == null) {
+        LOGGER.warn("No URL available for the standby process of {}", officeUrl);
+      } else {
+        usedUrls.add(standbyUrl.getConnectString());
+        standbyProcessManager = newProcessManager(standbyUrl);
+      }
+    }
+    return new LocalOfficeManagerPoolEntry(
+        maxTasksPerProcess,
+        maxTasksPerProcessJitter,
+        maxProcessMemory,
+        taskExecutionTimeout,
+        taskStallTimeout,
+        healthCheckInterval,
+        healthCheckTimeout,
+        newProcessManager(officeUrl),
+        standbyProcessManager,
+        restartPermits);
+  }
+
+  private LocalOfficeProcessManager newProcessManager(final OfficeUrl officeUrl) {
+
+    final LocalOfficeProcessManager processManager = processManagerFactory.apply(officeUrl);
+    processManager.setProcessListeners(processListeners);
+    return processManager;
+  }
+
+  /**
+   * Allocates an office URL that is not in use. A new pipe name is derived from the first
+   * configured pipe name, if any. Otherwise, the first free port above the highest configured port
+   * number is used.
+   *
+   * @param usedUrls The connection strings of the URLs already in use.
+   * @return The office URL, or {@code null} if no port is available.
+   */
+  private @Nullable OfficeUrl nextOfficeUrl(final Set<String> usedUrls) {
+
+    if (pipeName != null) {
+      for (int i = 1; ; i++) {
+        final OfficeUrl officeUrl = new OfficeUrl(pipeName + "_" + i);
+        if (!usedUrls.contains(officeUrl.getConnectString())) {
+          return officeUrl;
+        }
+      }
+    }
+
+    for (int port = basePort + 1; port <= MAX_PORT; port++) {
+      final OfficeUrl officeUrl = new OfficeUrl(hostName, port);
+      if (!usedUrls.contains(officeUrl.getConnectString()) && isPortAvailable(port)) {
+        return officeUrl;
+      }
+    }
+    return null;
+  }
+
+  private boolean isPortAvailable(final int port) {
+
+    try (ServerSocket socket = new ServerSocket()) {
+      // Like office, ignore the connections of a previous process still in TIME_WAIT.
+      socket.setReuseAddress(true);
+      socket.bind(new InetSocketAddress(InetAddress.getByName(hostName), port), 1);
+      return true;
+    } catch (IOException ex) {
+      LOGGER.debug("Port {} is not available", port);
+      return false;
+    }
   }
 
   /**
@@ -174,7 +389,21 @@ public final class LocalOfficeManager
     private ExistingProcessAction existingProcessAction = DEFAULT_EXISTING_PROCESS_ACTION;
     private boolean startFailFast = DEFAULT_START_FAIL_FAST;
     private boolean keepAliveOnShutdown = DEFAULT_KEEP_ALIVE_ON_SHUTDOWN;
+    private boolean cacheProfile = DEFAULT_CACHE_PROFILE;
+    private boolean performanceProfile = DEFAULT_PERFORMANCE_PROFILE;
+    private Map<String, String> profileSettings;
     private int maxTasksPerProcess = DEFAULT_MAX_TASKS_PER_PROCESS;
+    private long maxProcessMemory = DEFAULT_MAX_PROCESS_MEMORY;
+    private int maxTasksPerProcessJitter = DEFAULT_MAX_TASKS_PER_PROCESS_JITTER;
+    private int maxConcurrentRestarts = DEFAULT_MAX_CONCURRENT_RESTARTS;
+    private Integer minPoolSize;
+    private int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+    private long processIdleTimeout = DEFAULT_PROCESS_IDLE_TIMEOUT;
+    private long poolGrowthDelay = DEFAULT_POOL_GROWTH_DELAY;
+    private boolean standbyProcess = DEFAULT_STANDBY_PROCESS;
+    private long healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+    private long healthCheckTimeout = DEFAULT_HEALTH_CHECK_TIMEOUT;
+    private long taskStallTimeout = DEFAULT_TASK_STALL_TIMEOUT;
 
     // Private constructor so only LocalOfficeManager can initialize an instance of this builder.
     private Builder() {
@@ -212,24 +441,38 @@ public final class LocalOfficeManager
         LocalOfficeUtils.validateOfficeTemplateProfileDirectory(templateProfileDir);
       }
 
+      // Build the settings of the instance profiles, the given settings overriding the curated
+      // ones.
+      final Map<String, String> settings = new LinkedHashMap<>();
+      if (performanceProfile) {
+        settings.putAll(OfficeProfileSettings.PERFORMANCE_SETTINGS);
+      }
+      if (profileSettings != null) {
+        settings.putAll(profileSettings);
+      }
+
+      // Validate the elasticity settings against the configured office URLs
+      final int officeUrlCount =
+          LocalOfficeUtils.buildOfficeUrls(hostName, portNumbers, pipeNames, null).size();
+      if (maxPoolSize > 0) {
+        AssertUtils.isTrue(
+            maxPoolSize >= Math.max(officeUrlCount, minPoolSize == null ? 0 : minPoolSize),
+            String.format(
+                "maxPoolSize %s must be greater than or equal to the number of office URLs and to"
+                    + " minPoolSize",
+                maxPoolSize));
+      }
+
       // Build the office URLs
       final LocalOfficeManager manager =
           new LocalOfficeManager(
+              this,
               LocalOfficeUtils.buildOfficeUrls(hostName, portNumbers, pipeNames, null),
-              officeHome,
+              Collections.unmodifiableMap(settings),
+              minPoolSize == null ? officeUrlCount : minPoolSize,
               workingDir,
-              processManager,
-              runAsArgs,
-              templateProfileDir,
-              processTimeout,
-              processRetryInterval,
-              afterStartProcessDelay,
-              existingProcessAction,
-              startFailFast,
-              keepAliveOnShutdown,
-              maxTasksPerProcess,
-              taskExecutionTimeout,
-              taskQueueTimeout);
+              taskExecutionTimeout);
+      manager.setTemporaryFileMaker(temporaryFileMaker);
       if (install) {
         InstalledOfficeManagerHolder.setInstance(manager);
       }
@@ -573,6 +816,75 @@ public final class LocalOfficeManager
       return this;
     }
 
+    /**
+     * Controls whether the office profile is created only once. If set to {@code true}, a fully
+     * initialized office profile is created on the first start of an office process and cached in
+     * the working directory, keyed by the office installation. The profile directory of each office
+     * process is then cloned from this cached profile (using hard links when supported), which is
+     * much faster than letting office create a new profile. This is only supported by LibreOffice.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: false
+     *
+     * @param cacheProfile {@code true} to clone the profile from a cached profile, {@code false}
+     *     otherwise.
+     * @return This builder instance.
+     */
+    public @NonNull Builder cacheProfile(final @Nullable Boolean cacheProfile) {
+
+      if (cacheProfile != null) {
+        this.cacheProfile = cacheProfile;
+      }
+      return this;
+    }
+
+    /**
+     * Controls whether a curated set of throughput-oriented settings is written into the profile of
+     * each office process: document recovery, autosave, recent documents tracking and online update
+     * checks are disabled and the graphic cache is enlarged. These settings can be overridden using
+     * {@link #profileSettings(Map)}.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: false
+     *
+     * @param performanceProfile {@code true} to write the throughput-oriented settings, {@code
+     *     false} otherwise.
+     * @return This builder instance.
+     */
+    public @NonNull Builder performanceProfile(final @Nullable Boolean performanceProfile) {
+
+      if (performanceProfile != null) {
+        this.performanceProfile = performanceProfile;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies configuration settings to write into the {@code registrymodifications.xcu} file of
+     * the profile of each office process. A setting is identified by the absolute path of the
+     * configuration property, for instance {@code
+     * /org.openoffice.Office.Recovery/AutoSave/Enabled}.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: No settings
+     *
+     * @param profileSettings The setting values, by property path.
+     * @return This builder instance.
+     */
+    public @NonNull Builder profileSettings(
+        final @Nullable Map<@NonNull String, @NonNull String> profileSettings) {
+
+      if (profileSettings != null) {
+        profileSettings.forEach(
+            (key, value) -> {
+              AssertUtils.isTrue(
+                  OfficeProfileSettings.isValidKey(key),
+                  String.format("profile setting %s must be an absolute property path", key));
+              AssertUtils.notNull(
+                  value, String.format("value of profile setting %s must not be null", key));
+            });
+        this.profileSettings = new LinkedHashMap<>(profileSettings);
+      }
+      return this;
+    }
+
     /**
      * Specifies the maximum number of tasks an office process can execute before restarting. 0
      * means an infinite number of tasks (will never restart).
@@ -593,5 +905,255 @@ public final class LocalOfficeManager
       }
       return this;
     }
+
+    /**
+     * Specifies the percentage by which the maximum number of tasks per process is randomly
+     * lowered, each time an office process is started. It spreads the restarts of the office
+     * processes over time instead of having all of them restarting at the same time. For example,
+     * with a maximum of 200 tasks and a jitter of 10%, each office process executes between 180 and
+     * 200 tasks before restarting.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no jitter)
+     *
+     * @param maxTasksPerProcessJitter The jitter, in percent (0 to 100).
+     * @return This builder instance.
+     */
+    public @NonNull Builder maxTasksPerProcessJitter(
+        final @Nullable Integer maxTasksPerProcessJitter) {
+
+      if (maxTasksPerProcessJitter != null) {
+        AssertUtils.isTrue(
+            maxTasksPerProcessJitter >= 0 && maxTasksPerProcessJitter <= 100,
+            String.format(
+                "maxTasksPerProcessJitter %s must be between 0 and 100", maxTasksPerProcessJitter));
+        this.maxTasksPerProcessJitter = maxTasksPerProcessJitter;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the maximum number of office processes of the pool that can be restarted at the
+     * same time because they have reached the maximum number of tasks per process. An office
+     * process reaching this maximum while too many other processes are being restarted keeps
+     * executing tasks until it can be restarted. 0 means no limit.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no limit)
+     *
+     * @param maxConcurrentRestarts The maximum number of concurrent restarts.
+     * @return This builder instance.
+     */
+    public @NonNull Builder maxConcurrentRestarts(final @Nullable Integer maxConcurrentRestarts) {
+
+      if (maxConcurrentRestarts != null) {
+        AssertUtils.isTrue(
+            maxConcurrentRestarts >= 0,
+            String.format(
+                "maxConcurrentRestarts %s must be greater than or equal to 0",
+                maxConcurrentRestarts));
+        this.maxConcurrentRestarts = maxConcurrentRestarts;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the maximum resident memory (RSS), in megabytes, an office process can use before
+     * restarting. The memory of the office process is sampled after each task, and the process is
+     * restarted as soon as it exceeds this limit, whether the maximum number of tasks per process
+     * is reached or not. The memory is read from the {@code /proc} file system, and thus, this
+     * limit is ignored on other operating systems than Linux. 0 means no limit.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no limit)
+     *
+     * @param maxProcessMemory The maximum process memory, in megabytes.
+     * @return This builder instance.
+     */
+    public @NonNull Builder maxProcessMemory(final @Nullable Long maxProcessMemory) {
+
+      if (maxProcessMemory != null) {
+        AssertUtils.isTrue(
+            maxProcessMemory >= 0L,
+            String.format(
+                "maxProcessMemory %s must be greater than or equal to 0", maxProcessMemory));
+        this.maxProcessMemory = maxProcessMemory;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies whether a standby office process, using its own pipe name or port number and
+     * profile directory, is started in the background shortly before an office process reaches the
+     * maximum number of tasks per process, or the maximum process memory. The standby process then
+     * replaces the recycled process, which is stopped in the background, so recycling an office
+     * process does not make it unavailable. Each office process of the pool temporarily uses twice
+     * the resources while its standby process runs. Ignored when the office processes are never
+     * recycled.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: false
+     *
+     * @param standbyProcess {@code true} to use standby processes, {@code false} to restart the
+     *     office processes when they reach the maximum number of tasks.
+     * @return This builder instance.
+     */
+    public @NonNull Builder standbyProcess(final @Nullable Boolean standbyProcess) {
+
+      if (standbyProcess != null) {
+        this.standbyProcess = standbyProcess;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the time after which an idle office process is checked, by reading its product name
+     * from the office configuration. The check is executed as a task, so it never runs at the same
+     * time as a conversion. When the check fails, or does not complete within the health check
+     * timeout, the office process is restarted, instead of waiting for a conversion to reach the
+     * task execution timeout. 0 means that office processes are never checked.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no health check)
+     *
+     * @param healthCheckInterval The health check interval, in milliseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder healthCheckInterval(final @Nullable Long healthCheckInterval) {
+
+      if (healthCheckInterval != null) {
+        AssertUtils.isTrue(
+            healthCheckInterval >= 0,
+            String.format(
+                "healthCheckInterval %s must be greater than or equal to 0", healthCheckInterval));
+        this.healthCheckInterval = healthCheckInterval;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the maximum time allowed to the office process to answer a health check.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 5000 (5 seconds)
+     *
+     * @param healthCheckTimeout The health check timeout, in milliseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder healthCheckTimeout(final @Nullable Long healthCheckTimeout) {
+
+      if (healthCheckTimeout != null) {
+        AssertUtils.isTrue(
+            healthCheckTimeout > 0,
+            String.format("healthCheckTimeout %s must be greater than 0", healthCheckTimeout));
+        this.healthCheckTimeout = healthCheckTimeout;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the maximum time an office process can consume no CPU time while executing a task.
+     * The CPU time of the office process is sampled while a task is running, and a stuck task (for
+     * instance, a deadlocked office process) is aborted and the office process restarted as soon as
+     * this timeout is reached, so the task execution timeout can be kept high enough for the
+     * biggest documents. The CPU time is read from the {@code /proc} file system, and thus, this
+     * timeout is ignored on other operating systems than Linux. Keep in mind that an office process
+     * waiting for a remote resource (linked images, etc.) does not consume CPU time either. 0 means
+     * that the CPU time is never sampled.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (no stall detection)
+     *
+     * @param taskStallTimeout The task stall timeout, in milliseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder taskStallTimeout(final @Nullable Long taskStallTimeout) {
+
+      if (taskStallTimeout != null) {
+        AssertUtils.isTrue(
+            taskStallTimeout >= 0,
+            String.format(
+                "taskStallTimeout %s must be greater than or equal to 0", taskStallTimeout));
+        this.taskStallTimeout = taskStallTimeout;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the maximum number of office processes. When greater than 0, the pool is elastic:
+     * new office processes, using pipe names or port numbers allocated on the fly, are started when
+     * tasks wait in the queue for more than the pool growth delay, and office processes that have
+     * been idle for the process idle timeout are stopped, down to the minimum pool size. 0 means
+     * that the pool size is fixed by the configured port numbers/pipe names.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 0 (fixed pool size)
+     *
+     * @param maxPoolSize The maximum number of office processes.
+     * @return This builder instance.
+     */
+    public @NonNull Builder maxPoolSize(final @Nullable Integer maxPoolSize) {
+
+      if (maxPoolSize != null) {
+        AssertUtils.isTrue(
+            maxPoolSize >= 0,
+            String.format("maxPoolSize %s must greater than or equal to 0", maxPoolSize));
+        this.maxPoolSize = maxPoolSize;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the minimum number of office processes of an elastic pool (see {@link
+     * #maxPoolSize(Integer)}). This setting is ignored if the pool size is fixed.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: The number of configured port numbers/pipe names
+     *
+     * @param minPoolSize The minimum number of office processes.
+     * @return This builder instance.
+     */
+    public @NonNull Builder minPoolSize(final @Nullable Integer minPoolSize) {
+
+      if (minPoolSize != null) {
+        AssertUtils.isTrue(
+            minPoolSize > 0, String.format("minPoolSize %s must greater than 0", minPoolSize));
+        this.minPoolSize = minPoolSize;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the time after which an office process of an elastic pool that has not executed any
+     * task is stopped (see {@link #maxPoolSize(Integer)}). This setting is ignored if the pool size
+     * is fixed.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 300000 (5 minutes)
+     *
+     * @param processIdleTimeout The process idle timeout, in milliseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder processIdleTimeout(final @Nullable Long processIdleTimeout) {
+
+      if (processIdleTimeout != null) {
+        AssertUtils.isTrue(
+            processIdleTimeout > 0,
+            String.format("processIdleTimeout %s must greater than 0", processIdleTimeout));
+        this.processIdleTimeout = processIdleTimeout;
+      }
+      return this;
+    }
+
+    /**
+     * Specifies the time a task must wait in the queue before an elastic pool starts a new office
+     * process (see {@link #maxPoolSize(Integer)}). This setting is ignored if the pool size is
+     * fixed.
+     *
+     * <p>&nbsp; <b><i>Default</i></b>: 2000 (2 seconds)
+     *
+     * @param poolGrowthDelay The pool growth delay, in milliseconds.
+     * @return This builder instance.
+     */
+    public @NonNull Builder poolGrowthDelay(final @Nullable Long poolGrowthDelay) {
+
+      if (poolGrowthDelay != null) {
+        AssertUtils.isTrue(
+            poolGrowthDelay >= 0,
+            String.format("poolGrowthDelay %s must greater than or equal to 0", poolGrowthDelay));
+        this.poolGrowthDelay = poolGrowthDelay;
+      }
+      return this;
+    }
   }
 }
@@ -20,18 +20,27 @@
 
 package org.jodconverter.local.office;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.sun.star.uno.XComponentContext;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.jodconverter.core.office.AbstractOfficeManagerPoolEntry;
 import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.core.office.RestartReason;
 import org.jodconverter.core.task.OfficeTask;
+import org.jodconverter.local.office.utils.Info;
 import org.jodconverter.local.task.PasswordProtectedExceptionSupportTask;
 
 /**
@@ -41,7 +50,21 @@ import org.jodconverter.local.task.PasswordProtectedExceptionSupportTask;
  * is reached.
  *
  * <p>An {@link LocalOfficeManagerPoolEntry} is also responsible to restart an office process when
- * the maximum number of tasks per process is reached.
+ * the maximum number of tasks per process is reached, or when the resident memory of the office
+ * process, sampled after each task, exceeds the maximum process memory. When a standby process
+ * manager is provided, the standby office process is started in the background shortly before the
+ * limit is reached and takes over as soon as the limit is reached, the previous office process
+ * being stopped in the background. This way, the entry remains available while the office process
+ * is recycled.
+ *
+ * <p>To prevent the entries of a pool from restarting at the same time, the maximum number of tasks
+ * per process can be randomly lowered for each office process (jitter), and the entries can share a
+ * limited number of restart permits. An entry that reaches the maximum number of tasks while no
+ * permit is available keeps executing tasks until a permit is released.
+ *
+ * <p>When a task stall timeout is configured, the CPU time of the office process is sampled while a
+ * task is running, and the office process is restarted as soon as it did not consume any CPU time
+ * for that timeout, instead of waiting for the task execution timeout.
  *
  * @see org.jodconverter.local.office.LocalOfficeManager
  * @see LocalOfficeProcessManager
@@ -50,10 +73,22 @@ class LocalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LocalOfficeManagerPoolEntry.class);
 
+  // The standby process is started once the memory of the current process reaches this ratio
+  // of the maximum process memory.
+  private static final double STANDBY_START_MEMORY_RATIO = 0.9D;
+
   private final int maxTasksPerProcess;
-  private final LocalOfficeProcessManager officeProcessManager;
+  private final int maxTasksPerProcessJitter;
+  private final long maxProcessMemory;
+  private final Semaphore restartPermits;
+  private final AtomicBoolean restartPermitHeld = new AtomicBoolean(false);
+  private volatile int taskLimit;
+  private volatile LocalOfficeProcessManager officeProcessManager;
+  private volatile LocalOfficeProcessManager standbyProcessManager;
   private final AtomicInteger taskCount = new AtomicInteger(0);
   private final AtomicBoolean disconnectExpected = new AtomicBoolean(false);
+  private final AtomicBoolean processKilled = new AtomicBoolean(false);
+  private final AtomicBoolean standbyRequested = new AtomicBoolean(false);
   private final AtomicReference<PasswordProtectedExceptionSupportTask>
       passwordProtectedExceptionSupportTask = new AtomicReference<>();
 
@@ -71,67 +106,202 @@ class LocalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
       final int maxTasksPerProcess,
       final long taskExecutionTimeout,
       final LocalOfficeProcessManager officeProcessManager) {
-    super(taskExecutionTimeout);
+    this(maxTasksPerProcess, 0, 0L, taskExecutionTimeout, officeProcessManager, null, null);
+  }
+
+  /**
+   * Creates a new pool entry for the specified office URL with the specified configuration.
+   *
+   * @param maxTasksPerProcess The maximum number of tasks an office process can execute before
+   *     restarting, 0 meaning no limit.
+   * @param maxTasksPerProcessJitter The percentage by which the maximum number of tasks is randomly
+   *     lowered for each office process, so the entries of a pool do not restart at the same time.
+   * @param maxProcessMemory The maximum resident memory, in bytes, an office process can use before
+   *     restarting, 0 meaning no limit.
+   * @param taskExecutionTimeout The maximum time allowed to process a task. If the processing time
+   *     of a task is longer than this timeout, this task will be aborted and the next task is
+   *     processed.
+   * @param officeProcessManager The office process manager.
+   * @param standbyProcessManager The manager of the office process that will replace the current
+   *     one when the maximum number of tasks per process is reached, or {@code null} to restart the
+   *     current office process instead.
+   * @param restartPermits The permits, shared by the entries of a pool, limiting the number of
+   *     office processes restarting at the same time because of the maximum number of tasks, or
+   *     {@code null} if there is no limit.
+   */
+  /* default */ LocalOfficeManagerPoolEntry(
+      final int maxTasksPerProcess,
+      final int maxTasksPerProcessJitter,
+      final long maxProcessMemory,
+      final long taskExecutionTimeout,
+      final LocalOfficeProcessManager officeProcessManager,
+      final @Nullable LocalOfficeProcessManager standbyProcessManager,
+      final @Nullable Semaphore restartPermits) {
+    this(
+        maxTasksPerProcess,
+        maxTasksPerProcessJitter,
+        maxProcessMemory,
+        taskExecutionTimeout,
+        0L,
+        0L,
+        0L,
+        officeProcessManager,
+        standbyProcessManager,
+        restartPermits);
+  }
+
+  /**
+   * Creates a new pool entry for the specified office URL with the specified configuration.
+   *
+   * @param maxTasksPerProcess The maximum number of tasks an office process can execute before
+   *     restarting, 0 meaning no limit.
+   * @param maxTasksPerProcessJitter The percentage by which the maximum number of tasks is randomly
+   *     lowered for each office process, so the entries of a pool do not restart at the same time.
+   * @param maxProcessMemory The maximum resident memory, in bytes, an office process can use before
+   *     restarting, 0 meaning no limit.
+   * @param taskExecutionTimeout The maximum time allowed to process a task. If the processing time
+   *     of a task is longer than this timeout, this task will be aborted and the next task is
+   *     processed.
+   * @param taskStallTimeout The maximum time the office process can consume no CPU time while
+   *     executing a task before being restarted, 0 meaning that the CPU time is never sampled.
+   * @param healthCheckInterval The time after which an idle office process is checked, 0 meaning
+   *     that office processes are never checked.
+   * @param healthCheckTimeout The maximum time allowed to an office process to answer a check.
+   * @param officeProcessManager The office process manager.
+   * @param standbyProcessManager The manager of the office process that will replace the current
+   *     one when the maximum number of tasks per process is reached, or {@code null} to restart the
+   *     current office process instead.
+   * @param restartPermits The permits, shared by the entries of a pool, limiting the number of
+   *     office processes restarting at the same time because of the maximum number of tasks, or
+   *     {@code null} if there is no limit.
+   */
+  /* default */ LocalOfficeManagerPoolEntry(
+      final int maxTasksPerProcess,
+      final int maxTasksPerProcessJitter,
+      final long maxProcessMemory,
+      final long taskExecutionTimeout,
+      final long taskStallTimeout,
+      final long healthCheckInterval,
+      final long healthCheckTimeout,
+      final LocalOfficeProcessManager officeProcessManager,
+      final @Nullable LocalOfficeProcessManager standbyProcessManager,
+      final @Nullable Semaphore restartPermits) {
+    super(taskExecutionTimeout, taskStallTimeout, healthCheckInterval, healthCheckTimeout);
 
     this.officeProcessManager = officeProcessManager;
+    this.standbyProcessManager = standbyProcessManager;
     this.maxTasksPerProcess = maxTasksPerProcess;
+    this.maxTasksPerProcessJitter = maxTasksPerProcessJitter;
+    this.maxProcessMemory = maxProcessMemory;
+    this.restartPermits = restartPermits;
+    this.taskLimit = nextTaskLimit();
+
+    // Listen to any connection events to the office instances.
+    officeProcessManager
+        .getConnection()
+        .addConnectionEventListener(createConnectionEventListener(officeProcessManager));
+    officeProcessManager.setRestartFailureListener(
+        createRestartFailureListener(officeProcessManager));
+    if (standbyProcessManager != null) {
+      standbyProcessManager
+          .getConnection()
+          .addConnectionEventListener(createConnectionEventListener(standbyProcessManager));
+      standbyProcessManager.setRestartFailureListener(
+          createRestartFailureListener(standbyProcessManager));
+    }
+  }
 
-    // This connection event listener will be notified when a connection is established or
-    // closed/lost to/from an office instance.
-    final OfficeConnectionEventListener connectionEventListener =
-        new OfficeConnectionEventListener() {
+  private Runnable createRestartFailureListener(final LocalOfficeProcessManager owner) {
 
-          // A connection is established.
-          @Override
-          public void connected(final OfficeConnectionEvent event) {
+    // The restarted office process will never connect, so the restart permit
+    // must be released here to let the other entries of the pool restart.
+    return () -> {
+      if (owner == officeProcessManager) {
+        releaseRestartPermit();
+      }
+    };
+  }
 
-            // Reset the task count and make the manager available.
-            taskCount.set(0);
-            setAvailable(true);
-          }
+  private OfficeConnectionEventListener createConnectionEventListener(
+      final LocalOfficeProcessManager owner) {
 
-          // A connection is closed/lost.
-          @Override
-          public void disconnected(final OfficeConnectionEvent event) {
-
-            // Make the manager unavailable.
-            setAvailable(false);
-
-            // When it comes from an expected behavior (we have put
-            // the field to true before calling a function), just reset
-            // the disconnectExpected value to false. When we didn't expect
-            // the disconnection, we must restart the office process, which
-            // will cancel any task that may be running.
-            if (!disconnectExpected.compareAndSet(true, false)) {
-
-              // We have to check here for password protection for LibreOffice 24+ since
-              // a password interaction causes a disconnection when the password is not
-              // provided.
-              // https://github.com/jodconverter/jodconverter/issues/423#issue-3000441635
-              final PasswordProtectedExceptionSupportTask task =
-                  passwordProtectedExceptionSupportTask.getAndSet(null);
-              if (task != null && task.hasPasswordInteractionRequest()) {
-
-                // We don't have to cancel the task here. A PasswordProtectedException has
-                // already been thrown or will be thrown in another thread, causing the task
-                // to fail with an ExecutionException, which will contain the
-                // PasswordProtectedException.
-                officeProcessManager.restart();
-
-              } else {
-
-                // Here, we didn't expect this disconnection. We must restart
-                // the office process, canceling any task that may be running.
-                LOGGER.warn("Connection lost unexpectedly; attempting restart");
-                cancelTask();
-                officeProcessManager.restartDueToLostConnection();
-              }
-            }
+    // This connection event listener will be notified when a connection is established or
+    // closed/lost to/from an office instance.
+    return new OfficeConnectionEventListener() {
+
+      // A connection is established.
+      @Override
+      public void connected(final OfficeConnectionEvent event) {
+
+        if (owner != officeProcessManager) {
+          LOGGER.debug("Standby office process connected");
+          return;
+        }
+
+        // Reset the task count and make the manager available.
+        processKilled.set(false);
+        taskCount.set(0);
+        taskLimit = nextTaskLimit();
+        releaseRestartPermit();
+        setAvailable(true);
+        startStandbyIfRequired(0, -1L);
+      }
+
+      // A connection is closed/lost.
+      @Override
+      public void disconnected(final OfficeConnectionEvent event) {
+
+        // The standby office process is not used to execute tasks; it will
+        // be started again, if required, before the next recycling.
+        if (owner != officeProcessManager) {
+          LOGGER.debug("Standby office process disconnected");
+          return;
+        }
+
+        // Make the manager unavailable.
+        setAvailable(false);
+
+        // When it comes from an expected behavior (we have put
+        // the field to true before calling a function), just reset
+        // the disconnectExpected value to false. When we didn't expect
+        // the disconnection, we must restart the office process, which
+        // will cancel any task that may be running.
+        if (!disconnectExpected.compareAndSet(true, false)) {
+
+          // We have to check here for password protection for LibreOffice 24+ since
+          // a password interaction causes a disconnection when the password is not
+          // provided.
+          // https://github.com/jodconverter/jodconverter/issues/423#issue-3000441635
+          final PasswordProtectedExceptionSupportTask task =
+              passwordProtectedExceptionSupportTask.getAndSet(null);
+          if (task != null && task.hasPasswordInteractionRequest()) {
+
+            // We don't have to cancel the task here. A PasswordProtectedException has
+            // already been thrown or will be thrown in another thread, causing the task
+            // to fail with an ExecutionException, which will contain the
+            // PasswordProtectedException.
+            officeProcessManager.restart();
+
+          } else if (processKilled.compareAndSet(true, false)) {
+
+            // The office process has been killed on purpose, the task that
+            // was running has already been aborted. Another task may already
+            // be waiting for the office process to restart.
+            LOGGER.info("Office process killed; attempting restart");
+            officeProcessManager.restartDueToLostConnection();
+
+          } else {
+
+            // Here, we didn't expect this disconnection. We must restart
+            // the office process, canceling any task that may be running.
+            LOGGER.warn("Connection lost unexpectedly; attempting restart");
+            cancelTask();
+            notifyRestart(RestartReason.CONNECTION_LOST);
+            officeProcessManager.restartDueToLostConnection();
           }
-        };
-
-    // Listen to any connection events to the office instance.
-    officeProcessManager.getConnection().addConnectionEventListener(connectionEventListener);
+        }
+      }
+    };
   }
 
   @Override
@@ -153,27 +323,223 @@ class LocalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
     // Increment the task count
     final int count = taskCount.incrementAndGet();
 
+    // Sample the memory used by the office process, if required.
+    final long memory = maxProcessMemory > 0L ? officeProcessManager.getResidentMemory() : -1L;
+
+    // Start the standby office process ahead of the limits.
+    startStandbyIfRequired(count, memory);
+
     // Now check if the office process must be restarted.
-    if (count == maxTasksPerProcess) {
+    final int limit = taskLimit;
+    if (maxProcessMemory > 0L && memory > maxProcessMemory) {
 
+      // Never delay a restart due to memory, the process could be killed otherwise.
       LOGGER.info(
-          "Reached limit of {} maximum tasks per process; restarting...", maxTasksPerProcess);
-      restart();
+          "Process memory of {} bytes exceeds limit of {} bytes after {} tasks",
+          memory,
+          maxProcessMemory,
+          count);
+      recycle(RestartReason.MEMORY_LIMIT);
+    } else if (limit > 0 && count >= limit) {
+
+      LOGGER.info("Reached limit of {} maximum tasks per process", limit);
+      recycle(RestartReason.TASK_LIMIT);
     } else {
       LOGGER.debug(
-          "Limit of {} maximum tasks per process not reached yet. Task count is {}",
-          maxTasksPerProcess,
-          count);
+          "Limit of {} maximum tasks per process not reached yet. Task count is {}", limit, count);
+    }
+  }
+
+  /**
+   * Replaces the office process by the standby process if ready, or restarts it otherwise. A
+   * restart permit must be acquired before restarting, unless the memory limit is exceeded.
+   *
+   * @param reason The reason of the recycling.
+   */
+  private void recycle(final RestartReason reason) {
+
+    if (switchToStandby()) {
+      LOGGER.info("Switched to standby process");
+      notifyRestart(reason);
+    } else if (reason == RestartReason.TASK_LIMIT && !acquireRestartPermit()) {
+      LOGGER.info("Too many office processes restarting; restart postponed");
+    } else {
+      LOGGER.info("Restarting...");
+      notifyRestart(reason);
+      restart();
+    }
+  }
+
+  /**
+   * Computes the maximum number of tasks of the next office process, applying the jitter.
+   *
+   * @return The maximum number of tasks, 0 meaning no limit.
+   */
+  private int nextTaskLimit() {
+
+    if (maxTasksPerProcess <= 0 || maxTasksPerProcessJitter <= 0) {
+      return maxTasksPerProcess;
+    }
+    final int range = maxTasksPerProcess * maxTasksPerProcessJitter / 100;
+    return Math.max(1, maxTasksPerProcess - ThreadLocalRandom.current().nextInt(range + 1));
+  }
+
+  private boolean acquireRestartPermit() {
+
+    if (restartPermits == null || restartPermitHeld.get()) {
+      return true;
+    }
+    if (restartPermits.tryAcquire()) {
+      restartPermitHeld.set(true);
+      return true;
+    }
+    return false;
+  }
+
+  private void releaseRestartPermit() {
+
+    if (restartPermits != null && restartPermitHeld.compareAndSet(true, false)) {
+      restartPermits.release();
+    }
+  }
+
+  /**
+   * Starts the standby office process in the background if the given task count is close enough to
+   * the maximum number of tasks per process, or if the given memory is close enough to the maximum
+   * process memory.
+   *
+   * @param count The number of tasks executed by the current office process.
+   * @param memory The resident memory of the current office process, in bytes, or -1 if unknown.
+   */
+  private void startStandbyIfRequired(final int count, final long memory) {
+
+    final LocalOfficeProcessManager standby = standbyProcessManager;
+    // Give the standby process the time of about 10% of the tasks to start.
+    final int limit = taskLimit;
+    if (standby != null
+        && (limit > 0 && count >= limit - Math.max(1, limit / 10)
+            || maxProcessMemory > 0L && memory >= maxProcessMemory * STANDBY_START_MEMORY_RATIO)
+        && standbyRequested.compareAndSet(false, true)) {
+      LOGGER.debug("Starting standby office process");
+      standby.startStandby();
+    }
+  }
+
+  /**
+   * Replaces the current office process by the standby office process, if the latter is ready. The
+   * previous office process is then stopped in the background and becomes the next standby process.
+   *
+   * @return {@code true} if the office process has been replaced, {@code false} otherwise.
+   */
+  private boolean switchToStandby() {
+
+    final LocalOfficeProcessManager standby = standbyProcessManager;
+    if (standby == null) {
+      return false;
+    }
+
+    // Give the standby process another chance before the next recycling.
+    standbyRequested.set(false);
+    if (!standby.getConnection().isConnected()) {
+      LOGGER.debug("Standby office process not ready; falling back to restart");
+      return false;
     }
+
+    final LocalOfficeProcessManager previous = officeProcessManager;
+    officeProcessManager = standby;
+    standbyProcessManager = previous;
+    taskCount.set(0);
+    taskLimit = nextTaskLimit();
+    previous.stopStandby();
+    return true;
   }
 
   @Override
   protected void handleExecuteTimeoutException(final @NonNull TimeoutException timeoutEx) {
 
     // If the task did not complete within the configured timeout, we must restart.
+    killProcess(RestartReason.TASK_TIMEOUT);
+  }
+
+  @Override
+  protected long getTaskProgress() {
+
+    // The office process is idle while the task reads its source or writes its
+    // target, which may be slow (caller's stream...); the progress is unknown.
+    if (officeProcessManager.getConnection().isInIoPhase()) {
+      return -1L;
+    }
+
+    // An office process that consumes CPU time is still working on the task.
+    return officeProcessManager.getCpuTime();
+  }
+
+  @Override
+  protected void handleStalledTaskException(final @NonNull TimeoutException timeoutEx) {
+
+    // If the office process is stuck, we must restart.
+    LOGGER.warn("Office process consumed no CPU time while executing a task; restarting");
+    killProcess(RestartReason.TASK_STALLED);
+  }
+
+  @Override
+  protected void checkHealth() throws OfficeException {
+
+    // A cheap round trip to the office process.
+    final XComponentContext context = officeProcessManager.getConnection().getComponentContext();
+    if (context != null && Info.getOfficeName(context) == null) {
+      throw new OfficeException("Could not read the office product name");
+    }
+  }
+
+  @Override
+  protected void handleHealthCheckFailure(final @NonNull Throwable cause) {
+
+    // A lost connection is already handled by the connection event listener.
+    if (!officeProcessManager.getConnection().isConnected()) {
+      return;
+    }
+    LOGGER.warn("Office process health check failed; restarting", cause);
+    killProcess(RestartReason.HEALTH_CHECK);
+  }
+
+  /**
+   * Kills the office process, causing a disconnection and a restart. Since the reason of the
+   * restart is already handled, the disconnection will not cancel the task that may be waiting for
+   * this entry, the entry being unavailable until the new office process is connected.
+   *
+   * @param reason The reason of the restart.
+   */
+  private void killProcess(final RestartReason reason) {
+
+    setAvailable(false);
+    processKilled.set(true);
+    notifyRestart(reason);
     officeProcessManager.restartDueToTaskTimeout();
   }
 
+  /**
+   * Gets the URL of the office process of this entry.
+   *
+   * @return The {@link OfficeUrl} of this entry.
+   */
+  /* default */ OfficeUrl getOfficeUrl() {
+    return officeProcessManager.getOfficeUrl();
+  }
+
+  /**
+   * Gets the URLs of all the office processes of this entry, including the standby one.
+   *
+   * @return The {@link OfficeUrl}s of this entry.
+   */
+  /* default */ List<OfficeUrl> getOfficeUrls() {
+
+    final LocalOfficeProcessManager standby = standbyProcessManager;
+    return standby == null
+        ? Collections.singletonList(officeProcessManager.getOfficeUrl())
+        : Arrays.asList(officeProcessManager.getOfficeUrl(), standby.getOfficeUrl());
+  }
+
   @Override
   public boolean isRunning() {
 
@@ -198,6 +564,10 @@ class LocalOfficeManagerPoolEntry extends AbstractOfficeManagerPoolEntry {
 
     // Now we can stop the running office process
     officeProcessManager.stop();
+    if (standbyProcessManager != null) {
+      standbyProcessManager.stop();
+    }
+    releaseRestartPermit();
   }
 
   private void restart() {
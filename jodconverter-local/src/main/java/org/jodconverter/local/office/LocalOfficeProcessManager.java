@@ -23,25 +23,32 @@ package org.jodconverter.local.office;
 import static org.jodconverter.local.process.ProcessManager.PID_NOT_FOUND;
 import static org.jodconverter.local.process.ProcessManager.PID_UNKNOWN;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import com.sun.star.frame.XDesktop;
 import com.sun.star.lang.DisposedException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.jodconverter.core.office.FileCleaner;
 import org.jodconverter.core.office.NamedThreadFactory;
 import org.jodconverter.core.office.OfficeException;
-import org.jodconverter.core.office.OfficeUtils;
 import org.jodconverter.core.office.RetryTimeoutException;
 import org.jodconverter.core.util.FileUtils;
 import org.jodconverter.core.util.StringUtils;
@@ -57,13 +64,22 @@ import org.jodconverter.local.process.ProcessQuery;
 class LocalOfficeProcessManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LocalOfficeProcessManager.class);
+  private static final String VM_RSS = "VmRSS:";
+  // The indexes of the utime and stime fields of a stat file, counted from the state field.
+  private static final int UTIME_INDEX = 11;
+  private static final int STIME_INDEX = 12;
+  private static final String LIBRE_OFFICE = "LibreOffice";
+  // The first interval between two attempts to connect to a starting office process.
+  private static final long MIN_CONNECT_INTERVAL = 5L;
 
   private VerboseProcess process;
-  private long pid = PID_UNKNOWN;
+  private volatile long pid = PID_UNKNOWN;
   private OfficeDescriptor descriptor;
   private final OfficeConnection connection;
   private final ExecutorService executor;
   private final File instanceProfileDir;
+  private volatile Future<?> instanceProfileDirDeletion;
+  private final File workingDir;
   private final OfficeUrl officeUrl;
   private final File officeHome;
   private final ProcessManager processManager;
@@ -75,6 +91,11 @@ class LocalOfficeProcessManager {
   private final ExistingProcessAction existingProcessAction;
   private final boolean startFailFast;
   private final boolean keepAliveOnShutdown;
+  private final Map<String, String> profileSettings;
+  private boolean cacheProfile;
+  private OfficeProfileCache profileCache;
+  private volatile Runnable restartFailureListener;
+  private volatile List<OfficeProcessListener> processListeners = Collections.emptyList();
 
   /**
    * Creates a new manager with the specified configuration.
@@ -119,9 +140,72 @@ class LocalOfficeProcessManager {
       final boolean startFailFast,
       final boolean keepAliveOnShutdown,
       final OfficeConnection connection) {
+    this(
+        officeUrl,
+        officeHome,
+        workingDir,
+        processManager,
+        runAsArgs,
+        templateProfileDir,
+        processTimeout,
+        processRetryInterval,
+        afterStartProcessDelay,
+        existingProcessAction,
+        startFailFast,
+        keepAliveOnShutdown,
+        false,
+        Collections.emptyMap(),
+        connection);
+  }
+
+  /**
+   * Creates a new manager with the specified configuration.
+   *
+   * @param officeUrl The URL for which the office process is created.
+   * @param officeHome The home directory of the office installation.
+   * @param workingDir The working directory to set to the office process.
+   * @param processManager The process manager to use to deal with the office process.
+   * @param runAsArgs The sudo arguments that will be used with unix commands.
+   * @param templateProfileDir The directory to copy to the temporary office profile directories to
+   *     be created.
+   * @param processTimeout The timeout, in milliseconds, when trying to execute an office process
+   *     call (start/terminate).
+   * @param processRetryInterval The delay, in milliseconds, between each try when trying to execute
+   *     an office process call (start/terminate).
+   * @param afterStartProcessDelay The delay, in milliseconds, after the start of an office process
+   *     before doing anything else.
+   * @param existingProcessAction Represents the action to take when starting a new office process,
+   *     and there already is a process running with the same connection string.
+   * @param startFailFast Controls whether the manager will "fail fast" if the office process cannot
+   *     be started.
+   * @param keepAliveOnShutdown Controls whether the manager will keep the office process alive on
+   *     shutdown.
+   * @param cacheProfile Controls whether the instance profile directory is cloned from a fully
+   *     initialized profile cached in the working directory (LibreOffice only).
+   * @param profileSettings The configuration settings to write into the instance profile directory,
+   *     by property path.
+   * @param connection The object that will manage the connection to the office process.
+   */
+  /* default */ LocalOfficeProcessManager(
+      final OfficeUrl officeUrl,
+      final File officeHome,
+      final File workingDir,
+      final ProcessManager processManager,
+      final List<String> runAsArgs,
+      final File templateProfileDir,
+      final long processTimeout,
+      final long processRetryInterval,
+      final long afterStartProcessDelay,
+      final ExistingProcessAction existingProcessAction,
+      final boolean startFailFast,
+      final boolean keepAliveOnShutdown,
+      final boolean cacheProfile,
+      final Map<String, String> profileSettings,
+      final OfficeConnection connection) {
 
     this.officeUrl = officeUrl;
     this.officeHome = officeHome;
+    this.workingDir = workingDir;
     this.processManager = processManager;
     this.runAsArgs = runAsArgs;
     this.templateProfileDir = templateProfileDir;
@@ -131,7 +215,21 @@ class LocalOfficeProcessManager {
     this.existingProcessAction = existingProcessAction;
     this.startFailFast = startFailFast;
     this.keepAliveOnShutdown = keepAliveOnShutdown;
+    this.cacheProfile = cacheProfile;
+    this.profileSettings = profileSettings;
     this.connection = connection;
+    connection.addConnectionEventListener(
+        new OfficeConnectionEventListener() {
+          @Override
+          public void connected(final OfficeConnectionEvent event) {
+            notifyProcessListeners(listener -> listener.connected(officeUrl.getConnectString()));
+          }
+
+          @Override
+          public void disconnected(final OfficeConnectionEvent event) {
+            notifyProcessListeners(listener -> listener.disconnected(officeUrl.getConnectString()));
+          }
+        });
 
     executor = Executors.newSingleThreadExecutor(new NamedThreadFactory("jodconverter-offprocmng"));
     instanceProfileDir =
@@ -149,6 +247,134 @@ class LocalOfficeProcessManager {
     return connection;
   }
 
+  /**
+   * Sets the listener notified when the office process could not be restarted, in which case the
+   * connection will not be established again.
+   *
+   * @param listener The listener, or {@code null} to remove the listener.
+   */
+  /* default */ void setRestartFailureListener(final @Nullable Runnable listener) {
+    this.restartFailureListener = listener;
+  }
+
+  /**
+   * Sets the listeners notified of the lifecycle of the office process.
+   *
+   * @param listeners The listeners. The list is not copied, so listeners can be added to the list
+   *     afterward.
+   */
+  /* default */ void setProcessListeners(final @NonNull List<OfficeProcessListener> listeners) {
+    this.processListeners = listeners;
+  }
+
+  private void notifyProcessListeners(final Consumer<OfficeProcessListener> notification) {
+
+    for (final OfficeProcessListener listener : processListeners) {
+      try {
+        notification.accept(listener);
+      } catch (RuntimeException ex) {
+        LOGGER.warn("Office process listener failed", ex);
+      }
+    }
+  }
+
+  /**
+   * Gets the URL of the office process managed by this manager.
+   *
+   * @return The {@link OfficeUrl} of this manager.
+   */
+  /* default */ OfficeUrl getOfficeUrl() {
+    return officeUrl;
+  }
+
+  /**
+   * Gets the resident memory (RSS) of the office process managed by this manager. The memory is
+   * read from the {@code /proc/<pid>/status} file, and thus, is only available on Linux.
+   *
+   * @return The resident memory, in bytes, or -1 if it is not available.
+   */
+  /* default */ long getResidentMemory() {
+
+    final long currentPid = pid;
+    if (currentPid <= PID_UNKNOWN) {
+      return -1L;
+    }
+    return readResidentMemory(new File("/proc/" + currentPid + "/status"));
+  }
+
+  /**
+   * Reads the resident memory (VmRSS) of a process from its status file.
+   *
+   * @param statusFile The status file of the process.
+   * @return The resident memory, in bytes, or -1 if it cannot be read.
+   */
+  /* default */ static long readResidentMemory(final File statusFile) {
+
+    if (!statusFile.isFile()) {
+      return -1L;
+    }
+
+    try (BufferedReader reader =
+        Files.newBufferedReader(statusFile.toPath(), StandardCharsets.US_ASCII)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        // The line looks like "VmRSS:     123456 kB"
+        if (line.startsWith(VM_RSS)) {
+          final String value = line.substring(VM_RSS.length()).trim();
+          final int end = value.indexOf(' ');
+          return Long.parseLong(end < 0 ? value : value.substring(0, end)) * 1024L;
+        }
+      }
+    } catch (IOException | NumberFormatException ex) {
+      LOGGER.debug("Could not read the resident memory from {}", statusFile, ex);
+    }
+    return -1L;
+  }
+
+  /**
+   * Gets the CPU time (user and system) consumed so far by the office process managed by this
+   * manager. The CPU time is read from the {@code /proc/<pid>/stat} file, and thus, is only
+   * available on Linux.
+   *
+   * @return The CPU time, in clock ticks, or -1 if it is not available.
+   */
+  /* default */ long getCpuTime() {
+
+    final long currentPid = pid;
+    if (currentPid <= PID_UNKNOWN) {
+      return -1L;
+    }
+    return readCpuTime(new File("/proc/" + currentPid + "/stat"));
+  }
+
+  /**
+   * Reads the CPU time (utime + stime) of a process from its stat file.
+   *
+   * @param statFile The stat file of the process.
+   * @return The CPU time, in clock ticks, or -1 if it cannot be read.
+   */
+  /* default */ static long readCpuTime(final File statFile) {
+
+    if (!statFile.isFile()) {
+      return -1L;
+    }
+
+    try {
+      // The content looks like "1234 (soffice.bin) S 1 ...". The command name
+      // may contain spaces or parentheses, so the fields are counted from the
+      // last closing parenthesis.
+      final String stat =
+          new String(Files.readAllBytes(statFile.toPath()), StandardCharsets.US_ASCII);
+      final String[] fields = stat.substring(stat.lastIndexOf(')') + 1).trim().split("\\s+");
+      if (fields.length > STIME_INDEX) {
+        return Long.parseLong(fields[UTIME_INDEX]) + Long.parseLong(fields[STIME_INDEX]);
+      }
+    } catch (IOException | NumberFormatException ex) {
+      LOGGER.debug("Could not read the CPU time from {}", statFile, ex);
+    }
+    return -1L;
+  }
+
   /**
    * Starts an office process and connect to the running process.
    *
@@ -225,10 +451,53 @@ class LocalOfficeProcessManager {
             startProcessAndConnect(true);
           } catch (OfficeException ex) {
             LOGGER.error("Could not restart the office process.", ex);
+            notifyRestartFailure();
+          }
+        });
+  }
+
+  private void notifyRestartFailure() {
+
+    final Runnable listener = restartFailureListener;
+    if (listener != null) {
+      listener.run();
+    }
+  }
+
+  /**
+   * Starts the office process in the background so it is ready to replace another office process.
+   * Nothing is done if the office process is already connected.
+   *
+   * <p>The task of starting the process and connecting to it is executed by a single thread {@link
+   * ExecutorService} and thus, the current {@code startStandby()} function returns immediately.
+   */
+  /* default */ void startStandby() {
+
+    executor.execute(
+        () -> {
+          if (connection.isConnected()) {
+            return;
+          }
+          // Reuse the instance profile directory of a previous run, if any,
+          // causing a faster start of an office process.
+          try {
+            startProcessAndConnect(instanceProfileDir.isDirectory());
+          } catch (OfficeException ex) {
+            LOGGER.error("Could not start the standby office process.", ex);
           }
         });
   }
 
+  /**
+   * Stops the office process in the background, keeping the instance profile directory so the
+   * process can be quickly started again with {@link #startStandby()}.
+   */
+  /* default */ void stopStandby() {
+    LOGGER.info("Stopping replaced office process...");
+
+    executor.execute(() -> stopProcess(false));
+  }
+
   /**
    * Restarts the office process when the connection is lost.
    *
@@ -252,6 +521,7 @@ class LocalOfficeProcessManager {
           } catch (OfficeException ex) {
             LOGGER.error(
                 "Could not restart the office process after an unexpected lost connection.", ex);
+            notifyRestartFailure();
           }
         });
   }
@@ -296,7 +566,8 @@ class LocalOfficeProcessManager {
     // Shutdown the executor, no other task will be accepted.
     executor.shutdown();
 
-    // Await for task termination. This is required if we don't want to let garbage on disk.
+    // Await for task termination, then for the deletion of the instance profile directory,
+    // done in the background. This is required if we don't want to let garbage on disk.
     try {
       // +1000L to allow the deletion of the templateProfileDir.
       // But is it really necessary? It is a wild guess...
@@ -308,6 +579,13 @@ class LocalOfficeProcessManager {
         // TODO: Should we do something special ?
         LOGGER.debug("Could not execute stop task within {} millisecs...", stopTimeout);
       }
+      final Future<?> deletion = instanceProfileDirDeletion;
+      if (deletion != null && !FileCleaner.awaitDeletion(deletion, processTimeout)) {
+        LOGGER.warn(
+            "Could not delete profile dir '{}' within {} millisecs",
+            instanceProfileDir,
+            processTimeout);
+      }
     } catch (InterruptedException ex) {
       Thread.currentThread().interrupt();
       throw new OfficeException("Interruption while stopping the office process.", ex);
@@ -382,13 +660,21 @@ class LocalOfficeProcessManager {
         instanceProfileDir);
 
     // Launch the process.
+    final long startTime = System.currentTimeMillis();
+    final StartProcessAndConnectRetryable retryable =
+        new StartProcessAndConnectRetryable(
+            processManager,
+            processBuilder,
+            processQuery,
+            afterStartProcessDelay,
+            connection,
+            officeUrl,
+            processRetryInterval);
     try {
       // Start the process.
-      final StartProcessAndConnectRetryable retryable =
-          new StartProcessAndConnectRetryable(
-              processManager, processBuilder, processQuery, afterStartProcessDelay, connection);
       try {
-        retryable.execute(processRetryInterval, processTimeout);
+        // The process is probed at a growing interval so it is connected as soon as it is ready.
+        retryable.execute(0L, MIN_CONNECT_INTERVAL, processRetryInterval, processTimeout);
       } finally {
         // We must keep these even on connection failure to be able to kill the process if
         // required.
@@ -399,8 +685,18 @@ class LocalOfficeProcessManager {
       LOGGER.info(
           "Started process; pid: {}",
           pid == PID_NOT_FOUND ? "PID_NOT_FOUND" : pid == PID_UNKNOWN ? "PID_UNKNOWN" : pid);
+      final long elapsed = System.currentTimeMillis() - startTime;
+      notifyProcessListeners(
+          listener ->
+              listener.processStarted(
+                  officeUrl.getConnectString(), pid, elapsed, retryable.getConnectAttempts()));
 
     } catch (Exception ex) {
+      final long elapsed = System.currentTimeMillis() - startTime;
+      notifyProcessListeners(
+          listener ->
+              listener.processStartFailed(
+                  officeUrl.getConnectString(), elapsed, retryable.getConnectAttempts(), ex));
       throw new OfficeException(
           String.format("An error prevents us to start a process with --accept '%s'", acceptString),
           ex);
@@ -630,7 +926,10 @@ class LocalOfficeProcessManager {
     }
 
     try {
-      processManager.kill(process == null ? null : process.getProcess(), pid);
+      final long killedPid = pid;
+      processManager.kill(process == null ? null : process.getProcess(), killedPid);
+      notifyProcessListeners(
+          listener -> listener.processKilled(officeUrl.getConnectString(), killedPid));
     } catch (IOException ex) {
       LOGGER.error("Could not forcibly terminate process", ex);
     }
@@ -656,8 +955,17 @@ class LocalOfficeProcessManager {
         final ExitCodeRetryable retryable = new ExitCodeRetryable(process);
         retryable.execute(processRetryInterval, processTimeout);
         exitCode = retryable.getExitCode();
+        final long exitedPid = pid;
+        final int exitedCode = exitCode;
+        notifyProcessListeners(
+            listener ->
+                listener.processExited(officeUrl.getConnectString(), exitedPid, exitedCode));
+      }
+      if (exitCode == 0) {
+        LOGGER.info("Process exited with code {}", exitCode);
+      } else {
+        LOGGER.warn("Process exited with code {}{}", exitCode, process.describeOutputTail());
       }
-      LOGGER.info("Process exited with code {}", exitCode);
 
     } catch (RetryTimeoutException ex) {
       LOGGER.error("Time out ensuring process exited", ex);
@@ -674,7 +982,7 @@ class LocalOfficeProcessManager {
    * Prepare the profile directory of the office process.
    *
    * @throws OfficeException If the template profile directory cannot be copied to the new instance
-   *     profile directory.
+   *     profile directory, or the profile settings cannot be written.
    */
   private void prepareInstanceProfileDir() throws OfficeException {
 
@@ -692,18 +1000,86 @@ class LocalOfficeProcessManager {
         templateDir = new File(property);
       }
     }
-    if (templateDir != null) {
+
+    // Only LibreOffice supports the --terminate_after_init option creating the cached profile.
+    boolean cloned = false;
+    if (cacheProfile && LIBRE_OFFICE.equals(descriptor.getProduct())) {
+      try {
+        if (profileCache == null) {
+          profileCache = new OfficeProfileCache(workingDir, officeHome, templateDir);
+        }
+        profileCache.cloneTo(instanceProfileDir, this::initializeProfile);
+        cloned = true;
+      } catch (IOException ioEx) {
+        // Do not try again on each start.
+        cacheProfile = false;
+        LOGGER.warn(
+            "Could not use the cached profile dir; falling back to a new profile dir", ioEx);
+        deleteInstanceProfileDir();
+      }
+    }
+
+    if (!cloned && templateDir != null) {
       try {
         FileUtils.copyDirectory(templateDir, instanceProfileDir);
       } catch (IOException ioEx) {
         throw new OfficeException("Failed to create the instance profile directory", ioEx);
       }
     }
+
+    try {
+      OfficeProfileSettings.write(instanceProfileDir, profileSettings);
+    } catch (IOException ioEx) {
+      throw new OfficeException(
+          "Failed to write the settings of the instance profile directory", ioEx);
+    }
+  }
+
+  /**
+   * Initializes the specified profile directory by starting an office process that terminates as
+   * soon as its initialization (including the creation of the user profile) is done.
+   *
+   * @param profileDir The profile directory to initialize.
+   * @throws IOException If the profile directory cannot be initialized.
+   */
+  private void initializeProfile(final File profileDir) throws IOException {
+
+    final List<String> command = new ArrayList<>(runAsArgs);
+    command.add(LocalOfficeUtils.getOfficeExecutable(officeHome).getAbsolutePath());
+    command.add("--headless");
+    command.add("--invisible");
+    command.add("--nocrashreport");
+    command.add("--nodefault");
+    command.add("--nofirststartwizard");
+    command.add("--nolockcheck");
+    command.add("--nologo");
+    command.add("--norestore");
+    command.add("--terminate_after_init");
+    command.add("-env:UserInstallation=" + LocalOfficeUtils.toUrl(profileDir));
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Profile initialization command: {}", String.join(" ", command));
+    }
+    final VerboseProcess initProcess = new VerboseProcess(new ProcessBuilder(command).start());
+    final ExitCodeRetryable retryable = new ExitCodeRetryable(initProcess);
+    try {
+      retryable.execute(processRetryInterval, processTimeout);
+    } catch (RetryTimeoutException ex) {
+      initProcess.getProcess().destroyForcibly();
+      throw new IOException("Time out initializing profile dir " + profileDir, ex);
+    }
+    if (retryable.getExitCode() != 0 || !new File(profileDir, "user").isDirectory()) {
+      throw new IOException(
+          String.format(
+              "Could not initialize profile dir '%s'; exit code %d%s",
+              profileDir, retryable.getExitCode(), initProcess.describeOutputTail()));
+    }
   }
 
   /** Deletes the profile directory of the office process. */
   private void deleteInstanceProfileDir() {
     // TODO: Should the timeout be configurable?
-    OfficeUtils.deleteOrRenameFile(instanceProfileDir, 250L, 1_000L);
+    // The directory is renamed so a restarted process can use it right away.
+    instanceProfileDirDeletion = FileCleaner.renameAndDelete(instanceProfileDir, 250L, 1_000L);
   }
 }
@@ -46,6 +46,7 @@ import org.jodconverter.local.office.utils.Lo;
 import org.jodconverter.local.office.utils.Props;
 import org.jodconverter.local.process.FreeBSDProcessManager;
 import org.jodconverter.local.process.MacProcessManager;
+import org.jodconverter.local.process.ProcessHandleProcessManager;
 import org.jodconverter.local.process.ProcessManager;
 import org.jodconverter.local.process.PureJavaProcessManager;
 import org.jodconverter.local.process.UnixProcessManager;
@@ -174,6 +175,9 @@ public final class LocalOfficeUtils {
       return MacProcessManager.getDefault();
     } else if (OSUtils.IS_OS_FREE_BSD) {
       return FreeBSDProcessManager.getDefault();
+    } else if (OSUtils.IS_OS_LINUX && ProcessHandleProcessManager.getDefault().isUsable()) {
+      // Avoids forking ps and grep each time an office process is started
+      return ProcessHandleProcessManager.getDefault();
     } else if (OSUtils.IS_OS_UNIX) {
       return UnixProcessManager.getDefault();
     } else if (OSUtils.IS_OS_WINDOWS) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.office;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.sun.star.lib.uno.helper.UnoUrl;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.jodconverter.core.util.OSUtils;
+
+/**
+ * Tells whether an office process accepts connections on a given URL, without connecting to it. It
+ * is used to avoid UNO handshakes that are bound to fail while an office process is starting.
+ *
+ * <p>The listening sockets are looked up in {@code /proc/net/tcp[6]} and the named pipes in the
+ * {@code /tmp/OSL_PIPE_<uid>_<name>} sockets created by office. Since this is only available on
+ * Linux, the probe always answers {@code true} on the other systems, or whenever it cannot tell.
+ */
+final class OfficeAcceptorProbe { // NOPMD - Disable utility class name rule violation
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OfficeAcceptorProbe.class);
+  private static final List<Path> TCP_TABLES =
+      Arrays.asList(Paths.get("/proc/net/tcp"), Paths.get("/proc/net/tcp6"));
+  private static final List<Path> PIPE_DIRS =
+      Arrays.asList(Paths.get("/tmp"), Paths.get("/var/tmp"));
+  private static final String TCP_LISTEN = "0A";
+
+  /**
+   * Gets whether an office process accepts connections on the specified URL.
+   *
+   * @param officeUrl The office URL.
+   * @return {@code false} if we know that no office process accepts connections on this URL yet,
+   *     {@code true} otherwise.
+   */
+  /* default */ static boolean isAccepting(final @NonNull OfficeUrl officeUrl) {
+
+    if (!OSUtils.IS_OS_LINUX) {
+      return true;
+    }
+
+    final UnoUrl unoUrl = officeUrl.getUnoUrl();
+    // A raw HashMap holding String values.
+    final Map<?, ?> parameters = unoUrl.getConnectionParameters();
+    try {
+      if ("socket".equals(unoUrl.getConnection()) && parameters.containsKey("port")) {
+        return isListening(Integer.parseInt(String.valueOf(parameters.get("port"))), TCP_TABLES);
+      }
+      if ("pipe".equals(unoUrl.getConnection()) && parameters.containsKey("name")) {
+        final Object uid = Files.getAttribute(Paths.get("/proc/self"), "unix:uid");
+        final String pipeFileName =
+            "OSL_PIPE_" + uid + "_" + String.valueOf(parameters.get("name"));
+        return PIPE_DIRS.stream().anyMatch(dir -> Files.exists(dir.resolve(pipeFileName)));
+      }
+    } catch (IOException | RuntimeException ex) {
+      LOGGER.trace("Could not probe {}", officeUrl, ex);
+    }
+    return true;
+  }
+
+  /**
+   * Gets whether a socket listens on the specified port, according to the specified TCP tables
+   * (having the format of {@code /proc/net/tcp}).
+   *
+   * @param port The port.
+   * @param tables The TCP tables.
+   * @return {@code true} if a socket listens on the port or if no table can be read, {@code false}
+   *     otherwise.
+   * @throws IOException If a table cannot be read.
+   */
+  /* default */ static boolean isListening(final int port, final @NonNull List<Path> tables)
+      throws IOException {
+
+    final String localPort = String.format(Locale.ROOT, ":%04X", port);
+    boolean found = false;
+    for (final Path table : tables) {
+      if (!Files.isReadable(table)) {
+        continue;
+      }
+      found = true;
+      for (final String line : Files.readAllLines(table, StandardCharsets.US_ASCII)) {
+        // sl local_address rem_address st ...
+        final String[] columns = line.trim().split("\\s+");
+        if (columns.length > 3 && columns[1].endsWith(localPort) && TCP_LISTEN.equals(columns[3])) {
+          return true;
+        }
+      }
+    }
+    // If no table can be read, we cannot tell.
+    return !found;
+  }
+
+  // Suppresses default constructor, ensuring non-instantiability.
+  private OfficeAcceptorProbe() {
+    throw new AssertionError("Utility class must not be instantiated");
+  }
+}
@@ -62,6 +62,7 @@ public class OfficeConnection implements LocalOfficeContext, XEventListener {
   private XComponentLoader componentLoader;
   private final List<OfficeConnectionEventListener> connectionEventListeners;
   private final AtomicBoolean connected = new AtomicBoolean();
+  private final AtomicInteger ioPhases = new AtomicInteger();
 
   /**
    * Constructs a new connection for the specified UNO URL.
@@ -173,6 +174,11 @@ public class OfficeConnection implements LocalOfficeContext, XEventListener {
     // else we tried to connect to a server that doesn't speak URP
   }
 
+  @Override
+  public @NonNull String getConnectString() {
+    return officeUrl.getConnectString();
+  }
+
   @Override
   public @Nullable XComponentContext getComponentContext() {
     return componentContext;
@@ -198,6 +204,26 @@ public class OfficeConnection implements LocalOfficeContext, XEventListener {
     return Lo.qiOptional(XDesktop.class, desktopService).orElse(null);
   }
 
+  @Override
+  public void beginIoPhase() {
+    ioPhases.incrementAndGet();
+  }
+
+  @Override
+  public void endIoPhase() {
+    ioPhases.decrementAndGet();
+  }
+
+  /**
+   * Gets whether the task executed with this connection is in an I/O phase, during which the office
+   * process is idle.
+   *
+   * @return {@code true} if the task is in an I/O phase; {@code false} otherwise.
+   */
+  /* default */ boolean isInIoPhase() {
+    return ioPhases.get() > 0;
+  }
+
   /**
    * Gets whether we are connected to an office instance.
    *
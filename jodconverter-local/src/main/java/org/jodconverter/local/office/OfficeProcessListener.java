@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.office;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Receives the notifications of a {@link LocalOfficeManager} about the lifecycle of the office
+ * processes it manages. It is meant to collect metrics or diagnostics, thus all the functions are
+ * called synchronously by the threads managing the office processes and must return quickly,
+ * without throwing any exception.
+ *
+ * <p>All the functions have an empty default implementation, so an implementation only overrides
+ * the notifications it is interested in.
+ *
+ * @see LocalOfficeManager#addProcessListener(OfficeProcessListener)
+ */
+public interface OfficeProcessListener {
+
+  /**
+   * Called when an office process has been started and connected.
+   *
+   * @param officeUrl The connection string of the office process.
+   * @param pid The id of the office process, or a negative value if it is unknown.
+   * @param startTime The time spent starting the office process and connecting to it, in
+   *     milliseconds.
+   * @param connectAttempts The number of attempts made to connect to the office process.
+   */
+  default void processStarted(
+      final @NonNull String officeUrl,
+      final long pid,
+      final long startTime,
+      final int connectAttempts) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when an office process could not be started, or could not be connected.
+   *
+   * @param officeUrl The connection string of the office process.
+   * @param startTime The time spent trying to start the office process and to connect to it, in
+   *     milliseconds.
+   * @param connectAttempts The number of attempts made to connect to the office process.
+   * @param error The error the start failed with.
+   */
+  default void processStartFailed(
+      final @NonNull String officeUrl,
+      final long startTime,
+      final int connectAttempts,
+      final @NonNull Throwable error) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when an office process started by the manager has exited.
+   *
+   * @param officeUrl The connection string of the office process.
+   * @param pid The id of the office process, or a negative value if it is unknown.
+   * @param exitCode The exit code of the office process.
+   */
+  default void processExited(final @NonNull String officeUrl, final long pid, final int exitCode) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when an office process has been forcibly terminated.
+   *
+   * @param officeUrl The connection string of the office process.
+   * @param pid The id of the office process, or a negative value if it is unknown.
+   */
+  default void processKilled(final @NonNull String officeUrl, final long pid) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when a connection to an office process has been established.
+   *
+   * @param officeUrl The connection string of the office process.
+   */
+  default void connected(final @NonNull String officeUrl) {
+    // Do nothing by default
+  }
+
+  /**
+   * Called when a connection to an office process has been closed or lost.
+   *
+   * @param officeUrl The connection string of the office process.
+   */
+  default void disconnected(final @NonNull String officeUrl) {
+    // Do nothing by default
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.office;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.jodconverter.core.util.FileUtils;
+import org.jodconverter.core.util.OSUtils;
+
+/**
+ * Manages a fully initialized office user profile, created once and cached in the working
+ * directory, from which the instance profile directories of the office processes are cloned. The
+ * cache is keyed by the office installation, its build and the template profile directory, if any,
+ * so a new profile is created when the office installation is upgraded.
+ *
+ * <p>On systems supporting it, the instance profile directories are cloned using hard links. The
+ * files of the cached profile are made read-only so an office process cannot modify them in place
+ * (office replaces its configuration files instead of rewriting them); a file that is still
+ * writable, for instance when running as root, is copied instead of being linked.
+ */
+final class OfficeProfileCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OfficeProfileCache.class);
+  private static final String DIR_PREFIX = ".jodconverter-profile_";
+  private static final String BUILD_ID = "buildid=";
+
+  private static final Map<File, Object> LOCKS = new ConcurrentHashMap<>();
+
+  /** Initializes an empty office profile directory. */
+  @FunctionalInterface
+  /* default */ interface Initializer {
+
+    /**
+     * Initializes the specified profile directory.
+     *
+     * @param profileDir The profile directory to initialize.
+     * @throws IOException If the profile cannot be initialized.
+     */
+    void initialize(@NonNull File profileDir) throws IOException;
+  }
+
+  private final File cacheDir;
+  private final File templateProfileDir;
+
+  /**
+   * Creates a new cache for the specified office installation.
+   *
+   * @param workingDir The directory where the cached profile is stored.
+   * @param officeHome The home directory of the office installation.
+   * @param templateProfileDir The template profile directory the cached profile is created from, or
+   *     {@code null} to create it from scratch.
+   */
+  /* default */ OfficeProfileCache(
+      final @NonNull File workingDir,
+      final @NonNull File officeHome,
+      final @Nullable File templateProfileDir) {
+
+    this.templateProfileDir = templateProfileDir;
+    final String key =
+        officeHome.getAbsolutePath()
+            + '|'
+            + readBuildId(officeHome)
+            + '|'
+            + Optional.ofNullable(templateProfileDir).map(File::getAbsolutePath).orElse("");
+    this.cacheDir =
+        new File(
+            workingDir, DIR_PREFIX + UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Gets the directory of the cached profile.
+   *
+   * @return The cached profile directory.
+   */
+  /* default */ @NonNull
+  File getCacheDir() {
+    return cacheDir;
+  }
+
+  /**
+   * Clones the cached profile into the specified instance profile directory, creating the cached
+   * profile first if it does not exist yet.
+   *
+   * @param instanceProfileDir The instance profile directory to create.
+   * @param initializer The function used to initialize the cached profile.
+   * @throws IOException If the cached profile cannot be created or cloned.
+   */
+  /* default */ void cloneTo(
+      final @NonNull File instanceProfileDir, final @NonNull Initializer initializer)
+      throws IOException {
+
+    synchronized (LOCKS.computeIfAbsent(cacheDir, key -> new Object())) {
+      if (!cacheDir.isDirectory()) {
+        create(initializer);
+      }
+    }
+    final long start = System.currentTimeMillis();
+    final boolean linked = cloneDirectory(cacheDir.toPath(), instanceProfileDir.toPath());
+    LOGGER.debug(
+        "Profile dir '{}' {} from '{}' in {} ms",
+        instanceProfileDir,
+        linked ? "linked" : "copied",
+        cacheDir,
+        System.currentTimeMillis() - start);
+  }
+
+  private void create(final Initializer initializer) throws IOException {
+
+    // The profile is created aside and then moved, so another JVM sharing the working
+    // directory never sees a partially initialized profile.
+    final File tempDir =
+        new File(cacheDir.getParentFile(), cacheDir.getName() + "." + UUID.randomUUID());
+    LOGGER.info("Creating cached profile dir '{}'", cacheDir);
+    try {
+      if (templateProfileDir != null) {
+        FileUtils.copyDirectory(templateProfileDir, tempDir);
+      }
+      initializer.initialize(tempDir);
+      if (!OSUtils.IS_OS_WINDOWS) {
+        makeFilesReadOnly(tempDir.toPath());
+      }
+      try {
+        Files.move(tempDir.toPath(), cacheDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      } catch (IOException ex) {
+        if (!cacheDir.isDirectory()) {
+          throw ex;
+        }
+        LOGGER.debug("Cached profile dir '{}' created concurrently", cacheDir, ex);
+      }
+    } finally {
+      if (tempDir.exists()) {
+        FileUtils.deleteQuietly(tempDir);
+      }
+    }
+  }
+
+  private static void makeFilesReadOnly(final Path dir) throws IOException {
+
+    try (Stream<Path> paths = Files.walk(dir)) {
+      paths
+          .filter(Files::isRegularFile)
+          .forEach(
+              path -> {
+                if (!path.toFile().setReadOnly()) {
+                  LOGGER.debug("Could not make '{}' read-only", path);
+                }
+              });
+    }
+  }
+
+  /**
+   * Clones a directory, using hard links when supported and falling back to copies otherwise.
+   *
+   * @return {@code true} if all the files have been linked, {@code false} otherwise.
+   */
+  private static boolean cloneDirectory(final Path source, final Path target) throws IOException {
+
+    final boolean[] link = {!OSUtils.IS_OS_WINDOWS};
+    Files.walkFileTree(
+        source,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs)
+              throws IOException {
+            Files.createDirectories(target.resolve(source.relativize(dir)));
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs)
+              throws IOException {
+            final Path targetFile = target.resolve(source.relativize(file));
+            // A writable file could be modified in place through the link, corrupting the cache.
+            if (link[0] && !Files.isWritable(file)) {
+              try {
+                Files.createLink(targetFile, file);
+                return FileVisitResult.CONTINUE;
+              } catch (IOException | UnsupportedOperationException ex) {
+                // E.g. the working directory spans several file systems.
+                LOGGER.debug("Hard links not supported; copying '{}'", file, ex);
+                link[0] = false;
+              }
+            }
+            Files.copy(file, targetFile, StandardCopyOption.COPY_ATTRIBUTES);
+            if (!targetFile.toFile().setWritable(true, true)) {
+              LOGGER.debug("Could not make '{}' writable", targetFile);
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return link[0];
+  }
+
+  private static String readBuildId(final File officeHome) {
+
+    final File programDir = LocalOfficeUtils.getOfficeExecutable(officeHome).getParentFile();
+    for (final String name : new String[] {"versionrc", "version.ini", "../Resources/versionrc"}) {
+      final File versionFile = new File(programDir, name);
+      if (versionFile.isFile()) {
+        try (Stream<String> lines =
+            Files.lines(versionFile.toPath(), StandardCharsets.ISO_8859_1)) {
+          final Optional<String> buildId =
+              lines
+                  .map(String::trim)
+                  .filter(line -> line.regionMatches(true, 0, BUILD_ID, 0, BUILD_ID.length()))
+                  .map(line -> line.substring(BUILD_ID.length()))
+                  .findFirst();
+          if (buildId.isPresent()) {
+            return buildId.get();
+          }
+        } catch (IOException ex) {
+          LOGGER.debug("Could not read '{}'", versionFile, ex);
+        }
+      }
+    }
+    // Fall back to the modification time of the executable, which changes on upgrade.
+    return String.valueOf(LocalOfficeUtils.getOfficeExecutable(officeHome).lastModified());
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.office;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Writes configuration settings into the {@code registrymodifications.xcu} file of an office
+ * profile directory. A setting is identified by the absolute path of the configuration property,
+ * for instance {@code /org.openoffice.Office.Recovery/AutoSave/Enabled}.
+ */
+final class OfficeProfileSettings { // NOPMD - Disable utility class name rule violation
+
+  /** Throughput-oriented settings, useless features of a headless converter being disabled. */
+  /* default */ static final Map<String, String> PERFORMANCE_SETTINGS;
+
+  static {
+    final Map<String, String> settings = new LinkedHashMap<>();
+    // No document recovery nor autosave timers.
+    settings.put("/org.openoffice.Office.Recovery/AutoSave/Enabled", "false");
+    settings.put("/org.openoffice.Office.Recovery/RecoveryInfo/Enabled", "false");
+    settings.put("/org.openoffice.Office.Common/Save/Document/AutoSave", "false");
+    settings.put("/org.openoffice.Office.Common/Save/Document/CreateBackup", "false");
+    // No recent documents (MRU) tracking.
+    settings.put("/org.openoffice.Office.Common/History/PickListSize", "0");
+    settings.put("/org.openoffice.Office.Common/History/RecentDocsThumbnail", "false");
+    // No online update check.
+    settings.put(
+        "/org.openoffice.Office.Jobs/Jobs/org.openoffice.Office.Jobs:Job['UpdateCheck']"
+            + "/Arguments/AutoCheckEnabled",
+        "false");
+    // Larger graphic cache (512 MB), avoiding swapping graphics out while converting.
+    settings.put("/org.openoffice.Office.Common/Cache/GraphicManager/TotalCacheSize", "536870912");
+    settings.put("/org.openoffice.Office.Common/Cache/GraphicManager/ObjectCacheSize", "134217728");
+    settings.put(
+        "/org.openoffice.Office.Common/Cache/GraphicManager/GraphicMemoryLimit", "536870912");
+    PERFORMANCE_SETTINGS = Collections.unmodifiableMap(settings);
+  }
+
+  private static final String FILE_NAME = "registrymodifications.xcu";
+  private static final String ITEMS_END = "</oor:items>";
+  private static final String HEADER =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+          + "<oor:items xmlns:oor=\"http://openoffice.org/2001/registry\""
+          + " xmlns:xs=\"http://www.w3.org/2001/XMLSchema\""
+          + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">";
+
+  /**
+   * Writes the specified settings into the profile directory, overriding the values of the same
+   * properties the profile may already contain. The file is replaced, never modified in place,
+   * since it may be a hard link to a cached profile.
+   *
+   * @param profileDir The profile directory.
+   * @param settings The settings to write, by property path.
+   * @throws IOException If the settings cannot be written.
+   */
+  /* default */ static void write(
+      final @NonNull File profileDir, final @NonNull Map<@NonNull String, @NonNull String> settings)
+      throws IOException {
+
+    if (settings.isEmpty()) {
+      return;
+    }
+
+    final Path file = profileDir.toPath().resolve("user").resolve(FILE_NAME);
+    final List<String> lines = new ArrayList<>();
+    if (Files.isRegularFile(file)) {
+      for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        // Office writes an item per line. Drop the items we are about to override.
+        final String content = line.replace(ITEMS_END, "");
+        if (!content.trim().isEmpty()
+            && settings.keySet().stream().noneMatch(key -> isItemOf(content, key))) {
+          lines.add(content);
+        }
+      }
+    } else {
+      lines.add(HEADER);
+    }
+    settings.forEach((key, value) -> lines.add(toItem(key, value)));
+    lines.add(ITEMS_END);
+
+    Files.createDirectories(file.getParent());
+    final Path tempFile = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+    try {
+      Files.write(tempFile, lines, StandardCharsets.UTF_8);
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  /**
+   * Validates the path of a setting.
+   *
+   * @param key The path of the configuration property.
+   * @return {@code true} if the path is absolute and contains a property name, {@code false}
+   *     otherwise.
+   */
+  /* default */ static boolean isValidKey(final @NonNull String key) {
+    return key.startsWith("/") && key.lastIndexOf('/') > 0 && !key.endsWith("/");
+  }
+
+  private static boolean isItemOf(final String line, final String key) {
+
+    final int idx = key.lastIndexOf('/');
+    return line.contains("oor:path=\"" + escape(key.substring(0, idx)) + "\"")
+        && line.contains("oor:name=\"" + escape(key.substring(idx + 1)) + "\"");
+  }
+
+  private static String toItem(final String key, final String value) {
+
+    final int idx = key.lastIndexOf('/');
+    return "<item oor:path=\""
+        + escape(key.substring(0, idx))
+        + "\"><prop oor:name=\""
+        + escape(key.substring(idx + 1))
+        + "\" oor:op=\"fuse\"><value>"
+        + escape(value)
+        + "</value></prop></item>";
+  }
+
+  private static String escape(final String text) {
+    return text.replace("&", "&amp;")
+        .replace("<", "&lt;")
+        .replace(">", "&gt;")
+        .replace("\"", "&quot;")
+        .replace("'", "&apos;");
+  }
+
+  // Suppresses default constructor, ensuring non-instantiability.
+  private OfficeProfileSettings() {
+    throw new AssertionError("Utility class must not be instantiated");
+  }
+}
@@ -51,7 +51,11 @@ class StartProcessAndConnectRetryable extends AbstractRetryable<Exception> {
   private final ProcessQuery processQuery;
   private final long afterStartProcessDelay;
   private final OfficeConnection connection;
+  private final OfficeUrl officeUrl;
+  private final long connectInterval;
   private StartProcessResult result;
+  private long lastConnectAttempt;
+  private int connectAttempts;
 
   /** Private class holding the result of a started process attempt. */
   private static class StartProcessResult {
@@ -69,13 +73,18 @@ class StartProcessAndConnectRetryable extends AbstractRetryable<Exception> {
    * @param afterStartProcessDelay The delay after an attempt to start a process before doing
    *     anything else.
    * @param connection The office connection used to connect.
+   * @param officeUrl The URL the office process accepts connections on.
+   * @param connectInterval The maximum interval between two connection attempts, whether the office
+   *     process seems to accept connections or not.
    */
   /* default */ StartProcessAndConnectRetryable(
       final ProcessManager processManager,
       final ProcessBuilder processBuilder,
       final ProcessQuery processQuery,
       final long afterStartProcessDelay,
-      final OfficeConnection connection) {
+      final OfficeConnection connection,
+      final OfficeUrl officeUrl,
+      final long connectInterval) {
     super();
 
     this.processManager = processManager;
@@ -83,6 +92,8 @@ class StartProcessAndConnectRetryable extends AbstractRetryable<Exception> {
     this.processQuery = processQuery;
     this.afterStartProcessDelay = afterStartProcessDelay;
     this.connection = connection;
+    this.officeUrl = officeUrl;
+    this.connectInterval = connectInterval;
   }
 
   @Override
@@ -99,9 +110,21 @@ class StartProcessAndConnectRetryable extends AbstractRetryable<Exception> {
 
       // Check if the process id was found.
       checkProcessId();
+      lastConnectAttempt = System.currentTimeMillis();
     }
 
+    // A UNO handshake is costly and bound to fail until the office process accepts connections.
+    // Since the probe may be wrong, a connection is still attempted after the usual interval.
+    final long now = System.currentTimeMillis();
+    if (now - lastConnectAttempt < connectInterval
+        && result.process.getExitCode() == null
+        && !OfficeAcceptorProbe.isAccepting(officeUrl)) {
+      throw new TemporaryException("The office process does not accept connections yet");
+    }
+    lastConnectAttempt = now;
+
     // Now, try to connect.
+    connectAttempts++;
     try {
       connection.connect();
 
@@ -135,6 +158,15 @@ class StartProcessAndConnectRetryable extends AbstractRetryable<Exception> {
     return result == null ? PID_UNKNOWN : result.pid;
   }
 
+  /**
+   * Gets the number of attempts made to connect to the started process.
+   *
+   * @return The number of connection attempts.
+   */
+  public int getConnectAttempts() {
+    return connectAttempts;
+  }
+
   private StartProcessResult startProcess() throws IOException {
 
     final StartProcessResult attemptResult = new StartProcessResult();
@@ -251,7 +283,9 @@ class StartProcessAndConnectRetryable extends AbstractRetryable<Exception> {
 
     } else {
       // Process has died trying to connect.
-      throw new OfficeException("Office process died with exit code " + exitCode, ex);
+      throw new OfficeException(
+          "Office process died with exit code " + exitCode + result.process.describeOutputTail(),
+          ex);
     }
   }
 
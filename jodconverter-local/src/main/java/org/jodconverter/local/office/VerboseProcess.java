@@ -20,21 +20,27 @@
 
 package org.jodconverter.local.office;
 
+import java.util.List;
 import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.jodconverter.local.process.PumpStreamHandler;
-import org.jodconverter.local.process.StreamPumper;
+import org.jodconverter.local.process.LinesRingBuffer;
+import org.jodconverter.local.process.ProcessOutputPump;
 
-/** Wrapper class for a process we want to redirect the output and error stream. */
+/**
+ * Wrapper class for a process we want to redirect the output and error stream. The last lines
+ * written by the process are kept so they can be reported if the process fails.
+ */
 class VerboseProcess {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(VerboseProcess.class);
+  private static final int OUTPUT_TAIL_SIZE = 50;
 
   private final Process process;
-  private final PumpStreamHandler streamHandler;
+  private final LinesRingBuffer outputTail = new LinesRingBuffer(OUTPUT_TAIL_SIZE);
+  private final ProcessOutputPump.PumpedProcess pumpedProcess;
 
   /**
    * Creates a new wrapper for the given process.
@@ -48,11 +54,18 @@ class VerboseProcess {
 
     this.process = process;
 
-    streamHandler =
-        new PumpStreamHandler(
-            new StreamPumper(process.getInputStream(), LOGGER::info),
-            new StreamPumper(process.getErrorStream(), LOGGER::error));
-    streamHandler.start();
+    pumpedProcess =
+        ProcessOutputPump.getInstance()
+            .pump(
+                process,
+                line -> {
+                  LOGGER.info(line);
+                  outputTail.consume(line);
+                },
+                line -> {
+                  LOGGER.error(line);
+                  outputTail.consume(line);
+                });
   }
 
   /**
@@ -73,7 +86,7 @@ class VerboseProcess {
 
     try {
       final int exitValue = process.exitValue();
-      streamHandler.stop();
+      pumpedProcess.close();
       LOGGER.trace("Process has been terminated with exit value {}", exitValue);
       return exitValue;
 
@@ -82,4 +95,24 @@ class VerboseProcess {
       return null;
     }
   }
+
+  /**
+   * Gets the last lines written by the process to its output and error streams.
+   *
+   * @return The last lines, from the oldest to the most recent.
+   */
+  /* default */ List<String> getOutputTail() {
+    return outputTail.getLines();
+  }
+
+  /**
+   * Describes the last lines written by the process, to be appended to a failure message.
+   *
+   * @return The description, or an empty string if the process wrote nothing.
+   */
+  /* default */ String describeOutputTail() {
+
+    final List<String> lines = getOutputTail();
+    return lines.isEmpty() ? "" : "; last process output:\n" + String.join("\n", lines);
+  }
 }
@@ -21,6 +21,7 @@
 package org.jodconverter.local.process;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -65,13 +66,12 @@ public abstract class AbstractProcessManager implements ProcessManager {
 
     final Process process = Runtime.getRuntime().exec(cmdarray);
 
-    final LinesPumpStreamHandler streamsHandler =
-        new LinesPumpStreamHandler(process.getInputStream(), process.getErrorStream());
-
-    streamsHandler.start();
+    final List<String> outLines = new ArrayList<>();
+    final List<String> errLines = new ArrayList<>();
+    final ProcessOutputPump.PumpedProcess pumpedProcess =
+        ProcessOutputPump.getInstance().pump(process, outLines::add, errLines::add);
     try {
       process.waitFor();
-      streamsHandler.stop();
     } catch (InterruptedException ex) {
 
       // Log the interruption
@@ -80,12 +80,11 @@ public abstract class AbstractProcessManager implements ProcessManager {
       // Restore the interrupted status
       Thread.currentThread().interrupt();
     }
-
-    final List<String> outLines = streamsHandler.getOutputPumper().getLines();
+    pumpedProcess.close();
 
     if (LOGGER.isTraceEnabled()) {
       final String out = buildOutput(outLines);
-      final String err = buildOutput(streamsHandler.getErrorPumper().getLines());
+      final String err = buildOutput(errLines);
 
       if (!StringUtils.isBlank(out)) {
         LOGGER.trace("Command Output: {}", out);
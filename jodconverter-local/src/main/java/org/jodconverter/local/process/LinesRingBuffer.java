@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.process;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import org.jodconverter.core.util.AssertUtils;
+import org.jodconverter.local.process.StreamPumper.LineConsumer;
+
+/** A line consumer that only keeps the last lines it consumed, up to a given capacity. */
+public class LinesRingBuffer implements LineConsumer {
+
+  private final Deque<String> lines;
+  private final int capacity;
+
+  /**
+   * Creates a new buffer keeping the specified number of lines.
+   *
+   * @param capacity The maximum number of lines to keep.
+   */
+  public LinesRingBuffer(final int capacity) {
+    super();
+
+    AssertUtils.isTrue(capacity > 0, String.format("capacity %s must be greater than 0", capacity));
+
+    this.capacity = capacity;
+    this.lines = new ArrayDeque<>(capacity);
+  }
+
+  @Override
+  public synchronized void consume(final @NonNull String line) {
+
+    if (lines.size() == capacity) {
+      lines.removeFirst();
+    }
+    lines.addLast(line);
+  }
+
+  /**
+   * Gets the last lines consumed by this buffer, from the oldest to the most recent.
+   *
+   * @return A copy of the lines.
+   */
+  public synchronized @NonNull List<@NonNull String> getLines() {
+    return new ArrayList<>(lines);
+  }
+}
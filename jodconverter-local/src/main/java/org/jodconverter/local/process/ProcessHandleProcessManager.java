@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.process;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link org.jodconverter.local.process.ProcessManager} implementation relying on the {@code
+ * java.lang.ProcessHandle} API available since Java 9. The running processes are listed, and
+ * killed, without executing any external command, which makes this manager cheaper than the {@code
+ * ps} based ones when office processes are often restarted.
+ *
+ * <p>Since JODConverter still runs on Java 8, the API is accessed through reflection; {@link
+ * #isUsable()} tells whether it is available on the running JVM.
+ */
+public class ProcessHandleProcessManager implements ProcessManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProcessHandleProcessManager.class);
+
+  /**
+   * This class is required in order to create the default ProcessHandleProcessManager only on
+   * demand, as explained by the Initialization-on-demand holder idiom:
+   * https://www.wikiwand.com/en/Initialization-on-demand_holder_idiom
+   */
+  private static class DefaultHolder { // NOPMD - Disable utility class name rule violation
+    /* default */ static final ProcessHandleProcessManager INSTANCE =
+        new ProcessHandleProcessManager();
+  }
+
+  /** Holds the reflected ProcessHandle methods, which are null on Java 8. */
+  private static class Api { // NOPMD - Disable utility class name rule violation
+    /* default */ static final Method ALL_PROCESSES;
+    /* default */ static final Method OF;
+    /* default */ static final Method PID;
+    /* default */ static final Method INFO;
+    /* default */ static final Method DESTROY_FORCIBLY;
+    /* default */ static final Method COMMAND_LINE;
+
+    static {
+      Method allProcesses = null;
+      Method of = null;
+      Method pid = null;
+      Method info = null;
+      Method destroyForcibly = null;
+      Method commandLine = null;
+      try {
+        final Class<?> handleClass = Class.forName("java.lang.ProcessHandle");
+        allProcesses = handleClass.getMethod("allProcesses");
+        of = handleClass.getMethod("of", long.class);
+        pid = handleClass.getMethod("pid");
+        info = handleClass.getMethod("info");
+        destroyForcibly = handleClass.getMethod("destroyForcibly");
+        commandLine = Class.forName("java.lang.ProcessHandle$Info").getMethod("commandLine");
+      } catch (ClassNotFoundException | NoSuchMethodException ex) {
+        LOGGER.debug("The ProcessHandle API is not available", ex);
+      }
+      ALL_PROCESSES = allProcesses;
+      OF = of;
+      PID = pid;
+      INFO = info;
+      DESTROY_FORCIBLY = destroyForcibly;
+      COMMAND_LINE = commandLine;
+    }
+  }
+
+  /**
+   * Gets the default instance of {@code ProcessHandleProcessManager}.
+   *
+   * @return The default {@code ProcessHandleProcessManager} instance.
+   */
+  public static @NonNull ProcessHandleProcessManager getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Gets whether this process manager can be used on the running JVM.
+   *
+   * @return {@code true} if the ProcessHandle API is available, {@code false} otherwise.
+   */
+  public boolean isUsable() {
+    return Api.COMMAND_LINE != null;
+  }
+
+  @Override
+  public boolean canFindPid() {
+    return isUsable();
+  }
+
+  @Override
+  public long findPid(final @NonNull ProcessQuery query) throws IOException {
+    if (!canFindPid()) {
+      return PID_UNKNOWN;
+    }
+
+    final Pattern commandPattern =
+        Pattern.compile(
+            Pattern.quote(query.getCommand()) + ".*" + Pattern.quote(query.getArgument()));
+    LOGGER.trace(
+        "Finding PID using regex used to match running office process we are looking for: {}",
+        commandPattern.pattern());
+
+    try (Stream<?> handles = (Stream<?>) invoke(Api.ALL_PROCESSES, null)) {
+      for (final Iterator<?> it = handles.iterator(); it.hasNext(); ) {
+        final Object handle = it.next();
+        final Optional<?> commandLine =
+            (Optional<?>) invoke(Api.COMMAND_LINE, invoke(Api.INFO, handle));
+        if (commandLine.isPresent() && commandPattern.matcher((String) commandLine.get()).find()) {
+          final long pid = (Long) invoke(Api.PID, handle);
+          LOGGER.debug("Command line matches! Returning pid: {}", pid);
+          return pid;
+        }
+      }
+    }
+    LOGGER.debug("No matching command line found! Returning pid: NOT_FOUND");
+    return PID_NOT_FOUND;
+  }
+
+  @Override
+  public void kill(final @Nullable Process process, final long pid) throws IOException {
+    if (pid > PID_UNKNOWN && isUsable()) {
+      final Optional<?> handle = (Optional<?>) invoke(Api.OF, null, pid);
+      if (handle.isPresent()) {
+        invoke(Api.DESTROY_FORCIBLY, handle.get());
+      }
+    } else {
+      ProcessManager.super.kill(process, pid);
+    }
+  }
+
+  private static Object invoke(final Method method, final Object target, final Object... args)
+      throws IOException {
+
+    try {
+      return method.invoke(target, args);
+    } catch (IllegalAccessException ex) {
+      throw new IOException("Unable to call " + method, ex);
+    } catch (InvocationTargetException ex) {
+      throw new IOException("Call to " + method + " failed", ex.getCause());
+    }
+  }
+}
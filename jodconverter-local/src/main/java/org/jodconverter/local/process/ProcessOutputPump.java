@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.process;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.jodconverter.local.process.StreamPumper.LineConsumer;
+
+/**
+ * Pumps the output and error streams of many processes using a single daemon thread, instead of two
+ * threads per process. Since process streams cannot be selected, the pumping thread polls the
+ * streams for available bytes, sleeping a little longer each time all the streams are idle.
+ *
+ * <p>The pumping of a process ends when the process has exited and its streams are drained, or when
+ * the returned {@link PumpedProcess} is closed.
+ */
+public final class ProcessOutputPump {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProcessOutputPump.class);
+  private static final long MIN_POLL_INTERVAL = 10L;
+  private static final long MAX_POLL_INTERVAL = 200L;
+  private static final int BUFFER_SIZE = 4096;
+
+  private final List<PumpedStream> streams = new CopyOnWriteArrayList<>();
+  private final Object lock = new Object();
+  private Thread thread;
+
+  /**
+   * This class is required in order to create the pump only on demand, as explained by the
+   * Initialization-on-demand holder idiom:
+   * https://www.wikiwand.com/en/Initialization-on-demand_holder_idiom
+   */
+  private static class DefaultHolder { // NOPMD - Disable utility class name rule violation
+    /* default */ static final ProcessOutputPump INSTANCE = new ProcessOutputPump();
+  }
+
+  /**
+   * Gets the pump shared by all the processes of the JVM.
+   *
+   * @return The shared pump.
+   */
+  public static @NonNull ProcessOutputPump getInstance() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /* default */ ProcessOutputPump() {
+    super();
+  }
+
+  /**
+   * Starts pumping the output and error streams of the specified process.
+   *
+   * @param process The process whose streams are pumped.
+   * @param outputConsumer The consumer of the lines read from the output stream.
+   * @param errorConsumer The consumer of the lines read from the error stream.
+   * @return The pumped process, which must be closed to read the remaining lines once the process
+   *     has exited.
+   */
+  public @NonNull PumpedProcess pump(
+      final @NonNull Process process,
+      final @NonNull LineConsumer outputConsumer,
+      final @NonNull LineConsumer errorConsumer) {
+
+    Objects.requireNonNull(process, "process must not be null");
+    Objects.requireNonNull(outputConsumer, "outputConsumer must not be null");
+    Objects.requireNonNull(errorConsumer, "errorConsumer must not be null");
+
+    final PumpedProcess pumped =
+        new PumpedProcess(
+            new PumpedStream(process, process.getInputStream(), outputConsumer),
+            new PumpedStream(process, process.getErrorStream(), errorConsumer));
+    streams.add(pumped.output);
+    streams.add(pumped.error);
+    synchronized (lock) {
+      if (thread == null || !thread.isAlive()) {
+        thread = new Thread(this::run, "jodconverter-pump");
+        thread.setDaemon(true);
+        thread.start();
+      }
+      lock.notifyAll();
+    }
+    return pumped;
+  }
+
+  /**
+   * Gets the number of streams currently pumped.
+   *
+   * @return The number of pumped streams.
+   */
+  /* default */ int getStreamCount() {
+    return streams.size();
+  }
+
+  private void run() {
+
+    long interval = MIN_POLL_INTERVAL;
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        synchronized (lock) {
+          while (streams.isEmpty()) {
+            lock.wait();
+          }
+        }
+
+        boolean read = false;
+        for (final PumpedStream stream : streams) {
+          read |= stream.pump();
+        }
+
+        if (read) {
+          interval = MIN_POLL_INTERVAL;
+        } else {
+          Thread.sleep(interval);
+          interval = Math.min(interval * 2, MAX_POLL_INTERVAL);
+        }
+      }
+    } catch (InterruptedException ex) {
+      // The next registration will start a new thread.
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** The output and error streams of a process being pumped. */
+  public static final class PumpedProcess implements AutoCloseable {
+
+    private final PumpedStream output;
+    private final PumpedStream error;
+
+    private PumpedProcess(final PumpedStream output, final PumpedStream error) {
+      this.output = output;
+      this.error = error;
+    }
+
+    /**
+     * Reads the lines that are still available from the streams of the process and stops pumping
+     * them. The remaining lines are consumed by the current thread.
+     */
+    @Override
+    public void close() {
+      output.close();
+      error.close();
+    }
+  }
+
+  /** A single stream being pumped. */
+  private final class PumpedStream {
+
+    private final Process process;
+    private final InputStream stream;
+    private final LineConsumer consumer;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    private boolean closed;
+
+    /* default */ PumpedStream(
+        final Process process, final InputStream stream, final LineConsumer consumer) {
+      this.process = process;
+      this.stream = stream;
+      this.consumer = consumer;
+    }
+
+    /**
+     * Reads the bytes available from the stream without blocking.
+     *
+     * @return {@code true} if some bytes were read, {@code false} otherwise.
+     */
+    /* default */ synchronized boolean pump() {
+
+      if (closed) {
+        return false;
+      }
+      try {
+        // Check whether the process is alive first, so no byte written before it exited is missed.
+        final boolean alive = process.isAlive();
+        final int available = stream.available();
+        if (available > 0) {
+          final int count = stream.read(buffer, 0, Math.min(available, buffer.length));
+          if (count > 0) {
+            consume(count);
+            return true;
+          }
+        }
+        if (!alive) {
+          finish();
+        }
+      } catch (IOException ex) {
+        LOGGER.trace("Could not read process stream", ex);
+        finish();
+      } catch (RuntimeException ex) {
+        LOGGER.warn("Could not consume process stream line", ex);
+      }
+      return false;
+    }
+
+    /* default */ synchronized void close() {
+
+      // Loop until nothing is available anymore, or the stream is finished.
+      boolean read = true;
+      while (read && !closed) {
+        read = pump();
+      }
+      if (!closed) {
+        finish();
+      }
+    }
+
+    private void consume(final int count) {
+
+      for (int i = 0; i < count; i++) {
+        final byte b = buffer[i];
+        if (b == '\n') {
+          flushLine();
+        } else {
+          line.write(b);
+        }
+      }
+    }
+
+    private void flushLine() {
+
+      String value = new String(line.toByteArray(), Charset.defaultCharset());
+      if (value.endsWith("\r")) {
+        value = value.substring(0, value.length() - 1);
+      }
+      line.reset();
+      consumer.consume(value);
+    }
+
+    private void finish() {
+
+      closed = true;
+      streams.remove(this);
+      if (line.size() > 0) {
+        flushLine();
+      }
+    }
+  }
+}
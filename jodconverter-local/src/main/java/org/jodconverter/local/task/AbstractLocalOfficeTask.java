@@ -25,13 +25,12 @@ import static org.jodconverter.local.office.LocalOfficeUtils.toUrl;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.Map;
 
 import com.sun.star.frame.XComponentLoader;
+import com.sun.star.io.XInputStream;
 import com.sun.star.lang.XComponent;
-import com.sun.star.lib.uno.adapter.ByteArrayToXInputStreamAdapter;
 import com.sun.star.task.*;
 import com.sun.star.util.CloseVetoException;
 import com.sun.star.util.XCloseable;
@@ -59,9 +58,11 @@ public abstract class AbstractLocalOfficeTask extends AbstractOfficeTask
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractLocalOfficeTask.class);
   private static final String ERROR_MESSAGE_LOAD = "Could not open document: ";
+  private static final String STREAM_URL = "private:stream";
   protected final Map<String, Object> loadProperties;
   protected final boolean useStreamAdapters;
   private PasswordInteractionHandler passwordPasswordInteractionHandler;
+  private CloseableXInputStream sourceFileStream;
 
   /** Handler used to detect password-protected file. */
   private static class PasswordInteractionHandler implements XInteractionHandler {
@@ -199,46 +200,71 @@ public abstract class AbstractLocalOfficeTask extends AbstractOfficeTask
 
     AssertUtils.notNull(loader, "Context component loader must not be null");
 
+    final Map<String, Object> loadProps = getLoadProperties();
+    if (!useStreamAdapters) {
+      return loadDocument(loader, toUrl(sourceFile), loadProps, sourceFile.getName());
+    }
+
+    try {
+      // The file is read by chunks rather than into the heap. It remains open
+      // until the document is closed, since the office process may read it lazily.
+      sourceFileStream = new FileXInputStream(sourceFile);
+    } catch (IOException exception) {
+      throw new OfficeException(ERROR_MESSAGE_LOAD + sourceFile.getName(), exception);
+    }
+    loadProps.put("InputStream", sourceFileStream);
     try {
-      final Map<String, Object> loadProps = getLoadProperties();
-      final XComponent document = loadDocumentFromURL(loader, sourceFile, loadProps);
+      return loadDocument(loader, STREAM_URL, loadProps, sourceFile.getName());
+    } catch (OfficeException | RuntimeException exception) {
+      closeSourceFileStream();
+      throw exception;
+    }
+  }
+
+  // Loads the document from the specified source stream.
+  protected @NonNull XComponent loadDocument(
+      final @NonNull LocalOfficeContext context, final @NonNull XInputStream sourceStream)
+      throws OfficeException {
+
+    final XComponentLoader loader = context.getComponentLoader();
+
+    AssertUtils.notNull(loader, "Context component loader must not be null");
+
+    final Map<String, Object> loadProps = getLoadProperties();
+    loadProps.put("InputStream", sourceStream);
+    return loadDocument(loader, STREAM_URL, loadProps, "stream");
+  }
+
+  private XComponent loadDocument(
+      final XComponentLoader loader,
+      final String url,
+      final Map<String, Object> loadProps,
+      final String documentName)
+      throws OfficeException {
+
+    try {
+      final XComponent document = loadDocumentFromURL(loader, url, loadProps);
 
       // The document cannot be null
-      AssertUtils.notNull(document, ERROR_MESSAGE_LOAD + sourceFile.getName());
+      AssertUtils.notNull(document, ERROR_MESSAGE_LOAD + documentName);
 
       return document;
 
     } catch (ErrorCodeIOException exception) {
       throw new OfficeException(
-          ERROR_MESSAGE_LOAD + sourceFile.getName() + "; errorCode: " + exception.ErrCode,
-          exception);
+          ERROR_MESSAGE_LOAD + documentName + "; errorCode: " + exception.ErrCode, exception);
     } catch (com.sun.star.uno.Exception exception) {
-      throw new OfficeException(ERROR_MESSAGE_LOAD + sourceFile.getName(), exception);
+      throw new OfficeException(ERROR_MESSAGE_LOAD + documentName, exception);
     }
   }
 
   private XComponent loadDocumentFromURL(
-      final XComponentLoader loader, final File sourceFile, final Map<String, Object> loadProps)
+      final XComponentLoader loader, final String url, final Map<String, Object> loadProps)
       throws com.sun.star.uno.Exception, OfficeException {
 
     XComponent document = null;
     try {
-      if (useStreamAdapters) {
-        try {
-          final byte[] bytes = Files.readAllBytes(sourceFile.toPath());
-          loadProps.put("InputStream", new ByteArrayToXInputStreamAdapter(bytes));
-
-          document =
-              loader.loadComponentFromURL(
-                  "private:stream", "_blank", 0, toUnoProperties(loadProps));
-
-        } catch (IOException exception) {
-          throw new OfficeException(ERROR_MESSAGE_LOAD + sourceFile.getName(), exception);
-        }
-      } else {
-        document =
-            loader.loadComponentFromURL(toUrl(sourceFile), "_blank", 0, toUnoProperties(loadProps));
-      }
+      document = loader.loadComponentFromURL(url, "_blank", 0, toUnoProperties(loadProps));
     } catch (com.sun.star.lang.DisposedException exception) {
       // LibreOffice 24+ will throw this exception for password protection.
       handlePasswordProtection(document, loadProps);
@@ -274,6 +300,17 @@ public abstract class AbstractLocalOfficeTask extends AbstractOfficeTask
         }
       }
     }
+
+    // The source file, if loaded from a stream, is no longer required.
+    closeSourceFileStream();
+  }
+
+  private void closeSourceFileStream() {
+
+    if (sourceFileStream != null) {
+      sourceFileStream.close();
+      sourceFileStream = null;
+    }
   }
 
   private void handlePasswordProtection(
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.task;
+
+import java.nio.ByteBuffer;
+
+import com.sun.star.io.BufferSizeExceededException;
+import com.sun.star.io.NotConnectedException;
+import com.sun.star.io.XInputStream;
+import com.sun.star.lib.uno.helper.ComponentBase;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A seekable {@link XInputStream} exposing the content of a buffer to an office process. The
+ * content is never copied as a whole; each read only allocates the chunk requested by the office
+ * process.
+ */
+final class ByteBufferXInputStream extends ComponentBase implements CloseableXInputStream {
+
+  private ByteBuffer buffer;
+  private final long length;
+  private long position;
+
+  /**
+   * Creates a new stream reading the remaining content of the specified buffer. The content is not
+   * copied, and the position of the buffer is not modified.
+   *
+   * @param buffer The buffer to read.
+   */
+  /* default */ ByteBufferXInputStream(final @NonNull ByteBuffer buffer) {
+    super();
+
+    this.buffer = buffer.slice();
+    this.length = this.buffer.remaining();
+  }
+
+  @Override
+  public synchronized int readBytes(final byte[][] data, final int bytesToRead)
+      throws NotConnectedException, BufferSizeExceededException {
+
+    ensureOpen();
+    if (bytesToRead < 0) {
+      throw new BufferSizeExceededException("Number of bytes to read must not be negative");
+    }
+
+    final int count = (int) Math.min(bytesToRead, length - position);
+    // The array must have the exact size of the data, it is sent as is to the office process.
+    data[0] = new byte[count];
+    final ByteBuffer content = buffer.duplicate();
+    content.position((int) position);
+    content.get(data[0], 0, count);
+    position += count;
+    return count;
+  }
+
+  @Override
+  public int readSomeBytes(final byte[][] data, final int maxBytesToRead)
+      throws NotConnectedException, BufferSizeExceededException {
+    return readBytes(data, maxBytesToRead);
+  }
+
+  @Override
+  public synchronized void skipBytes(final int bytesToSkip)
+      throws NotConnectedException, BufferSizeExceededException {
+
+    ensureOpen();
+    if (bytesToSkip < 0) {
+      throw new BufferSizeExceededException("Number of bytes to skip must not be negative");
+    }
+    position += Math.min(bytesToSkip, length - position);
+  }
+
+  @Override
+  public synchronized int available() throws NotConnectedException {
+
+    ensureOpen();
+    return (int) (length - position);
+  }
+
+  @Override
+  public void closeInput() {
+
+    // The office process is done with the stream.
+    close();
+  }
+
+  @Override
+  public synchronized void seek(final long location)
+      throws com.sun.star.lang.IllegalArgumentException {
+
+    if (location < 0 || location > length) {
+      throw new com.sun.star.lang.IllegalArgumentException(
+          String.format("Location %d is out of bounds [0, %d]", location, length), this, (short) 0);
+    }
+    position = location;
+  }
+
+  @Override
+  public synchronized long getPosition() {
+    return position;
+  }
+
+  @Override
+  public long getLength() {
+    return length;
+  }
+
+  /** Releases the buffer. */
+  @Override
+  public synchronized void close() {
+    buffer = null;
+  }
+
+  private void ensureOpen() throws NotConnectedException {
+
+    if (buffer == null) {
+      throw new NotConnectedException("Stream is closed", this);
+    }
+  }
+}
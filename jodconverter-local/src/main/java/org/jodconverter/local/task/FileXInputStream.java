@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.task;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import com.sun.star.io.BufferSizeExceededException;
+import com.sun.star.io.IOException;
+import com.sun.star.io.NotConnectedException;
+import com.sun.star.io.XInputStream;
+import com.sun.star.lib.uno.helper.ComponentBase;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A seekable {@link XInputStream} exposing the content of a file to an office process. Each read is
+ * a positional read of the chunk requested by the office process, directly into the array sent to
+ * the office process, so the file is never copied as a whole into the heap, and files larger than 2
+ * GB are supported.
+ *
+ * <p>The file remains open until the stream is closed.
+ */
+final class FileXInputStream extends ComponentBase implements CloseableXInputStream {
+
+  private FileChannel channel;
+  private final long length;
+  private long position;
+
+  /**
+   * Creates a new stream reading the specified file.
+   *
+   * @param file The file to read.
+   * @throws java.io.IOException If the file cannot be opened.
+   */
+  /* default */ FileXInputStream(final @NonNull File file) throws java.io.IOException {
+    super();
+
+    channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      length = channel.size();
+    } catch (java.io.IOException ex) {
+      channel.close();
+      throw ex;
+    }
+  }
+
+  @Override
+  public synchronized int readBytes(final byte[][] data, final int bytesToRead)
+      throws NotConnectedException, BufferSizeExceededException, IOException {
+
+    ensureOpen();
+    if (bytesToRead < 0) {
+      throw new BufferSizeExceededException("Number of bytes to read must not be negative");
+    }
+
+    final int count = (int) Math.min(bytesToRead, length - position);
+    // The array must have the exact size of the data, it is sent as is to the office process.
+    data[0] = new byte[count];
+    final ByteBuffer chunk = ByteBuffer.wrap(data[0]);
+    try {
+      while (chunk.hasRemaining()) {
+        if (channel.read(chunk, position + chunk.position()) < 0) {
+          throw new IOException("Unexpected end of file", this);
+        }
+      }
+    } catch (java.io.IOException ex) {
+      throw new IOException(ex.getMessage(), this);
+    }
+    position += count;
+    return count;
+  }
+
+  @Override
+  public int readSomeBytes(final byte[][] data, final int maxBytesToRead)
+      throws NotConnectedException, BufferSizeExceededException, IOException {
+    return readBytes(data, maxBytesToRead);
+  }
+
+  @Override
+  public synchronized void skipBytes(final int bytesToSkip)
+      throws NotConnectedException, BufferSizeExceededException {
+
+    ensureOpen();
+    if (bytesToSkip < 0) {
+      throw new BufferSizeExceededException("Number of bytes to skip must not be negative");
+    }
+    position += Math.min(bytesToSkip, length - position);
+  }
+
+  @Override
+  public synchronized int available() throws NotConnectedException {
+
+    ensureOpen();
+    return (int) Math.min(Integer.MAX_VALUE, length - position);
+  }
+
+  @Override
+  public void closeInput() {
+
+    // The office process is done with the stream.
+    close();
+  }
+
+  @Override
+  public synchronized void seek(final long location)
+      throws com.sun.star.lang.IllegalArgumentException {
+
+    if (location < 0 || location > length) {
+      throw new com.sun.star.lang.IllegalArgumentException(
+          String.format("Location %d is out of bounds [0, %d]", location, length), this, (short) 0);
+    }
+    position = location;
+  }
+
+  @Override
+  public synchronized long getPosition() {
+    return position;
+  }
+
+  @Override
+  public long getLength() {
+    return length;
+  }
+
+  /** Closes the file. */
+  @Override
+  public synchronized void close() {
+
+    if (channel == null) {
+      return;
+    }
+    try {
+      channel.close();
+    } catch (java.io.IOException ignored) {
+      // Nothing to do, the file was only read
+    }
+    channel = null;
+  }
+
+  private void ensureOpen() throws NotConnectedException {
+
+    if (channel == null) {
+      throw new NotConnectedException("Stream is closed", this);
+    }
+  }
+}
@@ -25,10 +25,18 @@ import static org.jodconverter.local.office.LocalOfficeUtils.toUrl;
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.sun.star.frame.XStorable;
 import com.sun.star.lang.XComponent;
@@ -41,11 +49,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.jodconverter.core.document.DocumentFormat;
+import org.jodconverter.core.job.ConversionResult;
 import org.jodconverter.core.job.DocumentSpecs;
 import org.jodconverter.core.job.SourceDocumentSpecs;
 import org.jodconverter.core.job.TargetDocumentSpecs;
 import org.jodconverter.core.office.OfficeContext;
 import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.core.office.TemporaryFileMaker;
 import org.jodconverter.core.util.AssertUtils;
 import org.jodconverter.local.filter.FilterChain;
 import org.jodconverter.local.filter.RefreshFilter;
@@ -54,16 +64,77 @@ import org.jodconverter.local.office.LocalOfficeUtils;
 import org.jodconverter.local.office.utils.Info;
 import org.jodconverter.local.office.utils.Lo;
 
-/** Represents the default behavior for a local conversion task. */
+/**
+ * Represents the default behavior for a local conversion task.
+ *
+ * <p>Once executed, the task provides a {@link ConversionResult} holding the time spent in each
+ * phase of the conversion, which tells whether a slow conversion was slow preparing the source
+ * file, in the office process (load and store), in the filters or copying the target file.
+ *
+ * <p>When documents are loaded using stream adapters and the source is an input stream, the stream
+ * is exposed to the office process without being written to a temporary file first. Its content is
+ * kept in memory, unless it is larger than 4 MB, in which case it is spilled to a temporary file.
+ *
+ * <p>When documents are stored to output streams and the target is an output stream, the document
+ * is written directly to the stream, without being written to a temporary file first, unless the
+ * export filter requires a file.
+ */
 public class LocalConversionTask extends AbstractLocalOfficeTask {
 
   private static final String ERROR_MESSAGE_STORE = "Could not store document: ";
+  // The maximum size of a source stream kept in memory.
+  private static final int STREAM_MEMORY_THRESHOLD = 4 * 1024 * 1024; // 4 MB
+  // The export filters that cannot write to an output stream, either because they
+  // require a seekable output, or because they write additional files next to the
+  // document.
+  private static final Set<String> FILE_ONLY_FILTERS =
+      Collections.unmodifiableSet(
+          new HashSet<>(
+              Arrays.asList(
+                  "MS Word 97",
+                  "MS Word 97 Vorlage",
+                  "MS Excel 97",
+                  "MS Excel 97 Vorlage/Template",
+                  "MS PowerPoint 97",
+                  "MS PowerPoint 97 Vorlage",
+                  "MS PowerPoint 97 AutoPlay",
+                  "HTML (StarWriter)",
+                  "HTML (StarCalc)",
+                  "impress_html_Export",
+                  "draw_html_Export")));
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LocalConversionTask.class);
 
   private final TargetDocumentSpecs target;
   private final FilterChain filterChain;
   private final Map<String, Object> storeProperties;
+  private final boolean storeToOutputStream;
+  private TemporaryFileMaker fileMaker;
+  private volatile ConversionResult result;
+
+  /**
+   * Creates a new conversion task from a specified source to a specified target.
+   *
+   * @param source The source specifications for the conversion.
+   * @param target The target specifications for the conversion.
+   * @param useStreamAdapters Indicates whether document are loaded/stored using stream adapters.
+   * @param loadProperties The load properties to be applied when loading the document. These
+   *     properties are added after the load properties of the document format specified in the
+   *     {@code source} arguments.
+   * @param storeProperties The store properties to be applied when storing the document. These
+   *     properties are added after the store properties of the document format specified in the
+   *     {@code target} arguments.
+   * @param filterChain The filter chain to use with this task.
+   */
+  public LocalConversionTask(
+      final @NonNull SourceDocumentSpecs source,
+      final @NonNull TargetDocumentSpecs target,
+      final boolean useStreamAdapters,
+      final @Nullable Map<@NonNull String, @NonNull Object> loadProperties,
+      final @Nullable Map<@NonNull String, @NonNull Object> storeProperties,
+      final @Nullable FilterChain filterChain) {
+    this(source, target, useStreamAdapters, false, loadProperties, storeProperties, filterChain);
+  }
 
   /**
    * Creates a new conversion task from a specified source to a specified target.
@@ -71,6 +142,8 @@ public class LocalConversionTask extends AbstractLocalOfficeTask {
    * @param source The source specifications for the conversion.
    * @param target The target specifications for the conversion.
    * @param useStreamAdapters Indicates whether document are loaded/stored using stream adapters.
+   * @param storeToOutputStream Indicates whether the document is stored directly to the output
+   *     stream of the target, if any, instead of a temporary file.
    * @param loadProperties The load properties to be applied when loading the document. These
    *     properties are added after the load properties of the document format specified in the
    *     {@code source} arguments.
@@ -83,6 +156,7 @@ public class LocalConversionTask extends AbstractLocalOfficeTask {
       final @NonNull SourceDocumentSpecs source,
       final @NonNull TargetDocumentSpecs target,
       final boolean useStreamAdapters,
+      final boolean storeToOutputStream,
       final @Nullable Map<@NonNull String, @NonNull Object> loadProperties,
       final @Nullable Map<@NonNull String, @NonNull Object> storeProperties,
       final @Nullable FilterChain filterChain) {
@@ -91,6 +165,18 @@ public class LocalConversionTask extends AbstractLocalOfficeTask {
     this.target = target;
     this.filterChain = Optional.ofNullable(filterChain).orElse(RefreshFilter.CHAIN).copy();
     this.storeProperties = storeProperties;
+    this.storeToOutputStream = storeToOutputStream;
+  }
+
+  /**
+   * Sets the maker of the temporary files required by the task, typically the office manager
+   * executing the task. Without a temporary file maker, a source document read from a stream is
+   * always written to a file by its specifications before being loaded.
+   *
+   * @param fileMaker The temporary file maker, or {@code null} if none.
+   */
+  public void setTemporaryFileMaker(final @Nullable TemporaryFileMaker fileMaker) {
+    this.fileMaker = fileMaker;
   }
 
   @Override
@@ -122,41 +208,110 @@ public class LocalConversionTask extends AbstractLocalOfficeTask {
       }
     }
 
+    final ConversionResult.Builder resultBuilder =
+        ConversionResult.builder().officeUrl(localContext.getConnectString());
+
     // Get a source file that the office process can load. If the source
     // is an input stream, then a temporary file will be created from the
-    // stream. The temporary file will be deleted once the task is done.
-    final File sourceFile = source.getFile();
+    // stream, unless the stream can be loaded directly. A source held in
+    // memory is always loaded directly. The temporary file will be deleted
+    // once the task is done.
+    long phaseStart = System.nanoTime();
+    final CloseableXInputStream sourceStream;
+    final File sourceFile;
+    context.beginIoPhase();
+    try {
+      sourceStream = openSourceStream();
+      sourceFile = sourceStream == null ? source.getFile() : null;
+    } finally {
+      context.endIoPhase();
+    }
+    resultBuilder
+        .sourcePreparationTime(System.nanoTime() - phaseStart)
+        .sourceSize(sourceFile == null ? sourceStream.getLength() : sourceFile.length());
     if (LOGGER.isTraceEnabled()) {
-      LOGGER.trace("Local conversion source file: {}", sourceFile.getAbsolutePath());
+      LOGGER.trace(
+          "Local conversion source file: {}",
+          sourceFile == null ? "<stream>" : sourceFile.getAbsolutePath());
     }
     try {
 
-      // Get the target file (which is a temporary file if the
-      // output target is an output stream).
-      final File targetFile = target.getFile();
+      // Get the target stream if the document can be stored directly into
+      // it, or the target file (which is a temporary file if the output
+      // target is an output stream) otherwise. A target written to memory
+      // is always stored directly, unless the export filter requires a file.
+      OutputStream targetStream =
+          storeToOutputStream || target.isInMemory() ? target.getOutputStream() : null;
+      File targetFile = targetStream == null ? target.getFile() : null;
       if (LOGGER.isTraceEnabled()) {
-        LOGGER.trace("Local conversion target file: {}", targetFile.getAbsolutePath());
+        LOGGER.trace(
+            "Local conversion target file: {}",
+            targetFile == null ? "<stream>" : targetFile.getAbsolutePath());
       }
 
       XComponent document = null;
       try {
-        document = loadDocument(localContext, sourceFile);
+        phaseStart = System.nanoTime();
+        document =
+            sourceFile == null
+                ? loadDocument(localContext, sourceStream)
+                : loadDocument(localContext, sourceFile);
+        resultBuilder.loadTime(System.nanoTime() - phaseStart);
+
+        phaseStart = System.nanoTime();
         modifyDocument(context, document);
-        storeDocument(document, targetFile);
-
-        // onComplete on target will copy the temp file to
-        // the OutputStream and then delete the temp file
-        // if the output is an OutputStream
-        target.onComplete(targetFile);
+        resultBuilder.modifyTime(System.nanoTime() - phaseStart);
+
+        // Fall back to the target file if the export filter cannot write to a stream.
+        if (targetStream != null && requiresFile(document)) {
+          LOGGER.debug("Export filter cannot write to a stream; storing to a file");
+          targetStream = null;
+          targetFile = target.getFile();
+        }
+
+        if (targetFile == null) {
+          // The office process waits for the target stream while storing.
+          context.beginIoPhase();
+          try {
+            phaseStart = System.nanoTime();
+            final long targetSize = storeDocument(document, targetStream);
+            resultBuilder.storeTime(System.nanoTime() - phaseStart).targetSize(targetSize);
+
+            phaseStart = System.nanoTime();
+            target.onStreamComplete();
+            resultBuilder.targetCompletionTime(System.nanoTime() - phaseStart);
+          } finally {
+            context.endIoPhase();
+          }
+        } else {
+          phaseStart = System.nanoTime();
+          storeDocument(document, targetFile);
+          resultBuilder.storeTime(System.nanoTime() - phaseStart).targetSize(targetFile.length());
+
+          // onComplete on target will copy the temp file to
+          // the OutputStream and then delete the temp file
+          // if the output is an OutputStream
+          context.beginIoPhase();
+          try {
+            phaseStart = System.nanoTime();
+            target.onComplete(targetFile);
+            resultBuilder.targetCompletionTime(System.nanoTime() - phaseStart);
+          } finally {
+            context.endIoPhase();
+          }
+        }
+
+        result = resultBuilder.build();
+        LOGGER.debug("Local conversion done: {}", result);
 
       } catch (OfficeException officeEx) {
         LOGGER.error("Local conversion failed.", officeEx);
-        target.onFailure(targetFile, officeEx);
+        onFailure(targetFile, officeEx);
         throw officeEx;
       } catch (Exception ex) {
         LOGGER.error("Local conversion failed.", ex);
         final OfficeException officeEx = new OfficeException("Local conversion failed", ex);
-        target.onFailure(targetFile, officeEx);
+        onFailure(targetFile, officeEx);
         throw officeEx;
       } finally {
         closeDocument(document);
@@ -166,10 +321,61 @@ public class LocalConversionTask extends AbstractLocalOfficeTask {
 
       // Here the source file is no longer required, so we can delete
       // any temporary file that has been created if required.
-      source.onConsumed(sourceFile);
+      context.beginIoPhase();
+      try {
+        if (sourceFile == null) {
+          sourceStream.close();
+          source.onStreamConsumed();
+        } else {
+          source.onConsumed(sourceFile);
+        }
+      } finally {
+        context.endIoPhase();
+      }
     }
   }
 
+  // Notifies the target that the conversion failed.
+  private void onFailure(final @Nullable File targetFile, final OfficeException officeEx) {
+
+    if (targetFile == null) {
+      target.onStreamFailure(officeEx);
+    } else {
+      target.onFailure(targetFile, officeEx);
+    }
+  }
+
+  // Reads the source stream, if the document can be loaded from a stream.
+  private @Nullable CloseableXInputStream openSourceStream() throws OfficeException {
+
+    final ByteBuffer byteBuffer = source.getByteBuffer();
+    if (byteBuffer != null) {
+      return new ByteBufferXInputStream(byteBuffer);
+    }
+    // A large stream is spilled to a temporary file, which requires a temporary file maker.
+    final InputStream inputStream =
+        useStreamAdapters && fileMaker != null ? source.getInputStream() : null;
+    if (inputStream == null) {
+      return null;
+    }
+    try {
+      return new SpooledXInputStream(inputStream, STREAM_MEMORY_THRESHOLD, fileMaker);
+    } catch (IOException ex) {
+      source.onStreamConsumed();
+      throw new OfficeException("Could not read source stream", ex);
+    }
+  }
+
+  /**
+   * Gets the details about how this task has been executed.
+   *
+   * @return The result of the conversion, or {@code null} if the task has not been successfully
+   *     executed yet.
+   */
+  public @Nullable ConversionResult getResult() {
+    return result;
+  }
+
   // Gets the office properties to apply when the converted
   // document will be saved as the output file.
   private Map<String, Object> getStoreProperties(final XComponent document) throws OfficeException {
@@ -213,6 +419,65 @@ public class LocalConversionTask extends AbstractLocalOfficeTask {
     }
   }
 
+  // Gets whether the export filter cannot write the document to a stream.
+  private boolean requiresFile(final XComponent document) throws OfficeException {
+
+    return FILE_ONLY_FILTERS.contains(getStoreProperties(document).get("FilterName"));
+  }
+
+  // Stores the converted document directly to the output stream of the target.
+  protected long storeDocument(
+      final @NonNull XComponent document, final @NonNull OutputStream targetStream)
+      throws OfficeException {
+
+    final Map<String, Object> storeProps = getStoreProperties(document);
+
+    // FilterName must be specified.
+    AssertUtils.isTrue(storeProps.containsKey("FilterName"), "Unsupported conversion");
+
+    // The office process closes the stream once the document is stored,
+    // but the target is responsible to close its stream.
+    final CountingOutputStream outputStream = new CountingOutputStream(targetStream);
+    try {
+      storeProps.put("OutputStream", new OutputStreamToXOutputStreamAdapter(outputStream));
+      Lo.qi(XStorable.class, document).storeToURL("private:stream", toUnoProperties(storeProps));
+      outputStream.flush();
+      return outputStream.count;
+    } catch (ErrorCodeIOException errorCodeIoEx) {
+      throw new OfficeException(
+          ERROR_MESSAGE_STORE + "stream; errorCode: " + errorCodeIoEx.ErrCode, errorCodeIoEx);
+    } catch (com.sun.star.uno.Exception | IOException ex) {
+      throw new OfficeException(ERROR_MESSAGE_STORE + "stream", ex);
+    }
+  }
+
+  /** An output stream counting the bytes written, which does not close the underlying stream. */
+  private static final class CountingOutputStream extends FilterOutputStream {
+
+    private long count;
+
+    /* default */ CountingOutputStream(final OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(final int byteValue) throws IOException {
+      out.write(byteValue);
+      count++;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int off, final int len) throws IOException {
+      out.write(bytes, off, len);
+      count += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+
   private void storeDocumentToURL(
       final XStorable storable, final File targetFile, final Map<String, Object> storeProps)
       throws com.sun.star.uno.Exception, OfficeException {
@@ -229,6 +494,11 @@ public class LocalConversionTask extends AbstractLocalOfficeTask {
     }
   }
 
+  @Override
+  public @Nullable DocumentFormat getTargetFormat() {
+    return target.getFormat();
+  }
+
   @Override
   public @NonNull String toString() {
     return getClass().getSimpleName()
@@ -243,6 +513,8 @@ public class LocalConversionTask extends AbstractLocalOfficeTask {
         + storeProperties
         + ", useStreamAdapters="
         + useStreamAdapters
+        + ", storeToOutputStream="
+        + storeToOutputStream
         + '}';
   }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.task;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+import com.sun.star.io.BufferSizeExceededException;
+import com.sun.star.io.IOException;
+import com.sun.star.io.NotConnectedException;
+import com.sun.star.io.XInputStream;
+import com.sun.star.lib.uno.helper.ComponentBase;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import org.jodconverter.core.office.FileCleaner;
+import org.jodconverter.core.office.TemporaryFileMaker;
+import org.jodconverter.core.util.IOUtils;
+
+/**
+ * A seekable {@link XInputStream} exposing the content of an {@link InputStream} to an office
+ * process. The content is kept in memory, unless it is larger than a threshold, in which case it is
+ * spilled to a temporary file, so small documents are loaded without touching the disk. The
+ * temporary file is created by the temporary file maker of the office manager, so it lives in the
+ * temporary directory of the office manager.
+ */
+final class SpooledXInputStream extends ComponentBase implements CloseableXInputStream {
+
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024; // 64 KB
+
+  private byte[] buffer;
+  private File spillFile;
+  private RandomAccessFile spill;
+  private final long length;
+  private long position;
+  private boolean open = true;
+
+  /**
+   * Creates a new stream reading the specified input stream until its end. The input stream is not
+   * closed.
+   *
+   * @param inputStream The stream to read.
+   * @param memoryThreshold The maximum number of bytes kept in memory.
+   * @param fileMaker The maker of the temporary file the content is spilled to.
+   * @throws java.io.IOException If the stream cannot be read, or the content cannot be spilled to a
+   *     temporary file.
+   */
+  /* default */ SpooledXInputStream(
+      final @NonNull InputStream inputStream,
+      final int memoryThreshold,
+      final @NonNull TemporaryFileMaker fileMaker)
+      throws java.io.IOException {
+    super();
+
+    byte[] bytes = new byte[Math.min(INITIAL_BUFFER_SIZE, memoryThreshold)];
+    int count = 0;
+    int read;
+    while ((read = inputStream.read(bytes, count, bytes.length - count)) != -1) {
+      count += read;
+      if (count == bytes.length) {
+        if (count >= memoryThreshold) {
+          break;
+        }
+        bytes = Arrays.copyOf(bytes, (int) Math.min(count * 2L, memoryThreshold));
+      }
+    }
+
+    if (read == -1) {
+      buffer = bytes;
+      length = count;
+      return;
+    }
+
+    // The content is larger than the threshold, spill it to a temporary file.
+    spillFile = fileMaker.makeTemporaryFile("spool");
+    try {
+      try (OutputStream outputStream = new FileOutputStream(spillFile)) {
+        outputStream.write(bytes, 0, count);
+        IOUtils.copy(inputStream, outputStream);
+      }
+      spill = new RandomAccessFile(spillFile, "r");
+      length = spill.length();
+    } catch (java.io.IOException ex) {
+      FileCleaner.delete(spillFile);
+      throw ex;
+    }
+  }
+
+  /**
+   * Gets whether the content has been spilled to a temporary file.
+   *
+   * @return {@code true} if the content is stored in a temporary file, {@code false} if it is kept
+   *     in memory.
+   */
+  /* default */ boolean isSpilled() {
+    return spillFile != null;
+  }
+
+  @Override
+  public synchronized int readBytes(final byte[][] data, final int bytesToRead)
+      throws NotConnectedException, BufferSizeExceededException, IOException {
+
+    ensureOpen();
+    if (bytesToRead < 0) {
+      throw new BufferSizeExceededException("Number of bytes to read must not be negative");
+    }
+
+    final int count = (int) Math.min(bytesToRead, length - position);
+    // The array must have the exact size of the data, it is sent as is to the office process.
+    data[0] = new byte[count];
+    if (spill == null) {
+      System.arraycopy(buffer, (int) position, data[0], 0, count);
+    } else {
+      try {
+        spill.seek(position);
+        spill.readFully(data[0]);
+      } catch (java.io.IOException ex) {
+        throw new IOException(ex.getMessage(), this);
+      }
+    }
+    position += count;
+    return count;
+  }
+
+  @Override
+  public int readSomeBytes(final byte[][] data, final int maxBytesToRead)
+      throws NotConnectedException, BufferSizeExceededException, IOException {
+    return readBytes(data, maxBytesToRead);
+  }
+
+  @Override
+  public synchronized void skipBytes(final int bytesToSkip)
+      throws NotConnectedException, BufferSizeExceededException, IOException {
+
+    ensureOpen();
+    if (bytesToSkip < 0) {
+      throw new BufferSizeExceededException("Number of bytes to skip must not be negative");
+    }
+    position += Math.min(bytesToSkip, length - position);
+  }
+
+  @Override
+  public synchronized int available() throws NotConnectedException, IOException {
+
+    ensureOpen();
+    return (int) Math.min(Integer.MAX_VALUE, length - position);
+  }
+
+  @Override
+  public void closeInput() throws NotConnectedException, IOException {
+
+    // The office process is done with the stream.
+    close();
+  }
+
+  @Override
+  public synchronized void seek(final long location)
+      throws com.sun.star.lang.IllegalArgumentException, IOException {
+
+    if (location < 0 || location > length) {
+      throw new com.sun.star.lang.IllegalArgumentException(
+          String.format("Location %d is out of bounds [0, %d]", location, length), this, (short) 0);
+    }
+    position = location;
+  }
+
+  @Override
+  public synchronized long getPosition() throws IOException {
+    return position;
+  }
+
+  @Override
+  public long getLength() {
+    return length;
+  }
+
+  /** Releases the memory or the temporary file holding the content. */
+  @Override
+  public synchronized void close() {
+
+    if (!open) {
+      return;
+    }
+    open = false;
+    buffer = null;
+    if (spill != null) {
+      try {
+        spill.close();
+      } catch (java.io.IOException ignored) {
+        // Nothing to do, the file is deleted anyway
+      }
+      spill = null;
+    }
+    if (spillFile != null) {
+      FileCleaner.delete(spillFile);
+    }
+  }
+
+  private void ensureOpen() throws NotConnectedException {
+
+    if (!open) {
+      throw new NotConnectedException("Stream is closed", this);
+    }
+  }
+}
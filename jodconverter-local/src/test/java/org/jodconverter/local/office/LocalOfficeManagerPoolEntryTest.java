@@ -27,15 +27,28 @@ import static org.jodconverter.local.office.LocalOfficeManager.DEFAULT_MAX_TASKS
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.core.office.RestartReason;
 import org.jodconverter.core.task.OfficeTask;
 
 /** Contains tests for the {@link LocalOfficeManagerPoolEntry} class. */
@@ -71,6 +84,283 @@ class LocalOfficeManagerPoolEntryTest {
     }
   }
 
+  @Nested
+  class MaxProcessMemory {
+
+    @Test
+    void whenMaxProcessMemoryExceeded_ShouldRestart() throws OfficeException, InterruptedException {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      given(processManager.getResidentMemory()).willReturn(1_000L, 3_000L);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              DEFAULT_MAX_TASKS_PER_PROCESS,
+              0,
+              2_000L,
+              DEFAULT_TASK_EXECUTION_TIMEOUT,
+              processManager,
+              null,
+              null);
+      entry.start();
+
+      // Force a connection (it is usually done in LocalOfficeProcessManager#start).
+      connection.connect();
+
+      final OfficeTask task = mock(OfficeTask.class);
+      entry.execute(task);
+      verify(processManager, never()).restart();
+      entry.execute(task);
+
+      // Wait a bit since reconnect use "Executor.execute"
+      Thread.sleep(100L);
+
+      verify(processManager, times(1)).restart();
+    }
+
+    @Test
+    void withoutMaxProcessMemory_ShouldNotSampleMemory() throws OfficeException {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              DEFAULT_MAX_TASKS_PER_PROCESS, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager);
+      entry.start();
+      connection.connect();
+
+      entry.execute(mock(OfficeTask.class));
+
+      verify(processManager, never()).getResidentMemory();
+    }
+  }
+
+  @Nested
+  class Standby {
+
+    @Test
+    void whenMaxTasksPerProcessReachedAndStandbyReady_ShouldSwitchToStandby()
+        throws OfficeException {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final TestOfficeConnection standbyConnection =
+          TestOfficeConnection.prepareTest(new OfficeUrl(9998));
+      final LocalOfficeProcessManager standbyProcessManager = mock(LocalOfficeProcessManager.class);
+      given(standbyProcessManager.getConnection()).willReturn(standbyConnection);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              2,
+              0,
+              0L,
+              DEFAULT_TASK_EXECUTION_TIMEOUT,
+              processManager,
+              standbyProcessManager,
+              null);
+      entry.start();
+
+      // Force the connections (it is usually done in LocalOfficeProcessManager).
+      connection.connect();
+      standbyConnection.connect();
+
+      final OfficeTask task = mock(OfficeTask.class);
+      entry.execute(task);
+      verify(standbyProcessManager, times(1)).startStandby();
+      entry.execute(task);
+      entry.execute(task);
+
+      verify(processManager, never()).restart();
+      verify(processManager, times(1)).stopStandby();
+      verify(task, times(2)).execute(connection);
+      verify(task, times(1)).execute(standbyConnection);
+      assertThat(entry.isRunning()).isTrue();
+    }
+
+    @Test
+    void whenMaxTasksPerProcessReachedAndStandbyNotReady_ShouldRestart()
+        throws OfficeException, InterruptedException {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final TestOfficeConnection standbyConnection =
+          TestOfficeConnection.prepareTest(new OfficeUrl(9998));
+      final LocalOfficeProcessManager standbyProcessManager = mock(LocalOfficeProcessManager.class);
+      given(standbyProcessManager.getConnection()).willReturn(standbyConnection);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              2,
+              0,
+              0L,
+              DEFAULT_TASK_EXECUTION_TIMEOUT,
+              processManager,
+              standbyProcessManager,
+              null);
+      entry.start();
+
+      // Force a connection (it is usually done in LocalOfficeProcessManager#start).
+      connection.connect();
+
+      final OfficeTask task = mock(OfficeTask.class);
+      entry.execute(task);
+      entry.execute(task);
+
+      // Wait a bit since reconnect use "Executor.execute"
+      Thread.sleep(100L);
+
+      verify(processManager, times(1)).restart();
+      verify(processManager, never()).stopStandby();
+    }
+  }
+
+  @Nested
+  class NotifyRestart {
+
+    @Test
+    void whenMaxTasksPerProcessReached_ShouldNotifyTaskLimitRestart()
+        throws OfficeException, InterruptedException {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(1, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager);
+      final List<RestartReason> reasons = new CopyOnWriteArrayList<>();
+      ReflectionTestUtils.setField(
+          entry, "restartListener", (Consumer<RestartReason>) reasons::add);
+      entry.start();
+
+      // Force a connection (it is usually done in LocalOfficeProcessManager#start).
+      connection.connect();
+
+      entry.execute(mock(OfficeTask.class));
+
+      // Wait a bit since reconnect use "Executor.execute"
+      Thread.sleep(100L);
+
+      verify(processManager, times(1)).restart();
+      assertThat(reasons).containsExactly(RestartReason.TASK_LIMIT);
+    }
+  }
+
+  @Nested
+  class StaggeredRestart {
+
+    @Test
+    void withJitter_ShouldLowerTaskLimitWithinBounds() {
+
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection())
+          .willReturn(TestOfficeConnection.prepareTest(new OfficeUrl(9999)));
+      for (int i = 0; i < 50; i++) {
+        final LocalOfficeManagerPoolEntry entry =
+            new LocalOfficeManagerPoolEntry(
+                200, 10, 0L, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager, null, null);
+
+        assertThat(entry)
+            .extracting("taskLimit")
+            .asInstanceOf(InstanceOfAssertFactories.INTEGER)
+            .isBetween(180, 200);
+      }
+    }
+
+    @Test
+    void whenMaxTasksPerProcessReachedAndNoRestartPermit_ShouldPostponeRestart()
+        throws OfficeException, InterruptedException {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              2, 0, 0L, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager, null, new Semaphore(0));
+      entry.start();
+
+      // Force a connection (it is usually done in LocalOfficeProcessManager#start).
+      connection.connect();
+
+      final OfficeTask task = mock(OfficeTask.class);
+      entry.execute(task);
+      entry.execute(task);
+      entry.execute(task);
+
+      // Wait a bit since reconnect use "Executor.execute"
+      Thread.sleep(100L);
+
+      verify(processManager, never()).restart();
+      verify(task, times(3)).execute(connection);
+    }
+
+    @Test
+    void whenMaxTasksPerProcessReached_ShouldReleaseRestartPermitOnceReconnected()
+        throws OfficeException, InterruptedException {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final Semaphore restartPermits = new Semaphore(1);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              2, 0, 0L, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager, null, restartPermits);
+      entry.start();
+
+      // Force a connection (it is usually done in LocalOfficeProcessManager#start).
+      connection.connect();
+
+      final OfficeTask task = mock(OfficeTask.class);
+      entry.execute(task);
+      entry.execute(task);
+
+      // Wait a bit since reconnect use "Executor.execute"
+      Thread.sleep(100L);
+
+      verify(processManager, times(1)).restart();
+      assertThat(restartPermits.availablePermits()).isEqualTo(0);
+
+      // Simulate the reconnection of the restarted process.
+      connection.connect();
+
+      assertThat(restartPermits.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void whenRestartFails_ShouldReleaseRestartPermit()
+        throws OfficeException, InterruptedException {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final Semaphore restartPermits = new Semaphore(1);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              2, 0, 0L, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager, null, restartPermits);
+      final ArgumentCaptor<Runnable> failureListener = ArgumentCaptor.forClass(Runnable.class);
+      verify(processManager).setRestartFailureListener(failureListener.capture());
+      entry.start();
+
+      // Force a connection (it is usually done in LocalOfficeProcessManager#start).
+      connection.connect();
+
+      final OfficeTask task = mock(OfficeTask.class);
+      entry.execute(task);
+      entry.execute(task);
+
+      // Wait a bit since reconnect use "Executor.execute"
+      Thread.sleep(100L);
+
+      verify(processManager, times(1)).restart();
+      assertThat(restartPermits.availablePermits()).isEqualTo(0);
+
+      // Simulate the failure of the restart, the process never reconnecting.
+      failureListener.getValue().run();
+
+      assertThat(restartPermits.availablePermits()).isEqualTo(1);
+    }
+  }
+
   @Nested
   class HandleExecuteTimeoutException {
 
@@ -105,6 +395,130 @@ class LocalOfficeManagerPoolEntryTest {
 
       verify(processManager, times(1)).restartDueToTaskTimeout();
     }
+
+    @Test
+    void whenKilledProcessDisconnects_ShouldNotCancelNextTask()
+        throws OfficeException, InterruptedException, ExecutionException, TimeoutException {
+
+      final OfficeUrl url = new OfficeUrl(9999);
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(url);
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(DEFAULT_MAX_TASKS_PER_PROCESS, 500L, processManager);
+      entry.start();
+
+      // Force a connection (it is usually done in LocalOfficeProcessManager#start).
+      connection.connect();
+
+      assertThatExceptionOfType(OfficeException.class)
+          .isThrownBy(
+              () ->
+                  entry.execute(
+                      context -> {
+                        try {
+                          Thread.sleep(700L);
+                        } catch (InterruptedException ignored) {
+                          // ignore
+                        }
+                      }));
+
+      // The next task waits for the killed office process to be restarted.
+      final AtomicBoolean executed = new AtomicBoolean(false);
+      final CompletableFuture<Void> future = entry.executeAsync(context -> executed.set(true));
+      connection.disconnect();
+      connection.connect();
+
+      future.get(5, TimeUnit.SECONDS);
+      assertThat(executed).isTrue();
+      verify(processManager, times(1)).restartDueToTaskTimeout();
+      verify(processManager, times(1)).restartDueToLostConnection();
+    }
+  }
+
+  @Nested
+  class GetTaskProgress {
+
+    @Test
+    void whenInIoPhase_ShouldReturnUnknownProgress() {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      given(processManager.getCpuTime()).willReturn(42L);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              DEFAULT_MAX_TASKS_PER_PROCESS, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager);
+
+      connection.beginIoPhase();
+      assertThat(entry.getTaskProgress()).isEqualTo(-1L);
+      connection.endIoPhase();
+      assertThat(entry.getTaskProgress()).isEqualTo(42L);
+    }
+  }
+
+  @Nested
+  class HandleStalledTaskException {
+
+    @Test
+    void shouldRestartAndNotifyTaskStalledRestart() {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      given(processManager.getCpuTime()).willReturn(42L);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              DEFAULT_MAX_TASKS_PER_PROCESS, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager);
+      final List<RestartReason> reasons = new CopyOnWriteArrayList<>();
+      ReflectionTestUtils.setField(
+          entry, "restartListener", (Consumer<RestartReason>) reasons::add);
+
+      assertThat(entry.getTaskProgress()).isEqualTo(42L);
+      entry.handleStalledTaskException(new TimeoutException());
+
+      verify(processManager, times(1)).restartDueToTaskTimeout();
+      assertThat(reasons).containsExactly(RestartReason.TASK_STALLED);
+    }
+  }
+
+  @Nested
+  class HandleHealthCheckFailure {
+
+    @Test
+    void whenConnected_ShouldRestartAndNotifyHealthCheckRestart() throws OfficeException {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              DEFAULT_MAX_TASKS_PER_PROCESS, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager);
+      final List<RestartReason> reasons = new CopyOnWriteArrayList<>();
+      ReflectionTestUtils.setField(
+          entry, "restartListener", (Consumer<RestartReason>) reasons::add);
+      connection.connect();
+
+      entry.handleHealthCheckFailure(new TimeoutException());
+
+      verify(processManager, times(1)).restartDueToTaskTimeout();
+      assertThat(reasons).containsExactly(RestartReason.HEALTH_CHECK);
+    }
+
+    @Test
+    void whenDisconnected_ShouldNotRestart() {
+
+      final TestOfficeConnection connection = TestOfficeConnection.prepareTest(new OfficeUrl(9999));
+      final LocalOfficeProcessManager processManager = mock(LocalOfficeProcessManager.class);
+      given(processManager.getConnection()).willReturn(connection);
+      final LocalOfficeManagerPoolEntry entry =
+          new LocalOfficeManagerPoolEntry(
+              DEFAULT_MAX_TASKS_PER_PROCESS, DEFAULT_TASK_EXECUTION_TIMEOUT, processManager);
+
+      entry.handleHealthCheckFailure(new TimeoutException());
+
+      verify(processManager, never()).restartDueToTaskTimeout();
+    }
   }
 
   @Nested
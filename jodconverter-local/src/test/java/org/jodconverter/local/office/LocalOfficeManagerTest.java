@@ -25,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.jodconverter.core.office.AbstractOfficeManagerPool.DEFAULT_TASK_EXECUTION_TIMEOUT;
 import static org.jodconverter.core.office.AbstractOfficeManagerPool.DEFAULT_TASK_QUEUE_TIMEOUT;
 import static org.jodconverter.local.office.LocalOfficeManager.DEFAULT_AFTER_START_PROCESS_DELAY;
+import static org.jodconverter.local.office.LocalOfficeManager.DEFAULT_CACHE_PROFILE;
 import static org.jodconverter.local.office.LocalOfficeManager.DEFAULT_EXISTING_PROCESS_ACTION;
 import static org.jodconverter.local.office.LocalOfficeManager.DEFAULT_KEEP_ALIVE_ON_SHUTDOWN;
 import static org.jodconverter.local.office.LocalOfficeManager.DEFAULT_MAX_TASKS_PER_PROCESS;
@@ -112,6 +113,7 @@ class LocalOfficeManagerTest {
                           "officeProcessManager.existingProcessAction",
                           "officeProcessManager.startFailFast",
                           "officeProcessManager.keepAliveOnShutdown",
+                          "officeProcessManager.cacheProfile",
                           "officeProcessManager.connection.officeUrl.connectString")
                       .containsExactly(
                           DEFAULT_TASK_EXECUTION_TIMEOUT,
@@ -127,6 +129,7 @@ class LocalOfficeManagerTest {
                           DEFAULT_EXISTING_PROCESS_ACTION,
                           DEFAULT_START_FAIL_FAST,
                           DEFAULT_KEEP_ALIVE_ON_SHUTDOWN,
+                          DEFAULT_CACHE_PROFILE,
                           new OfficeUrl(2002).getConnectString()));
     }
   }
@@ -184,6 +187,7 @@ class LocalOfficeManagerTest {
               .existingProcessAction((ExistingProcessAction) null)
               .startFailFast(null)
               .keepAliveOnShutdown(null)
+              .cacheProfile(null)
               .maxTasksPerProcess(null)
               .build();
 
@@ -220,6 +224,7 @@ class LocalOfficeManagerTest {
                           "officeProcessManager.existingProcessAction",
                           "officeProcessManager.startFailFast",
                           "officeProcessManager.keepAliveOnShutdown",
+                          "officeProcessManager.cacheProfile",
                           "officeProcessManager.connection.officeUrl.connectString")
                       .containsExactly(
                           DEFAULT_TASK_EXECUTION_TIMEOUT,
@@ -235,6 +240,7 @@ class LocalOfficeManagerTest {
                           DEFAULT_EXISTING_PROCESS_ACTION,
                           DEFAULT_START_FAIL_FAST,
                           DEFAULT_KEEP_ALIVE_ON_SHUTDOWN,
+                          DEFAULT_CACHE_PROFILE,
                           new OfficeUrl(2002).getConnectString()));
     }
 
@@ -281,6 +287,7 @@ class LocalOfficeManagerTest {
               .existingProcessAction("connect")
               .startFailFast(true)
               .keepAliveOnShutdown(true)
+              .cacheProfile(true)
               .maxTasksPerProcess(99)
               .build();
 
@@ -314,7 +321,8 @@ class LocalOfficeManagerTest {
                         "officeProcessManager.afterStartProcessDelay",
                         "officeProcessManager.existingProcessAction",
                         "officeProcessManager.startFailFast",
-                        "officeProcessManager.keepAliveOnShutdown")
+                        "officeProcessManager.keepAliveOnShutdown",
+                        "officeProcessManager.cacheProfile")
                     .containsExactly(
                         500L,
                         99,
@@ -327,6 +335,7 @@ class LocalOfficeManagerTest {
                         10L,
                         ExistingProcessAction.CONNECT,
                         true,
+                        true,
                         true);
               })
           .satisfies(
@@ -380,6 +389,132 @@ class LocalOfficeManagerTest {
           .isThrownBy(() -> builder().maxTasksPerProcess(-1).build());
     }
 
+    @Test
+    void withElasticPool_ShouldAllocateOfficeUrlsUpToMinPoolSize() {
+
+      final OfficeManager manager =
+          builder()
+              .pipeNames("test")
+              .minPoolSize(2)
+              .maxPoolSize(4)
+              .processIdleTimeout(60_000L)
+              .poolGrowthDelay(500L)
+              .build();
+
+      assertThat(manager)
+          .extracting("minPoolSize", "maxPoolSize", "idleTimeout", "growthDelay")
+          .containsExactly(2, 4, 60_000L, 500L);
+      assertThat(manager)
+          .extracting("entries")
+          .asList()
+          .hasSize(2)
+          .satisfies(
+              o ->
+                  assertThat(o)
+                      .extracting("officeProcessManager.officeUrl.connectString")
+                      .containsExactly(
+                          new OfficeUrl("test").getConnectString(),
+                          new OfficeUrl("test_1").getConnectString()));
+    }
+
+    @Test
+    void withStandbyProcess_ShouldAllocateStandbyOfficeUrls() {
+
+      final OfficeManager manager =
+          builder().pipeNames("test", "other").standbyProcess(true).build();
+
+      assertThat(manager)
+          .extracting("entries")
+          .asList()
+          .hasSize(2)
+          .satisfies(
+              o ->
+                  assertThat(o)
+                      .extracting("standbyProcessManager.officeUrl.connectString")
+                      .containsExactly(
+                          new OfficeUrl("test_1").getConnectString(),
+                          new OfficeUrl("test_2").getConnectString()));
+    }
+
+    @Test
+    void withHealthCheck_ShouldConfigureEntries() {
+
+      final OfficeManager manager =
+          builder()
+              .pipeNames("test")
+              .healthCheckInterval(30_000L)
+              .healthCheckTimeout(2_000L)
+              .build();
+
+      assertThat(manager)
+          .extracting("entries")
+          .asList()
+          .singleElement()
+          .hasFieldOrPropertyWithValue("healthCheckInterval", 30_000L)
+          .hasFieldOrPropertyWithValue("healthCheckTimeout", 2_000L);
+    }
+
+    @Test
+    void withStandbyProcessAndNoTaskLimit_ShouldNotCreateStandbyProcess() {
+
+      final OfficeManager manager =
+          builder().pipeNames("test").standbyProcess(true).maxTasksPerProcess(0).build();
+
+      assertThat(manager)
+          .extracting("entries")
+          .asList()
+          .singleElement()
+          .extracting("standbyProcessManager")
+          .isNull();
+    }
+
+    @Test
+    void withPerformanceProfile_ShouldMergeProfileSettings() {
+
+      final OfficeManager manager =
+          builder()
+              .performanceProfile(true)
+              .profileSettings(
+                  Collections.singletonMap(
+                      "/org.openoffice.Office.Recovery/AutoSave/Enabled", "true"))
+              .build();
+
+      assertThat(manager)
+          .extracting("entries")
+          .asList()
+          .singleElement()
+          .extracting("officeProcessManager.profileSettings")
+          .asInstanceOf(InstanceOfAssertFactories.MAP)
+          .hasSize(OfficeProfileSettings.PERFORMANCE_SETTINGS.size())
+          .containsEntry("/org.openoffice.Office.Recovery/AutoSave/Enabled", "true")
+          .containsEntry("/org.openoffice.Office.Common/History/PickListSize", "0");
+    }
+
+    @Test
+    void whenProfileSettingIsNotAPropertyPath_ShouldThrowIllegalArgumentException() {
+
+      assertThatIllegalArgumentException()
+          .isThrownBy(
+              () -> builder().profileSettings(Collections.singletonMap("AutoSave", "false")));
+    }
+
+    @Test
+    void whenMaxPoolSizeLowerThanOfficeUrlCount_ShouldThrowIllegalArgumentException() {
+
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> builder().portNumbers(2002, 2003).maxPoolSize(1).build());
+    }
+
+    @Test
+    void whenInvalidPoolSizes_ShouldThrowIllegalArgumentException() {
+
+      assertThatIllegalArgumentException().isThrownBy(() -> builder().minPoolSize(0).build());
+      assertThatIllegalArgumentException().isThrownBy(() -> builder().maxPoolSize(-1).build());
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> builder().processIdleTimeout(0L).build());
+      assertThatIllegalArgumentException().isThrownBy(() -> builder().poolGrowthDelay(-1L).build());
+    }
+
     @Test
     void withInvalidTemplateProfileDir_ShouldUseDefaultTemplateProfileDir() {
 
@@ -31,14 +31,20 @@ import static org.jodconverter.local.office.LocalOfficeManager.DEFAULT_PROCESS_T
 import static org.jodconverter.local.office.LocalOfficeManager.DEFAULT_START_FAIL_FAST;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.jodconverter.core.office.OfficeException;
 import org.jodconverter.core.office.OfficeUtils;
@@ -117,6 +123,50 @@ class LocalOfficeProcessManagerTest {
       assertThatExceptionOfType(OfficeException.class).isThrownBy(manager::start);
     }
 
+    @Test
+    void whenCouldNotStart_ShouldNotifyStartFailure() {
+
+      final OfficeUrl url = new OfficeUrl(9999);
+
+      final LocalOfficeProcessManager manager =
+          new LocalOfficeProcessManager(
+              url,
+              LocalOfficeUtils.getDefaultOfficeHome(),
+              OfficeUtils.getDefaultWorkingDir(),
+              LocalOfficeUtils.findBestProcessManager(),
+              new ArrayList<>(),
+              null,
+              1000L,
+              1000L,
+              DEFAULT_AFTER_START_PROCESS_DELAY,
+              DEFAULT_EXISTING_PROCESS_ACTION,
+              true,
+              DEFAULT_KEEP_ALIVE_ON_SHUTDOWN,
+              new OfficeConnection(url) {
+                @Override
+                public void connect() throws OfficeConnectionException {
+                  throw new OfficeConnectionException("Test", "Test");
+                }
+              });
+      final AtomicReference<Throwable> error = new AtomicReference<>();
+      manager.setProcessListeners(
+          Collections.singletonList(
+              new OfficeProcessListener() {
+                @Override
+                public void processStartFailed(
+                    final @NonNull String officeUrl,
+                    final long startTime,
+                    final int connectAttempts,
+                    final @NonNull Throwable ex) {
+                  assertThat(officeUrl).isEqualTo(url.getConnectString());
+                  error.set(ex);
+                }
+              }));
+
+      assertThatExceptionOfType(OfficeException.class).isThrownBy(manager::start);
+      assertThat(error.get()).isNotNull();
+    }
+
     // TODO: Check why this doesn't work
     // @Test
     void whenStartFailFastIsTrueAndTaskInterrupted_ShouldNotConnect() {
@@ -357,4 +407,86 @@ class LocalOfficeProcessManagerTest {
       assertThatCode(manager::restart).doesNotThrowAnyException();
     }
   }
+
+  @Nested
+  class ReadResidentMemory {
+
+    @Test
+    void whenStatusFileContainsVmRss_ShouldReturnBytes(final @TempDir File testFolder)
+        throws IOException {
+
+      final File statusFile = new File(testFolder, "status");
+      Files.write(
+          statusFile.toPath(),
+          "Name:\tsoffice.bin\nVmPeak:\t  900000 kB\nVmRSS:\t  123456 kB\nThreads:\t7\n"
+              .getBytes(StandardCharsets.US_ASCII));
+
+      assertThat(LocalOfficeProcessManager.readResidentMemory(statusFile))
+          .isEqualTo(123_456L * 1024L);
+    }
+
+    @Test
+    void whenStatusFileDoesNotExist_ShouldReturnMinusOne(final @TempDir File testFolder) {
+
+      assertThat(LocalOfficeProcessManager.readResidentMemory(new File(testFolder, "status")))
+          .isEqualTo(-1L);
+    }
+
+    @Test
+    void whenNoProcessStarted_ShouldReturnMinusOne() {
+
+      final OfficeUrl url = new OfficeUrl(9999);
+      final LocalOfficeProcessManager manager =
+          new LocalOfficeProcessManager(
+              url,
+              LocalOfficeUtils.getDefaultOfficeHome(),
+              OfficeUtils.getDefaultWorkingDir(),
+              LocalOfficeUtils.findBestProcessManager(),
+              new ArrayList<>(),
+              null,
+              DEFAULT_PROCESS_TIMEOUT,
+              DEFAULT_PROCESS_RETRY_INTERVAL,
+              DEFAULT_AFTER_START_PROCESS_DELAY,
+              DEFAULT_EXISTING_PROCESS_ACTION,
+              DEFAULT_START_FAIL_FAST,
+              DEFAULT_KEEP_ALIVE_ON_SHUTDOWN,
+              TestOfficeConnection.prepareTest(url));
+
+      assertThat(manager.getResidentMemory()).isEqualTo(-1L);
+    }
+  }
+
+  @Nested
+  class ReadCpuTime {
+
+    @Test
+    void whenStatFileIsValid_ShouldReturnUserAndSystemTicks(final @TempDir File testFolder)
+        throws IOException {
+
+      final File statFile = new File(testFolder, "stat");
+      Files.write(
+          statFile.toPath(),
+          "4242 (soffice (bin)) S 1 4242 4242 0 -1 4194560 5000 0 12 0 1500 250 0 0 20 0 7 0\n"
+              .getBytes(StandardCharsets.US_ASCII));
+
+      assertThat(LocalOfficeProcessManager.readCpuTime(statFile)).isEqualTo(1_750L);
+    }
+
+    @Test
+    void whenStatFileIsTruncated_ShouldReturnMinusOne(final @TempDir File testFolder)
+        throws IOException {
+
+      final File statFile = new File(testFolder, "stat");
+      Files.write(statFile.toPath(), "4242 (soffice.bin) S 1".getBytes(StandardCharsets.US_ASCII));
+
+      assertThat(LocalOfficeProcessManager.readCpuTime(statFile)).isEqualTo(-1L);
+    }
+
+    @Test
+    void whenStatFileDoesNotExist_ShouldReturnMinusOne(final @TempDir File testFolder) {
+
+      assertThat(LocalOfficeProcessManager.readCpuTime(new File(testFolder, "stat")))
+          .isEqualTo(-1L);
+    }
+  }
 }
@@ -59,6 +59,7 @@ import org.jodconverter.local.office.utils.Lo;
 import org.jodconverter.local.office.utils.UnoRuntime;
 import org.jodconverter.local.process.FreeBSDProcessManager;
 import org.jodconverter.local.process.MacProcessManager;
+import org.jodconverter.local.process.ProcessHandleProcessManager;
 import org.jodconverter.local.process.UnixProcessManager;
 import org.jodconverter.local.process.WindowsProcessManager;
 
@@ -90,9 +91,21 @@ class LocalOfficeUtilsTest {
           .isEqualTo(FreeBSDProcessManager.getDefault());
     }
 
+    @Test
+    void onLinux_ShouldReturnProcessHandleProcessManager() {
+      assumeTrue(OSUtils.IS_OS_LINUX && ProcessHandleProcessManager.getDefault().isUsable());
+
+      assertThat(LocalOfficeUtils.findBestProcessManager())
+          .isEqualTo(ProcessHandleProcessManager.getDefault());
+    }
+
     @Test
     void onUnix_ShouldReturnUnixProcessManager() {
-      assumeTrue(OSUtils.IS_OS_UNIX && !OSUtils.IS_OS_MAC && !OSUtils.IS_OS_FREE_BSD);
+      assumeTrue(
+          OSUtils.IS_OS_UNIX
+              && !OSUtils.IS_OS_MAC
+              && !OSUtils.IS_OS_FREE_BSD
+              && !(OSUtils.IS_OS_LINUX && ProcessHandleProcessManager.getDefault().isUsable()));
 
       assertThat(LocalOfficeUtils.findBestProcessManager())
           .isEqualTo(UnixProcessManager.getDefault());
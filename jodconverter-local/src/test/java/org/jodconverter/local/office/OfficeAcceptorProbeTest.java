@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.office;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Contains tests for the {@link OfficeAcceptorProbe} class. */
+class OfficeAcceptorProbeTest {
+
+  private static final String HEADER =
+      "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid";
+  private static final String LISTEN_2002 =
+      "   0: 0100007F:07D2 00000000:0000 0A 00000000:00000000 00:00000000 00000000  1000";
+  private static final String ESTABLISHED_2003 =
+      "   1: 0100007F:07D3 0100007F:D431 01 00000000:00000000 00:00000000 00000000  1000";
+
+  @TempDir File testFolder;
+
+  private Path writeTable(final String... lines) throws IOException {
+    final Path table = new File(testFolder, "tcp").toPath();
+    Files.write(table, Arrays.asList(lines), StandardCharsets.US_ASCII);
+    return table;
+  }
+
+  @Test
+  void isListening_WhenPortIsListening_ShouldReturnTrue() throws IOException {
+
+    final Path table = writeTable(HEADER, ESTABLISHED_2003, LISTEN_2002);
+
+    assertThat(OfficeAcceptorProbe.isListening(2002, Collections.singletonList(table))).isTrue();
+  }
+
+  @Test
+  void isListening_WhenPortIsNotListening_ShouldReturnFalse() throws IOException {
+
+    final Path table = writeTable(HEADER, LISTEN_2002, ESTABLISHED_2003);
+
+    assertThat(OfficeAcceptorProbe.isListening(2003, Collections.singletonList(table))).isFalse();
+    assertThat(OfficeAcceptorProbe.isListening(2004, Collections.singletonList(table))).isFalse();
+  }
+
+  @Test
+  void isListening_WhenNoTableCanBeRead_ShouldReturnTrue() throws IOException {
+
+    final Path table = new File(testFolder, "missing").toPath();
+
+    assertThat(OfficeAcceptorProbe.isListening(2002, Collections.singletonList(table))).isTrue();
+  }
+}
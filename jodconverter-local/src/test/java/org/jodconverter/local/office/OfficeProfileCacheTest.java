@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.office;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jodconverter.core.util.OSUtils;
+
+/** Contains tests for the {@link OfficeProfileCache} class. */
+class OfficeProfileCacheTest {
+
+  @TempDir File testFolder;
+
+  private File workingDir;
+  private File officeHome;
+
+  private static void writeBuildId(final File officeHome, final String buildId) throws IOException {
+
+    final File programDir = LocalOfficeUtils.getOfficeExecutable(officeHome).getParentFile();
+    Files.write(
+        new File(programDir, "versionrc").toPath(),
+        ("[Version]\nbuildid=" + buildId + "\n").getBytes(StandardCharsets.ISO_8859_1));
+  }
+
+  private static void initialize(final File profileDir) throws IOException {
+
+    final File userDir = new File(profileDir, "user");
+    Files.createDirectories(userDir.toPath());
+    Files.write(
+        new File(userDir, "registrymodifications.xcu").toPath(),
+        "<items/>".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+
+    workingDir = new File(testFolder, "work");
+    officeHome = new File(testFolder, "office");
+    final File executable = LocalOfficeUtils.getOfficeExecutable(officeHome);
+    Files.createDirectories(executable.getParentFile().toPath());
+    Files.createFile(executable.toPath());
+    writeBuildId(officeHome, "abc");
+    Files.createDirectories(workingDir.toPath());
+  }
+
+  @Nested
+  class GetCacheDir {
+
+    @Test
+    void whenSameInstallation_ShouldReturnSameDir() {
+
+      assertThat(new OfficeProfileCache(workingDir, officeHome, null).getCacheDir())
+          .hasParent(workingDir)
+          .isEqualTo(new OfficeProfileCache(workingDir, officeHome, null).getCacheDir());
+    }
+
+    @Test
+    void whenOfficeUpgraded_ShouldReturnAnotherDir() throws IOException {
+
+      final File before = new OfficeProfileCache(workingDir, officeHome, null).getCacheDir();
+      writeBuildId(officeHome, "def");
+
+      assertThat(new OfficeProfileCache(workingDir, officeHome, null).getCacheDir())
+          .isNotEqualTo(before);
+    }
+  }
+
+  @Nested
+  class CloneTo {
+
+    @Test
+    void shouldInitializeCachedProfileOnlyOnce() throws IOException {
+
+      final OfficeProfileCache cache = new OfficeProfileCache(workingDir, officeHome, null);
+      final AtomicInteger count = new AtomicInteger();
+      final OfficeProfileCache.Initializer initializer =
+          profileDir -> {
+            count.incrementAndGet();
+            initialize(profileDir);
+          };
+
+      final File instance1 = new File(workingDir, "instance1");
+      final File instance2 = new File(workingDir, "instance2");
+      cache.cloneTo(instance1, initializer);
+      cache.cloneTo(instance2, initializer);
+
+      assertThat(count).hasValue(1);
+      assertThat(new File(instance1, "user/registrymodifications.xcu")).hasContent("<items/>");
+      assertThat(new File(instance2, "user/registrymodifications.xcu")).hasContent("<items/>");
+    }
+
+    @Test
+    void shouldMakeCachedFilesReadOnly() throws IOException {
+      assumeFalse(OSUtils.IS_OS_WINDOWS);
+
+      final OfficeProfileCache cache = new OfficeProfileCache(workingDir, officeHome, null);
+      cache.cloneTo(new File(workingDir, "instance"), OfficeProfileCacheTest::initialize);
+
+      assertThat(
+              Files.getPosixFilePermissions(
+                  new File(cache.getCacheDir(), "user/registrymodifications.xcu").toPath()))
+          .doesNotContain(PosixFilePermission.OWNER_WRITE);
+    }
+
+    @Test
+    void whenCachedFileIsReadOnly_ShouldLinkFile() throws IOException {
+      assumeFalse(OSUtils.IS_OS_WINDOWS);
+
+      final OfficeProfileCache cache = new OfficeProfileCache(workingDir, officeHome, null);
+      cache.cloneTo(new File(workingDir, "instance1"), OfficeProfileCacheTest::initialize);
+      final File cachedFile = new File(cache.getCacheDir(), "user/registrymodifications.xcu");
+      // Root can write read-only files.
+      assumeFalse(Files.isWritable(cachedFile.toPath()));
+
+      final File instance = new File(workingDir, "instance2");
+      cache.cloneTo(instance, OfficeProfileCacheTest::initialize);
+
+      assertThat(
+              Files.isSameFile(
+                  cachedFile.toPath(),
+                  new File(instance, "user/registrymodifications.xcu").toPath()))
+          .isTrue();
+    }
+
+    @Test
+    void whenCachedFileIsWritable_ShouldCopyFile() throws IOException {
+
+      final OfficeProfileCache cache = new OfficeProfileCache(workingDir, officeHome, null);
+      cache.cloneTo(new File(workingDir, "instance1"), OfficeProfileCacheTest::initialize);
+      final File cachedFile = new File(cache.getCacheDir(), "user/registrymodifications.xcu");
+      assertThat(cachedFile.setWritable(true)).isTrue();
+
+      final File instance = new File(workingDir, "instance2");
+      cache.cloneTo(instance, OfficeProfileCacheTest::initialize);
+
+      final File instanceFile = new File(instance, "user/registrymodifications.xcu");
+      assertThat(Files.isSameFile(cachedFile.toPath(), instanceFile.toPath())).isFalse();
+      assertThat(instanceFile).hasContent("<items/>").canWrite();
+    }
+
+    @Test
+    void withTemplateProfileDir_ShouldInitializeFromTemplate() throws IOException {
+
+      final File templateDir = new File(testFolder, "template");
+      Files.createDirectories(new File(templateDir, "user").toPath());
+      Files.write(
+          new File(templateDir, "user/template.txt").toPath(),
+          "template".getBytes(StandardCharsets.UTF_8));
+
+      final OfficeProfileCache cache = new OfficeProfileCache(workingDir, officeHome, templateDir);
+      final File instance = new File(workingDir, "instance");
+      cache.cloneTo(instance, OfficeProfileCacheTest::initialize);
+
+      assertThat(new File(instance, "user/template.txt")).hasContent("template");
+      assertThat(new File(instance, "user/registrymodifications.xcu")).exists();
+    }
+
+    @Test
+    void whenInitializationFails_ShouldThrowIOExceptionAndNotCacheProfile() {
+
+      final OfficeProfileCache cache = new OfficeProfileCache(workingDir, officeHome, null);
+
+      assertThatIOException()
+          .isThrownBy(
+              () ->
+                  cache.cloneTo(
+                      new File(workingDir, "instance"),
+                      profileDir -> {
+                        initialize(profileDir);
+                        throw new IOException("Initialization failed");
+                      }));
+      assertThat(workingDir.listFiles()).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.office;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Contains tests for the {@link OfficeProfileSettings} class. */
+class OfficeProfileSettingsTest {
+
+  private static final String AUTOSAVE = "/org.openoffice.Office.Recovery/AutoSave/Enabled";
+  private static final String AUTOSAVE_ITEM =
+      "<item oor:path=\"/org.openoffice.Office.Recovery/AutoSave\"><prop oor:name=\"Enabled\""
+          + " oor:op=\"fuse\"><value>%s</value></prop></item>";
+
+  @TempDir File testFolder;
+
+  private String readSettings() throws IOException {
+    return new String(
+        Files.readAllBytes(new File(testFolder, "user/registrymodifications.xcu").toPath()),
+        StandardCharsets.UTF_8);
+  }
+
+  @Nested
+  class Write {
+
+    @Test
+    void withNoSettings_ShouldNotCreateFile() throws IOException {
+
+      OfficeProfileSettings.write(testFolder, Collections.emptyMap());
+
+      assertThat(new File(testFolder, "user/registrymodifications.xcu")).doesNotExist();
+    }
+
+    @Test
+    void whenFileDoesNotExist_ShouldCreateFile() throws IOException {
+
+      OfficeProfileSettings.write(testFolder, Collections.singletonMap(AUTOSAVE, "false"));
+
+      assertThat(readSettings())
+          .startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+          .contains(String.format(AUTOSAVE_ITEM, "false"))
+          .endsWith("</oor:items>\n");
+    }
+
+    @Test
+    void whenFileExists_ShouldOverrideExistingItems() throws IOException {
+
+      final Map<String, String> settings = new LinkedHashMap<>();
+      settings.put(AUTOSAVE, "true");
+      settings.put("/org.openoffice.Office.Common/History/PickListSize", "5");
+      OfficeProfileSettings.write(testFolder, settings);
+
+      OfficeProfileSettings.write(testFolder, Collections.singletonMap(AUTOSAVE, "false"));
+
+      assertThat(readSettings())
+          .doesNotContain(String.format(AUTOSAVE_ITEM, "true"))
+          .contains(String.format(AUTOSAVE_ITEM, "false"))
+          .contains("<prop oor:name=\"PickListSize\" oor:op=\"fuse\"><value>5</value>")
+          .endsWith("</oor:items>\n");
+    }
+
+    @Test
+    void whenFileIsLinked_ShouldNotModifyLinkedFile() throws IOException {
+
+      final File userDir = new File(testFolder, "user");
+      final File cachedFile = new File(testFolder, "cached.xcu");
+      Files.write(
+          cachedFile.toPath(), "<oor:items>\n</oor:items>\n".getBytes(StandardCharsets.UTF_8));
+      Files.createDirectories(userDir.toPath());
+      Files.createLink(
+          new File(userDir, "registrymodifications.xcu").toPath(), cachedFile.toPath());
+
+      OfficeProfileSettings.write(testFolder, Collections.singletonMap(AUTOSAVE, "false"));
+
+      assertThat(cachedFile).hasContent("<oor:items>\n</oor:items>");
+      assertThat(readSettings()).contains(String.format(AUTOSAVE_ITEM, "false"));
+    }
+
+    @Test
+    void shouldEscapeValues() throws IOException {
+
+      OfficeProfileSettings.write(
+          testFolder, Collections.singletonMap("/org.test/Path['a']/Name", "<&\">"));
+
+      assertThat(readSettings())
+          .contains(
+              "<item oor:path=\"/org.test/Path[&apos;a&apos;]\"><prop oor:name=\"Name\""
+                  + " oor:op=\"fuse\"><value>&lt;&amp;&quot;&gt;</value></prop></item>");
+    }
+  }
+
+  @Nested
+  class IsValidKey {
+
+    @Test
+    void withPropertyPath_ShouldReturnTrue() {
+      assertThat(OfficeProfileSettings.isValidKey(AUTOSAVE)).isTrue();
+    }
+
+    @Test
+    void withRelativeOrIncompletePath_ShouldReturnFalse() {
+      assertThat(OfficeProfileSettings.isValidKey("org.openoffice.Office.Recovery/AutoSave"))
+          .isFalse();
+      assertThat(OfficeProfileSettings.isValidKey("/org.openoffice.Office.Recovery")).isFalse();
+      assertThat(OfficeProfileSettings.isValidKey("/org.openoffice.Office.Recovery/")).isFalse();
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+/** Contains tests for the {@link LinesRingBuffer} class. */
+class LinesRingBufferTest {
+
+  @Test
+  void withZeroCapacity_ShouldThrowIllegalArgumentException() {
+
+    assertThatIllegalArgumentException().isThrownBy(() -> new LinesRingBuffer(0));
+  }
+
+  @Test
+  void whenFull_ShouldKeepLastLines() {
+
+    final LinesRingBuffer buffer = new LinesRingBuffer(2);
+    buffer.consume("line 1");
+    buffer.consume("line 2");
+    buffer.consume("line 3");
+
+    assertThat(buffer.getLines()).containsExactly("line 2", "line 3");
+  }
+}
@@ -184,6 +184,47 @@ class ProcessManagerTest {
     }
   }
 
+  @Nested
+  class ProcessHandle {
+
+    @Test
+    void canFindPid_ShouldReturnIsUsable() {
+      final ProcessHandleProcessManager manager = ProcessHandleProcessManager.getDefault();
+      assertThat(manager.canFindPid()).isEqualTo(manager.isUsable());
+    }
+
+    @Test
+    void shouldFindPidAndBeAbleToKillProcess() throws IOException {
+      assumeTrue(
+          OSUtils.IS_OS_UNIX
+              && !OSUtils.IS_OS_MAC
+              && !OSUtils.IS_OS_FREE_BSD
+              && ProcessHandleProcessManager.getDefault().isUsable());
+
+      final ProcessManager processManager = ProcessHandleProcessManager.getDefault();
+      final Process process = Runtime.getRuntime().exec("sleep 5s");
+      final ProcessQuery query = new ProcessQuery("sleep", "5s");
+
+      final long pid = processManager.findPid(query);
+      assertThat(pid).isNotEqualTo(ProcessManager.PID_NOT_FOUND);
+      assertThat(process)
+          .extracting("pid")
+          .isInstanceOfSatisfying(
+              Number.class, number -> assertThat(number.longValue()).isEqualTo(pid));
+
+      processManager.kill(process, pid);
+      assertThat(waitForPidNotFound(processManager, query)).isEqualTo(ProcessManager.PID_NOT_FOUND);
+    }
+
+    @Test
+    void kill_withUnknownPid_ShouldCallProcessDestroy() throws IOException {
+
+      final Process process = mock(Process.class);
+      ProcessHandleProcessManager.getDefault().kill(process, PID_UNKNOWN);
+      verify(process, times(1)).destroy();
+    }
+  }
+
   @Nested
   class Mac {
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+/** Contains tests for the {@link ProcessOutputPump} class. */
+class ProcessOutputPumpTest {
+
+  /** A process whose streams are in memory and which is alive until told otherwise. */
+  private static class FakeProcess extends Process {
+
+    private final InputStream output;
+    private final InputStream error;
+    private volatile boolean alive = true;
+
+    /* default */ FakeProcess(final String output, final String error) {
+      super();
+
+      this.output = new ByteArrayInputStream(output.getBytes(Charset.defaultCharset()));
+      this.error = new ByteArrayInputStream(error.getBytes(Charset.defaultCharset()));
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return new ByteArrayOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return output;
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+      return error;
+    }
+
+    @Override
+    public int waitFor() {
+      return 0;
+    }
+
+    @Override
+    public int exitValue() {
+      return 0;
+    }
+
+    @Override
+    public boolean isAlive() {
+      return alive;
+    }
+
+    @Override
+    public void destroy() {
+      alive = false;
+    }
+  }
+
+  private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+
+    final long deadline = System.currentTimeMillis() + 5_000L;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10L);
+    }
+  }
+
+  @Test
+  void close_ShouldConsumeAllLinesOfBothStreams() {
+
+    final ProcessOutputPump pump = new ProcessOutputPump();
+    final List<String> out = Collections.synchronizedList(new ArrayList<>());
+    final List<String> err = Collections.synchronizedList(new ArrayList<>());
+    final FakeProcess process = new FakeProcess("line 1\r\nline 2\nline 3", "error\n");
+
+    pump.pump(process, out::add, err::add).close();
+
+    assertThat(out).containsExactly("line 1", "line 2", "line 3");
+    assertThat(err).containsExactly("error");
+    assertThat(pump.getStreamCount()).isZero();
+  }
+
+  @Test
+  void whenProcessExits_ShouldStopPumpingWithoutBeingClosed() throws InterruptedException {
+
+    final ProcessOutputPump pump = new ProcessOutputPump();
+    final List<String> out = Collections.synchronizedList(new ArrayList<>());
+    final FakeProcess process = new FakeProcess("line 1\nline 2\n", "");
+
+    pump.pump(process, out::add, line -> {});
+    waitUntil(() -> out.size() == 2);
+    assertThat(pump.getStreamCount()).isEqualTo(2);
+
+    process.destroy();
+    waitUntil(() -> pump.getStreamCount() == 0);
+    assertThat(out).containsExactly("line 1", "line 2");
+  }
+}
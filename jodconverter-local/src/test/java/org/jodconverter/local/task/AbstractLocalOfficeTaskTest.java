@@ -25,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
 import static org.jodconverter.local.ResourceUtil.documentFile;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
@@ -33,6 +34,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,6 +42,8 @@ import com.sun.star.beans.PropertyValue;
 import com.sun.star.document.UpdateDocMode;
 import com.sun.star.frame.XComponentLoader;
 import com.sun.star.io.IOException;
+import com.sun.star.io.NotConnectedException;
+import com.sun.star.io.XInputStream;
 import com.sun.star.lang.XComponent;
 import com.sun.star.task.ErrorCodeIOException;
 import com.sun.star.util.CloseVetoException;
@@ -47,6 +51,7 @@ import com.sun.star.util.XCloseable;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import org.jodconverter.core.document.DefaultDocumentFormatRegistry;
 import org.jodconverter.core.document.DocumentFormat;
@@ -201,6 +206,106 @@ class AbstractLocalOfficeTaskTest {
           .isThrownBy(() -> task.loadDocument(context, SOURCE_FILE))
           .withCauseExactlyInstanceOf(IOException.class);
     }
+
+    @Test
+    void withStreamAdapters_ShouldCloseSourceStreamWhenDocumentIsClosed(final UnoRuntime unoRuntime)
+        throws Exception {
+
+      final XComponentLoader loader = mock(XComponentLoader.class);
+      final LocalOfficeContext context = mock(LocalOfficeContext.class);
+      final XComponent document = mock(XComponent.class);
+      final ArgumentCaptor<PropertyValue[]> props = ArgumentCaptor.forClass(PropertyValue[].class);
+      given(
+              loader.loadComponentFromURL(
+                  eq("private:stream"), isA(String.class), isA(int.class), props.capture()))
+          .willReturn(document);
+      given(context.getComponentLoader()).willReturn(loader);
+      given(unoRuntime.queryInterface(XCloseable.class, document))
+          .willReturn(mock(XCloseable.class));
+
+      final FooOfficeTask task = new FooOfficeTask(new TxtSourceSpecs(SOURCE_FILE), true);
+      assertThat(task.loadDocument(context, SOURCE_FILE)).isSameAs(document);
+      final XInputStream stream = getInputStream(props.getValue());
+      assertThat(stream).isInstanceOf(FileXInputStream.class);
+      assertThat(stream.available()).isEqualTo((int) SOURCE_FILE.length());
+
+      task.closeDocument(document);
+      assertThatExceptionOfType(NotConnectedException.class).isThrownBy(stream::available);
+    }
+
+    @Test
+    void withStreamAdaptersWhenLoadFails_ShouldCloseSourceStream() throws Exception {
+
+      final XComponentLoader loader = mock(XComponentLoader.class);
+      final LocalOfficeContext context = mock(LocalOfficeContext.class);
+      final ArgumentCaptor<PropertyValue[]> props = ArgumentCaptor.forClass(PropertyValue[].class);
+      given(
+              loader.loadComponentFromURL(
+                  eq("private:stream"), isA(String.class), isA(int.class), props.capture()))
+          .willThrow(ErrorCodeIOException.class);
+      given(context.getComponentLoader()).willReturn(loader);
+
+      final FooOfficeTask task = new FooOfficeTask(new TxtSourceSpecs(SOURCE_FILE), true);
+      assertThatExceptionOfType(OfficeException.class)
+          .isThrownBy(() -> task.loadDocument(context, SOURCE_FILE));
+      final XInputStream stream = getInputStream(props.getValue());
+      assertThatExceptionOfType(NotConnectedException.class).isThrownBy(stream::available);
+    }
+
+    private XInputStream getInputStream(final PropertyValue[] props) {
+
+      return Arrays.stream(props)
+          .filter(prop -> "InputStream".equals(prop.Name))
+          .map(prop -> (XInputStream) prop.Value)
+          .findFirst()
+          .orElseThrow(AssertionError::new);
+    }
+  }
+
+  @Nested
+  class LoadDocumentFromStream {
+
+    @Test
+    void shouldLoadStreamUrlWithInputStreamProperty() throws Exception {
+
+      final XComponentLoader loader = mock(XComponentLoader.class);
+      final LocalOfficeContext context = mock(LocalOfficeContext.class);
+      final XComponent document = mock(XComponent.class);
+      final ArgumentCaptor<PropertyValue[]> props = ArgumentCaptor.forClass(PropertyValue[].class);
+      given(
+              loader.loadComponentFromURL(
+                  eq("private:stream"), isA(String.class), isA(int.class), props.capture()))
+          .willReturn(document);
+      given(context.getComponentLoader()).willReturn(loader);
+
+      final FooOfficeTask task = new FooOfficeTask(new TxtSourceSpecs(SOURCE_FILE));
+      final XInputStream stream = mock(XInputStream.class);
+      assertThat(task.loadDocument(context, stream)).isSameAs(document);
+      assertThat(props.getValue())
+          .anySatisfy(
+              prop -> {
+                assertThat(prop.Name).isEqualTo("InputStream");
+                assertThat(prop.Value).isSameAs(stream);
+              });
+    }
+
+    @Test
+    void whenErrorCodeIOExceptionCatched_ShouldThrowOfficeException() throws Exception {
+
+      final XComponentLoader loader = mock(XComponentLoader.class);
+      final LocalOfficeContext context = mock(LocalOfficeContext.class);
+      given(
+              loader.loadComponentFromURL(
+                  isA(String.class), isA(String.class), isA(int.class), isA(PropertyValue[].class)))
+          .willThrow(ErrorCodeIOException.class);
+      given(context.getComponentLoader()).willReturn(loader);
+
+      final FooOfficeTask task = new FooOfficeTask(new TxtSourceSpecs(SOURCE_FILE));
+      assertThatExceptionOfType(OfficeException.class)
+          .isThrownBy(() -> task.loadDocument(context, mock(XInputStream.class)))
+          .withMessageStartingWith("Could not open document: stream")
+          .withCauseExactlyInstanceOf(ErrorCodeIOException.class);
+    }
   }
 
   @Nested
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+
+import com.sun.star.io.NotConnectedException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Contains tests for the {@link ByteBufferXInputStream} class. */
+class ByteBufferXInputStreamTest {
+
+  @Nested
+  class Read {
+
+    @Test
+    void shouldReadRemainingContentWithoutMovingBuffer() throws Exception {
+
+      final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+      buffer.position(1);
+      final ByteBufferXInputStream stream = new ByteBufferXInputStream(buffer);
+
+      assertThat(stream.getLength()).isEqualTo(3L);
+      final byte[][] data = new byte[1][];
+      stream.seek(1L);
+      assertThat(stream.readBytes(data, 10)).isEqualTo(2);
+      assertThat(data[0]).containsExactly(3, 4);
+      assertThat(stream.available()).isZero();
+      assertThat(buffer.position()).isEqualTo(1);
+    }
+
+    @Test
+    void whenClosed_ShouldThrowNotConnectedException() {
+
+      final ByteBufferXInputStream stream =
+          new ByteBufferXInputStream(ByteBuffer.wrap(new byte[] {1, 2}));
+      stream.closeInput();
+
+      assertThatExceptionOfType(NotConnectedException.class)
+          .isThrownBy(() -> stream.readBytes(new byte[1][], 1));
+    }
+  }
+
+  @Nested
+  class Seek {
+
+    @Test
+    void whenOutOfBounds_ShouldThrowIllegalArgumentException() {
+
+      final ByteBufferXInputStream stream = new ByteBufferXInputStream(ByteBuffer.allocate(10));
+
+      assertThatExceptionOfType(com.sun.star.lang.IllegalArgumentException.class)
+          .isThrownBy(() -> stream.seek(11L));
+      assertThatExceptionOfType(com.sun.star.lang.IllegalArgumentException.class)
+          .isThrownBy(() -> stream.seek(-1L));
+    }
+  }
+}
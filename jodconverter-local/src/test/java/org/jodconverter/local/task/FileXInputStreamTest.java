@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import com.sun.star.io.NotConnectedException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Contains tests for the {@link FileXInputStream} class. */
+class FileXInputStreamTest {
+
+  private static File createFile(final File folder, final int size) throws IOException {
+
+    final byte[] bytes = new byte[size];
+    for (int i = 0; i < size; i++) {
+      bytes[i] = (byte) i;
+    }
+    final File file = new File(folder, "source.bin");
+    Files.write(file.toPath(), bytes);
+    return file;
+  }
+
+  @Nested
+  class Read {
+
+    @Test
+    void shouldReadWholeFile(final @TempDir File testFolder) throws Exception {
+
+      final File file = createFile(testFolder, 1_000);
+      try (FileXInputStream stream = new FileXInputStream(file)) {
+
+        assertThat(stream.getLength()).isEqualTo(1_000L);
+        final byte[][] data = new byte[1][];
+        assertThat(stream.readBytes(data, 2_000)).isEqualTo(1_000);
+        assertThat(data[0]).isEqualTo(Files.readAllBytes(file.toPath()));
+        assertThat(stream.available()).isZero();
+      }
+    }
+
+    @Test
+    void whenSeekAndSkip_ShouldReadExpectedBytes(final @TempDir File testFolder) throws Exception {
+
+      final File file = createFile(testFolder, 25);
+      final byte[] bytes = Files.readAllBytes(file.toPath());
+      try (FileXInputStream stream = new FileXInputStream(file)) {
+
+        final byte[][] data = new byte[1][];
+        stream.seek(7L);
+        assertThat(stream.readBytes(data, 15)).isEqualTo(15);
+        assertThat(data[0]).isEqualTo(Arrays.copyOfRange(bytes, 7, 22));
+        assertThat(stream.getPosition()).isEqualTo(22L);
+
+        stream.skipBytes(1);
+        assertThat(stream.readSomeBytes(data, 10)).isEqualTo(2);
+        assertThat(data[0]).isEqualTo(Arrays.copyOfRange(bytes, 23, 25));
+      }
+    }
+
+    @Test
+    void whenFileIsEmpty_ShouldReadNothing(final @TempDir File testFolder) throws Exception {
+
+      try (FileXInputStream stream = new FileXInputStream(createFile(testFolder, 0))) {
+
+        final byte[][] data = new byte[1][];
+        assertThat(stream.getLength()).isZero();
+        assertThat(stream.readBytes(data, 10)).isZero();
+        assertThat(data[0]).isEmpty();
+      }
+    }
+
+    @Test
+    void whenClosed_ShouldThrowNotConnectedExceptionAndReleaseFile(final @TempDir File testFolder)
+        throws Exception {
+
+      final File file = createFile(testFolder, 10);
+      final FileXInputStream stream = new FileXInputStream(file);
+      stream.closeInput();
+
+      assertThatExceptionOfType(NotConnectedException.class)
+          .isThrownBy(() -> stream.readBytes(new byte[1][], 1));
+      // The file is no longer open, so it can be deleted on any platform.
+      assertThat(file.delete()).isTrue();
+    }
+  }
+
+  @Nested
+  class Seek {
+
+    @Test
+    void whenOutOfBounds_ShouldThrowIllegalArgumentException(final @TempDir File testFolder)
+        throws Exception {
+
+      try (FileXInputStream stream = new FileXInputStream(createFile(testFolder, 10))) {
+
+        assertThatExceptionOfType(com.sun.star.lang.IllegalArgumentException.class)
+            .isThrownBy(() -> stream.seek(11L));
+        assertThatExceptionOfType(com.sun.star.lang.IllegalArgumentException.class)
+            .isThrownBy(() -> stream.seek(-1L));
+      }
+    }
+  }
+}
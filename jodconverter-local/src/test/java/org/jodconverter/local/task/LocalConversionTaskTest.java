@@ -24,12 +24,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.jodconverter.local.ResourceUtil.documentFile;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,9 +46,11 @@ import com.sun.star.beans.PropertyValue;
 import com.sun.star.frame.XComponentLoader;
 import com.sun.star.frame.XStorable;
 import com.sun.star.io.IOException;
+import com.sun.star.io.XOutputStream;
 import com.sun.star.lang.XComponent;
 import com.sun.star.lang.XServiceInfo;
 import com.sun.star.task.ErrorCodeIOException;
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,8 +60,12 @@ import org.jodconverter.core.document.DefaultDocumentFormatRegistry;
 import org.jodconverter.core.document.DocumentFormat;
 import org.jodconverter.core.job.AbstractSourceDocumentSpecs;
 import org.jodconverter.core.job.AbstractTargetDocumentSpecs;
+import org.jodconverter.core.job.SourceDocumentSpecsFromByteBuffer;
+import org.jodconverter.core.job.TargetDocumentSpecsInMemory;
 import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.core.office.TemporaryFileMaker;
 import org.jodconverter.local.MockUnoRuntimeExtension;
+import org.jodconverter.local.filter.NoopFilter;
 import org.jodconverter.local.office.LocalOfficeContext;
 import org.jodconverter.local.office.utils.UnoRuntime;
 
@@ -230,6 +245,208 @@ class LocalConversionTaskTest {
     }
   }
 
+  @Nested
+  class StoreToOutputStream {
+
+    private LocalOfficeContext prepareContext(final UnoRuntime unoRuntime, final byte[] content)
+        throws Exception {
+
+      final XServiceInfo serviceInfo = mock(XServiceInfo.class);
+      given(serviceInfo.supportsService("com.sun.star.text.GenericTextDocument")).willReturn(true);
+
+      // The storable writes the content to the OutputStream property, and then closes it.
+      final XStorable storable = mock(XStorable.class);
+      willAnswer(
+              invocation -> {
+                for (final PropertyValue prop : (PropertyValue[]) invocation.getArgument(1)) {
+                  if ("OutputStream".equals(prop.Name)) {
+                    final XOutputStream outputStream = (XOutputStream) prop.Value;
+                    outputStream.writeBytes(content);
+                    outputStream.closeOutput();
+                  }
+                }
+                return null;
+              })
+          .given(storable)
+          .storeToURL(isA(String.class), isA(PropertyValue[].class));
+
+      final XComponent document = mock(XComponent.class);
+      final XComponentLoader loader = mock(XComponentLoader.class);
+      final LocalOfficeContext context = mock(LocalOfficeContext.class);
+      given(
+              loader.loadComponentFromURL(
+                  isA(String.class), isA(String.class), isA(int.class), isA(PropertyValue[].class)))
+          .willReturn(document);
+      given(context.getComponentLoader()).willReturn(loader);
+      given(unoRuntime.queryInterface(XServiceInfo.class, document)).willReturn(serviceInfo);
+      given(unoRuntime.queryInterface(XStorable.class, document)).willReturn(storable);
+      given(unoRuntime.queryInterface(XComponent.class, document)).willReturn(document);
+      return context;
+    }
+
+    @Test
+    void whenFilterSupportsStream_ShouldStoreDirectlyToStream(
+        final UnoRuntime unoRuntime, final @TempDir File testFolder) throws Exception {
+
+      final byte[] content = "converted".getBytes(StandardCharsets.UTF_8);
+      final LocalOfficeContext context = prepareContext(unoRuntime, content);
+
+      final File targetFile = new File(testFolder, TARGET_FILENAME);
+      final FooStreamTargetSpecs targetSpecs =
+          new FooStreamTargetSpecs(targetFile, DefaultDocumentFormatRegistry.PDF);
+      final LocalConversionTask task =
+          new LocalConversionTask(
+              new FooSourceSpecs(SOURCE_FILE), targetSpecs, false, true, null, null, null);
+      task.execute(context);
+
+      assertThat(targetSpecs.outputStream.toByteArray()).isEqualTo(content);
+      assertThat(targetSpecs.outputStream.closed).isFalse();
+      assertThat(targetSpecs.fileRequested).isFalse();
+      assertThat(targetSpecs.streamCompleted).isTrue();
+      assertThat(task.getResult()).isNotNull();
+      assertThat(task.getResult().getTargetSize()).isEqualTo(content.length);
+    }
+
+    @Test
+    void whenFilterRequiresFile_ShouldStoreToFile(
+        final UnoRuntime unoRuntime, final @TempDir File testFolder) throws Exception {
+
+      final LocalOfficeContext context = prepareContext(unoRuntime, new byte[0]);
+
+      final File targetFile = new File(testFolder, "test.doc");
+      final FooStreamTargetSpecs targetSpecs =
+          new FooStreamTargetSpecs(targetFile, DefaultDocumentFormatRegistry.DOC);
+      final LocalConversionTask task =
+          new LocalConversionTask(
+              new FooSourceSpecs(SOURCE_FILE), targetSpecs, false, true, null, null, null);
+      task.execute(context);
+
+      assertThat(targetSpecs.fileRequested).isTrue();
+      assertThat(targetSpecs.streamCompleted).isFalse();
+    }
+
+    @Test
+    void whenOptionIsDisabled_ShouldStoreToFile(
+        final UnoRuntime unoRuntime, final @TempDir File testFolder) throws Exception {
+
+      final LocalOfficeContext context = prepareContext(unoRuntime, new byte[0]);
+
+      final File targetFile = new File(testFolder, TARGET_FILENAME);
+      final FooStreamTargetSpecs targetSpecs =
+          new FooStreamTargetSpecs(targetFile, DefaultDocumentFormatRegistry.PDF);
+      final LocalConversionTask task =
+          new LocalConversionTask(
+              new FooSourceSpecs(SOURCE_FILE), targetSpecs, false, false, null, null, null);
+      task.execute(context);
+
+      assertThat(targetSpecs.fileRequested).isTrue();
+      assertThat(targetSpecs.streamCompleted).isFalse();
+    }
+
+    @Test
+    void withSourceAndTargetInMemory_ShouldLoadAndStoreDirectly(final UnoRuntime unoRuntime)
+        throws Exception {
+
+      final byte[] content = "converted".getBytes(StandardCharsets.UTF_8);
+      final LocalOfficeContext context = prepareContext(unoRuntime, content);
+
+      final TemporaryFileMaker fileMaker = mock(TemporaryFileMaker.class);
+      final TargetDocumentSpecsInMemory targetSpecs =
+          new TargetDocumentSpecsInMemory() {
+            @Override
+            public @NonNull DocumentFormat getFormat() {
+              return DefaultDocumentFormatRegistry.PDF;
+            }
+          };
+      final LocalConversionTask task =
+          new LocalConversionTask(
+              new SourceDocumentSpecsFromByteBuffer(ByteBuffer.wrap(new byte[] {1, 2}), fileMaker),
+              targetSpecs,
+              false,
+              false,
+              null,
+              null,
+              null);
+      task.execute(context);
+
+      verify(context.getComponentLoader())
+          .loadComponentFromURL(
+              eq("private:stream"), isA(String.class), isA(int.class), isA(PropertyValue[].class));
+      verifyNoInteractions(fileMaker);
+      // Preparing the source, storing to the target stream and releasing the source.
+      verify(context, times(3)).beginIoPhase();
+      verify(context, times(3)).endIoPhase();
+      assertThat(targetSpecs.toBytes()).isEqualTo(content);
+      assertThat(task.getResult()).isNotNull();
+      assertThat(task.getResult().getSourceSize()).isEqualTo(2L);
+    }
+  }
+
+  @Nested
+  class GetResult {
+
+    @Test
+    void whenNotExecuted_ShouldReturnNull(final @TempDir File testFolder) {
+
+      final LocalConversionTask task =
+          new LocalConversionTask(
+              new FooSourceSpecs(SOURCE_FILE),
+              new FooTargetSpecs(new File(testFolder, TARGET_FILENAME)),
+              false,
+              null,
+              null,
+              null);
+      assertThat(task.getResult()).isNull();
+    }
+
+    @Test
+    void whenExecuted_ShouldMeasureEachPhase(
+        final UnoRuntime unoRuntime, final @TempDir File testFolder) throws Exception {
+
+      final XServiceInfo serviceInfo = mock(XServiceInfo.class);
+      given(serviceInfo.supportsService("com.sun.star.text.GenericTextDocument")).willReturn(true);
+
+      final XStorable storable = mock(XStorable.class);
+      final XComponent document = mock(XComponent.class);
+      final XComponentLoader loader = mock(XComponentLoader.class);
+      final LocalOfficeContext context = mock(LocalOfficeContext.class);
+      given(
+              loader.loadComponentFromURL(
+                  isA(String.class), isA(String.class), isA(int.class), isA(PropertyValue[].class)))
+          .willReturn(document);
+      given(context.getComponentLoader()).willReturn(loader);
+      given(context.getConnectString()).willReturn("socket,host=127.0.0.1,port=2002");
+      given(unoRuntime.queryInterface(XServiceInfo.class, document)).willReturn(serviceInfo);
+      given(unoRuntime.queryInterface(XStorable.class, document)).willReturn(storable);
+      given(unoRuntime.queryInterface(XComponent.class, document)).willReturn(document);
+
+      final File targetFile = new File(testFolder, TARGET_FILENAME);
+      final LocalConversionTask task =
+          new LocalConversionTask(
+              new FooSourceSpecs(SOURCE_FILE),
+              new FooTargetSpecs(targetFile),
+              false,
+              null,
+              null,
+              NoopFilter.CHAIN);
+      task.execute(context);
+
+      assertThat(task.getResult())
+          .isNotNull()
+          .satisfies(
+              result -> {
+                assertThat(result.getSourcePreparationTime()).isNotNegative();
+                assertThat(result.getLoadTime()).isNotNegative();
+                assertThat(result.getModifyTime()).isNotNegative();
+                assertThat(result.getStoreTime()).isNotNegative();
+                assertThat(result.getTargetCompletionTime()).isNotNegative();
+                assertThat(result.getTotalTime()).isNotNegative();
+                assertThat(result.getSourceSize()).isEqualTo(SOURCE_FILE.length());
+                assertThat(result.getOfficeUrl()).isEqualTo("socket,host=127.0.0.1,port=2002");
+              });
+    }
+  }
+
   @Nested
   class ToString {
 
@@ -259,6 +476,8 @@ class LocalConversionTaskTest {
                   + storeProps
                   + ", useStreamAdapters="
                   + true
+                  + ", storeToOutputStream="
+                  + false
                   + '}');
     }
   }
@@ -287,6 +506,51 @@ class LocalConversionTaskTest {
     }
   }
 
+  private static class FooStreamTargetSpecs extends AbstractTargetDocumentSpecs {
+
+    private final DocumentFormat format;
+    private final ClosableByteArrayOutputStream outputStream = new ClosableByteArrayOutputStream();
+    private boolean fileRequested;
+    private boolean streamCompleted;
+
+    public FooStreamTargetSpecs(final File target, final DocumentFormat format) {
+      super(target);
+
+      this.format = format;
+    }
+
+    @Override
+    public @NonNull File getFile() {
+      fileRequested = true;
+      return super.getFile();
+    }
+
+    @Override
+    public DocumentFormat getFormat() {
+      return format;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return outputStream;
+    }
+
+    @Override
+    public void onStreamComplete() {
+      streamCompleted = true;
+    }
+  }
+
+  private static class ClosableByteArrayOutputStream extends ByteArrayOutputStream {
+
+    private boolean closed;
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
   private static class FooTargetSpecsWithoutFilterFormat extends FooTargetSpecs {
 
     public FooTargetSpecsWithoutFilterFormat(final File target) {
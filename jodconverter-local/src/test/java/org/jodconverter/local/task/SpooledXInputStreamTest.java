@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.local.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.Arrays;
+
+import com.sun.star.io.NotConnectedException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jodconverter.core.office.TemporaryFileMaker;
+import org.jodconverter.core.test.util.TestUtil;
+
+/** Contains tests for the {@link SpooledXInputStream} class. */
+class SpooledXInputStreamTest {
+
+  private static byte[] content(final int size) {
+
+    final byte[] bytes = new byte[size];
+    for (int i = 0; i < size; i++) {
+      bytes[i] = (byte) i;
+    }
+    return bytes;
+  }
+
+  @Nested
+  class New {
+
+    @Test
+    void whenContentIsSmallerThanThreshold_ShouldKeepContentInMemory() throws Exception {
+
+      final byte[] bytes = content(1_000);
+      try (SpooledXInputStream stream =
+          new SpooledXInputStream(
+              new ByteArrayInputStream(bytes), 1_024, mock(TemporaryFileMaker.class))) {
+
+        assertThat(stream.isSpilled()).isFalse();
+        assertThat(stream.getLength()).isEqualTo(1_000L);
+
+        final byte[][] data = new byte[1][];
+        assertThat(stream.readBytes(data, 2_000)).isEqualTo(1_000);
+        assertThat(data[0]).isEqualTo(bytes);
+      }
+    }
+
+    @Test
+    void whenContentIsLargerThanThreshold_ShouldSpillContentToTemporaryFile(
+        @TempDir final File testFolder) throws Exception {
+
+      final File spillFile = new File(testFolder, "tempfile_1.spool");
+      final TemporaryFileMaker fileMaker = mock(TemporaryFileMaker.class);
+      given(fileMaker.makeTemporaryFile("spool")).willReturn(spillFile);
+
+      final byte[] bytes = content(300_000);
+      final SpooledXInputStream stream =
+          new SpooledXInputStream(new ByteArrayInputStream(bytes), 100_000, fileMaker);
+      try {
+        assertThat(stream.isSpilled()).isTrue();
+        assertThat(stream.getLength()).isEqualTo(300_000L);
+        assertThat(spillFile).exists();
+
+        final byte[][] data = new byte[1][];
+        stream.seek(150_000L);
+        assertThat(stream.readBytes(data, 10)).isEqualTo(10);
+        assertThat(data[0]).isEqualTo(Arrays.copyOfRange(bytes, 150_000, 150_010));
+        assertThat(stream.getPosition()).isEqualTo(150_010L);
+      } finally {
+        stream.close();
+      }
+
+      // Check that the spill file is deleted
+      TestUtil.waitForDeletion(spillFile);
+      assertThat(spillFile).doesNotExist();
+    }
+  }
+
+  @Nested
+  class Read {
+
+    @Test
+    void whenEndIsReached_ShouldReturnEmptyData() throws Exception {
+
+      try (SpooledXInputStream stream =
+          new SpooledXInputStream(
+              new ByteArrayInputStream(content(10)), 1_024, mock(TemporaryFileMaker.class))) {
+
+        final byte[][] data = new byte[1][];
+        stream.skipBytes(8);
+        assertThat(stream.available()).isEqualTo(2);
+        assertThat(stream.readSomeBytes(data, 5)).isEqualTo(2);
+        assertThat(data[0]).containsExactly(8, 9);
+        assertThat(stream.readBytes(data, 5)).isZero();
+        assertThat(data[0]).isEmpty();
+      }
+    }
+
+    @Test
+    void whenClosed_ShouldThrowNotConnectedException() throws Exception {
+
+      final SpooledXInputStream stream =
+          new SpooledXInputStream(
+              new ByteArrayInputStream(content(10)), 1_024, mock(TemporaryFileMaker.class));
+      stream.closeInput();
+
+      assertThatExceptionOfType(NotConnectedException.class)
+          .isThrownBy(() -> stream.readBytes(new byte[1][], 1));
+    }
+  }
+
+  @Nested
+  class Seek {
+
+    @Test
+    void whenOutOfBounds_ShouldThrowIllegalArgumentException() throws Exception {
+
+      try (SpooledXInputStream stream =
+          new SpooledXInputStream(
+              new ByteArrayInputStream(content(10)), 1_024, mock(TemporaryFileMaker.class))) {
+
+        assertThatExceptionOfType(com.sun.star.lang.IllegalArgumentException.class)
+            .isThrownBy(() -> stream.seek(11L));
+        assertThatExceptionOfType(com.sun.star.lang.IllegalArgumentException.class)
+            .isThrownBy(() -> stream.seek(-1L));
+      }
+    }
+  }
+}
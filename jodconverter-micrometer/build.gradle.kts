@@ -0,0 +1,17 @@
+description =
+    "Module exposing Micrometer metrics of the office manager pools of the Java OpenDocument Converter (JODConverter) project."
+
+extra["moduleName"] = "JODConverter Micrometer"
+extra["moduleDescription"] = description
+
+plugins {
+    id("library-conventions")
+}
+
+dependencies {
+    api(project(":jodconverter-core"))
+    api(libs.micrometer.core)
+
+    testImplementation(libs.slf4j.log4j)
+    testImplementation(project(":jodconverter-core", configuration = "tests"))
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.micrometer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import org.jodconverter.core.document.DocumentFormat;
+import org.jodconverter.core.office.AbstractOfficeManagerPool;
+import org.jodconverter.core.office.OfficeManagerPoolListener;
+import org.jodconverter.core.office.RestartReason;
+import org.jodconverter.core.office.TaskRejectedException;
+import org.jodconverter.core.task.OfficeTask;
+import org.jodconverter.core.util.AssertUtils;
+
+/**
+ * Exposes the metrics of an office manager pool through Micrometer. Once bound to a {@link
+ * MeterRegistry}, the following meters are available:
+ *
+ * <ul>
+ *   <li>{@value #POOL_SIZE}: The number of office managers in the pool.
+ *   <li>{@value #POOL_BUSY}: The number of office managers executing a task or restarting.
+ *   <li>{@value #QUEUE_DEPTH}: The number of tasks waiting for an office manager.
+ *   <li>{@value #QUEUE_WAIT}: The time the tasks waited in the queue, tagged with the {@code
+ *       outcome} of the wait ({@code dispatched} or {@code expired}).
+ *   <li>{@value #TASKS_REJECTED}: The number of tasks rejected when submitted.
+ *   <li>{@value #TASK_EXECUTION}: The execution time of the tasks, tagged with the {@code source}
+ *       and {@code target} format extensions and the {@code outcome} of the execution ({@code
+ *       success}, {@code failure} or {@code timeout}).
+ *   <li>{@value #PROCESS_RESTARTS}: The number of office process restarts, tagged with the {@code
+ *       reason} of the restart (the lower-cased name of a {@link RestartReason}, for instance
+ *       {@code task_limit} or {@code connection_lost}).
+ * </ul>
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * LocalOfficeManager officeManager = LocalOfficeManager.install();
+ * new OfficeManagerPoolMetrics(officeManager).bindTo(meterRegistry);
+ * }</pre>
+ */
+public class OfficeManagerPoolMetrics implements MeterBinder, OfficeManagerPoolListener {
+
+  /** The name of the pool size gauge. */
+  public static final String POOL_SIZE = "jodconverter.pool.size";
+  /** The name of the busy office managers gauge. */
+  public static final String POOL_BUSY = "jodconverter.pool.busy";
+  /** The name of the queue depth gauge. */
+  public static final String QUEUE_DEPTH = "jodconverter.queue.depth";
+  /** The name of the queue wait timer. */
+  public static final String QUEUE_WAIT = "jodconverter.queue.wait";
+  /** The name of the rejected tasks counter. */
+  public static final String TASKS_REJECTED = "jodconverter.tasks.rejected";
+  /** The name of the task execution timer. */
+  public static final String TASK_EXECUTION = "jodconverter.task.execution";
+  /** The name of the office process restarts counter. */
+  public static final String PROCESS_RESTARTS = "jodconverter.process.restarts";
+
+  private static final String UNKNOWN_FORMAT = "unknown";
+
+  private final AbstractOfficeManagerPool<?> pool;
+  private final Iterable<Tag> tags;
+  private final List<MeterRegistry> registries = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates the metrics of the specified pool.
+   *
+   * @param pool The office manager pool.
+   */
+  public OfficeManagerPoolMetrics(final @NonNull AbstractOfficeManagerPool<?> pool) {
+    this(pool, Collections.emptyList());
+  }
+
+  /**
+   * Creates the metrics of the specified pool, applying the specified tags to all the meters.
+   *
+   * @param pool The office manager pool.
+   * @param tags The tags applied to all the meters, used to distinguish several pools.
+   */
+  public OfficeManagerPoolMetrics(
+      final @NonNull AbstractOfficeManagerPool<?> pool, final @NonNull Iterable<Tag> tags) {
+
+    AssertUtils.notNull(pool, "pool must not be null");
+    this.pool = pool;
+    this.tags = tags;
+  }
+
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+
+    Gauge.builder(POOL_SIZE, pool, AbstractOfficeManagerPool::getPoolSize)
+        .tags(tags)
+        .description("The number of office managers in the pool")
+        .register(registry);
+    Gauge.builder(POOL_BUSY, pool, AbstractOfficeManagerPool::getBusyEntryCount)
+        .tags(tags)
+        .description("The number of office managers executing a task or restarting")
+        .register(registry);
+    Gauge.builder(QUEUE_DEPTH, pool, AbstractOfficeManagerPool::getQueuedTaskCount)
+        .tags(tags)
+        .description("The number of tasks waiting for an office manager")
+        .register(registry);
+
+    // Register the listener once, whatever the number of registries.
+    if (registries.isEmpty()) {
+      pool.addListener(this);
+    }
+    registries.add(registry);
+  }
+
+  @Override
+  public void taskRejected(
+      final @NonNull OfficeTask task, final @NonNull TaskRejectedException rejection) {
+
+    registries.forEach(
+        registry ->
+            Counter.builder(TASKS_REJECTED)
+                .tags(tags)
+                .description("The number of tasks rejected when submitted")
+                .register(registry)
+                .increment());
+  }
+
+  @Override
+  public void taskExpired(final @NonNull OfficeTask task, final long queueWaitTime) {
+    recordQueueWait("expired", queueWaitTime);
+  }
+
+  @Override
+  public void taskDispatched(final @NonNull OfficeTask task, final long queueWaitTime) {
+    recordQueueWait("dispatched", queueWaitTime);
+  }
+
+  @Override
+  public void taskSucceeded(final @NonNull OfficeTask task, final long executionTime) {
+    recordExecution(task, "success", executionTime);
+  }
+
+  @Override
+  public void taskFailed(
+      final @NonNull OfficeTask task,
+      final long executionTime,
+      final boolean timedOut,
+      final @NonNull Throwable error) {
+    recordExecution(task, timedOut ? "timeout" : "failure", executionTime);
+  }
+
+  @Override
+  public void officeProcessRestarted(final @NonNull RestartReason reason) {
+
+    registries.forEach(
+        registry ->
+            Counter.builder(PROCESS_RESTARTS)
+                .tags(tags)
+                .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                .description("The number of office process restarts")
+                .register(registry)
+                .increment());
+  }
+
+  private void recordQueueWait(final String outcome, final long queueWaitTime) {
+
+    registries.forEach(
+        registry ->
+            Timer.builder(QUEUE_WAIT)
+                .tags(tags)
+                .tag("outcome", outcome)
+                .description("The time the tasks waited for an office manager")
+                .register(registry)
+                .record(queueWaitTime, TimeUnit.MILLISECONDS));
+  }
+
+  private void recordExecution(
+      final OfficeTask task, final String outcome, final long executionTime) {
+
+    final Tags executionTags =
+        Tags.of(tags)
+            .and(
+                "source", formatTag(task.getSourceFormat()),
+                "target", formatTag(task.getTargetFormat()),
+                "outcome", outcome);
+    registries.forEach(
+        registry ->
+            Timer.builder(TASK_EXECUTION)
+                .tags(executionTags)
+                .description("The execution time of the tasks")
+                .register(registry)
+                .record(executionTime, TimeUnit.MILLISECONDS));
+  }
+
+  private static String formatTag(final @Nullable DocumentFormat format) {
+    return Optional.ofNullable(format).map(DocumentFormat::getExtension).orElse(UNKNOWN_FORMAT);
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2004 - 2012; Mirko Nasato and contributors
+ *               2016 - 2022; Simon Braconnier and contributors
+ *               2022 - present; JODConverter
+ *
+ * This file is part of JODConverter - Java OpenDocument Converter.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jodconverter.micrometer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.core.office.RestartReason;
+import org.jodconverter.core.office.SimpleOfficeManager;
+import org.jodconverter.core.task.SimpleOfficeTask;
+
+/** Contains tests for the {@link OfficeManagerPoolMetrics} class. */
+class OfficeManagerPoolMetricsTest {
+
+  @Nested
+  class BindTo {
+
+    @Test
+    void shouldRegisterPoolGauges() {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.builder().poolSize(2).build();
+      final MeterRegistry registry = new SimpleMeterRegistry();
+      new OfficeManagerPoolMetrics(manager, Tags.of("pool", "test")).bindTo(registry);
+
+      assertThat(
+              registry.get(OfficeManagerPoolMetrics.POOL_SIZE).tag("pool", "test").gauge().value())
+          .isEqualTo(2D);
+      assertThat(registry.get(OfficeManagerPoolMetrics.POOL_BUSY).gauge().value()).isEqualTo(0D);
+      assertThat(registry.get(OfficeManagerPoolMetrics.QUEUE_DEPTH).gauge().value()).isEqualTo(0D);
+    }
+  }
+
+  @Nested
+  class TaskExecution {
+
+    @Test
+    void whenTaskSucceeds_ShouldRecordQueueWaitAndExecutionTime() throws OfficeException {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      final MeterRegistry registry = new SimpleMeterRegistry();
+      new OfficeManagerPoolMetrics(manager).bindTo(registry);
+      try {
+        manager.start();
+        manager.execute(new SimpleOfficeTask(0L));
+
+        assertThat(
+                registry
+                    .get(OfficeManagerPoolMetrics.QUEUE_WAIT)
+                    .tag("outcome", "dispatched")
+                    .timer()
+                    .count())
+            .isEqualTo(1L);
+        assertThat(
+                registry
+                    .get(OfficeManagerPoolMetrics.TASK_EXECUTION)
+                    .tags("source", "unknown", "target", "unknown", "outcome", "success")
+                    .timer()
+                    .count())
+            .isEqualTo(1L);
+      } finally {
+        manager.stop();
+      }
+    }
+
+    @Test
+    void whenTaskTimesOut_ShouldRecordTimeoutOutcome() throws OfficeException {
+
+      final SimpleOfficeManager manager =
+          SimpleOfficeManager.builder().taskExecutionTimeout(100L).build();
+      final MeterRegistry registry = new SimpleMeterRegistry();
+      new OfficeManagerPoolMetrics(manager).bindTo(registry);
+      try {
+        manager.start();
+        assertThatExceptionOfType(OfficeException.class)
+            .isThrownBy(() -> manager.execute(new SimpleOfficeTask(500L)));
+
+        assertThat(
+                registry
+                    .get(OfficeManagerPoolMetrics.TASK_EXECUTION)
+                    .tag("outcome", "timeout")
+                    .timer()
+                    .count())
+            .isEqualTo(1L);
+      } finally {
+        manager.stop();
+      }
+    }
+  }
+
+  @Nested
+  class OfficeProcessRestarted {
+
+    @Test
+    void shouldCountRestartsByReason() {
+
+      final SimpleOfficeManager manager = SimpleOfficeManager.make();
+      final MeterRegistry registry = new SimpleMeterRegistry();
+      final OfficeManagerPoolMetrics metrics = new OfficeManagerPoolMetrics(manager);
+      metrics.bindTo(registry);
+
+      metrics.officeProcessRestarted(RestartReason.TASK_LIMIT);
+      metrics.officeProcessRestarted(RestartReason.TASK_LIMIT);
+      metrics.officeProcessRestarted(RestartReason.CONNECTION_LOST);
+
+      assertThat(
+              registry
+                  .get(OfficeManagerPoolMetrics.PROCESS_RESTARTS)
+                  .tag("reason", "task_limit")
+                  .counter()
+                  .count())
+          .isEqualTo(2D);
+      assertThat(
+              registry
+                  .get(OfficeManagerPoolMetrics.PROCESS_RESTARTS)
+                  .tag("reason", "connection_lost")
+                  .counter()
+                  .count())
+          .isEqualTo(1D);
+    }
+  }
+}
@@ -20,6 +20,8 @@
 
 package org.jodconverter.remote;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import org.jodconverter.core.document.DefaultDocumentFormatRegistry;
@@ -117,8 +119,22 @@ public final class RemoteConverter extends AbstractConverter {
     public void doExecute() throws OfficeException {
 
       // Create a default conversion task and execute it
+      officeManager.execute(createTask());
+    }
+
+    @Override
+    protected @NonNull CompletableFuture<Void> doExecuteAsync() {
+
+      // Create a default conversion task and submit it
+      return officeManager.executeAsync(createTask());
+    }
+
+    private RemoteConversionTask createTask() {
+
       final RemoteConversionTask task = new RemoteConversionTask(source, target);
-      officeManager.execute(task);
+      task.setPriority(priority);
+      task.setTenant(tenant);
+      return task;
     }
   }
 
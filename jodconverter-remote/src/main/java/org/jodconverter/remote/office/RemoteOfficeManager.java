@@ -21,6 +21,7 @@
 package org.jodconverter.remote.office;
 
 import java.io.File;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -90,8 +91,21 @@ public final class RemoteOfficeManager
       final long connectTimeout,
       final long socketTimeout,
       final long taskExecutionTimeout,
-      final long taskQueueTimeout) {
-    super(poolSize, workingDir, taskQueueTimeout);
+      final long taskQueueTimeout,
+      final Map<String, Integer> tenantWeights,
+      final int maxTasksPerTenant,
+      final int maxQueuedTasks,
+      final boolean rejectOnEstimatedQueueTimeout,
+      final boolean incrementalStart) {
+    super(
+        poolSize,
+        workingDir,
+        taskQueueTimeout,
+        tenantWeights,
+        maxTasksPerTenant,
+        maxQueuedTasks,
+        rejectOnEstimatedQueueTimeout,
+        incrementalStart);
 
     setEntries(
         IntStream.range(0, poolSize)
@@ -141,7 +155,13 @@ public final class RemoteOfficeManager
               connectTimeout,
               socketTimeout,
               taskExecutionTimeout,
-              taskQueueTimeout);
+              taskQueueTimeout,
+              tenantWeights,
+              maxTasksPerTenant,
+              maxQueuedTasks,
+              rejectOnEstimatedQueueTimeout,
+              incrementalStart);
+      manager.setTemporaryFileMaker(temporaryFileMaker);
       if (install) {
         InstalledOfficeManagerHolder.setInstance(manager);
       }
@@ -33,6 +33,7 @@ import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.entity.mime.content.FileBody;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -182,6 +183,11 @@ public class RemoteConversionTask extends AbstractRemoteOfficeTask {
         + Objects.requireNonNull(target.getFormat()).getExtension();
   }
 
+  @Override
+  public @Nullable DocumentFormat getTargetFormat() {
+    return target.getFormat();
+  }
+
   @Override
   public @NonNull String toString() {
     return getClass().getSimpleName() + "{" + "source=" + source + ", target=" + target + '}';
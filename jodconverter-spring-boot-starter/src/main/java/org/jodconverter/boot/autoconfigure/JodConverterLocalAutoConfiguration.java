@@ -89,10 +89,29 @@ public class JodConverterLocalAutoConfiguration {
             .processRetryInterval(properties.getProcessRetryInterval())
             .afterStartProcessDelay(properties.getAfterStartProcessDelay())
             .startFailFast(properties.isStartFailFast())
+            .incrementalStart(properties.isIncrementalStart())
             .keepAliveOnShutdown(properties.isKeepAliveOnShutdown())
+            .cacheProfile(properties.isCacheProfile())
+            .performanceProfile(properties.isPerformanceProfile())
+            .profileSettings(properties.getProfileSettings())
             .taskQueueTimeout(properties.getTaskQueueTimeout())
             .taskExecutionTimeout(properties.getTaskExecutionTimeout())
-            .maxTasksPerProcess(properties.getMaxTasksPerProcess());
+            .maxTasksPerProcess(properties.getMaxTasksPerProcess())
+            .maxTasksPerProcessJitter(properties.getMaxTasksPerProcessJitter())
+            .maxConcurrentRestarts(properties.getMaxConcurrentRestarts())
+            .maxProcessMemory(properties.getMaxProcessMemory())
+            .standbyProcess(properties.isStandbyProcess())
+            .healthCheckInterval(properties.getHealthCheckInterval())
+            .healthCheckTimeout(properties.getHealthCheckTimeout())
+            .taskStallTimeout(properties.getTaskStallTimeout())
+            .minPoolSize(properties.getMinPoolSize())
+            .maxPoolSize(properties.getMaxPoolSize())
+            .processIdleTimeout(properties.getProcessIdleTimeout())
+            .poolGrowthDelay(properties.getPoolGrowthDelay())
+            .tenantWeights(properties.getTenantWeights())
+            .maxTasksPerTenant(properties.getMaxTasksPerTenant())
+            .maxQueuedTasks(properties.getMaxQueuedTasks())
+            .rejectOnEstimatedQueueTimeout(properties.isRejectOnEstimatedQueueTimeout());
     if (StringUtils.isBlank(properties.getProcessManagerClass())) {
       builder.processManager(processManager);
     } else {
@@ -170,6 +189,7 @@ public class JodConverterLocalAutoConfiguration {
         .officeManager(localOfficeManager)
         .formatRegistry(documentFormatRegistry)
         .loadDocumentMode(properties.getLoadDocumentMode())
+        .storeToOutputStream(properties.isStoreToOutputStream())
         .loadProperties(loadProperties)
         .build();
   }
@@ -115,6 +115,13 @@ public class JodConverterLocalProperties {
    */
   private boolean startFailFast = LocalOfficeManager.DEFAULT_START_FAIL_FAST;
 
+  /**
+   * Controls whether the manager reports that it is running, and accepts tasks, as soon as the
+   * first office process is started, the other processes joining the pool once started. The office
+   * processes are always started concurrently.
+   */
+  private boolean incrementalStart = AbstractOfficeManagerPool.DEFAULT_INCREMENTAL_START;
+
   /**
    * Controls whether the manager will keep the office process alive on shutdown. If set to {@code
    * true}, the stop task will only disconnect from the office process, which will stay alive. If
@@ -123,6 +130,24 @@ public class JodConverterLocalProperties {
    */
   private boolean keepAliveOnShutdown = LocalOfficeManager.DEFAULT_KEEP_ALIVE_ON_SHUTDOWN;
 
+  /**
+   * Controls whether the office profile is created only once, cached in the working directory and
+   * cloned for each office process. Only supported by LibreOffice.
+   */
+  private boolean cacheProfile = LocalOfficeManager.DEFAULT_CACHE_PROFILE;
+
+  /**
+   * Controls whether throughput-oriented settings (no document recovery, no autosave, no recent
+   * documents, no online update check, larger graphic cache) are written into the office profile.
+   */
+  private boolean performanceProfile = LocalOfficeManager.DEFAULT_PERFORMANCE_PROFILE;
+
+  /**
+   * Configuration settings to write into the office profile, by absolute property path (e.g.
+   * "/org.openoffice.Office.Recovery/AutoSave/Enabled").
+   */
+  private Map<String, String> profileSettings;
+
   /**
    * Maximum living time of a task in the conversion queue. The task will be removed from the queue
    * if the waiting time is longer than this timeout.
@@ -138,6 +163,90 @@ public class JodConverterLocalProperties {
   /** Maximum number of tasks an office process can execute before restarting. */
   private int maxTasksPerProcess = LocalOfficeManager.DEFAULT_MAX_TASKS_PER_PROCESS;
 
+  /**
+   * Percentage by which the maximum number of tasks per process is randomly lowered each time an
+   * office process is started, so the office processes do not all restart at the same time.
+   */
+  private int maxTasksPerProcessJitter = LocalOfficeManager.DEFAULT_MAX_TASKS_PER_PROCESS_JITTER;
+
+  /**
+   * Maximum number of office processes that can be restarted at the same time because they reached
+   * the maximum number of tasks per process, 0 meaning no limit.
+   */
+  private int maxConcurrentRestarts = LocalOfficeManager.DEFAULT_MAX_CONCURRENT_RESTARTS;
+
+  /**
+   * Maximum resident memory, in megabytes, an office process can use before restarting, 0 meaning
+   * no limit. Only enforced on Linux.
+   */
+  private long maxProcessMemory = LocalOfficeManager.DEFAULT_MAX_PROCESS_MEMORY;
+
+  /**
+   * Whether a standby office process is started ahead of the maximum number of tasks per process
+   * and replaces the recycled process, so recycling does not make the process unavailable.
+   */
+  private boolean standbyProcess = LocalOfficeManager.DEFAULT_STANDBY_PROCESS;
+
+  /**
+   * Time, in milliseconds, after which an idle office process is checked, and restarted if it does
+   * not answer. 0 means that office processes are never checked.
+   */
+  private long healthCheckInterval = LocalOfficeManager.DEFAULT_HEALTH_CHECK_INTERVAL;
+
+  /** Maximum time, in milliseconds, allowed to an office process to answer a health check. */
+  private long healthCheckTimeout = LocalOfficeManager.DEFAULT_HEALTH_CHECK_TIMEOUT;
+
+  /**
+   * Maximum time, in milliseconds, an office process can consume no CPU time while executing a task
+   * before the task is aborted and the process restarted (Linux only). 0 means that the CPU time is
+   * never sampled.
+   */
+  private long taskStallTimeout = LocalOfficeManager.DEFAULT_TASK_STALL_TIMEOUT;
+
+  /**
+   * Minimum number of office processes of an elastic pool. If not set, it is the number of
+   * configured port numbers/pipe names.
+   */
+  private Integer minPoolSize;
+
+  /**
+   * Maximum number of office processes. When greater than 0, office processes are started and
+   * stopped according to the load, using port numbers/pipe names allocated on the fly. 0 means that
+   * the pool size is fixed by the configured port numbers/pipe names.
+   */
+  private int maxPoolSize = LocalOfficeManager.DEFAULT_MAX_POOL_SIZE;
+
+  /** Time after which an office process of an elastic pool that is not used is stopped. */
+  private long processIdleTimeout = LocalOfficeManager.DEFAULT_PROCESS_IDLE_TIMEOUT;
+
+  /** Time a task must wait in the queue before an elastic pool starts a new office process. */
+  private long poolGrowthDelay = LocalOfficeManager.DEFAULT_POOL_GROWTH_DELAY;
+
+  /**
+   * Weight of each tenant when the office processes are shared between tenants having waiting
+   * tasks. Tenants that are not specified have a weight of 1.
+   */
+  private Map<String, Integer> tenantWeights;
+
+  /**
+   * Maximum number of tasks of the same tenant that can be executed at the same time, 0 meaning no
+   * limit.
+   */
+  private int maxTasksPerTenant = AbstractOfficeManagerPool.DEFAULT_MAX_TASKS_PER_TENANT;
+
+  /**
+   * Maximum number of tasks that can wait in the conversion queue, 0 meaning no limit. A task
+   * submitted while the queue is full is immediately rejected.
+   */
+  private int maxQueuedTasks = AbstractOfficeManagerPool.DEFAULT_MAX_QUEUED_TASKS;
+
+  /**
+   * Whether a task is immediately rejected when its estimated waiting time in the conversion queue
+   * exceeds the task queue timeout.
+   */
+  private boolean rejectOnEstimatedQueueTimeout =
+      AbstractOfficeManagerPool.DEFAULT_REJECT_ON_ESTIMATED_QUEUE_TIMEOUT;
+
   /** Path to the registry which contains the document formats that will be supported by default. */
   private String documentFormatRegistry;
 
@@ -163,6 +272,12 @@ public class JodConverterLocalProperties {
    */
   private String loadDocumentMode = LocalConverter.DEFAULT_LOAD_DOCUMENT_MODE_STRING;
 
+  /**
+   * Specifies whether a document converted to an output stream is stored directly to that stream,
+   * instead of being stored to a temporary file which is then copied to the stream.
+   */
+  private boolean storeToOutputStream = LocalConverter.DEFAULT_STORE_TO_OUTPUT_STREAM;
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -267,6 +382,14 @@ public class JodConverterLocalProperties {
     this.startFailFast = startFailFast;
   }
 
+  public boolean isIncrementalStart() {
+    return incrementalStart;
+  }
+
+  public void setIncrementalStart(final boolean incrementalStart) {
+    this.incrementalStart = incrementalStart;
+  }
+
   public boolean isKeepAliveOnShutdown() {
     return keepAliveOnShutdown;
   }
@@ -275,6 +398,31 @@ public class JodConverterLocalProperties {
     this.keepAliveOnShutdown = keepAliveOnShutdown;
   }
 
+  public boolean isCacheProfile() {
+    return cacheProfile;
+  }
+
+  public void setCacheProfile(final boolean cacheProfile) {
+    this.cacheProfile = cacheProfile;
+  }
+
+  public boolean isPerformanceProfile() {
+    return performanceProfile;
+  }
+
+  public void setPerformanceProfile(final boolean performanceProfile) {
+    this.performanceProfile = performanceProfile;
+  }
+
+  public @Nullable Map<@NonNull String, @NonNull String> getProfileSettings() {
+    return profileSettings;
+  }
+
+  public void setProfileSettings(
+      final @Nullable Map<@NonNull String, @NonNull String> profileSettings) {
+    this.profileSettings = profileSettings;
+  }
+
   public long getTaskQueueTimeout() {
     return taskQueueTimeout;
   }
@@ -299,6 +447,127 @@ public class JodConverterLocalProperties {
     this.maxTasksPerProcess = maxTasksPerProcess;
   }
 
+  public int getMaxTasksPerProcessJitter() {
+    return maxTasksPerProcessJitter;
+  }
+
+  public void setMaxTasksPerProcessJitter(final int maxTasksPerProcessJitter) {
+    this.maxTasksPerProcessJitter = maxTasksPerProcessJitter;
+  }
+
+  public int getMaxConcurrentRestarts() {
+    return maxConcurrentRestarts;
+  }
+
+  public void setMaxConcurrentRestarts(final int maxConcurrentRestarts) {
+    this.maxConcurrentRestarts = maxConcurrentRestarts;
+  }
+
+  public long getMaxProcessMemory() {
+    return maxProcessMemory;
+  }
+
+  public void setMaxProcessMemory(final long maxProcessMemory) {
+    this.maxProcessMemory = maxProcessMemory;
+  }
+
+  public boolean isStandbyProcess() {
+    return standbyProcess;
+  }
+
+  public void setStandbyProcess(final boolean standbyProcess) {
+    this.standbyProcess = standbyProcess;
+  }
+
+  public long getHealthCheckInterval() {
+    return healthCheckInterval;
+  }
+
+  public void setHealthCheckInterval(final long healthCheckInterval) {
+    this.healthCheckInterval = healthCheckInterval;
+  }
+
+  public long getHealthCheckTimeout() {
+    return healthCheckTimeout;
+  }
+
+  public void setHealthCheckTimeout(final long healthCheckTimeout) {
+    this.healthCheckTimeout = healthCheckTimeout;
+  }
+
+  public long getTaskStallTimeout() {
+    return taskStallTimeout;
+  }
+
+  public void setTaskStallTimeout(final long taskStallTimeout) {
+    this.taskStallTimeout = taskStallTimeout;
+  }
+
+  public @Nullable Integer getMinPoolSize() {
+    return minPoolSize;
+  }
+
+  public void setMinPoolSize(final @Nullable Integer minPoolSize) {
+    this.minPoolSize = minPoolSize;
+  }
+
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  public void setMaxPoolSize(final int maxPoolSize) {
+    this.maxPoolSize = maxPoolSize;
+  }
+
+  public long getProcessIdleTimeout() {
+    return processIdleTimeout;
+  }
+
+  public void setProcessIdleTimeout(final long processIdleTimeout) {
+    this.processIdleTimeout = processIdleTimeout;
+  }
+
+  public long getPoolGrowthDelay() {
+    return poolGrowthDelay;
+  }
+
+  public void setPoolGrowthDelay(final long poolGrowthDelay) {
+    this.poolGrowthDelay = poolGrowthDelay;
+  }
+
+  public @Nullable Map<@NonNull String, @NonNull Integer> getTenantWeights() {
+    return tenantWeights;
+  }
+
+  public void setTenantWeights(
+      final @Nullable Map<@NonNull String, @NonNull Integer> tenantWeights) {
+    this.tenantWeights = tenantWeights;
+  }
+
+  public int getMaxTasksPerTenant() {
+    return maxTasksPerTenant;
+  }
+
+  public void setMaxTasksPerTenant(final int maxTasksPerTenant) {
+    this.maxTasksPerTenant = maxTasksPerTenant;
+  }
+
+  public int getMaxQueuedTasks() {
+    return maxQueuedTasks;
+  }
+
+  public void setMaxQueuedTasks(final int maxQueuedTasks) {
+    this.maxQueuedTasks = maxQueuedTasks;
+  }
+
+  public boolean isRejectOnEstimatedQueueTimeout() {
+    return rejectOnEstimatedQueueTimeout;
+  }
+
+  public void setRejectOnEstimatedQueueTimeout(final boolean rejectOnEstimatedQueueTimeout) {
+    this.rejectOnEstimatedQueueTimeout = rejectOnEstimatedQueueTimeout;
+  }
+
   public @Nullable String getDocumentFormatRegistry() {
     return documentFormatRegistry;
   }
@@ -339,4 +608,12 @@ public class JodConverterLocalProperties {
   public void setLoadDocumentMode(final @Nullable String loadDocumentMode) {
     this.loadDocumentMode = loadDocumentMode;
   }
+
+  public boolean isStoreToOutputStream() {
+    return storeToOutputStream;
+  }
+
+  public void setStoreToOutputStream(final boolean storeToOutputStream) {
+    this.storeToOutputStream = storeToOutputStream;
+  }
 }
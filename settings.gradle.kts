@@ -12,6 +12,8 @@ include(
     "jodconverter-local-lo",
     "jodconverter-local-oo",
     "jodconverter-remote",
+    "jodconverter-micrometer",
+    "jodconverter-jfr",
     "jodconverter-cli",
     "jodconverter-spring",
     "jodconverter-spring-boot-starter"